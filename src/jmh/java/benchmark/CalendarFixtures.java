@@ -0,0 +1,112 @@
+package benchmark;
+
+import calendar.dto.CreateEventDto;
+import calendar.model.CalendarCollection;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelBuilder;
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Builds the calendars the benchmarks run against. Every fixture is generated from a fixed
+ * seed, so runs with the same size work on identical data.
+ */
+public final class CalendarFixtures {
+
+  /**
+   * Timezone of the generated calendars.
+   */
+  public static final ZoneId ZONE = ZoneId.of("America/New_York");
+
+  /**
+   * Subject of the weekday series added to every generated calendar.
+   */
+  public static final String SERIES_SUBJECT = "Standup";
+
+  /**
+   * Start of the first occurrence of the series, a Monday.
+   */
+  public static final String SERIES_START = "2025-01-06T09:00";
+
+  /**
+   * Start of an occurrence in the middle of the series.
+   */
+  public static final String SERIES_MIDDLE = "2025-06-02T09:00";
+
+  /**
+   * First day of the generated events, which span one year.
+   */
+  public static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+  private static final int SUBJECTS = 200;
+  private static final int DAYS = 365;
+  private static final int WORKING_MINUTES = 8 * 60;
+
+  private CalendarFixtures() {
+  }
+
+  /**
+   * Generates distinct single events spread over one year, 30 to 90 minutes long, with
+   * 200 different subjects. Events start between 8:00 and 16:00, so they stay within one
+   * day in every timezone the benchmarks move the calendar to.
+   *
+   * @param count the number of events
+   * @return the events
+   */
+  public static Set<Event> events(int count) {
+    Random random = new Random(42);
+    Set<Event> events = new HashSet<>(count * 2);
+    LocalDateTime first = FIRST_DAY.atTime(8, 0);
+    while (events.size() < count) {
+      ZonedDateTime start = ZonedDateTime.of(first.plusDays(random.nextInt(DAYS))
+          .plusMinutes(random.nextInt(WORKING_MINUTES)), ZONE);
+      events.add(new EventBuilder()
+          .setSubject(subject(random.nextInt(SUBJECTS)))
+          .setStartDateTime(start)
+          .setEndDateTime(start.plusMinutes(30 + random.nextInt(61)))
+          .setLocation("Room " + random.nextInt(20))
+          .build());
+    }
+    return events;
+  }
+
+  /**
+   * Returns the subject used for the given generated subject number.
+   *
+   * @param index the subject number
+   * @return the subject
+   */
+  public static String subject(int index) {
+    return "Event " + index;
+  }
+
+  /**
+   * Creates a model with an active calendar holding {@code count} generated events and a
+   * 250-occurrence weekday series of {@link #SERIES_SUBJECT}.
+   *
+   * @param name the calendar name
+   * @param count the number of single events
+   * @return the model
+   * @throws Exception if the calendar cannot be created
+   */
+  public static CalendarModel model(String name, int count) throws Exception {
+    CalendarCollection repository = new CalendarCollection();
+    repository.save(new CalendarModelBuilder()
+        .setName(name)
+        .setTimeZone(ZONE)
+        .setEvents(events(count))
+        .build());
+    CalendarModel model = new CalendarModel(repository);
+    model.setActiveCalendar(name);
+    model.createEvent(CreateEventDto.timedRecurringFor(SERIES_SUBJECT, SERIES_START,
+        "2025-01-06T09:15", "MTWRF", "250"));
+    return model;
+  }
+}
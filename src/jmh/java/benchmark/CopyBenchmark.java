@@ -0,0 +1,77 @@
+package benchmark;
+
+import calendar.model.CalendarModel;
+import calendar.parser.CopyEventParser;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code copy events between} with one week of a calendar copied into a second
+ * calendar. Each operation copies to the following week of the target, so copies never
+ * collide; the target is emptied before every iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CopyBenchmark {
+
+  private static final LocalDate TARGET_START = LocalDate.of(2030, 1, 1);
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int events;
+
+  private final CopyEventParser parser = new CopyEventParser();
+  private CalendarModel model;
+  private String targetName;
+  private int week;
+
+  /**
+   * Builds the source calendar.
+   *
+   * @throws Exception if the calendar cannot be created
+   */
+  @Setup
+  public void setUp() throws Exception {
+    model = CalendarFixtures.model("bench", events);
+  }
+
+  /**
+   * Replaces the target calendar with an empty one.
+   *
+   * @throws Exception if the calendar cannot be created
+   */
+  @Setup(Level.Iteration)
+  public void resetTarget() throws Exception {
+    String name = "target" + System.nanoTime();
+    model.createNewCalendar(name, CalendarFixtures.ZONE.getId());
+    targetName = name;
+    week = 0;
+  }
+
+  /**
+   * Copies the second week of March into the next free week of the target calendar.
+   *
+   * @throws Exception if the copy fails
+   */
+  @Benchmark
+  public void copyEventsBetweenDates() throws Exception {
+    LocalDate target = TARGET_START.plusWeeks(week++);
+    parser.parse("copy events between 2025-03-10 and 2025-03-16 --target " + targetName
+        + " to " + target, model).execute();
+  }
+}
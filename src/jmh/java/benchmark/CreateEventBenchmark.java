@@ -0,0 +1,79 @@
+package benchmark;
+
+import calendar.dto.CreateEventDto;
+import calendar.model.CalendarModel;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CalendarModel#createEvent} for single and recurring events on calendars
+ * of different sizes. Each operation creates a new event after the generated year, so no
+ * operation fails as a duplicate; the calendar is rebuilt before every iteration to keep
+ * its size close to the parameter.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CreateEventBenchmark {
+
+  private static final DateTimeFormatter FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+  private static final LocalDateTime AFTER_FIXTURE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int events;
+
+  private CalendarModel model;
+  private long counter;
+
+  /**
+   * Creates a fresh calendar of the requested size.
+   *
+   * @throws Exception if the calendar cannot be created
+   */
+  @Setup(Level.Iteration)
+  public void setUp() throws Exception {
+    model = CalendarFixtures.model("bench", events);
+    counter = 0;
+  }
+
+  /**
+   * Creates one single timed event.
+   *
+   * @throws Exception if creation fails
+   */
+  @Benchmark
+  public void createSingle() throws Exception {
+    LocalDateTime start = AFTER_FIXTURE.plusMinutes(counter++);
+    model.createEvent(CreateEventDto.timedSingle("Created", start.format(FORMAT),
+        start.plusMinutes(30).format(FORMAT)));
+  }
+
+  /**
+   * Creates one recurring series of 50 weekday occurrences.
+   *
+   * @throws Exception if creation fails
+   */
+  @Benchmark
+  public void createRecurring() throws Exception {
+    LocalDateTime start = AFTER_FIXTURE.plusMinutes(counter++);
+    model.createEvent(CreateEventDto.timedRecurringFor("Series", start.format(FORMAT),
+        start.plusMinutes(30).format(FORMAT), "MTWRF", "50"));
+  }
+}
@@ -0,0 +1,74 @@
+package benchmark;
+
+import calendar.dto.EditEventDto;
+import calendar.model.CalendarModel;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures editing the 250-occurrence series of a calendar with {@code edit series} and
+ * {@code edit events}. Each operation changes the location of the edited occurrences,
+ * alternating between two values so that every edit is a real change.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EditBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int events;
+
+  private CalendarModel model;
+  private boolean flip;
+
+  /**
+   * Builds the calendar.
+   *
+   * @throws Exception if the calendar cannot be created
+   */
+  @Setup
+  public void setUp() throws Exception {
+    model = CalendarFixtures.model("bench", events);
+  }
+
+  private Map<String, String> nextChange() {
+    flip = !flip;
+    return Map.of("location", flip ? "Room A" : "Room B");
+  }
+
+  /**
+   * Edits every occurrence of the series.
+   *
+   * @throws Exception if the edit fails
+   */
+  @Benchmark
+  public void editSeries() throws Exception {
+    model.editEvent(EditEventDto.editSeries(CalendarFixtures.SERIES_SUBJECT,
+        CalendarFixtures.SERIES_START, nextChange()));
+  }
+
+  /**
+   * Edits the second half of the series.
+   *
+   * @throws Exception if the edit fails
+   */
+  @Benchmark
+  public void editForward() throws Exception {
+    model.editEvent(EditEventDto.editForward(CalendarFixtures.SERIES_SUBJECT,
+        CalendarFixtures.SERIES_MIDDLE, nextChange()));
+  }
+}
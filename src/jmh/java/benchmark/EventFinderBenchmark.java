@@ -0,0 +1,155 @@
+package benchmark;
+
+import calendar.model.Calendar;
+import calendar.model.Event;
+import calendar.util.EventFinder;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link EventFinder} queries against a calendar, both through the calendar's
+ * indexes and, for comparison, by scanning a plain copy of its events. Query arguments
+ * cycle through a fixed list so that every size answers the same questions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EventFinderBenchmark {
+
+  private static final int QUERIES = 1024;
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int events;
+
+  private Calendar calendar;
+  private Set<Event> view;
+  private Set<Event> copy;
+  private ZonedDateTime[] instants;
+  private Event[] targets;
+  private String seriesId;
+  private int next;
+
+  /**
+   * Builds the calendar and the query arguments.
+   *
+   * @throws Exception if the calendar cannot be created
+   */
+  @Setup
+  public void setUp() throws Exception {
+    calendar = CalendarFixtures.model("bench", events).calendarModel("bench");
+    view = calendar.getEventsView();
+    copy = calendar.getEvents();
+    Random random = new Random(7);
+    Event[] all = view.toArray(new Event[0]);
+    instants = new ZonedDateTime[QUERIES];
+    targets = new Event[QUERIES];
+    for (int i = 0; i < QUERIES; i++) {
+      instants[i] = CalendarFixtures.FIRST_DAY.atStartOfDay(CalendarFixtures.ZONE)
+          .plusMinutes(random.nextInt(365 * 24 * 60));
+      targets[i] = all[random.nextInt(all.length)];
+    }
+    ZonedDateTime seriesStart = ZonedDateTime.of(
+        LocalDateTime.parse(CalendarFixtures.SERIES_START), CalendarFixtures.ZONE);
+    seriesId = EventFinder.findBySubjectAndStart(CalendarFixtures.SERIES_SUBJECT,
+        seriesStart, view).get(0).getSeriesId();
+  }
+
+  private int nextQuery() {
+    next = (next + 1) & (QUERIES - 1);
+    return next;
+  }
+
+  /**
+   * Finds the events of one day from the calendar's time index.
+   *
+   * @return the events found
+   */
+  @Benchmark
+  public List<Event> findOnDate() {
+    return EventFinder.findOnDate(instants[nextQuery()].toLocalDate(), calendar);
+  }
+
+  /**
+   * Finds the events of one week from the calendar's time index.
+   *
+   * @return the events found
+   */
+  @Benchmark
+  public List<Event> findInRange() {
+    ZonedDateTime from = instants[nextQuery()];
+    return EventFinder.findInRange(from, from.plusWeeks(1), calendar);
+  }
+
+  /**
+   * Finds the events of one week by scanning a plain set.
+   *
+   * @return the events found
+   */
+  @Benchmark
+  public List<Event> findInRangeScan() {
+    ZonedDateTime from = instants[nextQuery()];
+    return EventFinder.findInRange(from, from.plusWeeks(1), copy);
+  }
+
+  /**
+   * Finds the events active at one instant from the calendar's time index.
+   *
+   * @return the events found
+   */
+  @Benchmark
+  public List<Event> findActiveAt() {
+    return EventFinder.findActiveAt(instants[nextQuery()], calendar);
+  }
+
+  /**
+   * Finds an event by subject and start from the calendar's subject index.
+   *
+   * @return the events found
+   */
+  @Benchmark
+  public List<Event> findBySubjectAndStart() {
+    Event target = targets[nextQuery()];
+    return EventFinder.findBySubjectAndStart(target.getSubject(), target.getStartDateTime(),
+        view);
+  }
+
+  /**
+   * Finds an event by subject and start by scanning a plain set.
+   *
+   * @return the events found
+   */
+  @Benchmark
+  public List<Event> findBySubjectAndStartScan() {
+    Event target = targets[nextQuery()];
+    return EventFinder.findBySubjectAndStart(target.getSubject(), target.getStartDateTime(),
+        copy);
+  }
+
+  /**
+   * Finds the occurrences of the series from a given instant.
+   *
+   * @return the events found
+   */
+  @Benchmark
+  public List<Event> findSeriesFrom() {
+    return EventFinder.findSeriesFrom(seriesId, instants[nextQuery()], view);
+  }
+}
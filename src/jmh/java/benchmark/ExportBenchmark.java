@@ -0,0 +1,88 @@
+package benchmark;
+
+import calendar.interfacetypes.Iexport;
+import calendar.model.Event;
+import calendar.strategy.GoogleCsvExporter;
+import calendar.strategy.IcalExporter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures exporting a whole calendar with each {@link Iexport} implementation, serially
+ * and in parallel. The file is written to a temporary directory and overwritten by every
+ * operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ExportBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int events;
+
+  @Param({"csv", "ics"})
+  public String format;
+
+  @Param({"serial", "parallel"})
+  public String mode;
+
+  private Set<Event> view;
+  private Iexport exporter;
+  private Path directory;
+  private String fileName;
+
+  /**
+   * Builds the calendar and picks the exporter for the format and mode.
+   *
+   * @throws Exception if the calendar or exporter cannot be created
+   */
+  @Setup
+  public void setUp() throws Exception {
+    view = CalendarFixtures.model("bench", events).calendarModel("bench").getEventsView();
+    directory = Files.createTempDirectory("export-benchmark");
+    fileName = directory.resolve("calendar." + format).toString();
+    boolean parallel = "parallel".equals(mode);
+    exporter = "csv".equals(format) ? new GoogleCsvExporter(parallel)
+        : new IcalExporter(parallel);
+  }
+
+  /**
+   * Deletes the exported file.
+   *
+   * @throws IOException if the file cannot be deleted
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(Path.of(fileName));
+    Files.deleteIfExists(directory);
+  }
+
+  /**
+   * Exports every event of the calendar.
+   *
+   * @return the exporter's confirmation
+   * @throws IOException if the file cannot be written
+   */
+  @Benchmark
+  public String export() throws IOException {
+    return exporter.export(view, fileName);
+  }
+}
@@ -0,0 +1,65 @@
+package benchmark;
+
+import calendar.interfacetypes.Icommand;
+import calendar.model.CalendarModel;
+import calendar.service.CommandParserService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CommandParserService#parse} for the command kinds that dominate headless
+ * scripts. Parsing does not touch the model, so one model serves every operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseBenchmark {
+
+  @Param({
+      "create event \"Team sync\" on 2025-05-01",
+      "create event Standup from 2025-05-05T09:00 to 2025-05-05T09:15"
+          + " repeats MTWRF until 2025-12-19",
+      "edit events location \"Team sync\" from 2025-05-01T09:00 with \"Room 4\"",
+      "print events from 2025-05-01T00:00 to 2025-05-08T00:00",
+      "copy events between 2025-05-01 and 2025-05-31 --target archive to 2026-05-01"
+  })
+  public String command;
+
+  private CommandParserService parser;
+  private CalendarModel model;
+
+  /**
+   * Creates the parser and the model passed to it.
+   *
+   * @throws Exception if the model cannot be created
+   */
+  @Setup
+  public void setUp() throws Exception {
+    parser = new CommandParserService();
+    model = CalendarFixtures.model("bench", 0);
+  }
+
+  /**
+   * Parses the command once.
+   *
+   * @return the parsed command
+   * @throws Exception if the command is invalid
+   */
+  @Benchmark
+  public Icommand parse() throws Exception {
+    return parser.parse(command, model);
+  }
+}
@@ -0,0 +1,56 @@
+package benchmark;
+
+import calendar.model.CalendarModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CalendarModel#updateCalendarTimezone}, moving a calendar back and forth
+ * between two timezones so that every operation converts all of its events.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TimezoneBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int events;
+
+  private CalendarModel model;
+  private boolean flip;
+
+  /**
+   * Builds the calendar.
+   *
+   * @throws Exception if the calendar cannot be created
+   */
+  @Setup
+  public void setUp() throws Exception {
+    model = CalendarFixtures.model("bench", events);
+  }
+
+  /**
+   * Moves the calendar to the other timezone.
+   *
+   * @throws Exception if the update fails
+   */
+  @Benchmark
+  public void updateCalendarTimezone() throws Exception {
+    flip = !flip;
+    model.updateCalendarTimezone("bench",
+        flip ? "Europe/Paris" : CalendarFixtures.ZONE.getId());
+  }
+}
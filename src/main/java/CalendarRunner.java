@@ -1,4 +1,5 @@
 import calendar.CalendarApp;
+import calendar.controller.CalendarServer;
 import calendar.controller.EventController;
 import calendar.controller.SimpleGuiController;
 import calendar.factory.InputSourceFactory;
@@ -8,15 +9,30 @@ import calendar.interfacetypes.IinputSource;
 import calendar.interfacetypes.Iview;
 import calendar.model.CalendarCollection;
 import calendar.model.CalendarModel;
+import calendar.model.ConcurrentCalendarCollection;
+import calendar.model.FileCalendarCollection;
 import calendar.service.CommandParserService;
 import calendar.view.ConsoleView;
 import calendar.view.GuiViewCalendar;
+import calendar.view.OutputSink;
+import java.nio.file.Path;
+import java.util.Arrays;
 import javax.swing.SwingUtilities;
 
 /**
  * Main runner class for the MVCalendar application.
  * Entry point that creates all components and starts the application.
  * Handles command-line argument parsing.
+ *
+ * <p>Console modes keep calendars in memory unless {@code --data <directory>} is given as
+ * the last two arguments, in which case they are stored durably in that directory.</p>
+ *
+ * <p>Headless mode buffers its console output and writes it out in large blocks. Adding
+ * {@code --no-echo} after the commands file turns off the echo of each command.</p>
+ *
+ * <p>Server mode ({@code --mode server --port N}) accepts any number of local TCP
+ * connections, each a session speaking the interactive command language with its own
+ * active calendar, all working on the same calendars.</p>
  */
 public class CalendarRunner {
 
@@ -24,7 +40,9 @@ public class CalendarRunner {
    * Main entry point for the application.
    * Parses command-line arguments, creates components, and starts the application.
    *
-   * @param args command-line arguments (--mode interactive|headless [filename])
+   * @param args command-line arguments
+   *             (--mode interactive|headless [filename [--no-echo]]|server --port N)
+   *             [--data directory]
    */
   public static void main(String[] args) {
     try {
@@ -38,6 +56,16 @@ public class CalendarRunner {
         });
         return;
       }
+      Path dataDirectory = null;
+      if (args.length >= 4 && args[args.length - 2].equalsIgnoreCase("--data")) {
+        dataDirectory = Path.of(args[args.length - 1]);
+        args = Arrays.copyOf(args, args.length - 2);
+      }
+      boolean echo = true;
+      if (args.length == 4 && args[3].equalsIgnoreCase("--no-echo")) {
+        echo = false;
+        args = Arrays.copyOf(args, 3);
+      }
       if (args.length < 2) {
         throw new Exception("Missing arguments");
       }
@@ -47,6 +75,13 @@ public class CalendarRunner {
 
       String mode = args[1].toLowerCase();
       String filename = null;
+      if (mode.equals("server")) {
+        if (args.length != 4 || !args[2].equalsIgnoreCase("--port")) {
+          throw new Exception("Server mode requires --port <port>");
+        }
+        serve(Integer.parseInt(args[3]), dataDirectory);
+        return;
+      }
 
       // Validate mode-specific arguments
       if (mode.equals("interactive")) {
@@ -63,27 +98,64 @@ public class CalendarRunner {
       } else {
         throw new Exception("Invalid mode: " + mode);
       }
-      Icalendarcollection repository = new CalendarCollection();
+      Icalendarcollection repository = dataDirectory == null
+          ? new CalendarCollection()
+          : new FileCalendarCollection(dataDirectory);
       CalendarModel calendarModel = new CalendarModel(repository);
       CommandParserService parserService = new CommandParserService();
-      Iview view = new ConsoleView();
-      IinputSource inputSource = InputSourceFactory.createInputSource(mode, filename);
+      OutputSink out = mode.equals("headless")
+          ? OutputSink.buffered(System.out)
+          : OutputSink.console();
+      Iview view = new ConsoleView(out);
+      IinputSource inputSource = InputSourceFactory.createInputSource(mode, filename,
+          echo ? out : OutputSink.disabled());
       Icontroller controller = new EventController(inputSource, calendarModel,
           parserService, view);
       CalendarApp calendar = new CalendarApp(controller);
-      calendar.start();
+      try {
+        calendar.start();
+      } finally {
+        out.flush();
+        if (repository instanceof FileCalendarCollection) {
+          ((FileCalendarCollection) repository).close();
+        }
+      }
     } catch (Exception e) {
       System.err.println("Error: " + e.getMessage());
       printUsage();
     }
   }
 
+  /**
+   * Runs the calendar server until the process is stopped.
+   */
+  private static void serve(int port, Path dataDirectory) throws Exception {
+    Icalendarcollection repository = dataDirectory == null
+        ? new ConcurrentCalendarCollection()
+        : new FileCalendarCollection(dataDirectory);
+    CalendarServer server = new CalendarServer(repository, port);
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      server.close();
+      if (repository instanceof FileCalendarCollection) {
+        try {
+          ((FileCalendarCollection) repository).close();
+        } catch (Exception e) {
+          System.err.println("Error: " + e.getMessage());
+        }
+      }
+    }));
+    System.out.println("Starting in server mode on port " + server.getPort());
+    server.serve();
+  }
+
   /**
    * Prints usage information to standard error.
    */
   private static void printUsage() {
     System.err.println("Usage:");
     System.err.println("  java -jar calendar.jar --mode interactive");
-    System.err.println("  java -jar calendar.jar --mode headless <commands_file.txt>");
+    System.err.println("  java -jar calendar.jar --mode headless <commands_file.txt> [--no-echo]");
+    System.err.println("  java -jar calendar.jar --mode server --port <port>");
+    System.err.println("  (append --data <directory> to keep calendars on disk)");
   }
 }
\ No newline at end of file
@@ -29,6 +29,20 @@ public class CreateEventCommand implements Icommand {
   @Override
   public IresultDto execute() throws Exception {
     createservice.createEvent(dto);
+    return createdResult();
+  }
+
+  public CreateEventDto getDto() {
+    return dto;
+  }
+
+  /**
+   * Returns the result reported once the event has been created, either by
+   * {@link #execute()} or as part of a batch.
+   *
+   * @return the success message
+   */
+  public IresultDto createdResult() {
     return new SimpleMessageDto("Event '" + dto.getSubject() + "' created successfully.");
   }
 }
\ No newline at end of file
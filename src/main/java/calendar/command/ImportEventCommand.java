@@ -0,0 +1,33 @@
+package calendar.command;
+
+import calendar.dto.ImportEventDto;
+import calendar.dto.SimpleMessageDto;
+import calendar.interfacetypes.Icommand;
+import calendar.interfacetypes.IresultDto;
+import calendar.model.CalendarModel;
+
+/**
+ * Command for importing calendar events from a file into the active calendar.
+ * Returns a SimpleMessageDto with the number of events added on success.
+ */
+public class ImportEventCommand implements Icommand {
+  ImportEventDto dto;
+  CalendarModel importService;
+
+  /**
+   * Creates an import command.
+   *
+   * @param dto the data transfer object containing import parameters
+   * @param importService the calendar service
+   */
+  public ImportEventCommand(ImportEventDto dto, CalendarModel importService) {
+    this.importService = importService;
+    this.dto = dto;
+  }
+
+  @Override
+  public IresultDto execute() throws Exception {
+    int added = importService.importEvents(dto);
+    return new SimpleMessageDto("Imported " + added + " events from " + dto.getFileName());
+  }
+}
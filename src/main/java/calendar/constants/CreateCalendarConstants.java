@@ -1,8 +1,8 @@
 package calendar.constants;
 
+import calendar.model.Weekdays;
 import java.time.DayOfWeek;
 import java.time.format.DateTimeFormatter;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,6 +38,19 @@ public class CreateCalendarConstants {
       'U', DayOfWeek.SUNDAY
   );
 
+  /**
+   * Weekday mask bit of each character of DAY_CHAR_MAP, in upper and lower case.
+   */
+  private static final int[] DAY_CHAR_BITS = new int[128];
+
+  static {
+    for (Map.Entry<Character, DayOfWeek> entry : DAY_CHAR_MAP.entrySet()) {
+      int bit = Weekdays.bitOf(entry.getValue());
+      DAY_CHAR_BITS[entry.getKey()] = bit;
+      DAY_CHAR_BITS[Character.toLowerCase(entry.getKey())] = bit;
+    }
+  }
+
   /**
    * Parses a string of weekday abbreviations into a set of DayOfWeek enums.
    * Each character in the input string is mapped to its corresponding day of the week
@@ -48,16 +61,28 @@ public class CreateCalendarConstants {
    *         if the input is null or empty
    */
   public static Set<DayOfWeek> parseWeekdays(String weekdays) {
-    Set<DayOfWeek> days = new HashSet<>();
-    if (weekdays == null || weekdays.isEmpty()) {
-      return days;
+    return parseWeekdayMask(weekdays).toSet();
+  }
+
+  /**
+   * Parses a string of weekday abbreviations as {@link #parseWeekdays} does, into a
+   * {@link Weekdays} bitmask. Each character is looked up in a table indexed by character,
+   * so no collection is built.
+   *
+   * @param weekdays a string containing weekday abbreviations such as "MWF", "TR", or "U"
+   * @return the weekdays named in the string, or no weekdays if the input is null or empty
+   */
+  public static Weekdays parseWeekdayMask(String weekdays) {
+    if (weekdays == null) {
+      return Weekdays.NONE;
     }
-    for (char dayChar : weekdays.toUpperCase().toCharArray()) {
-      DayOfWeek day = DAY_CHAR_MAP.get(dayChar);
-      if (day != null) {
-        days.add(day);
+    int mask = 0;
+    for (int i = 0; i < weekdays.length(); i++) {
+      char dayChar = weekdays.charAt(i);
+      if (dayChar < DAY_CHAR_BITS.length) {
+        mask |= DAY_CHAR_BITS[dayChar];
       }
     }
-    return days;
+    return Weekdays.ofMask(mask);
   }
 }
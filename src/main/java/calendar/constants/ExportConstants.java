@@ -13,5 +13,15 @@ public class ExportConstants {
   public static final DateTimeFormatter GOOGLE_TIME_FORMAT =
       DateTimeFormatter.ofPattern("hh:mm a");
   public static final String CSV_HEADER = "Subject,Start Date,Start Time,End Date,End Time\n";
+  /**
+   * Size, in characters, of the buffer exporters stream rows through. Rows are written to
+   * the file whenever it fills, so exports use the same memory however many events there are.
+   */
+  public static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+  /**
+   * Number of events each task formats in a parallel export. Smaller calendars are
+   * exported serially.
+   */
+  public static final int EXPORT_CHUNK_SIZE = 4096;
 
 }
@@ -0,0 +1,164 @@
+package calendar.controller;
+
+import calendar.input.SocketInputSource;
+import calendar.interfacetypes.Icalendarcollection;
+import calendar.interfacetypes.Icontroller;
+import calendar.model.CalendarLocks;
+import calendar.model.CalendarModel;
+import calendar.service.CommandParserService;
+import calendar.view.ConsoleView;
+import calendar.view.OutputSink;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local TCP server that lets several clients work on the same calendars at once, each
+ * speaking the command language of interactive mode over its own connection.
+ *
+ * <p>Every connection is a session with its own {@link EventController} and
+ * {@link CalendarModel}, so each client has its own active calendar. All sessions share
+ * the repository, which must be thread-safe, and one {@link CalendarLocks} table, so
+ * concurrent updates to a calendar are applied one at a time and none is lost. Results and
+ * errors are sent back on the connection, flushed whenever the session waits for the next
+ * command.</p>
+ *
+ * <p>The server listens on the loopback interface only. Each session runs on its own
+ * thread; on runtimes that provide virtual threads those are used, so thousands of mostly
+ * idle sessions cost little.</p>
+ */
+public class CalendarServer implements Closeable {
+
+  private static final long MIN_BACKOFF_MILLIS = 10;
+  private static final long MAX_BACKOFF_MILLIS = 1_000;
+
+  private final Icalendarcollection repository;
+  private final CalendarLocks locks = new CalendarLocks();
+  private final ServerSocket serverSocket;
+  private final ExecutorService sessions = newSessionExecutor();
+  private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Creates a server for the given repository, listening on a local port.
+   *
+   * @param repository the thread-safe repository shared by all sessions
+   * @param port the port to listen on, or 0 for any free port
+   * @throws IOException if the port cannot be opened
+   */
+  public CalendarServer(Icalendarcollection repository, int port) throws IOException {
+    this.repository = repository;
+    this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+  }
+
+  /**
+   * Returns the port the server listens on.
+   *
+   * @return the local port
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Accepts connections and starts a session for each until the server is closed. When
+   * accepting fails while the server is open, for example because the process has run out
+   * of file descriptors, the error is reported and the server waits before trying again,
+   * doubling the wait up to a second while the failures go on.
+   */
+  public void serve() {
+    long backoffMillis = 0;
+    while (!serverSocket.isClosed()) {
+      Socket client;
+      try {
+        client = serverSocket.accept();
+      } catch (IOException e) {
+        if (serverSocket.isClosed()) {
+          return;
+        }
+        System.err.println("Error: Could not accept a connection: " + e.getMessage());
+        backoffMillis = Math.min(Math.max(2 * backoffMillis, MIN_BACKOFF_MILLIS),
+            MAX_BACKOFF_MILLIS);
+        try {
+          Thread.sleep(backoffMillis);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        continue;
+      }
+      backoffMillis = 0;
+      clients.add(client);
+      try {
+        sessions.execute(() -> runSession(client));
+      } catch (RuntimeException e) {
+        clients.remove(client);
+        closeQuietly(client);
+      }
+    }
+  }
+
+  /**
+   * Runs the session of one connection until the client sends "exit" or disconnects.
+   */
+  private void runSession(Socket client) {
+    try {
+      OutputSink out = OutputSink.buffered(client.getOutputStream());
+      Icontroller controller = new EventController(
+          new SocketInputSource(client.getInputStream(), out),
+          new CalendarModel(repository, locks), new CommandParserService(),
+          new ConsoleView(out, true));
+      controller.run();
+    } catch (IOException | UncheckedIOException e) {
+      // The client went away; its session simply ends.
+    } finally {
+      clients.remove(client);
+      closeQuietly(client);
+    }
+  }
+
+  /**
+   * Stops accepting connections and ends all open sessions.
+   */
+  @Override
+  public void close() {
+    closeQuietly(serverSocket);
+    for (Socket client : clients) {
+      closeQuietly(client);
+    }
+    sessions.shutdownNow();
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      // Already closed or broken; either way it is gone.
+    }
+  }
+
+  /**
+   * Returns an executor starting one virtual thread per session where the runtime supports
+   * them, and otherwise one pooled daemon thread per session.
+   */
+  private static ExecutorService newSessionExecutor() {
+    try {
+      return (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      AtomicInteger count = new AtomicInteger();
+      return Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "calendar-session-" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+}
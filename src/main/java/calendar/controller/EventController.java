@@ -1,5 +1,7 @@
 package calendar.controller;
 
+import calendar.command.CreateEventCommand;
+import calendar.dto.CreateEventDto;
 import calendar.interfacetypes.Icommand;
 import calendar.interfacetypes.Icontroller;
 import calendar.interfacetypes.IinputSource;
@@ -7,14 +9,34 @@ import calendar.interfacetypes.IresultDto;
 import calendar.interfacetypes.Iview;
 import calendar.model.CalendarModel;
 import calendar.service.CommandParserService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * Main controller for the calendar application.
  * Controller handles command processing and coordinates with View for output.
  * Does NOT handle command-line argument parsing - that's done in CalendarRunner.
+ *
+ * <p>When the input source can be read ahead, commands are parsed on a separate thread
+ * and handed to the executing thread through a bounded queue, so reading and parsing a
+ * large script overlaps with running it. Parsing never touches the model, so the results
+ * are the same as parsing each command just before it runs. Consecutive create commands
+ * are applied to the model as one batch.</p>
  */
 public class EventController implements Icontroller {
 
+  /**
+   * Largest number of create commands applied as one batch.
+   */
+  private static final int MAX_CREATE_BATCH = 10_000;
+
+  /**
+   * Number of parsed commands the parsing thread may run ahead of execution.
+   */
+  private static final int PIPELINE_CAPACITY = 1024;
+
   private final CommandParserService parserService;
   private final CalendarModel service;
   private final Iview view;
@@ -41,6 +63,19 @@ public class EventController implements Icontroller {
     view.display("Welcome to MVCalendar!");
     view.display("Enter commands, or 'exit' to quit.");
 
+    if (inputSource.canReadAhead()) {
+      runPipelined();
+    } else {
+      runInteractive();
+    }
+
+    inputSource.close();
+  }
+
+  /**
+   * Reads, parses and executes one command at a time.
+   */
+  private void runInteractive() {
     while (inputSource.hasMoreCommands()) {
       try {
         String command = inputSource.getNextCommand();
@@ -49,20 +84,141 @@ public class EventController implements Icontroller {
           break;
         }
 
+        inputSource.echo(command);
         if (command.equalsIgnoreCase("exit")) {
           view.display("Goodbye!");
           break;
         }
 
-        IresultDto result = processCommand(command);
-        view.displayResult(result);
+        Icommand cmd = parserService.parse(command, service);
+        view.displayResult(cmd.execute());
 
       } catch (Exception e) {
         view.displayError(e.getMessage());
       }
     }
+  }
 
-    inputSource.close();
+  /**
+   * Executes the commands parsed by a separate parsing thread, in input order.
+   */
+  private void runPipelined() {
+    BlockingQueue<ParsedCommand> queue = new ArrayBlockingQueue<>(PIPELINE_CAPACITY);
+    Thread parser = new Thread(() -> parseAhead(queue), "command-parser");
+    parser.setDaemon(true);
+    parser.start();
+    try {
+      ParsedCommand next = queue.take();
+      while (next != ParsedCommand.END) {
+        if (next.isCreate()) {
+          next = runCreateBatch(next, queue);
+          continue;
+        }
+        if (next.text != null) {
+          inputSource.echo(next.text);
+        }
+        if (next.exit) {
+          view.display("Goodbye!");
+          break;
+        }
+        execute(next);
+        next = queue.take();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      parser.interrupt();
+      try {
+        parser.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Reads and parses commands until the input ends or an exit command is read, then
+   * marks the end of the queue. Stops early if the executing thread interrupts it.
+   */
+  private void parseAhead(BlockingQueue<ParsedCommand> queue) {
+    try {
+      try {
+        while (inputSource.hasMoreCommands()) {
+          String command = inputSource.getNextCommand();
+          if (command == null) {
+            break;
+          }
+          if (command.equalsIgnoreCase("exit")) {
+            queue.put(new ParsedCommand(command, null, null, true));
+            break;
+          }
+          queue.put(parse(command));
+        }
+      } catch (RuntimeException e) {
+        queue.put(new ParsedCommand(null, null, e, false));
+      }
+      queue.put(ParsedCommand.END);
+    } catch (InterruptedException e) {
+      // The executing thread has stopped and no longer reads the queue.
+    }
+  }
+
+  private ParsedCommand parse(String command) {
+    try {
+      return new ParsedCommand(command, parserService.parse(command, service), null, false);
+    } catch (Exception e) {
+      return new ParsedCommand(command, null, e, false);
+    }
+  }
+
+  private void execute(ParsedCommand parsed) {
+    try {
+      if (parsed.error != null) {
+        throw parsed.error;
+      }
+      view.displayResult(parsed.command.execute());
+    } catch (Exception e) {
+      view.displayError(e.getMessage());
+    }
+  }
+
+  /**
+   * Coalesces the given create command with the create commands that follow it and applies
+   * them in one model update. If the batch fails, the commands are run again one at a time
+   * so each reports its own result, exactly as without batching.
+   *
+   * @return the first command after the batch
+   */
+  private ParsedCommand runCreateBatch(ParsedCommand first, BlockingQueue<ParsedCommand> queue)
+      throws InterruptedException {
+    List<ParsedCommand> batch = new ArrayList<>();
+    batch.add(first);
+    ParsedCommand next = queue.take();
+    while (next.isCreate() && batch.size() < MAX_CREATE_BATCH) {
+      batch.add(next);
+      next = queue.take();
+    }
+    if (batch.size() > 1) {
+      List<CreateEventDto> dtos = new ArrayList<>(batch.size());
+      for (ParsedCommand parsed : batch) {
+        dtos.add(((CreateEventCommand) parsed.command).getDto());
+      }
+      try {
+        service.createEvents(dtos);
+        for (ParsedCommand parsed : batch) {
+          inputSource.echo(parsed.text);
+          view.displayResult(((CreateEventCommand) parsed.command).createdResult());
+        }
+        return next;
+      } catch (Exception batchError) {
+        // Fall through and report each command on its own.
+      }
+    }
+    for (ParsedCommand parsed : batch) {
+      inputSource.echo(parsed.text);
+      execute(parsed);
+    }
+    return next;
   }
 
   @Override
@@ -70,4 +226,32 @@ public class EventController implements Icontroller {
     Icommand cmd = parserService.parse(command, service);
     return cmd.execute();
   }
-}
\ No newline at end of file
+
+  /**
+   * A command read ahead of execution, together with the command parsed from it or the
+   * error parsing it failed with.
+   */
+  private static final class ParsedCommand {
+
+    /**
+     * Marks the end of the input.
+     */
+    static final ParsedCommand END = new ParsedCommand(null, null, null, false);
+
+    final String text;
+    final Icommand command;
+    final Exception error;
+    final boolean exit;
+
+    ParsedCommand(String text, Icommand command, Exception error, boolean exit) {
+      this.text = text;
+      this.command = command;
+      this.error = error;
+      this.exit = exit;
+    }
+
+    boolean isCreate() {
+      return command instanceof CreateEventCommand;
+    }
+  }
+}
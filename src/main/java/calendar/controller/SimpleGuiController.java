@@ -142,7 +142,7 @@ public class SimpleGuiController {
       String subject = searchDialog.getSubject();
       ZonedDateTime startDateTime = searchDialog.getStartDateTime(calendarZone);
       Calendar calendarModel = service.calendarModel(calendarName);
-      Set<Event> allEvents = calendarModel.getEvents();
+      Set<Event> allEvents = calendarModel.getEventsView();
       List<Event> matchingEvents = findBySubjectAndStart(subject, startDateTime, allEvents);
       if (matchingEvents.isEmpty()) {
         view.showError("No events found with subject '" + subject
@@ -1,5 +1,6 @@
 package calendar.dto;
 
+import java.util.List;
 import java.util.regex.Matcher;
 
 /**
@@ -19,6 +20,7 @@ public class CopyEventDto {
 
   private final CopyType copyType;
   private final String targetCalendarName;
+  private final List<String> targetCalendarNames;
 
   private final String eventName;
   private final String sourceStartDateTime;
@@ -41,6 +43,7 @@ public class CopyEventDto {
   public CopyEventDto(CopyType copyType, Matcher matcher) {
     this.copyType = copyType;
     this.targetCalendarName = getGroup(matcher, "targetCalendar");
+    this.targetCalendarNames = namesOf(targetCalendarName);
 
     this.eventName = getGroup(matcher, "eventName");
     this.sourceStartDateTime = getGroup(matcher, "sourceStartDateTime");
@@ -54,6 +57,109 @@ public class CopyEventDto {
     this.targetStartDate = getGroup(matcher, "targetStartDate");
   }
 
+  /**
+   * Constructs a CopyEventDto directly from its values without using a Matcher.
+   */
+  private CopyEventDto(CopyType copyType, String targetCalendarName, String eventName,
+                       String sourceStartDateTime, String targetStartDateTime,
+                       String sourceDate, String targetDate, String intervalStartDate,
+                       String intervalEndDate, String targetStartDate) {
+    this.copyType = copyType;
+    this.targetCalendarName = targetCalendarName;
+    this.targetCalendarNames = namesOf(targetCalendarName);
+    this.eventName = eventName;
+    this.sourceStartDateTime = sourceStartDateTime;
+    this.targetStartDateTime = targetStartDateTime;
+    this.sourceDate = sourceDate;
+    this.targetDate = targetDate;
+    this.intervalStartDate = intervalStartDate;
+    this.intervalEndDate = intervalEndDate;
+    this.targetStartDate = targetStartDate;
+  }
+
+  /**
+   * Constructs a copy of a DTO with other target calendars.
+   */
+  private CopyEventDto(CopyEventDto base, List<String> targetCalendarNames) {
+    this.copyType = base.copyType;
+    this.targetCalendarName = targetCalendarNames.get(0);
+    this.targetCalendarNames = List.copyOf(targetCalendarNames);
+    this.eventName = base.eventName;
+    this.sourceStartDateTime = base.sourceStartDateTime;
+    this.targetStartDateTime = base.targetStartDateTime;
+    this.sourceDate = base.sourceDate;
+    this.targetDate = base.targetDate;
+    this.intervalStartDate = base.intervalStartDate;
+    this.intervalEndDate = base.intervalEndDate;
+    this.targetStartDate = base.targetStartDate;
+  }
+
+  private static List<String> namesOf(String targetCalendarName) {
+    return targetCalendarName == null ? List.of() : List.of(targetCalendarName);
+  }
+
+  /**
+   * Returns a DTO that copies the same events into each of the given calendars. The
+   * events are selected once and copied into every target.
+   *
+   * @param targetCalendarNames the calendars to copy to, at least one
+   * @return configured CopyEventDto
+   * @throws IllegalArgumentException if no calendar is given
+   */
+  public CopyEventDto withTargetCalendarNames(List<String> targetCalendarNames) {
+    if (targetCalendarNames.isEmpty()) {
+      throw new IllegalArgumentException("At least one target calendar is required");
+    }
+    return new CopyEventDto(this, targetCalendarNames);
+  }
+
+  /**
+   * Creates a DTO for copying a single event to another calendar.
+   *
+   * @param eventName the subject of the event to copy
+   * @param sourceStartDateTime start of the event in YYYY-MM-DDTHH:mm format
+   * @param targetCalendarName the calendar to copy to
+   * @param targetStartDateTime start of the copy in YYYY-MM-DDTHH:mm format
+   * @return configured CopyEventDto
+   */
+  public static CopyEventDto copySingleEvent(String eventName, String sourceStartDateTime,
+                                             String targetCalendarName,
+                                             String targetStartDateTime) {
+    return new CopyEventDto(CopyType.COPY_SINGLE_EVENT, targetCalendarName, eventName,
+        sourceStartDateTime, targetStartDateTime, null, null, null, null, null);
+  }
+
+  /**
+   * Creates a DTO for copying the events of one date to another calendar.
+   *
+   * @param sourceDate the date to copy in YYYY-MM-DD format
+   * @param targetCalendarName the calendar to copy to
+   * @param targetDate the date to copy to in YYYY-MM-DD format
+   * @return configured CopyEventDto
+   */
+  public static CopyEventDto copyEventsOnDate(String sourceDate, String targetCalendarName,
+                                              String targetDate) {
+    return new CopyEventDto(CopyType.COPY_EVENTS_ON_DATE, targetCalendarName, null, null,
+        null, sourceDate, targetDate, null, null, null);
+  }
+
+  /**
+   * Creates a DTO for copying the events between two dates to another calendar.
+   *
+   * @param intervalStartDate the first date to copy in YYYY-MM-DD format
+   * @param intervalEndDate the last date to copy in YYYY-MM-DD format
+   * @param targetCalendarName the calendar to copy to
+   * @param targetStartDate the date the interval starts on in the target calendar
+   * @return configured CopyEventDto
+   */
+  public static CopyEventDto copyEventsBetweenDates(String intervalStartDate,
+                                                    String intervalEndDate,
+                                                    String targetCalendarName,
+                                                    String targetStartDate) {
+    return new CopyEventDto(CopyType.COPY_EVENTS_BETWEEN_DATES, targetCalendarName, null,
+        null, null, null, null, intervalStartDate, intervalEndDate, targetStartDate);
+  }
+
   /**
    * Safely retrieves a named group from the matcher.
    * Strips surrounding quotes from the "eventName" group if present.
@@ -98,6 +204,15 @@ public class CopyEventDto {
     return targetCalendarName;
   }
 
+  /**
+   * Retrieves the names of all calendars the events will be copied to.
+   *
+   * @return the target calendar names, the first being {@link #getTargetCalendarName()}
+   */
+  public List<String> getTargetCalendarNames() {
+    return targetCalendarNames;
+  }
+
   /**
    * Retrieves the name of the specific event to copy.
    * Used for COPY_SINGLE_EVENT.
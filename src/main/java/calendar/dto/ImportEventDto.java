@@ -0,0 +1,22 @@
+package calendar.dto;
+
+/**
+ * Data Transfer Object for importing calendar events from a file.
+ * Encapsulates the source file name, whose extension selects the file format.
+ */
+public class ImportEventDto {
+  private final String fileName;
+
+  /**
+   * Creates an ImportEventDto with the specified file name.
+   *
+   * @param fileName the name of the file to import, including extension
+   */
+  public ImportEventDto(String fileName) {
+    this.fileName = fileName;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+}
@@ -0,0 +1,47 @@
+package calendar.factory;
+
+import calendar.dto.CalendarDto.CalendarCommandType;
+import calendar.interfacetypes.IcalendarStrategy;
+import calendar.strategy.CreateCalendar;
+import calendar.strategy.EditCalendar;
+import calendar.strategy.UseCalendar;
+
+/**
+ * Factory for calendar-level strategy instances based on command type.
+ * Provides the strategies for creating, editing and switching to calendars.
+ */
+public class CalendarStrategyFactory {
+
+  private static final StrategyRegistry<CalendarCommandType, IcalendarStrategy> STRATEGIES =
+      new StrategyRegistry<>(CalendarCommandType.class, "calendar");
+
+  static {
+    STRATEGIES.register(CalendarCommandType.CREATE_CALENDAR, new CreateCalendar());
+    STRATEGIES.register(CalendarCommandType.USE_CALENDAR, new UseCalendar());
+    STRATEGIES.register(CalendarCommandType.EDIT_CALENDAR, new EditCalendar());
+  }
+
+  private CalendarStrategyFactory() {
+  }
+
+  /**
+   * Returns the strategy for a calendar command type.
+   *
+   * @param type the type of calendar command
+   * @return the strategy, or null if none is registered for the type
+   */
+  public static IcalendarStrategy findStrategy(CalendarCommandType type) {
+    return STRATEGIES.find(type);
+  }
+
+  /**
+   * Registers the strategy used for a calendar command type, replacing the built-in one.
+   * The strategy is shared by every command.
+   *
+   * @param type the calendar command type
+   * @param strategy the stateless strategy
+   */
+  public static void register(CalendarCommandType type, IcalendarStrategy strategy) {
+    STRATEGIES.register(type, strategy);
+  }
+}
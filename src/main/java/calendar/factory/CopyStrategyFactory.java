@@ -1,6 +1,6 @@
 package calendar.factory;
 
-import calendar.dto.CopyEventDto;
+import calendar.dto.CopyEventDto.CopyType;
 import calendar.interfacetypes.Icopy;
 import calendar.strategy.CopyEventsBetweenDates;
 import calendar.strategy.CopyEventsOnDate;
@@ -14,6 +14,18 @@ import calendar.strategy.CopySingleEvent;
  */
 public class CopyStrategyFactory {
 
+  private static final StrategyRegistry<CopyType, Icopy> STRATEGIES =
+      new StrategyRegistry<>(CopyType.class, "copy");
+
+  static {
+    STRATEGIES.register(CopyType.COPY_SINGLE_EVENT, new CopySingleEvent());
+    STRATEGIES.register(CopyType.COPY_EVENTS_ON_DATE, new CopyEventsOnDate());
+    STRATEGIES.register(CopyType.COPY_EVENTS_BETWEEN_DATES, new CopyEventsBetweenDates());
+  }
+
+  private CopyStrategyFactory() {
+  }
+
   /**
   * Returns the appropriate copy strategy implementation based on the specified copy type.
   * Supports copying single events, all events on a specific date
@@ -23,16 +35,18 @@ public class CopyStrategyFactory {
   * @return the corresponding copy strategy implementation
   * @throws IllegalArgumentException if the copy type is unknown or not supported
   */
-  public static Icopy getStrategy(CopyEventDto.CopyType type) {
-    switch (type) {
-      case COPY_SINGLE_EVENT:
-        return new CopySingleEvent();
-      case COPY_EVENTS_ON_DATE:
-        return new CopyEventsOnDate();
-      case COPY_EVENTS_BETWEEN_DATES:
-        return new CopyEventsBetweenDates();
-      default:
-        throw new IllegalArgumentException("Unknown copy command type: " + type);
-    }
+  public static Icopy getStrategy(CopyType type) {
+    return STRATEGIES.get(type);
+  }
+
+  /**
+   * Registers the strategy used for a copy type, replacing the built-in one. Intended
+   * for installing plugin strategies at startup; the strategy is shared by every command.
+   *
+   * @param type the copy type
+   * @param strategy the stateless strategy
+   */
+  public static void register(CopyType type, Icopy strategy) {
+    STRATEGIES.register(type, strategy);
   }
 }
\ No newline at end of file
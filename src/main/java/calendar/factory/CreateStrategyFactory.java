@@ -1,6 +1,6 @@
 package calendar.factory;
 
-import calendar.dto.CreateEventDto;
+import calendar.dto.CreateEventDto.CommandType;
 import calendar.interfacetypes.Icreate;
 import calendar.strategy.CreateAllDayRecurringN;
 import calendar.strategy.CreateAllDayRecurringUntil;
@@ -15,28 +15,39 @@ import calendar.strategy.CreateTimedRecurringUntil;
  */
 public class CreateStrategyFactory {
 
+  private static final StrategyRegistry<CommandType, Icreate> STRATEGIES =
+      new StrategyRegistry<>(CommandType.class, "creation");
+
+  static {
+    STRATEGIES.register(CommandType.ALL_DAY_SINGLE, new CreateAllDaySingle());
+    STRATEGIES.register(CommandType.ALL_DAY_RECURRING_FOR, new CreateAllDayRecurringN());
+    STRATEGIES.register(CommandType.TIMED_SINGLE, new CreateEventSingle());
+    STRATEGIES.register(CommandType.TIMED_RECURRING_FOR, new CreateTimedRecurringFor());
+    STRATEGIES.register(CommandType.TIMED_RECURRING_UNTIL, new CreateTimedRecurringUntil());
+    STRATEGIES.register(CommandType.ALL_DAY_RECURRING_UNTIL, new CreateAllDayRecurringUntil());
+  }
+
+  private CreateStrategyFactory() {
+  }
+
   /**
   * Returns the appropriate Icreate strategy based on the command type.
    *
   * @param type The type of event creation command.
   * @return The concrete Icreate strategy.
   */
-  public static Icreate getStrategy(CreateEventDto.CommandType type) {
-    switch (type) {
-      case ALL_DAY_SINGLE:
-        return new CreateAllDaySingle();
-      case ALL_DAY_RECURRING_FOR:
-        return new CreateAllDayRecurringN();
-      case TIMED_SINGLE:
-        return new CreateEventSingle();
-      case TIMED_RECURRING_FOR:
-        return new CreateTimedRecurringFor();
-      case TIMED_RECURRING_UNTIL:
-        return new CreateTimedRecurringUntil();
-      case ALL_DAY_RECURRING_UNTIL:
-        return new CreateAllDayRecurringUntil();
-      default:
-        throw new IllegalArgumentException("Unknown creation command type: " + type);
-    }
+  public static Icreate getStrategy(CommandType type) {
+    return STRATEGIES.get(type);
+  }
+
+  /**
+   * Registers the strategy used for a creation type, replacing the built-in one. Intended
+   * for installing plugin strategies at startup; the strategy is shared by every command.
+   *
+   * @param type the creation type
+   * @param strategy the stateless strategy
+   */
+  public static void register(CommandType type, Icreate strategy) {
+    STRATEGIES.register(type, strategy);
   }
 }
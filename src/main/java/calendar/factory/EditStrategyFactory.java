@@ -1,6 +1,6 @@
 package calendar.factory;
 
-import calendar.dto.EditEventDto;
+import calendar.dto.EditEventDto.EditType;
 import calendar.interfacetypes.Iedit;
 import calendar.strategy.EditForward;
 import calendar.strategy.EditSeries;
@@ -12,6 +12,18 @@ import calendar.strategy.EditSingle;
  */
 public class EditStrategyFactory {
 
+  private static final StrategyRegistry<EditType, Iedit> STRATEGIES =
+      new StrategyRegistry<>(EditType.class, "edit");
+
+  static {
+    STRATEGIES.register(EditType.EDIT_SINGLE, new EditSingle());
+    STRATEGIES.register(EditType.EDIT_FORWARD, new EditForward());
+    STRATEGIES.register(EditType.EDIT_SERIES, new EditSeries());
+  }
+
+  private EditStrategyFactory() {
+  }
+
   /**
   * Returns the appropriate edit strategy based on the specified edit type.
   * Supports editing a single event occurrence, all future occurrences in a series,
@@ -21,16 +33,18 @@ public class EditStrategyFactory {
   * @return the corresponding edit strategy implementation
   * @throws IllegalArgumentException if the edit type is unknown or not supported
   */
-  public static Iedit getStrategy(EditEventDto.EditType type) {
-    switch (type) {
-      case EDIT_SINGLE:
-        return new EditSingle();
-      case EDIT_FORWARD:
-        return new EditForward();
-      case EDIT_SERIES:
-        return new EditSeries();
-      default:
-        throw new IllegalArgumentException("Unknown edit command type: " + type);
-    }
+  public static Iedit getStrategy(EditType type) {
+    return STRATEGIES.get(type);
+  }
+
+  /**
+   * Registers the strategy used for an edit type, replacing the built-in one. Intended
+   * for installing plugin strategies at startup; the strategy is shared by every command.
+   *
+   * @param type the edit type
+   * @param strategy the stateless strategy
+   */
+  public static void register(EditType type, Iedit strategy) {
+    STRATEGIES.register(type, strategy);
   }
 }
@@ -4,15 +4,28 @@ import calendar.dto.ExportEventDto;
 import calendar.interfacetypes.Iexport;
 import calendar.strategy.GoogleCsvExporter;
 import calendar.strategy.IcalExporter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory class responsible for creating appropriate exporter strategy implementations
  * based on the file type specified in the export parameters. This factory uses the
  * Strategy pattern to instantiate the correct exporter for different file formats.
- * Supports CSV (.csv) and iCalendar (.ical/.ics) format exports.
+ * Supports CSV (.csv) and iCalendar (.ical/.ics) format exports. The exporters format
+ * large calendars in parallel. Exporters are stateless, so one shared instance per file
+ * type serves every export.
  */
 public class ExporterFactory {
 
+  private static final Map<String, Iexport> exporters = new ConcurrentHashMap<>();
+
+  static {
+    Iexport ical = new IcalExporter(true);
+    exporters.put("csv", new GoogleCsvExporter(true));
+    exporters.put("ical", ical);
+    exporters.put("ics", ical);
+  }
+
   private ExporterFactory() {
 
   }
@@ -45,17 +58,21 @@ public class ExporterFactory {
     String extension = fileName.substring(lastDotIndex + 1);
 
 
-    switch (extension.toLowerCase()) {
-      case "csv":
-        return new GoogleCsvExporter();
-
-      case "ical":
-      case "ics":
-        return new IcalExporter();
-
-      default:
-
-        throw new Exception("Error: File type '." + extension + "' is not supported.");
+    Iexport exporter = exporters.get(extension.toLowerCase());
+    if (exporter == null) {
+      throw new Exception("Error: File type '." + extension + "' is not supported.");
     }
+    return exporter;
+  }
+
+  /**
+   * Registers the exporter used for a file extension, replacing any existing one. The
+   * exporter is shared by all exports to that file type and must be stateless.
+   *
+   * @param extension the file extension without the dot, e.g. "csv"
+   * @param exporter the exporter to use
+   */
+  public static void register(String extension, Iexport exporter) {
+    exporters.put(extension.toLowerCase(), exporter);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package calendar.factory;
+
+import calendar.dto.ImportEventDto;
+import calendar.interfacetypes.Iimport;
+import calendar.strategy.GoogleCsvImporter;
+import calendar.strategy.IcalImporter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Factory class responsible for creating appropriate importer strategy implementations
+ * based on the file type specified in the import parameters. It mirrors
+ * {@link ExporterFactory}, so every file the application exports can be imported again.
+ * Supports CSV (.csv) and iCalendar (.ical/.ics) format imports. Importers are stateless,
+ * so one shared instance per file type serves every import.
+ */
+public class ImporterFactory {
+
+  private static final Map<String, Iimport> importers = new ConcurrentHashMap<>();
+
+  static {
+    Iimport ical = new IcalImporter();
+    importers.put("csv", new GoogleCsvImporter());
+    importers.put("ical", ical);
+    importers.put("ics", ical);
+  }
+
+  private ImporterFactory() {
+
+  }
+
+  /**
+  * Creates and returns the appropriate importer strategy based on the file extension
+  * specified in the DTO's file name.
+  *
+  * @param data the import data transfer object containing the file name
+  * @return an Iimport implementation appropriate for the specified file type
+  * @throws Exception if the file name is invalid, missing an extension, or the file type
+  *                   is not supported
+  */
+  public static Iimport getImporter(ImportEventDto data) throws Exception {
+    String fileName = data.getFileName();
+    if (fileName == null || fileName.isEmpty()) {
+      throw new Exception("Invalid file name.");
+    }
+    int lastDotIndex = fileName.lastIndexOf('.');
+    if (lastDotIndex <= 0 || lastDotIndex == fileName.length() - 1) {
+      throw new Exception("Invalid file name or missing extension.");
+    }
+    String extension = fileName.substring(lastDotIndex + 1);
+    Iimport importer = importers.get(extension.toLowerCase());
+    if (importer == null) {
+      throw new Exception("Error: File type '." + extension + "' is not supported.");
+    }
+    return importer;
+  }
+
+  /**
+   * Registers the importer used for a file extension, replacing any existing one. The
+   * importer is shared by all imports from that file type and must be stateless.
+   *
+   * @param extension the file extension without the dot, e.g. "csv"
+   * @param importer the importer to use
+   */
+  public static void register(String extension, Iimport importer) {
+    importers.put(extension.toLowerCase(), importer);
+  }
+}
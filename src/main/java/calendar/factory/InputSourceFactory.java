@@ -4,6 +4,7 @@ import calendar.input.HeadlessInputSourceCreator;
 import calendar.input.InteractiveInputSourceCreator;
 import calendar.interfacetypes.IinputSource;
 import calendar.interfacetypes.IinputSourceCreator;
+import calendar.view.OutputSink;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -30,6 +31,20 @@ public class InputSourceFactory {
    * @throws Exception if the mode is invalid or input source creation fails
    */
   public static IinputSource createInputSource(String mode, String filename) throws Exception {
+    return createInputSource(mode, filename, OutputSink.console());
+  }
+
+  /**
+   * Creates an input source based on the specified mode that echoes commands to a sink.
+   *
+   * @param mode the mode ("interactive" or "headless")
+   * @param filename the filename for headless mode (ignored for interactive)
+   * @param echo the sink for echoed commands
+   * @return the created input source
+   * @throws Exception if the mode is invalid or input source creation fails
+   */
+  public static IinputSource createInputSource(String mode, String filename, OutputSink echo)
+      throws Exception {
     String normalizedMode = mode.toLowerCase();
 
     IinputSourceCreator creator = creators.get(normalizedMode);
@@ -38,6 +53,6 @@ public class InputSourceFactory {
           + String.join(", ", creators.keySet()));
     }
 
-    return creator.create(filename);
+    return creator.create(filename, echo);
   }
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package calendar.factory;
 
-import calendar.dto.QueryEventDto;
+import calendar.dto.QueryEventDto.QueryType;
 import calendar.interfacetypes.Iquery;
 import calendar.strategy.PrintInRange;
 import calendar.strategy.PrintOnDate;
@@ -12,6 +12,18 @@ import calendar.strategy.ShowStatusAt;
  */
 public class QueryStrategyFactory {
 
+  private static final StrategyRegistry<QueryType, Iquery> STRATEGIES =
+      new StrategyRegistry<>(QueryType.class, "query");
+
+  static {
+    STRATEGIES.register(QueryType.PRINT_ON_DATE, new PrintOnDate());
+    STRATEGIES.register(QueryType.PRINT_IN_RANGE, new PrintInRange());
+    STRATEGIES.register(QueryType.SHOW_STATUS_AT, new ShowStatusAt());
+  }
+
+  private QueryStrategyFactory() {
+  }
+
   /**
    * Returns the appropriate query strategy based on the specified query type.
    * Supports printing events on a specific date, printing events within a date range,
@@ -21,16 +33,18 @@ public class QueryStrategyFactory {
    * @return the corresponding query strategy implementation
    * @throws IllegalArgumentException if the query type is unknown or not supported
    */
-  public static Iquery getStrategy(QueryEventDto.QueryType type) {
-    switch (type) {
-      case PRINT_ON_DATE:
-        return new PrintOnDate();
-      case PRINT_IN_RANGE:
-        return new PrintInRange();
-      case SHOW_STATUS_AT:
-        return new ShowStatusAt();
-      default:
-        throw new IllegalArgumentException("Unknown query command type: " + type);
-    }
+  public static Iquery getStrategy(QueryType type) {
+    return STRATEGIES.get(type);
+  }
+
+  /**
+   * Registers the strategy used for a query type, replacing the built-in one. Intended
+   * for installing plugin strategies at startup; the strategy is shared by every command.
+   *
+   * @param type the query type
+   * @param strategy the stateless strategy
+   */
+  public static void register(QueryType type, Iquery strategy) {
+    STRATEGIES.register(type, strategy);
   }
 }
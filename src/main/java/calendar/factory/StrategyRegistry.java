@@ -0,0 +1,73 @@
+package calendar.factory;
+
+import java.util.Arrays;
+
+/**
+ * Holds one shared strategy instance per constant of a command-type enum.
+ *
+ * <p>Strategies are stateless, so a single instance of each serves every command. Lookups
+ * index an array by {@link Enum#ordinal()} and allocate nothing. Strategies may be
+ * replaced or added with {@link #register}, typically at startup to install a plugin;
+ * registration copies the array, so lookups on other threads never need a lock and always
+ * see either the old or the new strategy.</p>
+ *
+ * @param <K> the command-type enum
+ * @param <S> the strategy interface
+ */
+public final class StrategyRegistry<K extends Enum<K>, S> {
+
+  private final String kind;
+  private volatile Object[] strategies;
+
+  /**
+   * Creates an empty registry.
+   *
+   * @param type the command-type enum
+   * @param kind what the strategies do, used in error messages, e.g. "copy"
+   */
+  public StrategyRegistry(Class<K> type, String kind) {
+    this.kind = kind;
+    this.strategies = new Object[type.getEnumConstants().length];
+  }
+
+  /**
+   * Registers the strategy used for a command type, replacing the previous one.
+   *
+   * @param type the command type
+   * @param strategy the stateless strategy to share
+   */
+  public synchronized void register(K type, S strategy) {
+    if (strategy == null) {
+      throw new IllegalArgumentException("Strategy for " + type + " must not be null");
+    }
+    Object[] copy = Arrays.copyOf(strategies, strategies.length);
+    copy[type.ordinal()] = strategy;
+    strategies = copy;
+  }
+
+  /**
+   * Returns the strategy registered for a command type.
+   *
+   * @param type the command type
+   * @return the strategy, or null if none is registered
+   */
+  @SuppressWarnings("unchecked")
+  public S find(K type) {
+    return type == null ? null : (S) strategies[type.ordinal()];
+  }
+
+  /**
+   * Returns the strategy registered for a command type.
+   *
+   * @param type the command type
+   * @return the strategy
+   * @throws IllegalArgumentException if no strategy is registered for the type
+   */
+  public S get(K type) {
+    S strategy = find(type);
+    if (strategy == null) {
+      throw new IllegalArgumentException("Unknown " + kind + " command type: " + type);
+    }
+    return strategy;
+  }
+}
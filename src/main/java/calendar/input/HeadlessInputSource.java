@@ -1,60 +1,108 @@
 package calendar.input;
 
 import calendar.interfacetypes.IinputSource;
+import calendar.view.OutputSink;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.io.UncheckedIOException;
 
 /**
  * Input source for headless mode reading from a file.
- * Reads all commands from a file and queues them for processing.
+ * Streams commands from the file through a large read buffer, one line ahead of the
+ * caller, so scripts of any size are processed in constant memory. Blank lines and lines
+ * starting with "#" are skipped. Commands are echoed to a sink when they are executed.
  */
 public class HeadlessInputSource implements IinputSource {
 
-  private final Queue<String> commands;
+  /**
+   * Size in characters of the read buffer.
+   */
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private final BufferedReader reader;
+  private final OutputSink echo;
+  private String next;
 
   /**
-   * Creates a headless input source from a file.
+   * Creates a headless input source from a file that echoes commands to standard output.
    *
    * @param filename the path to the file containing commands
    * @throws IOException if the file cannot be read
    */
   public HeadlessInputSource(String filename) throws IOException {
-    this.commands = new LinkedList<>();
-    loadCommandsFromFile(filename);
-  }
-
-  private void loadCommandsFromFile(String filename) throws IOException {
-    try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-      String line;
-      while ((line = reader.readLine()) != null) {
-        String trimmed = line.trim();
-        if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
-          commands.add(trimmed);
-        }
+    this(filename, OutputSink.console());
+  }
+
+  /**
+   * Creates a headless input source from a file that echoes commands to the given sink.
+   *
+   * @param filename the path to the file containing commands
+   * @param echo the sink commands are echoed to, or a disabled sink for no echo
+   * @throws IOException if the file cannot be read
+   */
+  public HeadlessInputSource(String filename, OutputSink echo) throws IOException {
+    this.reader = new BufferedReader(new FileReader(filename), READ_BUFFER_SIZE);
+    this.echo = echo;
+    try {
+      this.next = readCommand();
+    } catch (IOException e) {
+      reader.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Reads lines until the next command, or returns null at the end of the file.
+   */
+  private String readCommand() throws IOException {
+    String line;
+    while ((line = reader.readLine()) != null) {
+      String trimmed = line.trim();
+      if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+        return trimmed;
       }
     }
+    return null;
   }
 
   @Override
   public String getNextCommand() {
-    if (commands.isEmpty()) {
+    if (next == null) {
       return null;
     }
-    String command = commands.poll();
-    System.out.println("> " + command);
+    String command = next;
+    try {
+      next = readCommand();
+    } catch (IOException e) {
+      next = null;
+      throw new UncheckedIOException("Failed to read commands file: " + e.getMessage(), e);
+    }
     return command;
   }
 
   @Override
   public boolean hasMoreCommands() {
-    return !commands.isEmpty();
+    return next != null;
+  }
+
+  @Override
+  public boolean canReadAhead() {
+    return true;
+  }
+
+  @Override
+  public void echo(String command) {
+    echo.println("> " + command);
   }
 
   @Override
   public void close() {
-    commands.clear();
+    next = null;
+    try {
+      reader.close();
+    } catch (IOException e) {
+      // Nothing is left to read, so a failure to close is of no consequence.
+    }
   }
-}
\ No newline at end of file
+}
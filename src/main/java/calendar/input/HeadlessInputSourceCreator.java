@@ -2,6 +2,7 @@ package calendar.input;
 
 import calendar.interfacetypes.IinputSource;
 import calendar.interfacetypes.IinputSourceCreator;
+import calendar.view.OutputSink;
 import java.io.IOException;
 
 /**
@@ -12,11 +13,16 @@ public class HeadlessInputSourceCreator implements IinputSourceCreator {
 
   @Override
   public IinputSource create(String filename) throws Exception {
+    return create(filename, OutputSink.console());
+  }
+
+  @Override
+  public IinputSource create(String filename, OutputSink echo) throws Exception {
     if (filename == null || filename.isEmpty()) {
       throw new Exception("Filename required for headless mode");
     }
     try {
-      return new HeadlessInputSource(filename);
+      return new HeadlessInputSource(filename, echo);
     } catch (IOException e) {
       throw new Exception("Failed to read commands file: " + e.getMessage());
     }
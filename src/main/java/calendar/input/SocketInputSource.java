@@ -0,0 +1,85 @@
+package calendar.input;
+
+import calendar.interfacetypes.IinputSource;
+import calendar.view.OutputSink;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Input source for one server session, reading commands line by line from a client
+ * connection.
+ * Like interactive input, later commands may depend on the output of earlier ones, so the
+ * source cannot be read ahead. Before waiting for the client's next command it flushes the
+ * session's output, so the client always receives the complete response to the commands
+ * it has sent. Blank lines are skipped.
+ */
+public class SocketInputSource implements IinputSource {
+
+  private final BufferedReader reader;
+  private final OutputSink out;
+  private String next;
+  private boolean finished;
+
+  /**
+   * Creates an input source reading commands from a client connection.
+   *
+   * @param in the stream of commands sent by the client
+   * @param out the session output, flushed before each read
+   */
+  public SocketInputSource(InputStream in, OutputSink out) {
+    this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    this.out = out;
+  }
+
+  /**
+   * Waits for the client's next command, or records that the client has disconnected.
+   */
+  private void fill() {
+    if (next != null || finished) {
+      return;
+    }
+    try {
+      out.flush();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String trimmed = line.trim();
+        if (!trimmed.isEmpty()) {
+          next = trimmed;
+          return;
+        }
+      }
+    } catch (IOException | UncheckedIOException e) {
+      // A broken connection ends the session like a disconnect.
+    }
+    finished = true;
+  }
+
+  @Override
+  public String getNextCommand() {
+    fill();
+    String command = next;
+    next = null;
+    return command;
+  }
+
+  @Override
+  public boolean hasMoreCommands() {
+    fill();
+    return next != null;
+  }
+
+  @Override
+  public void close() {
+    finished = true;
+    try {
+      out.flush();
+      reader.close();
+    } catch (IOException | UncheckedIOException e) {
+      // The session is over, so a failure to close is of no consequence.
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package calendar.interfacetypes;
 
 import calendar.model.Calendar;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -23,6 +24,29 @@ public interface Icalendarcollection {
    */
   void save(Calendar calendar);
 
+  /**
+   * Saves an updated calendar only if the repository still holds the version it was derived
+   * from, so that an update made meanwhile by another writer is never silently overwritten.
+   * Versions are compared by identity.
+   *
+   * @param expected the version the update was derived from, or null if the calendar must
+   *                 not exist yet
+   * @param calendar the updated calendar, with the same name as the expected one
+   * @return true if the calendar was saved, false if the repository held another version
+   */
+  boolean compareAndSave(Calendar expected, Calendar calendar);
+
+  /**
+   * Saves several updated calendars as one batch, only if the repository still holds every
+   * version they were derived from. Either all calendars are saved or none is, and no other
+   * writer's update lands between the check and the saves.
+   *
+   * @param expected the versions the updates were derived from, in the same order
+   * @param calendars the updated calendars, all existing and with distinct names
+   * @return true if the calendars were saved, false if any was found in another version
+   */
+  boolean compareAndSaveAll(List<Calendar> expected, List<Calendar> calendars);
+
   /**
    * Checks whether a calendar exists by its name.
    *
@@ -0,0 +1,40 @@
+package calendar.interfacetypes;
+
+import calendar.model.Event;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Interface for event sets that answer subject and series lookups from secondary indexes
+ * instead of scanning every event. {@link calendar.util.EventFinder} uses it whenever the
+ * set it is given implements it.
+ */
+public interface IeventLookup {
+
+  /**
+   * Finds the events with the given subject whose start date-time equals {@code start}.
+   *
+   * @param subject the exact subject to match
+   * @param start the exact start date-time to match
+   * @return a modifiable list of the matching events
+   */
+  List<Event> findBySubjectAndStart(String subject, ZonedDateTime start);
+
+  /**
+   * Finds the events with the given subject that start at or after {@code start}.
+   *
+   * @param subject the exact subject to match
+   * @param start the earliest start time to include
+   * @return a modifiable list of the matching events in start order
+   */
+  List<Event> findBySubjectFromStart(String subject, ZonedDateTime start);
+
+  /**
+   * Finds the events of a series that start at or after {@code fromTime}.
+   *
+   * @param seriesId the series identifier to match
+   * @param fromTime the earliest start time to include, or null for the whole series
+   * @return a modifiable list of the series' events in start order
+   */
+  List<Event> findSeriesFrom(String seriesId, ZonedDateTime fromTime);
+}
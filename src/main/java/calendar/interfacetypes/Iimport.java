@@ -0,0 +1,26 @@
+package calendar.interfacetypes;
+
+import calendar.model.Event;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.Set;
+
+/**
+ * Strategy interface for importing calendar events from external file formats.
+ * Implementations read the files written by the matching {@link Iexport} strategies
+ * (e.g., CSV for Google Calendar, iCalendar format, etc.) back into events.
+ */
+public interface Iimport {
+
+  /**
+   * Reads every event stored in the given file. The file is streamed rather than loaded
+   * whole, and the events are converted to the given timezone. Recurring series stored
+   * as a rule are returned as a single series rather than one event per occurrence.
+   *
+   * @param fileName the name (and optional path) of the file to read
+   * @param timezone the timezone of the calendar the events are imported into
+   * @return a read-only set of the events in the file
+   * @throws IOException if the file cannot be read or is not in the expected format
+   */
+  Set<Event> importEvents(String fileName, ZoneId timezone) throws IOException;
+}
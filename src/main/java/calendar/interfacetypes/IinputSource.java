@@ -20,6 +20,26 @@ public interface IinputSource {
    */
   boolean hasMoreCommands();
 
+  /**
+   * Checks whether commands can be read before the earlier ones have been executed.
+   * File-based sources return true, so the controller may parse ahead of execution;
+   * interactive sources return false, since later input depends on earlier output.
+   *
+   * @return true if the source may be read ahead
+   */
+  default boolean canReadAhead() {
+    return false;
+  }
+
+  /**
+   * Echoes a command read from this source just before it is executed. Sources whose
+   * commands are already visible, such as interactive input, do nothing.
+   *
+   * @param command the command about to be executed
+   */
+  default void echo(String command) {
+  }
+
   /**
    * Closes the input source and releases any resources.
    */
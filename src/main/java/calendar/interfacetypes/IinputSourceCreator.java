@@ -1,5 +1,7 @@
 package calendar.interfacetypes;
 
+import calendar.view.OutputSink;
+
 /**
  * Interface for creating input sources.
  * Follows the Strategy Pattern for creating different types of input sources.
@@ -14,4 +16,17 @@ public interface IinputSourceCreator {
    * @throws Exception if creation fails
    */
   IinputSource create(String filename) throws Exception;
-}
\ No newline at end of file
+
+  /**
+   * Creates an input source that echoes the commands it reads to the given sink.
+   * Sources that do not echo ignore the sink.
+   *
+   * @param filename the filename (may be null for some modes)
+   * @param echo the sink for echoed commands
+   * @return the created input source
+   * @throws Exception if creation fails
+   */
+  default IinputSource create(String filename, OutputSink echo) throws Exception {
+    return create(filename);
+  }
+}
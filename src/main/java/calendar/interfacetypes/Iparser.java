@@ -5,13 +5,13 @@ import calendar.model.CalendarModel;
 /**
  * Strategy interface for parsing user command strings into executable command objects.
  * Each parser implementation handles a specific category of commands (create, edit, query, export)
- * and uses regex patterns to extract parameters from the command string.
+ * and extracts parameters from the command string.
  */
 public interface Iparser {
 
   /**
    * Determines whether this parser can handle the given command string.
-   * Typically implemented by checking if the command matches the parser's regex patterns.
+   * Typically implemented by checking the leading keywords of the command.
    *
    * @param commandString the raw user input command
    * @return true if this parser should handle the command, false otherwise
@@ -1,6 +1,7 @@
 package calendar.interfacetypes;
 
 import calendar.dto.QueryEventDto;
+import calendar.model.Calendar;
 import calendar.model.Event;
 import java.time.ZoneId;
 import java.util.Set;
@@ -24,4 +25,17 @@ public interface Iquery {
    * @throws Exception if the query execution fails due to invalid parameters
    */
   Set<Event> find(QueryEventDto dto, Set<Event> allEvents, ZoneId timezone) throws Exception;
+
+  /**
+   * Finds and returns events of a calendar that match the criteria in the query DTO.
+   * Produces the same result as {@link #find(QueryEventDto, Set, ZoneId)} called with the
+   * calendar's events and timezone, but lets implementations answer from the calendar's
+   * time index rather than scanning every event.
+   *
+   * @param dto the data transfer object containing query parameters and type
+   * @param calendar the calendar to search
+   * @return a set of events matching the query criteria, or an empty set if none match
+   * @throws Exception if the query execution fails due to invalid parameters
+   */
+  Set<Event> find(QueryEventDto dto, Calendar calendar) throws Exception;
 }
\ No newline at end of file
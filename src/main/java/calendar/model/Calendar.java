@@ -1,7 +1,9 @@
 package calendar.model;
 
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -13,10 +15,13 @@ import java.util.Set;
  *
  * <h2>Immutability</h2>
  *
- * <p>This class is designed to be immutable after construction. The events set
- * is defensively copied both on construction and retrieval to prevent external
- * modification. Any changes to calendar properties require creating a new instance,
- * typically via {@link CalendarModelBuilder}.</p>
+ * <p>This class is designed to be immutable after construction. Events are held in an
+ * {@link EventTree}, a persistent set that cannot be modified, and are handed out either
+ * as a copy ({@link #getEvents()}) or as the read-only tree itself
+ * ({@link #getEventsView()}). Any changes to calendar properties require creating a new
+ * instance, typically via {@link CalendarModelBuilder}. Because the tree is persistent,
+ * a calendar derived from another by adding or removing a few events shares all
+ * untouched structure with it, so each change costs O(log N) rather than a full copy.</p>
  *
  * <h2>Timezone Handling</h2>
  *
@@ -39,8 +44,25 @@ import java.util.Set;
  * String name = workCalendar.getName();           // "Work"
  * ZoneId zone = workCalendar.getTimezone();       // America/New_York
  * Set<Event> events = workCalendar.getEvents();   // Defensive copy
+ * Set<Event> view = workCalendar.getEventsView(); // Read-only, no copy
  * }</pre>
  *
+ * <h2>Time Queries</h2>
+ *
+ * <p>Range and instant lookups ({@link #getEventsInRange} and {@link #getEventsActiveAt})
+ * are answered by the event tree itself, which is augmented with the latest end time of
+ * every subtree. The index is therefore maintained as part of each change and is shared
+ * between calendar versions rather than rebuilt.</p>
+ *
+ * <p>Recurring series are kept as {@link RecurrenceRule}s rather than one event per
+ * occurrence. Lookups expand each rule only within the requested window, and the views
+ * returned by {@link #getEventsView()} create occurrences as they are iterated.</p>
+ *
+ * <p>Calendars restored from a {@link FileCalendarCollection} snapshot start out backed by
+ * the snapshot's memory-mapped {@link EventColumns} instead of a tree. Their time queries
+ * are answered from the columns, decoding only the matching events; the tree is built the
+ * first time the full set of events is requested.</p>
+ *
  * <h2>Thread Safety</h2>
  *
  * <p>Due to its immutable design, this class is inherently thread-safe. Multiple
@@ -54,9 +76,21 @@ public class Calendar {
 
   /**
    * The collection of events belonging to this calendar.
-   * Stored as a Set to ensure no duplicate events exist.
+   * Standalone events are stored as a persistent tree ordered by start time, which also
+   * serves as the calendar's time index; recurring series are stored as rules. Null until
+   * first needed when the calendar is backed by snapshot columns.
+   */
+  private volatile CalendarEvents events;
+
+  /**
+   * The snapshot columns this calendar was restored from, or null.
    */
-  private final Set<Event> events;
+  private final EventColumns columns;
+
+  /**
+   * The recurring series restored along with the snapshot columns, or null.
+   */
+  private final List<RecurrenceRule> columnRules;
 
   /**
    * The timezone in which all events in this calendar are interpreted.
@@ -73,9 +107,9 @@ public class Calendar {
   /**
    * Constructs a new Calendar with the specified name, timezone, and events.
    *
-   * <p>The provided events set is stored directly without defensive copying
-   * at construction time. For safe construction with defensive copying,
-   * use {@link CalendarModelBuilder} which handles this automatically.</p>
+   * <p>An {@link EventTree}, another calendar's view or a {@link RecurrenceRule} is stored
+   * directly since it cannot change; any other set is copied into a new tree.
+   * {@link CalendarModelBuilder} is the preferred way to construct calendars.</p>
    *
    * @param name     the unique identifier for this calendar; must not be null
    *                 or empty when used with the repository layer
@@ -84,7 +118,25 @@ public class Calendar {
    * @see CalendarModelBuilder
    */
   public Calendar(String name, ZoneId timezone, Set<Event> events) {
-    this.events = events;
+    this.events = CalendarEvents.of(events);
+    this.columns = null;
+    this.columnRules = null;
+    this.timezone = timezone;
+    this.name = name;
+  }
+
+  /**
+   * Constructs a calendar backed by snapshot columns. The event tree is decoded from
+   * the columns on first use.
+   *
+   * @param name     the unique identifier for this calendar
+   * @param timezone the timezone for interpreting event times
+   * @param columns  the columns holding this calendar's standalone events
+   * @param rules    the calendar's recurring series
+   */
+  Calendar(String name, ZoneId timezone, EventColumns columns, List<RecurrenceRule> rules) {
+    this.columns = columns;
+    this.columnRules = rules;
     this.timezone = timezone;
     this.name = name;
   }
@@ -99,7 +151,15 @@ public class Calendar {
    * @return the number of events in this calendar; never negative
    */
   public int getEventCount() {
-    return events.size();
+    CalendarEvents current = events;
+    if (current != null) {
+      return current.size();
+    }
+    int count = columns.size();
+    for (RecurrenceRule rule : columnRules) {
+      count += rule.size();
+    }
+    return count;
   }
 
   /**
@@ -117,7 +177,59 @@ public class Calendar {
    * @return a new Set containing all events in this calendar; never null
    */
   public Set<Event> getEvents() {
-    return new HashSet<>(events);
+    return new HashSet<>(getEventSet());
+  }
+
+  /**
+   * Returns a read-only view of all events in this calendar.
+   *
+   * <p>Unlike {@link #getEvents()}, no copy is made: the view is this calendar's own
+   * immutable event set, so obtaining it is O(1) regardless of calendar size. Occurrences
+   * of recurring series are created as the view is iterated.
+   * Because a Calendar never changes, the view is stable and safe to iterate or query
+   * repeatedly. Any attempt to modify it throws {@link UnsupportedOperationException}.</p>
+   *
+   * <p>Prefer this method for every read-only access (queries, duplicate checks, exports)
+   * and use {@link #getEvents()} only when a mutable copy is actually needed.</p>
+   *
+   * @return an unmodifiable view of the events in this calendar; never null
+   */
+  public Set<Event> getEventsView() {
+    return getEventSet();
+  }
+
+  /**
+   * Returns the tree and rules holding this calendar's events.
+   * Used within the model package where their own operations are needed.
+   *
+   * @return the calendar's events; never null
+   */
+  CalendarEvents getEventSet() {
+    CalendarEvents current = events;
+    if (current == null) {
+      current = new CalendarEvents(columns.toTree(), columnRules);
+      events = current;
+    }
+    return current;
+  }
+
+  /**
+   * Returns this calendar's recurring series without decoding snapshot columns.
+   *
+   * @return the rules; never null
+   */
+  List<RecurrenceRule> getRules() {
+    CalendarEvents current = events;
+    return current != null ? current.rules() : columnRules;
+  }
+
+  /**
+   * Returns the snapshot columns this calendar was restored from.
+   *
+   * @return the columns, or null if the calendar was built from a set of events
+   */
+  EventColumns getColumns() {
+    return columns;
   }
 
   /**
@@ -158,4 +270,42 @@ public class Calendar {
   public String getName() {
     return name;
   }
+
+  /**
+   * Returns all events that overlap the window from {@code start} (inclusive) to
+   * {@code end} (exclusive).
+   *
+   * <p>An event overlaps the window if it starts before {@code end} and ends after
+   * {@code start}. The lookup uses this calendar's time index and costs O(log N + k).</p>
+   *
+   * @param start the start of the window
+   * @param end   the end of the window
+   * @return the overlapping events ordered by start time; never null
+   */
+  public List<Event> getEventsInRange(ZonedDateTime start, ZonedDateTime end) {
+    CalendarEvents current = events;
+    if (current != null) {
+      return current.overlapping(start, end);
+    }
+    return CalendarEvents.withOccurrences(columns.overlapping(start, end), columnRules,
+        rule -> rule.overlapping(start, end));
+  }
+
+  /**
+   * Returns all events that are active at the given instant.
+   *
+   * <p>An event is active if the instant is at or after its start and before its end.
+   * The lookup uses this calendar's time index and costs O(log N + k).</p>
+   *
+   * @param instant the moment to check
+   * @return the active events ordered by start time; never null
+   */
+  public List<Event> getEventsActiveAt(ZonedDateTime instant) {
+    CalendarEvents current = events;
+    if (current != null) {
+      return current.activeAt(instant);
+    }
+    return CalendarEvents.withOccurrences(columns.activeAt(instant), columnRules,
+        rule -> rule.activeAt(instant));
+  }
 }
\ No newline at end of file
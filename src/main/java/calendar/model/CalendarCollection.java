@@ -2,37 +2,63 @@ package calendar.model;
 
 import calendar.interfacetypes.Icalendarcollection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * repository class that handles the hashmap of objects.
+ * All methods are synchronized; the repository may be shared between sessions.
  */
 public class CalendarCollection implements Icalendarcollection {
   private final Map<String, Calendar> calendarMap = new HashMap<>();
 
   @Override
-  public Calendar findByName(String name) {
+  public synchronized Calendar findByName(String name) {
     return calendarMap.get(name);
   }
 
   @Override
-  public void save(Calendar calendar) {
+  public synchronized void save(Calendar calendar) {
     calendarMap.put(calendar.getName(), calendar);
   }
 
   @Override
-  public boolean existsByName(String name) {
+  public synchronized boolean compareAndSave(Calendar expected, Calendar calendar) {
+    if (calendarMap.get(calendar.getName()) != expected) {
+      return false;
+    }
+    save(calendar);
+    return true;
+  }
+
+  @Override
+  public synchronized boolean compareAndSaveAll(List<Calendar> expected,
+                                                List<Calendar> calendars) {
+    for (int i = 0; i < calendars.size(); i++) {
+      if (calendarMap.get(calendars.get(i).getName()) != expected.get(i)) {
+        return false;
+      }
+    }
+    for (Calendar calendar : calendars) {
+      save(calendar);
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized boolean existsByName(String name) {
     return calendarMap.containsKey(name);
   }
 
   @Override
-  public void deleteByName(String name) {
+  public synchronized void deleteByName(String name) {
     calendarMap.remove(name);
   }
 
   @Override
-  public Set<String> getAllCalendarNames() {
-    return calendarMap.keySet();
+  public synchronized Set<String> getAllCalendarNames() {
+    return new HashSet<>(calendarMap.keySet());
   }
 }
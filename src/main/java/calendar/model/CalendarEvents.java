@@ -0,0 +1,294 @@
+package calendar.model;
+
+import calendar.interfacetypes.IeventLookup;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable set of all events of a calendar: standalone events in an {@link EventTree}
+ * and recurring series kept as {@link RecurrenceRule}s.
+ *
+ * <p>Membership checks ask the tree and then each rule, which answers arithmetically.
+ * Iteration walks the tree and then expands each rule one occurrence at a time. Range and
+ * instant queries combine the tree's interval search with each rule's window expansion,
+ * so series occurrences outside the window are never created.</p>
+ *
+ * <p>Subject and series lookups use an {@link EventIndex} over the standalone events. It
+ * is built on the first lookup and then handed on to the sets derived from this one,
+ * which update it per change instead of rebuilding it.</p>
+ */
+final class CalendarEvents extends AbstractSet<Event> implements IeventLookup {
+
+  private static final CalendarEvents EMPTY = new CalendarEvents(EventTree.empty(), List.of());
+
+  private final EventTree tree;
+  private final List<RecurrenceRule> rules;
+  private final int size;
+  private volatile EventIndex index;
+
+  CalendarEvents(EventTree tree, List<RecurrenceRule> rules) {
+    this(tree, rules, null);
+  }
+
+  /**
+   * Creates a set whose index, if given, already describes exactly the given tree.
+   */
+  CalendarEvents(EventTree tree, List<RecurrenceRule> rules, EventIndex index) {
+    List<RecurrenceRule> nonEmpty = new ArrayList<>(rules.size());
+    int total = tree.size();
+    for (RecurrenceRule rule : rules) {
+      if (!rule.isEmpty()) {
+        nonEmpty.add(rule);
+        total += rule.size();
+      }
+    }
+    this.tree = tree;
+    this.rules = nonEmpty.isEmpty() ? List.of() : Collections.unmodifiableList(nonEmpty);
+    this.size = total;
+    this.index = index;
+  }
+
+  static CalendarEvents empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Returns a set with the given events, keeping trees, rules and editable sets as they
+   * are instead of copying their events.
+   */
+  static CalendarEvents of(Collection<Event> events) {
+    if (events instanceof CalendarEvents) {
+      return (CalendarEvents) events;
+    }
+    if (events instanceof EditableEventSet) {
+      return ((EditableEventSet) events).toEvents();
+    }
+    if (events instanceof RecurrenceRule) {
+      return new CalendarEvents(EventTree.empty(), List.of((RecurrenceRule) events));
+    }
+    return new CalendarEvents(EventTree.of(events), List.of());
+  }
+
+  /**
+   * Returns a set that also contains the given events. A rule, or the rules of another
+   * calendar's events, are added as rules. Events are inserted one at a time unless they
+   * outnumber the standalone events already present; then the tree is rebuilt from both
+   * in a single O((N + K) log(N + K)) pass, keeping the present copy of equal events.
+   */
+  CalendarEvents plusAll(Collection<Event> events) {
+    CalendarEvents other = events instanceof RecurrenceRule || events instanceof CalendarEvents
+        || events instanceof EditableEventSet ? of(events) : null;
+    List<RecurrenceRule> combined = rules;
+    if (other != null) {
+      combined = new ArrayList<>(rules);
+      combined.addAll(other.rules);
+      events = other.tree;
+    }
+    if (tree.isEmpty()) {
+      return new CalendarEvents(EventTree.of(events), combined,
+          other != null ? other.indexIfBuilt() : null);
+    }
+    if (events.size() > tree.size()) {
+      List<Event> merged = new ArrayList<>(tree.size() + events.size());
+      merged.addAll(tree);
+      merged.addAll(events);
+      return new CalendarEvents(EventTree.of(merged), combined, null);
+    }
+    EventTree updatedTree = tree;
+    EventIndex updatedIndex = index;
+    for (Event event : events) {
+      EventTree next = updatedTree.plus(event);
+      if (next != updatedTree && updatedIndex != null) {
+        updatedIndex = updatedIndex.plus(event);
+      }
+      updatedTree = next;
+    }
+    return new CalendarEvents(updatedTree, combined, updatedIndex);
+  }
+
+  /**
+   * Returns a set without the events that {@code existing} already contains. Occurrences
+   * of a rule found there become exceptions of the rule.
+   */
+  CalendarEvents without(Set<Event> existing) {
+    if (existing.isEmpty()) {
+      return this;
+    }
+    List<Event> kept = new ArrayList<>(tree.size());
+    for (Event event : tree) {
+      if (!existing.contains(event)) {
+        kept.add(event);
+      }
+    }
+    List<RecurrenceRule> keptRules = new ArrayList<>(rules.size());
+    for (RecurrenceRule rule : rules) {
+      List<LocalDate> taken = new ArrayList<>();
+      for (Event occurrence : rule) {
+        if (existing.contains(occurrence)) {
+          taken.add(rule.dateOf(occurrence));
+        }
+      }
+      keptRules.add(rule.withExceptions(taken));
+    }
+    return new CalendarEvents(kept.size() == tree.size() ? tree : EventTree.of(kept),
+        keptRules);
+  }
+
+  EventTree tree() {
+    return tree;
+  }
+
+  List<RecurrenceRule> rules() {
+    return rules;
+  }
+
+  /**
+   * Returns the index of the standalone events if it has been built, or null.
+   */
+  EventIndex indexIfBuilt() {
+    return index;
+  }
+
+  private EventIndex index() {
+    EventIndex current = index;
+    if (current == null) {
+      current = EventIndex.of(tree);
+      index = current;
+    }
+    return current;
+  }
+
+  /**
+   * Returns a tree holding every event, including each series' occurrences.
+   */
+  EventTree toTree() {
+    EventTree result = tree;
+    for (RecurrenceRule rule : rules) {
+      result = result.plusAll(rule);
+    }
+    return result;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (tree.contains(o)) {
+      return true;
+    }
+    for (RecurrenceRule rule : rules) {
+      if (rule.contains(o)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Iterator<Event> iterator() {
+    if (rules.isEmpty()) {
+      return tree.iterator();
+    }
+    return new Iterator<Event>() {
+      private Iterator<Event> current = tree.iterator();
+      private int nextRule;
+
+      @Override
+      public boolean hasNext() {
+        while (!current.hasNext() && nextRule < rules.size()) {
+          current = rules.get(nextRule++).iterator();
+        }
+        return current.hasNext();
+      }
+
+      @Override
+      public Event next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return current.next();
+      }
+    };
+  }
+
+  @Override
+  public List<Event> findBySubjectAndStart(String subject, ZonedDateTime start) {
+    List<Event> result = index().bySubjectAndStart(subject, start);
+    for (RecurrenceRule rule : rules) {
+      if (Objects.equals(rule.getSubject(), subject)) {
+        Event occurrence = rule.occurrenceStartingAt(start);
+        if (occurrence != null) {
+          result.add(occurrence);
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public List<Event> findBySubjectFromStart(String subject, ZonedDateTime start) {
+    List<Event> result = index().bySubjectFrom(subject, start);
+    for (RecurrenceRule rule : rules) {
+      if (Objects.equals(rule.getSubject(), subject)) {
+        result.addAll(rule.occurrencesFrom(start));
+      }
+    }
+    if (!rules.isEmpty()) {
+      result.sort(EventTree.ORDER);
+    }
+    return result;
+  }
+
+  @Override
+  public List<Event> findSeriesFrom(String seriesId, ZonedDateTime fromTime) {
+    List<Event> result = index().bySeriesFrom(seriesId, fromTime);
+    for (RecurrenceRule rule : rules) {
+      if (Objects.equals(rule.getSeriesId(), seriesId)) {
+        result.addAll(rule.occurrencesFrom(fromTime));
+      }
+    }
+    if (!rules.isEmpty()) {
+      result.sort(EventTree.ORDER);
+    }
+    return result;
+  }
+
+  List<Event> overlapping(ZonedDateTime from, ZonedDateTime to) {
+    return withOccurrences(tree.overlapping(from, to), rules,
+        rule -> rule.overlapping(from, to));
+  }
+
+  List<Event> activeAt(ZonedDateTime instant) {
+    return withOccurrences(tree.activeAt(instant), rules, rule -> rule.activeAt(instant));
+  }
+
+  /**
+   * Adds the occurrences each rule reports for a query to the standalone events found by
+   * it, keeping the result in start order.
+   */
+  static List<Event> withOccurrences(List<Event> found, List<RecurrenceRule> rules,
+                                     Function<RecurrenceRule, List<Event>> query) {
+    if (rules.isEmpty()) {
+      return found;
+    }
+    List<Event> result = new ArrayList<>(found);
+    for (RecurrenceRule rule : rules) {
+      result.addAll(query.apply(rule));
+    }
+    result.sort(EventTree.ORDER);
+    return result;
+  }
+}
@@ -0,0 +1,93 @@
+package calendar.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Table of read/write locks, one per calendar name, shared by every {@link CalendarModel}
+ * working on the same repository.
+ *
+ * <p>Calendars are immutable snapshots, so reading one needs no lock. An update reads a
+ * calendar, derives a new one and saves it; it holds the write lock of the calendar for
+ * the whole read-modify-write, so concurrent updates to one calendar are applied one after
+ * the other and none is lost, while updates to different calendars run in parallel. An
+ * update that derives its result from another calendar holds that calendar's read lock.</p>
+ *
+ * <p>Locks are always taken in name order, so callers locking overlapping sets of
+ * calendars cannot deadlock. They are keyed by name and kept for the life of the table, so
+ * a lock guards a name before the calendar is created and after it is renamed.</p>
+ */
+public final class CalendarLocks {
+
+  private final ConcurrentMap<String, ReentrantReadWriteLock> locks =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Locks the named calendars for writing until the returned handle is released. Null names
+   * are ignored.
+   *
+   * @param names the names of the calendars to update
+   * @return the handle releasing the locks
+   */
+  public Held write(String... names) {
+    return lock(names, new String[0]);
+  }
+
+  /**
+   * Locks some calendars for writing and others for reading until the returned handle is
+   * released. A name in both sets is locked for writing. Null names are ignored.
+   *
+   * @param writeNames the names of the calendars to update
+   * @param readNames the names of the calendars that must not change meanwhile
+   * @return the handle releasing the locks
+   */
+  public Held lock(String[] writeNames, String... readNames) {
+    Map<String, Boolean> ordered = new TreeMap<>();
+    for (String name : readNames) {
+      if (name != null) {
+        ordered.put(name, false);
+      }
+    }
+    for (String name : writeNames) {
+      if (name != null) {
+        ordered.put(name, true);
+      }
+    }
+    List<Lock> held = new ArrayList<>(ordered.size());
+    for (Map.Entry<String, Boolean> entry : ordered.entrySet()) {
+      ReentrantReadWriteLock lock =
+          locks.computeIfAbsent(entry.getKey(), name -> new ReentrantReadWriteLock());
+      Lock part = entry.getValue() ? lock.writeLock() : lock.readLock();
+      part.lock();
+      held.add(part);
+    }
+    return new Held(held);
+  }
+
+  /**
+   * Locks held on one or more calendars, released by {@link #release()}. Callers release
+   * the handle in a {@code finally} block, as with a {@link Lock}.
+   */
+  public static final class Held {
+    private final List<Lock> locks;
+
+    private Held(List<Lock> locks) {
+      this.locks = locks;
+    }
+
+    /**
+     * Releases the locks, in the reverse of the order they were taken.
+     */
+    public void release() {
+      for (int i = locks.size() - 1; i >= 0; i--) {
+        locks.get(i).unlock();
+      }
+    }
+  }
+}
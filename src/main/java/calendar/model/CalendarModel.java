@@ -4,31 +4,45 @@ import calendar.dto.CopyEventDto;
 import calendar.dto.CreateEventDto;
 import calendar.dto.EditEventDto;
 import calendar.dto.ExportEventDto;
+import calendar.dto.ImportEventDto;
 import calendar.dto.QueryEventDto;
 import calendar.factory.CopyStrategyFactory;
 import calendar.factory.CreateStrategyFactory;
 import calendar.factory.EditStrategyFactory;
 import calendar.factory.ExporterFactory;
+import calendar.factory.ImporterFactory;
 import calendar.factory.QueryStrategyFactory;
 import calendar.interfacetypes.Icalendarcollection;
 import calendar.interfacetypes.Icopy;
 import calendar.interfacetypes.Icreate;
 import calendar.interfacetypes.Iedit;
 import calendar.interfacetypes.Iexport;
+import calendar.interfacetypes.Iimport;
 import calendar.interfacetypes.Iquery;
+import calendar.strategy.AbstractCopyEventsByDate;
 import java.time.DateTimeException;
-import java.time.DayOfWeek;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Model class that provides operations for managing calendars and events.
+ *
+ * <p>A model belongs to one session, which has its own active calendar. Several models may
+ * share a thread-safe repository and a {@link CalendarLocks} table; every update holds the
+ * write lock of the calendar it changes, so concurrent sessions never lose updates. Event
+ * updates are also committed with {@link Icalendarcollection#compareAndSave}, and derived
+ * again from the latest version if a writer that does not share the locks got there
+ * first.</p>
  */
 public class CalendarModel {
 
   private final Icalendarcollection repository;
+  private final CalendarLocks locks;
   private String activeCalendarName;
 
   /**
@@ -37,7 +51,20 @@ public class CalendarModel {
    * @param repository the repository to use for storing and retrieving calendars
    */
   public CalendarModel(Icalendarcollection repository) {
+    this(repository, new CalendarLocks());
+  }
+
+  /**
+   * Constructs a CalendarModel for one of several sessions sharing a repository. Each
+   * session has its own active calendar; updates to a calendar are serialized through the
+   * locks, which must be the same for every model on the repository.
+   *
+   * @param repository the thread-safe repository shared by the sessions
+   * @param locks the calendar locks shared by the sessions
+   */
+  public CalendarModel(Icalendarcollection repository, CalendarLocks locks) {
     this.repository = repository;
+    this.locks = locks;
   }
 
   /**
@@ -70,21 +97,54 @@ public class CalendarModel {
    * @throws Exception if the active calendar is not found or creation fails
    */
   public void createEvent(CreateEventDto dto) throws Exception {
-    Calendar activeModel = repository.findByName(activeCalendarName);
-    if (activeModel == null) {
-      throw new Exception("Calendar not found.");
+    String name = activeCalendarName;
+    CalendarLocks.Held held = locks.write(name);
+    try {
+      update(name, "Calendar not found.", activeModel -> {
+        ZoneId timezone = activeModel.getTimezone();
+        Icreate strategy = CreateStrategyFactory.getStrategy(dto.getType());
+        Set<Event> newEvents = strategy.create(dto, activeModel.getEventsView(), timezone);
+        return new CalendarModelBuilder()
+                .setName(activeModel.getName())
+                .setTimeZone(activeModel.getTimezone())
+                .setEvents(activeModel.getEventsView())
+                .addEvents(newEvents)
+                .build();
+      });
+    } finally {
+      held.release();
+    }
+  }
+
+  /**
+   * Creates several events in the active calendar as one transaction. Each request is
+   * validated and checked for duplicates against the calendar together with the events
+   * created by the requests before it, and the calendar is rebuilt and saved once at the
+   * end. If any request fails, nothing is saved.
+   *
+   * @param dtos the event data transfer objects, applied in order
+   * @throws Exception if the active calendar is not found or any creation fails
+   */
+  public void createEvents(List<CreateEventDto> dtos) throws Exception {
+    String name = activeCalendarName;
+    CalendarLocks.Held held = locks.write(name);
+    try {
+      update(name, "Calendar not found.", activeModel -> {
+        ZoneId timezone = activeModel.getTimezone();
+        CalendarEvents events = CalendarEvents.of(activeModel.getEventsView());
+        for (CreateEventDto dto : dtos) {
+          Icreate strategy = CreateStrategyFactory.getStrategy(dto.getType());
+          events = events.plusAll(strategy.create(dto, events, timezone));
+        }
+        return new CalendarModelBuilder()
+                .setName(activeModel.getName())
+                .setTimeZone(activeModel.getTimezone())
+                .setEvents(events)
+                .build();
+      });
+    } finally {
+      held.release();
     }
-    Set<Event> mergedEvents = new HashSet<>(activeModel.getEvents());
-    ZoneId timezone = activeModel.getTimezone();
-    Icreate strategy = CreateStrategyFactory.getStrategy(dto.getType());
-    Set<Event> newEvents = strategy.create(dto, mergedEvents, timezone);
-    mergedEvents.addAll(newEvents);
-    Calendar updatedModel = new CalendarModelBuilder()
-            .setName(activeModel.getName())
-            .setTimeZone(activeModel.getTimezone())
-            .setEvents(mergedEvents)
-            .build();
-    repository.save(updatedModel);
   }
 
   /**
@@ -94,20 +154,22 @@ public class CalendarModel {
    * @throws Exception if the active calendar is not found or edit fails
    */
   public void editEvent(EditEventDto dto) throws Exception {
-    Calendar activeModel = repository.findByName(activeCalendarName);
-    if (activeModel == null) {
-      throw new Exception("Calendar not found.");
+    String name = activeCalendarName;
+    CalendarLocks.Held held = locks.write(name);
+    try {
+      update(name, "Calendar not found.", activeModel -> {
+        Set<Event> editableEvents = new EditableEventSet(activeModel.getEventsView());
+        Iedit strategy = EditStrategyFactory.getStrategy(dto.getEditType());
+        strategy.edit(dto, editableEvents, activeModel.getTimezone());
+        return new CalendarModelBuilder()
+                .setName(activeModel.getName())
+                .setTimeZone(activeModel.getTimezone())
+                .setEvents(editableEvents)
+                .build();
+      });
+    } finally {
+      held.release();
     }
-    Set<Event> eventsCopy = new HashSet<>(activeModel.getEvents());
-    ZoneId timezone = activeModel.getTimezone();
-    Iedit strategy = EditStrategyFactory.getStrategy(dto.getEditType());
-    strategy.edit(dto, eventsCopy, timezone);
-    Calendar updatedModel = new CalendarModelBuilder()
-            .setName(activeModel.getName())
-            .setTimeZone(activeModel.getTimezone())
-            .setEvents(eventsCopy)
-            .build();
-    repository.save(updatedModel);
   }
 
   /**
@@ -122,10 +184,8 @@ public class CalendarModel {
     if (activeModel == null) {
       throw new Exception("Calendar not found.");
     }
-    Set<Event> existingEvents = activeModel.getEvents();
-    ZoneId timezone = activeModel.getTimezone();
     Iquery strategy = QueryStrategyFactory.getStrategy(dto.getType());
-    return strategy.find(dto, existingEvents, timezone);
+    return strategy.find(dto, activeModel);
   }
 
   /**
@@ -140,11 +200,47 @@ public class CalendarModel {
     if (activeModel == null) {
       throw new Exception("Calendar not found.");
     }
-    Set<Event> existingEvents = activeModel.getEvents();
+    Set<Event> existingEvents = activeModel.getEventsView();
     Iexport exporter = ExporterFactory.getExporter(dto);
     return exporter.export(existingEvents, dto.getFileName());
   }
 
+  /**
+   * Imports the events of a CSV or iCalendar file into the active calendar in a single
+   * update. Events the calendar already contains are skipped, including occurrences of
+   * imported series, which become exceptions of the series.
+   *
+   * @param dto the import data transfer object containing the file name
+   * @return the number of events added to the calendar
+   * @throws Exception if the active calendar is not found or the file cannot be imported
+   */
+  public int importEvents(ImportEventDto dto) throws Exception {
+    String name = activeCalendarName;
+    CalendarLocks.Held held = locks.write(name);
+    try {
+      Calendar activeModel = repository.findByName(name);
+      if (activeModel == null) {
+        throw new Exception("Calendar not found.");
+      }
+      Iimport importer = ImporterFactory.getImporter(dto);
+      Set<Event> imported = importer.importEvents(dto.getFileName(), activeModel.getTimezone());
+      int[] added = new int[1];
+      update(name, "Calendar not found.", current -> {
+        Calendar updatedModel = new CalendarModelBuilder()
+                .setName(current.getName())
+                .setTimeZone(current.getTimezone())
+                .setEvents(current.getEventsView())
+                .addNewEvents(imported)
+                .build();
+        added[0] = updatedModel.getEventCount() - current.getEventCount();
+        return updatedModel;
+      });
+      return added[0];
+    } finally {
+      held.release();
+    }
+  }
+
   /**
    * Creates a new calendar with the specified name and timezone.
    *
@@ -153,80 +249,63 @@ public class CalendarModel {
    * @throws Exception if the calendar already exists or the timezone is invalid
    */
   public void createNewCalendar(String name, String zoneStr) throws Exception {
-    if (repository.existsByName(name)) {
-      throw new Exception("Error: A calendar with the name '" + name + "' already exists.");
-    }
-
-    ZoneId zone;
+    CalendarLocks.Held held = locks.write(name);
     try {
-      zone = ZoneId.of(zoneStr);
-    } catch (DateTimeException e) {
-      throw new Exception("Error: Invalid Time Zone '" + zoneStr + "'.");
-    }
+      if (repository.existsByName(name)) {
+        throw new Exception("Error: A calendar with the name '" + name + "' already exists.");
+      }
 
-    Calendar newModel = new CalendarModelBuilder()
-            .setName(name)
-            .setTimeZone(zone)
-            .setEvents(new HashSet<>())
-            .build();
-    repository.save(newModel);
+      ZoneId zone;
+      try {
+        zone = ZoneId.of(zoneStr);
+      } catch (DateTimeException e) {
+        throw new Exception("Error: Invalid Time Zone '" + zoneStr + "'.");
+      }
+
+      Calendar newModel = new CalendarModelBuilder()
+              .setName(name)
+              .setTimeZone(zone)
+              .setEvents(new HashSet<>())
+              .build();
+      if (!repository.compareAndSave(null, newModel)) {
+        throw new Exception("Error: A calendar with the name '" + name + "' already exists.");
+      }
+    } finally {
+      held.release();
+    }
   }
 
   /**
-   * Updates the timezone of an existing calendar.
+   * Updates the timezone of an existing calendar. Every event keeps its instant; large
+   * calendars are converted in parallel, and all events that would change date are reported
+   * together.
    *
    * @param calendarName the name of the calendar to update
    * @param zoneStr      the new timezone string
    * @throws Exception if the calendar is not found, the timezone is invalid, or conversion fails
    */
   public void updateCalendarTimezone(String calendarName, String zoneStr) throws Exception {
-    Calendar originalModel = repository.findByName(calendarName);
-    if (originalModel == null) {
-      throw new Exception("Calendar not found.");
-    }
-    ZoneId newZone;
+    CalendarLocks.Held held = locks.write(calendarName);
     try {
-      newZone = ZoneId.of(zoneStr);
-    } catch (DateTimeException e) {
-      throw new Exception("Error: Invalid Time Zone '" + zoneStr + "'.");
-    }
-    if (originalModel.getTimezone().equals(newZone)) {
-      return;
-    }
-    Set<Event> newEventSet = new HashSet<>();
-    for (Event oldEvent : originalModel.getEvents()) {
-      ZonedDateTime newStart = oldEvent.getStartDateTime().withZoneSameInstant(newZone);
-      ZonedDateTime newEnd = oldEvent.getEndDateTime().withZoneSameInstant(newZone);
-      if (!newStart.toLocalDate().equals(newEnd.toLocalDate())) {
-        throw new Exception("Error: Start Date and End Date should "
-                +
-                "not differ for a recurring event.");
-      }
-
-      DayOfWeek oldDay = oldEvent.getStartDateTime().getDayOfWeek();
-      DayOfWeek newDay = newStart.getDayOfWeek();
-      if (!oldDay.equals(newDay)) {
-        throw new Exception("Error: Timezone change would cause event '"
-                + oldEvent.getSubject() + "' to shift from " + oldDay
-                + " to " + newDay + ".");
-      }
-      Event newEvent = new EventBuilder()
-              .setSubject(oldEvent.getSubject())
-              .setStartDateTime(newStart)
-              .setEndDateTime(newEnd)
-              .setLocation(oldEvent.getLocation())
-              .setDescription(oldEvent.getDescription())
-              .setStatus(oldEvent.getStatus())
-              .setSeriesId(oldEvent.getSeriesId())
-              .build();
-      newEventSet.add(newEvent);
+      update(calendarName, "Calendar not found.", originalModel -> {
+        ZoneId newZone;
+        try {
+          newZone = ZoneId.of(zoneStr);
+        } catch (DateTimeException e) {
+          throw new Exception("Error: Invalid Time Zone '" + zoneStr + "'.");
+        }
+        if (originalModel.getTimezone().equals(newZone)) {
+          return originalModel;
+        }
+        return new CalendarModelBuilder()
+                .setName(originalModel.getName())
+                .setTimeZone(newZone)
+                .setEvents(TimezoneMigration.migrate(originalModel.getEventsView(), newZone))
+                .build();
+      });
+    } finally {
+      held.release();
     }
-    Calendar updatedModel = new CalendarModelBuilder()
-            .setName(originalModel.getName())
-            .setTimeZone(newZone)
-            .setEvents(newEventSet)
-            .build();
-    repository.save(updatedModel);
   }
 
   /**
@@ -237,20 +316,27 @@ public class CalendarModel {
    * @throws Exception if the calendar is not found or the new name already exists
    */
   public void updateCalendarName(String currentName, String newName) throws Exception {
-    Calendar originalModel = repository.findByName(currentName);
-    if (originalModel == null) {
-      throw new Exception("Calendar not found.");
-    }
-    if (repository.existsByName(newName)) {
-      throw new Exception("New name already exists.");
+    CalendarLocks.Held held = locks.write(currentName, newName);
+    try {
+      Calendar originalModel = repository.findByName(currentName);
+      if (originalModel == null) {
+        throw new Exception("Calendar not found.");
+      }
+      if (repository.existsByName(newName)) {
+        throw new Exception("New name already exists.");
+      }
+      Calendar updatedModel = new CalendarModelBuilder()
+              .setName(newName)
+              .setTimeZone(originalModel.getTimezone())
+              .setEvents(originalModel.getEventsView())
+              .build();
+      if (!repository.compareAndSave(null, updatedModel)) {
+        throw new Exception("New name already exists.");
+      }
+      repository.deleteByName(currentName);
+    } finally {
+      held.release();
     }
-    Calendar updatedModel = new CalendarModelBuilder()
-            .setName(newName)
-            .setTimeZone(originalModel.getTimezone())
-            .setEvents(originalModel.getEvents())
-            .build();
-    repository.deleteByName(currentName);
-    repository.save(updatedModel);
   }
 
   /**
@@ -277,31 +363,132 @@ public class CalendarModel {
 
   /**
    * Copies events from the active calendar to a target calendar based on the copy type.
+   * If the DTO names several target calendars, the events are copied into each of them
+   * and all targets are saved together, or none is if the copy fails for any of them.
    *
    * @param dto the copy data transfer object containing copy details
    * @throws Exception if the active calendar is not found or copy fails
    */
   public void copyEvent(CopyEventDto dto) throws Exception {
-    Calendar activeModel = repository.findByName(activeCalendarName);
-    if (activeModel == null) {
-      throw new Exception("No calendar is currently selected.");
+    if (dto.getTargetCalendarNames().size() > 1) {
+      copyToMany(dto);
+      return;
     }
+    String name = activeCalendarName;
+    String targetName = dto.getTargetCalendarName();
+    CalendarLocks.Held held = locks.lock(new String[] {targetName}, name);
+    try {
+      Calendar activeModel = repository.findByName(name);
+      if (activeModel == null) {
+        throw new Exception("No calendar is currently selected.");
+      }
 
-    Calendar targetCalendar = repository.findByName(dto.getTargetCalendarName());
-    if (targetCalendar == null) {
-      throw new Exception("Target calendar '" + dto.getTargetCalendarName() + "' not found.");
+      update(targetName, "Target calendar '" + targetName + "' not found.", targetCalendar -> {
+        Icopy strategy = CopyStrategyFactory.getStrategy(dto.getCopyType());
+        Set<Event> updatedTargetEvents = strategy.copy(dto, activeModel, targetCalendar);
+        return new CalendarModelBuilder()
+                .setName(targetCalendar.getName())
+                .setTimeZone(targetCalendar.getTimezone())
+                .setEvents(updatedTargetEvents)
+                .build();
+      });
+    } finally {
+      held.release();
     }
+  }
 
-    Icopy strategy = CopyStrategyFactory.getStrategy(dto.getCopyType());
-    Set<Event> updatedTargetEvents = strategy.copy(dto, activeModel, targetCalendar);
+  /**
+   * Copies events into several target calendars. The source events are selected, and for
+   * copies by date also shifted, once; the copies for each target are then built and
+   * validated in parallel on the common fork/join pool. All targets are committed in one
+   * {@link Icalendarcollection#compareAndSaveAll} batch, derived again from the latest
+   * versions if any target changed meanwhile. Failures are reported for the first failing
+   * target in the order given, and the copies for later targets that have not started yet
+   * are cancelled.
+   */
+  private void copyToMany(CopyEventDto dto) throws Exception {
+    String name = activeCalendarName;
+    List<String> targetNames = new ArrayList<>(new LinkedHashSet<>(
+        dto.getTargetCalendarNames()));
+    CalendarLocks.Held held = locks.lock(targetNames.toArray(new String[0]), name);
+    try {
+      Calendar activeModel = repository.findByName(name);
+      if (activeModel == null) {
+        throw new Exception("No calendar is currently selected.");
+      }
+      findTargets(targetNames);
+      Icopy strategy = CopyStrategyFactory.getStrategy(dto.getCopyType());
+      EventCopy copy = strategy instanceof AbstractCopyEventsByDate
+          ? ((AbstractCopyEventsByDate) strategy).prepare(dto, activeModel)::copyInto
+          : target -> strategy.copy(dto, activeModel, target);
+      while (true) {
+        List<Calendar> current = findTargets(targetNames);
+        List<TargetCopy> tasks = new ArrayList<>(current.size());
+        for (Calendar target : current) {
+          TargetCopy task = new TargetCopy(copy, target);
+          task.fork();
+          tasks.add(task);
+        }
+        List<Calendar> updated = new ArrayList<>(current.size());
+        for (int i = 0; i < tasks.size(); i++) {
+          TargetCopy task = tasks.get(i);
+          task.join();
+          if (task.failure != null) {
+            for (int j = i + 1; j < tasks.size(); j++) {
+              tasks.get(j).cancel(false);
+            }
+            throw new Exception("Target calendar '" + targetNames.get(i) + "': "
+                + task.failure.getMessage(), task.failure);
+          }
+          updated.add(task.updated);
+        }
+        if (repository.compareAndSaveAll(current, updated)) {
+          return;
+        }
+      }
+    } finally {
+      held.release();
+    }
+  }
 
-    Calendar updatedTargetCalendar = new CalendarModelBuilder()
-            .setName(targetCalendar.getName())
-            .setTimeZone(targetCalendar.getTimezone())
-            .setEvents(updatedTargetEvents)
-            .build();
+  /**
+   * Returns the current versions of the named target calendars.
+   */
+  private List<Calendar> findTargets(List<String> targetNames) throws Exception {
+    List<Calendar> targets = new ArrayList<>(targetNames.size());
+    for (String targetName : targetNames) {
+      Calendar target = repository.findByName(targetName);
+      if (target == null) {
+        throw new Exception("Target calendar '" + targetName + "' not found.");
+      }
+      targets.add(target);
+    }
+    return targets;
+  }
 
-    repository.save(updatedTargetCalendar);
+  /**
+   * Applies an update to the latest version of a calendar. The new version is saved only if
+   * the calendar has not changed since it was read; if another writer saved it meanwhile,
+   * the update is derived again from that writer's version, so no change is lost. An update
+   * returning the current version unchanged saves nothing.
+   *
+   * @param name the name of the calendar to update
+   * @param missingMessage the error message if the calendar does not exist
+   * @param update derives the new version from the current one
+   * @throws Exception if the calendar does not exist or the update fails
+   */
+  private void update(String name, String missingMessage, CalendarUpdate update)
+      throws Exception {
+    while (true) {
+      Calendar current = repository.findByName(name);
+      if (current == null) {
+        throw new Exception(missingMessage);
+      }
+      Calendar updated = update.apply(current);
+      if (updated == current || repository.compareAndSave(current, updated)) {
+        return;
+      }
+    }
   }
 
   /**
@@ -328,4 +515,50 @@ public class CalendarModel {
       return obj.getTimezone().toString();
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Derives the new version of a calendar from its current version.
+   */
+  private interface CalendarUpdate {
+    Calendar apply(Calendar current) throws Exception;
+  }
+
+  /**
+   * Copies a selection of events into a target calendar, returning the target's new events.
+   */
+  private interface EventCopy {
+    Set<Event> into(Calendar target) throws Exception;
+  }
+
+  /**
+   * Builds the new version of one target of a copy to many calendars. The failure is kept
+   * as thrown rather than wrapped by the pool, so it can be reported as the single-target
+   * copy reports it.
+   */
+  private static final class TargetCopy extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient EventCopy copy;
+    private final transient Calendar target;
+    private transient Calendar updated;
+    private transient Exception failure;
+
+    TargetCopy(EventCopy copy, Calendar target) {
+      this.copy = copy;
+      this.target = target;
+    }
+
+    @Override
+    protected void compute() {
+      try {
+        updated = new CalendarModelBuilder()
+            .setName(target.getName())
+            .setTimeZone(target.getTimezone())
+            .setEvents(copy.into(target))
+            .build();
+      } catch (Exception e) {
+        failure = e;
+      }
+    }
+  }
+}
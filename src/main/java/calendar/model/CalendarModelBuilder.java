@@ -1,7 +1,7 @@
 package calendar.model;
 
 import java.time.ZoneId;
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -11,7 +11,7 @@ import java.util.Set;
 public class CalendarModelBuilder {
   private String name;
   private ZoneId timeZone;
-  private Set<Event> events;
+  private CalendarEvents events;
 
   /**
   * Constructs a new CalendarModelBuilder with default values.
@@ -20,7 +20,7 @@ public class CalendarModelBuilder {
   public CalendarModelBuilder() {
     this.name = "";
     this.timeZone = ZoneId.systemDefault();
-    this.events = new HashSet<>();
+    this.events = CalendarEvents.empty();
   }
 
   /**
@@ -48,12 +48,41 @@ public class CalendarModelBuilder {
   /**
   * Sets the initial events for the calendar.
   * Note: This replaces any previously set events in the builder.
+  * Events taken from another calendar are shared rather than copied.
   *
   * @param events the set of events to initialize the calendar with
   * @return this CalendarModelBuilder instance for method chaining
   */
   public CalendarModelBuilder setEvents(Set<Event> events) {
-    this.events = new HashSet<>(events);
+    this.events = CalendarEvents.of(events);
+    return this;
+  }
+
+  /**
+  * Adds events to the ones already set on the builder.
+  * Costs O(log N) per added event; the existing events are not copied. When more events
+  * are added than the builder holds, such as an import into a small calendar, the tree is
+  * instead rebuilt from both in one pass. A
+  * {@link RecurrenceRule} is added as a single rule without expanding its occurrences.
+  *
+  * @param newEvents the events to add
+  * @return this CalendarModelBuilder instance for method chaining
+  */
+  public CalendarModelBuilder addEvents(Collection<Event> newEvents) {
+    this.events = this.events.plusAll(newEvents);
+    return this;
+  }
+
+  /**
+  * Adds the events that are not already set on the builder. Occurrences of an added
+  * {@link RecurrenceRule} that are already present become exceptions of the rule, so every
+  * event is held once and the event count stays exact.
+  *
+  * @param newEvents the events to add
+  * @return this CalendarModelBuilder instance for method chaining
+  */
+  public CalendarModelBuilder addNewEvents(Collection<Event> newEvents) {
+    this.events = this.events.plusAll(CalendarEvents.of(newEvents).without(this.events));
     return this;
   }
 
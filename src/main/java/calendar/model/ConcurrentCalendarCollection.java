@@ -0,0 +1,160 @@
+package calendar.model;
+
+import calendar.interfacetypes.Icalendarcollection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory repository for calendars shared by concurrent sessions.
+ *
+ * <p>Calendars are held in a {@link ConcurrentHashMap}, so lookups never take a lock and
+ * never wait for a writer. Writers do lock, but only briefly and mostly shared: updates to
+ * an existing calendar replace the map entry atomically, and {@link #compareAndSave}
+ * replaces it only if it is still the version the update was derived from, so writers that
+ * race detect the conflict and retry instead of overwriting each other.</p>
+ *
+ * <p>The set of names is kept as an immutable snapshot next to the map and replaced
+ * whenever a calendar is added or removed, so {@link #getAllCalendarNames()} returns a
+ * consistent set without locking. Adding and removing calendars is serialized so that the
+ * snapshot always matches the map; it is rare compared to updating one.</p>
+ *
+ * <p>{@link #compareAndSaveAll} replaces several calendars as one batch. Every other change
+ * holds the shared side of a read/write lock, so single changes still run in parallel with
+ * each other, while a batch holds the exclusive side and checks and replaces all of its
+ * calendars with no change in between. A batch may also add calendars, expected as null,
+ * and publishes their names like any other addition. Readers take no lock and may see a
+ * batch half applied, as if its calendars had been updated one after the other.</p>
+ */
+public class ConcurrentCalendarCollection implements Icalendarcollection {
+
+  private final ConcurrentMap<String, Calendar> calendarMap = new ConcurrentHashMap<>();
+  private final Object membershipLock = new Object();
+  private volatile Set<String> names = Collections.emptySet();
+  private final ReentrantReadWriteLock batchLock = new ReentrantReadWriteLock();
+
+  @Override
+  public Calendar findByName(String name) {
+    return name == null ? null : calendarMap.get(name);
+  }
+
+  @Override
+  public void save(Calendar calendar) {
+    batchLock.readLock().lock();
+    try {
+      if (calendarMap.replace(calendar.getName(), calendar) != null) {
+        return;
+      }
+      synchronized (membershipLock) {
+        calendarMap.put(calendar.getName(), calendar);
+        addName(calendar.getName());
+      }
+    } finally {
+      batchLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean compareAndSave(Calendar expected, Calendar calendar) {
+    batchLock.readLock().lock();
+    try {
+      return compareAndSaveShared(expected, calendar);
+    } finally {
+      batchLock.readLock().unlock();
+    }
+  }
+
+  private boolean compareAndSaveShared(Calendar expected, Calendar calendar) {
+    if (expected != null) {
+      Calendar[] replaced = new Calendar[1];
+      calendarMap.computeIfPresent(calendar.getName(), (name, current) -> {
+        if (current != expected) {
+          return current;
+        }
+        replaced[0] = current;
+        return calendar;
+      });
+      return replaced[0] != null;
+    }
+    synchronized (membershipLock) {
+      if (calendarMap.putIfAbsent(calendar.getName(), calendar) != null) {
+        return false;
+      }
+      addName(calendar.getName());
+      return true;
+    }
+  }
+
+  @Override
+  public boolean compareAndSaveAll(List<Calendar> expected, List<Calendar> calendars) {
+    batchLock.writeLock().lock();
+    try {
+      for (int i = 0; i < calendars.size(); i++) {
+        if (calendarMap.get(calendars.get(i).getName()) != expected.get(i)) {
+          return false;
+        }
+      }
+      synchronized (membershipLock) {
+        for (Calendar calendar : calendars) {
+          if (calendarMap.put(calendar.getName(), calendar) == null) {
+            addName(calendar.getName());
+          }
+        }
+      }
+      return true;
+    } finally {
+      batchLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean existsByName(String name) {
+    return name != null && calendarMap.containsKey(name);
+  }
+
+  @Override
+  public void deleteByName(String name) {
+    if (name == null) {
+      return;
+    }
+    batchLock.readLock().lock();
+    try {
+      synchronized (membershipLock) {
+        if (calendarMap.remove(name) != null) {
+          Set<String> copy = new HashSet<>(names);
+          copy.remove(name);
+          names = Collections.unmodifiableSet(copy);
+        }
+      }
+    } finally {
+      batchLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns a snapshot of the calendar names. The set does not change afterwards and cannot
+   * be modified.
+   *
+   * @return the names of all calendars at one point in time
+   */
+  @Override
+  public Set<String> getAllCalendarNames() {
+    return names;
+  }
+
+  /**
+   * Publishes a new snapshot of names including the given one; called with the membership
+   * lock held.
+   */
+  private void addName(String name) {
+    if (!names.contains(name)) {
+      Set<String> copy = new HashSet<>(names);
+      copy.add(name);
+      names = Collections.unmodifiableSet(copy);
+    }
+  }
+}
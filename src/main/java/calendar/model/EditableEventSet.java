@@ -0,0 +1,214 @@
+package calendar.model;
+
+import calendar.interfacetypes.IeventLookup;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mutable {@link java.util.Set} of events layered over a persistent {@link EventTree}.
+ *
+ * <p>Strategies that edit a calendar work on a mutable set of events. Handing them a
+ * {@code HashSet} copy costs O(N) before any change is made; this set instead starts from
+ * the calendar's own tree and replaces it with a new version on every add or remove, so
+ * each change is O(log N) and unchanged parts stay shared with the original calendar.
+ * {@link #toTree()} freezes the current contents in O(1).</p>
+ *
+ * <p>Recurring series of the calendar stay {@link RecurrenceRule}s. Removing one of their
+ * occurrences records its date as an exception of the rule instead of expanding the
+ * series; {@link #toEvents()} applies those exceptions when the set is frozen.</p>
+ *
+ * <p>The subject and series {@link EventIndex} of the starting events, once built, is
+ * updated along with the tree, so lookups made while editing stay O(log N + k) and the
+ * index carries over to the calendar built from this set.</p>
+ *
+ * <p>Iterators walk the contents as they were when the iterator was created, and support
+ * {@link Iterator#remove()}. This class is not thread-safe.</p>
+ */
+public class EditableEventSet extends AbstractSet<Event> implements IeventLookup {
+
+  private EventTree tree;
+  private final List<RecurrenceRule> rules;
+  private final Map<RecurrenceRule, Set<LocalDate>> removed = new IdentityHashMap<>();
+  private int removedCount;
+  private EventIndex index;
+
+  /**
+   * Creates an editable set starting with the given events.
+   * No copy is made when the events are already an {@link EventTree} or a calendar's view.
+   *
+   * @param events the initial events
+   */
+  public EditableEventSet(Collection<Event> events) {
+    CalendarEvents initial = CalendarEvents.of(events);
+    this.tree = initial.tree();
+    this.rules = new ArrayList<>(initial.rules());
+    this.index = initial.indexIfBuilt();
+  }
+
+  /**
+   * Returns the current contents as an immutable tree.
+   * This is O(1) unless the set holds recurring series, which are then expanded.
+   *
+   * @return the current tree; later changes to this set do not affect it
+   */
+  public EventTree toTree() {
+    return rules.isEmpty() ? tree : toEvents().toTree();
+  }
+
+  /**
+   * Returns the current contents, keeping series as rules.
+   */
+  CalendarEvents toEvents() {
+    if (removed.isEmpty()) {
+      return new CalendarEvents(tree, rules, index);
+    }
+    List<RecurrenceRule> current = new ArrayList<>(rules.size());
+    for (RecurrenceRule rule : rules) {
+      Set<LocalDate> dates = removed.get(rule);
+      current.add(dates == null ? rule : rule.withExceptions(dates));
+    }
+    return new CalendarEvents(tree, current, index);
+  }
+
+  @Override
+  public boolean add(Event event) {
+    if (!rules.isEmpty() && containingRule(event) != null) {
+      return false;
+    }
+    EventTree updated = tree.plus(event);
+    if (updated == tree) {
+      return false;
+    }
+    tree = updated;
+    if (index != null) {
+      index = index.plus(event);
+    }
+    return true;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (!(o instanceof Event)) {
+      return false;
+    }
+    EventTree updated = tree.minus((Event) o);
+    if (updated != tree) {
+      tree = updated;
+      if (index != null) {
+        index = index.minus((Event) o);
+      }
+      return true;
+    }
+    RecurrenceRule rule = containingRule(o);
+    if (rule == null) {
+      return false;
+    }
+    removed.computeIfAbsent(rule, r -> new HashSet<>()).add(rule.dateOf((Event) o));
+    removedCount++;
+    return true;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return tree.contains(o) || containingRule(o) != null;
+  }
+
+  @Override
+  public int size() {
+    int total = tree.size() - removedCount;
+    for (RecurrenceRule rule : rules) {
+      total += rule.size();
+    }
+    return total;
+  }
+
+  @Override
+  public void clear() {
+    tree = EventTree.empty();
+    rules.clear();
+    removed.clear();
+    removedCount = 0;
+    index = EventIndex.empty();
+  }
+
+  @Override
+  public Iterator<Event> iterator() {
+    Iterator<Event> snapshot = toEvents().iterator();
+    return new Iterator<Event>() {
+      private Event last;
+
+      @Override
+      public boolean hasNext() {
+        return snapshot.hasNext();
+      }
+
+      @Override
+      public Event next() {
+        last = snapshot.next();
+        return last;
+      }
+
+      @Override
+      public void remove() {
+        if (last == null) {
+          throw new IllegalStateException();
+        }
+        EditableEventSet.this.remove(last);
+        last = null;
+      }
+    };
+  }
+
+  @Override
+  public List<Event> findBySubjectAndStart(String subject, ZonedDateTime start) {
+    return indexed().findBySubjectAndStart(subject, start);
+  }
+
+  @Override
+  public List<Event> findBySubjectFromStart(String subject, ZonedDateTime start) {
+    return indexed().findBySubjectFromStart(subject, start);
+  }
+
+  @Override
+  public List<Event> findSeriesFrom(String seriesId, ZonedDateTime fromTime) {
+    return indexed().findSeriesFrom(seriesId, fromTime);
+  }
+
+  /**
+   * Returns the current contents, building the index first if this set has none yet.
+   */
+  private CalendarEvents indexed() {
+    if (index == null) {
+      index = EventIndex.of(tree);
+    }
+    return toEvents();
+  }
+
+  /**
+   * Returns the rule that currently has the given event as an occurrence, or null.
+   */
+  private RecurrenceRule containingRule(Object o) {
+    if (!(o instanceof Event)) {
+      return null;
+    }
+    for (RecurrenceRule rule : rules) {
+      LocalDate date = rule.dateOf((Event) o);
+      if (date != null) {
+        Set<LocalDate> dates = removed.get(rule);
+        if (dates == null || !dates.contains(date)) {
+          return rule;
+        }
+      }
+    }
+    return null;
+  }
+}
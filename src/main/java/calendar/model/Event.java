@@ -1,5 +1,7 @@
 package calendar.model;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Objects;
 
@@ -8,11 +10,25 @@ import java.util.Objects;
  * Events are immutable once created. Two events are considered equal if they have
  * the same subject, start time, and end time, regardless of other properties.
  * Events can be standalone or part of a recurring series identified by seriesId.
+ *
+ * <p>To keep large calendars small, start and end are not held as {@link ZonedDateTime}
+ * objects (each of which drags along its own date, time and offset objects). They are
+ * stored as epoch second, nanosecond and zone, and {@link #getStartDateTime()} and
+ * {@link #getEndDateTime()} build an equal {@code ZonedDateTime} on each call. Ordering,
+ * equality and the model's time indexes work on the stored fields directly. Subject,
+ * location and status are interned where they enter the model, in the builders, the
+ * public constructor and the decoders, so repeated values share one string. Events
+ * derived from other events, such as series occurrences and copies, reuse those strings
+ * without looking them up again.</p>
  */
 public class Event {
   private final String subject;
-  private final ZonedDateTime startDateTime;
-  private final ZonedDateTime endDateTime;
+  private final long startSecond;
+  private final long endSecond;
+  private final int startNano;
+  private final int endNano;
+  private final ZoneId startZone;
+  private final ZoneId endZone;
   private final String seriesId;
   private final String description;
   private final String location;
@@ -32,9 +48,31 @@ public class Event {
    */
   public Event(String subject, ZonedDateTime startDateTime, ZonedDateTime endDateTime,
                String seriesId, String description, String location, String status) {
+    this(intern(subject),
+        startDateTime == null ? 0 : startDateTime.toEpochSecond(),
+        startDateTime == null ? 0 : startDateTime.getNano(),
+        startDateTime == null ? null : startDateTime.getZone(),
+        endDateTime == null ? 0 : endDateTime.toEpochSecond(),
+        endDateTime == null ? 0 : endDateTime.getNano(),
+        endDateTime == null ? null : endDateTime.getZone(),
+        seriesId, description, intern(location), intern(status));
+  }
+
+  /**
+   * Constructs an event from its stored form, without creating date-time objects.
+   * A null zone stands for a null date-time. Subject, location and status are kept as
+   * given; callers pass strings that are already interned.
+   */
+  Event(String subject, long startSecond, int startNano, ZoneId startZone,
+        long endSecond, int endNano, ZoneId endZone,
+        String seriesId, String description, String location, String status) {
     this.subject = subject;
-    this.startDateTime = startDateTime;
-    this.endDateTime = endDateTime;
+    this.startSecond = startSecond;
+    this.startNano = startNano;
+    this.startZone = startZone;
+    this.endSecond = endSecond;
+    this.endNano = endNano;
+    this.endZone = endZone;
     this.seriesId = seriesId;
     this.description = description;
     this.location = location;
@@ -46,11 +84,11 @@ public class Event {
   }
 
   public ZonedDateTime getStartDateTime() {
-    return startDateTime;
+    return toDateTime(startSecond, startNano, startZone);
   }
 
   public ZonedDateTime getEndDateTime() {
-    return endDateTime;
+    return toDateTime(endSecond, endNano, endZone);
   }
 
   public String getSeriesId() {
@@ -78,16 +116,21 @@ public class Event {
       return false;
     }
     Event other = (Event) obj;
-    return Objects.equals(this.subject, other.subject)
-            &&
-           Objects.equals(this.startDateTime, other.startDateTime)
-            &&
-           Objects.equals(this.endDateTime, other.endDateTime);
+    return startSecond == other.startSecond
+            && startNano == other.startNano
+            && endSecond == other.endSecond
+            && endNano == other.endNano
+            && Objects.equals(this.subject, other.subject)
+            && Objects.equals(this.startZone, other.startZone)
+            && Objects.equals(this.endZone, other.endZone);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(subject, startDateTime, endDateTime);
+    int result = Objects.hashCode(subject);
+    result = 31 * result + Long.hashCode(startSecond) + startNano;
+    result = 31 * result + Long.hashCode(endSecond) + endNano;
+    return 31 * result + Objects.hashCode(startZone);
   }
 
   @Override
@@ -96,9 +139,9 @@ public class Event {
             +
            "subject='" + subject + '\''
             +
-           "startDateTime=" + startDateTime
+           "startDateTime=" + getStartDateTime()
             +
-           "endDateTime=" + endDateTime
+           "endDateTime=" + getEndDateTime()
             +
            "seriesId='" + seriesId + '\''
             +
@@ -110,4 +153,106 @@ public class Event {
             +
            '}';
   }
+
+  /**
+   * Returns the stored start as seconds since the epoch, without creating a date-time.
+   *
+   * @return the start epoch second, or 0 if there is no start
+   */
+  public long startEpochSecond() {
+    return startSecond;
+  }
+
+  /**
+   * Returns the nanosecond of the stored start, without creating a date-time.
+   *
+   * @return the start nanosecond, or 0 if there is no start
+   */
+  public int startNano() {
+    return startNano;
+  }
+
+  /**
+   * Returns the zone of the start, without creating a date-time.
+   *
+   * @return the start zone, or null if there is no start
+   */
+  public ZoneId startZone() {
+    return startZone;
+  }
+
+  /**
+   * Returns the stored end as seconds since the epoch, without creating a date-time.
+   *
+   * @return the end epoch second, or 0 if there is no end
+   */
+  public long endEpochSecond() {
+    return endSecond;
+  }
+
+  /**
+   * Returns the nanosecond of the stored end, without creating a date-time.
+   *
+   * @return the end nanosecond, or 0 if there is no end
+   */
+  public int endNano() {
+    return endNano;
+  }
+
+  /**
+   * Returns the zone of the end, without creating a date-time.
+   *
+   * @return the end zone, or null if there is no end
+   */
+  public ZoneId endZone() {
+    return endZone;
+  }
+
+  /**
+   * Compares start times as {@link ZonedDateTime#compareTo} would, nulls first, without
+   * creating date-time objects unless two starts share an instant but not a zone.
+   */
+  static int compareStart(Event a, Event b) {
+    int cmp = compare(a.startZone, a.startSecond, a.startNano,
+        b.startZone, b.startSecond, b.startNano);
+    return cmp != 2 ? cmp : a.getStartDateTime().compareTo(b.getStartDateTime());
+  }
+
+  /**
+   * Compares end times as {@link ZonedDateTime#compareTo} would, nulls first.
+   */
+  static int compareEnd(Event a, Event b) {
+    int cmp = compare(a.endZone, a.endSecond, a.endNano, b.endZone, b.endSecond, b.endNano);
+    return cmp != 2 ? cmp : a.getEndDateTime().compareTo(b.getEndDateTime());
+  }
+
+  /**
+   * Returns -1, 0 or 1, or 2 when the instants are equal but the zones differ.
+   */
+  private static int compare(ZoneId zoneA, long secondA, int nanoA,
+                             ZoneId zoneB, long secondB, int nanoB) {
+    if (zoneA == null || zoneB == null) {
+      return zoneA == null ? (zoneB == null ? 0 : -1) : 1;
+    }
+    int cmp = secondA != secondB ? Long.compare(secondA, secondB)
+        : Integer.compare(nanoA, nanoB);
+    if (cmp != 0) {
+      return cmp;
+    }
+    return zoneA.equals(zoneB) ? 0 : 2;
+  }
+
+  private static ZonedDateTime toDateTime(long second, int nano, ZoneId zone) {
+    if (zone == null) {
+      return null;
+    }
+    return ZonedDateTime.ofInstant(Instant.ofEpochSecond(second, nano), zone);
+  }
+
+  /**
+   * Returns the shared instance of a string, or null for null.
+   */
+  static String intern(String value) {
+    return value == null ? null : value.intern();
+  }
 }
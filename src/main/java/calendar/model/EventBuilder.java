@@ -1,5 +1,6 @@
 package calendar.model;
 
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 /**
@@ -10,8 +11,14 @@ import java.time.ZonedDateTime;
 public class EventBuilder {
 
   private String subject;
-  private ZonedDateTime startDateTime;
-  private ZonedDateTime endDateTime;
+  private boolean startSet;
+  private long startSecond;
+  private int startNano;
+  private ZoneId startZone;
+  private boolean endSet;
+  private long endSecond;
+  private int endNano;
+  private ZoneId endZone;
   private String seriesId;
   private String description;
   private String location;
@@ -19,12 +26,11 @@ public class EventBuilder {
 
   /**
    * Constructs a new EventBuilder with default values.
-   * Default values are empty strings for text fields and current time for date/time fields.
+   * Default values are empty strings for text fields and current time for date/time fields;
+   * the current time is only read when a date/time field is left unset.
    */
   public EventBuilder() {
     this.subject = "";
-    this.startDateTime = ZonedDateTime.now();
-    this.endDateTime = ZonedDateTime.now();
     this.seriesId = "";
     this.description = "";
     this.location = "";
@@ -39,7 +45,7 @@ public class EventBuilder {
    * @return this EventBuilder instance for method chaining
    */
   public EventBuilder setSubject(String subject) {
-    this.subject = subject;
+    this.subject = Event.intern(subject);
     return this;
   }
 
@@ -50,7 +56,24 @@ public class EventBuilder {
    * @return this EventBuilder instance for method chaining
    */
   public EventBuilder setStartDateTime(ZonedDateTime startDateTime) {
-    this.startDateTime = startDateTime;
+    return startDateTime == null ? setStart(0, 0, null)
+        : setStart(startDateTime.toEpochSecond(), startDateTime.getNano(),
+            startDateTime.getZone());
+  }
+
+  /**
+   * Sets the start of the event from its instant and zone, without a date-time object.
+   *
+   * @param epochSecond the start instant, in seconds since the epoch
+   * @param nano the nanosecond of the second
+   * @param zone the zone the start is shown in
+   * @return this EventBuilder instance for method chaining
+   */
+  public EventBuilder setStart(long epochSecond, int nano, ZoneId zone) {
+    this.startSet = true;
+    this.startSecond = epochSecond;
+    this.startNano = nano;
+    this.startZone = zone;
     return this;
   }
 
@@ -61,7 +84,23 @@ public class EventBuilder {
    * @return this EventBuilder instance for method chaining
    */
   public EventBuilder setEndDateTime(ZonedDateTime endDateTime) {
-    this.endDateTime = endDateTime;
+    return endDateTime == null ? setEnd(0, 0, null)
+        : setEnd(endDateTime.toEpochSecond(), endDateTime.getNano(), endDateTime.getZone());
+  }
+
+  /**
+   * Sets the end of the event from its instant and zone, without a date-time object.
+   *
+   * @param epochSecond the end instant, in seconds since the epoch
+   * @param nano the nanosecond of the second
+   * @param zone the zone the end is shown in
+   * @return this EventBuilder instance for method chaining
+   */
+  public EventBuilder setEnd(long epochSecond, int nano, ZoneId zone) {
+    this.endSet = true;
+    this.endSecond = epochSecond;
+    this.endNano = nano;
+    this.endZone = zone;
     return this;
   }
 
@@ -96,7 +135,7 @@ public class EventBuilder {
    * @return this EventBuilder instance for method chaining
    */
   public EventBuilder setLocation(String location) {
-    this.location = location;
+    this.location = Event.intern(location);
     return this;
   }
 
@@ -107,7 +146,23 @@ public class EventBuilder {
    * @return this EventBuilder instance for method chaining
    */
   public EventBuilder setStatus(String status) {
-    this.status = status;
+    this.status = Event.intern(status);
+    return this;
+  }
+
+  /**
+   * Sets the subject, description, location and status to those of an existing event.
+   * Its strings are already shared, so unlike the single setters this does no lookup,
+   * which matters when many events are derived from others.
+   *
+   * @param event the event to take the text fields from
+   * @return this EventBuilder instance for method chaining
+   */
+  public EventBuilder setDetailsOf(Event event) {
+    this.subject = event.getSubject();
+    this.description = event.getDescription();
+    this.location = event.getLocation();
+    this.status = event.getStatus();
     return this;
   }
 
@@ -118,7 +173,17 @@ public class EventBuilder {
    * @return a new Event object with the specified properties
    */
   public Event build() {
-    return new Event(this.subject, this.startDateTime, this.endDateTime,
+    if (!startSet || !endSet) {
+      ZonedDateTime now = ZonedDateTime.now();
+      if (!startSet) {
+        setStartDateTime(now);
+      }
+      if (!endSet) {
+        setEndDateTime(now);
+      }
+    }
+    return new Event(this.subject, this.startSecond, this.startNano, this.startZone,
+        this.endSecond, this.endNano, this.endZone,
         this.seriesId, this.description, this.location, this.status);
   }
 }
\ No newline at end of file
@@ -0,0 +1,230 @@
+package calendar.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary encoding of calendars, events and recurrence rules shared by the snapshot and the
+ * write-ahead log of {@link FileCalendarCollection}.
+ *
+ * <p>Strings are written as a length followed by UTF-8 bytes, with length -1 for null.
+ * Date-times are written as epoch second, nanosecond and zone id, which is exactly what an
+ * {@link Event} stores. Zone ids are resolved once per reader.</p>
+ */
+final class EventCodec {
+
+  private final Map<String, ZoneId> zones = new HashMap<>();
+  private final Map<String, String> seriesIds = new HashMap<>();
+  private final Map<String, String> strings = new HashMap<>();
+
+  static void writeCalendar(DataOutput out, Calendar calendar) throws IOException {
+    writeString(out, calendar.getName());
+    writeString(out, calendar.getTimezone().getId());
+    CalendarEvents events = calendar.getEventSet();
+    writeEvents(out, events.tree());
+    writeRules(out, events.rules());
+  }
+
+  Calendar readCalendar(DataInput in) throws IOException {
+    String name = readString(in);
+    ZoneId timezone = zone(readString(in));
+    EventTree tree = EventTree.of(readEvents(in));
+    return new CalendarModelBuilder()
+        .setName(name)
+        .setTimeZone(timezone)
+        .setEvents(new CalendarEvents(tree, readRules(in)))
+        .build();
+  }
+
+  static void writeRules(DataOutput out, List<RecurrenceRule> rules) throws IOException {
+    out.writeInt(rules.size());
+    for (RecurrenceRule rule : rules) {
+      writeString(out, rule.getSubject());
+      writeString(out, rule.getSeriesId());
+      writeString(out, rule.getDescription());
+      writeString(out, rule.getLocation());
+      writeString(out, rule.getStatus());
+      out.writeLong(rule.getFirstDate().toEpochDay());
+      out.writeLong(rule.getStartTime().toNanoOfDay());
+      out.writeLong(rule.getEndTime().toNanoOfDay());
+      writeString(out, rule.getTimezone().getId());
+      out.writeInt(rule.getWeekdayMask());
+      out.writeInt(rule.getCount());
+      out.writeBoolean(rule.getUntilDate() != null);
+      if (rule.getUntilDate() != null) {
+        out.writeLong(rule.getUntilDate().toEpochDay());
+      }
+      out.writeInt(rule.getExceptions().size());
+      for (LocalDate date : rule.getExceptions()) {
+        out.writeLong(date.toEpochDay());
+      }
+    }
+  }
+
+  List<RecurrenceRule> readRules(DataInput in) throws IOException {
+    int count = in.readInt();
+    if (count < 0) {
+      throw new IOException("Corrupt rule count: " + count);
+    }
+    List<RecurrenceRule> rules = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      RecurrenceRuleBuilder builder = new RecurrenceRuleBuilder()
+          .setSubject(readString(in))
+          .setSeriesId(shared(readString(in)))
+          .setDescription(readString(in))
+          .setLocation(readString(in))
+          .setStatus(readString(in))
+          .setFirstDate(LocalDate.ofEpochDay(in.readLong()));
+      LocalTime startTime = LocalTime.ofNanoOfDay(in.readLong());
+      builder.setTimes(startTime, LocalTime.ofNanoOfDay(in.readLong()))
+          .setTimeZone(zone(readString(in)))
+          .setWeekdayMask(in.readInt());
+      int occurrences = in.readInt();
+      if (in.readBoolean()) {
+        builder.setUntilDate(LocalDate.ofEpochDay(in.readLong()));
+      } else {
+        builder.setCount(occurrences);
+      }
+      int exceptionCount = in.readInt();
+      List<LocalDate> exceptions = new ArrayList<>(exceptionCount);
+      for (int j = 0; j < exceptionCount; j++) {
+        exceptions.add(LocalDate.ofEpochDay(in.readLong()));
+      }
+      rules.add(builder.addExceptions(exceptions).build());
+    }
+    return rules;
+  }
+
+  static void writeEvents(DataOutput out, Collection<Event> events)
+      throws IOException {
+    out.writeInt(events.size());
+    for (Event event : events) {
+      writeEvent(out, event);
+    }
+  }
+
+  List<Event> readEvents(DataInput in) throws IOException {
+    int count = in.readInt();
+    if (count < 0) {
+      throw new IOException("Corrupt event count: " + count);
+    }
+    List<Event> events = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      events.add(readEvent(in));
+    }
+    return events;
+  }
+
+  static void writeEvent(DataOutput out, Event event) throws IOException {
+    writeString(out, event.getSubject());
+    writeDateTime(out, event.startEpochSecond(), event.startNano(), event.startZone());
+    writeDateTime(out, event.endEpochSecond(), event.endNano(), event.endZone());
+    writeString(out, event.getSeriesId());
+    writeString(out, event.getDescription());
+    writeString(out, event.getLocation());
+    writeString(out, event.getStatus());
+  }
+
+  Event readEvent(DataInput in) throws IOException {
+    String subject = interned(readString(in));
+    long startSecond = 0;
+    int startNano = 0;
+    ZoneId startZone = null;
+    if (in.readBoolean()) {
+      startSecond = in.readLong();
+      startNano = in.readInt();
+      startZone = zone(readString(in));
+    }
+    long endSecond = 0;
+    int endNano = 0;
+    ZoneId endZone = null;
+    if (in.readBoolean()) {
+      endSecond = in.readLong();
+      endNano = in.readInt();
+      endZone = zone(readString(in));
+    }
+    String seriesId = shared(readString(in));
+    String description = readString(in);
+    String location = interned(readString(in));
+    String status = interned(readString(in));
+    return new Event(subject, startSecond, startNano, startZone, endSecond, endNano, endZone,
+        seriesId, description, location, status);
+  }
+
+  static void writeString(DataOutput out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  static String readString(DataInput in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeDateTime(DataOutput out, long second, int nano, ZoneId zone)
+      throws IOException {
+    if (zone == null) {
+      out.writeBoolean(false);
+      return;
+    }
+    out.writeBoolean(true);
+    out.writeLong(second);
+    out.writeInt(nano);
+    writeString(out, zone.getId());
+  }
+
+  /**
+   * Returns one instance per distinct value read, so the occurrences of a series share
+   * their series id.
+   */
+  private String shared(String value) {
+    if (value == null) {
+      return null;
+    }
+    String existing = seriesIds.putIfAbsent(value, value);
+    return existing == null ? value : existing;
+  }
+
+  /**
+   * Returns the interned instance of a value, looking it up in the string table only the
+   * first time the value is read.
+   */
+  private String interned(String value) {
+    if (value == null) {
+      return null;
+    }
+    String existing = strings.get(value);
+    if (existing == null) {
+      existing = value.intern();
+      strings.put(existing, existing);
+    }
+    return existing;
+  }
+
+  private ZoneId zone(String id) throws IOException {
+    if (id == null) {
+      throw new IOException("Corrupt record: missing zone id");
+    }
+    return zones.computeIfAbsent(id, ZoneId::of);
+  }
+}
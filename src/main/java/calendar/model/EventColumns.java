@@ -0,0 +1,331 @@
+package calendar.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only columnar encoding of one calendar's events, as stored in the snapshot of a
+ * {@link FileCalendarCollection}.
+ *
+ * <p>A block starts with the event, string and series counts, followed by a string table
+ * (offsets, then UTF-8 bytes) holding every subject, description, location, status, zone
+ * id and series id once. Then come one column per field, each with an entry per event in
+ * {@link EventTree#ORDER}: start and end epoch seconds, a running maximum of end seconds,
+ * nanos, zone and string indexes, and an index into the series dictionary. Null strings
+ * and date-times are stored as index -1.</p>
+ *
+ * <p>The block is read in place from a buffer, typically a memory-mapped region of the
+ * snapshot file. Range and instant queries binary search the start column and the running
+ * maximum of end, compare primitive columns, and create {@link Event} objects only for
+ * matches. Strings and zones are decoded on first use and cached, strings interned so
+ * the events created share them with the rest of the model.</p>
+ */
+final class EventColumns {
+
+  private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+  private final ByteBuffer block;
+  private final int count;
+  private final int stringOffsets;
+  private final int stringData;
+  private final int startSeconds;
+  private final int endSeconds;
+  private final int maxEnds;
+  private final int startNanos;
+  private final int endNanos;
+  private final int startZones;
+  private final int endZones;
+  private final int subjects;
+  private final int descriptions;
+  private final int locations;
+  private final int statuses;
+  private final int series;
+  private final int seriesDictionary;
+  private final String[] strings;
+  private final ZoneId[] zones;
+
+  private EventColumns(ByteBuffer block) {
+    this.block = block;
+    this.count = block.getInt(0);
+    int stringCount = block.getInt(Integer.BYTES);
+    this.stringOffsets = HEADER_BYTES;
+    this.stringData = stringOffsets + (stringCount + 1) * Integer.BYTES;
+    this.startSeconds = stringData + block.getInt(stringOffsets + stringCount * Integer.BYTES);
+    this.endSeconds = startSeconds + count * Long.BYTES;
+    this.maxEnds = endSeconds + count * Long.BYTES;
+    this.startNanos = maxEnds + count * Long.BYTES;
+    this.endNanos = startNanos + count * Integer.BYTES;
+    this.startZones = endNanos + count * Integer.BYTES;
+    this.endZones = startZones + count * Integer.BYTES;
+    this.subjects = endZones + count * Integer.BYTES;
+    this.descriptions = subjects + count * Integer.BYTES;
+    this.locations = descriptions + count * Integer.BYTES;
+    this.statuses = locations + count * Integer.BYTES;
+    this.series = statuses + count * Integer.BYTES;
+    this.seriesDictionary = series + count * Integer.BYTES;
+    this.strings = new String[stringCount];
+    this.zones = new ZoneId[stringCount];
+  }
+
+  /**
+   * Reads a block in place. The buffer must hold exactly one block starting at index 0.
+   */
+  static EventColumns wrap(ByteBuffer block) {
+    return new EventColumns(block);
+  }
+
+  /**
+   * Encodes the events, which must be distinct and in {@link EventTree#ORDER}, as a block
+   * preceded by its length.
+   */
+  static void write(DataOutput out, Collection<Event> events) throws IOException {
+    Map<String, Integer> stringIndex = new LinkedHashMap<>();
+    Map<String, Integer> seriesIndex = new LinkedHashMap<>();
+    int n = events.size();
+    long[] starts = new long[n];
+    long[] ends = new long[n];
+    int[] ints = new int[9 * n];
+    int i = 0;
+    for (Event event : events) {
+      ZoneId start = event.startZone();
+      ZoneId end = event.endZone();
+      starts[i] = start == null ? Long.MIN_VALUE : event.startEpochSecond();
+      ends[i] = end == null ? Long.MIN_VALUE : event.endEpochSecond();
+      ints[i] = event.startNano();
+      ints[n + i] = event.endNano();
+      ints[2 * n + i] = start == null ? -1 : intern(stringIndex, start.getId());
+      ints[3 * n + i] = end == null ? -1 : intern(stringIndex, end.getId());
+      ints[4 * n + i] = intern(stringIndex, event.getSubject());
+      ints[5 * n + i] = intern(stringIndex, event.getDescription());
+      ints[6 * n + i] = intern(stringIndex, event.getLocation());
+      ints[7 * n + i] = intern(stringIndex, event.getStatus());
+      ints[8 * n + i] = event.getSeriesId() == null ? -1
+          : seriesIndex.computeIfAbsent(event.getSeriesId(), id -> seriesIndex.size());
+      i++;
+    }
+    for (String seriesId : seriesIndex.keySet()) {
+      intern(stringIndex, seriesId);
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream data = new DataOutputStream(bytes);
+    data.writeInt(n);
+    data.writeInt(stringIndex.size());
+    data.writeInt(seriesIndex.size());
+    List<byte[]> encoded = new ArrayList<>(stringIndex.size());
+    int offset = 0;
+    for (String value : stringIndex.keySet()) {
+      byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+      encoded.add(utf8);
+      data.writeInt(offset);
+      offset += utf8.length;
+    }
+    data.writeInt(offset);
+    for (byte[] utf8 : encoded) {
+      data.write(utf8);
+    }
+    for (long start : starts) {
+      data.writeLong(start);
+    }
+    for (long end : ends) {
+      data.writeLong(end);
+    }
+    long maxEnd = Long.MIN_VALUE;
+    for (long end : ends) {
+      maxEnd = Math.max(maxEnd, end);
+      data.writeLong(maxEnd);
+    }
+    for (int value : ints) {
+      data.writeInt(value);
+    }
+    for (String seriesId : seriesIndex.keySet()) {
+      data.writeInt(stringIndex.get(seriesId));
+    }
+    data.flush();
+    out.writeInt(bytes.size());
+    out.write(bytes.toByteArray());
+  }
+
+  /**
+   * Writes this block, preceded by its length, without decoding it.
+   */
+  void writeTo(DataOutput out) throws IOException {
+    byte[] copy = new byte[block.limit()];
+    block.duplicate().position(0).get(copy);
+    out.writeInt(copy.length);
+    out.write(copy);
+  }
+
+  int size() {
+    return count;
+  }
+
+  /**
+   * Decodes every event into a tree.
+   */
+  EventTree toTree() {
+    List<Event> events = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      events.add(event(i));
+    }
+    return EventTree.of(events);
+  }
+
+  /**
+   * Finds events that start before {@code to} and end after {@code from}, matching
+   * {@link EventTree#overlapping}.
+   */
+  List<Event> overlapping(ZonedDateTime from, ZonedDateTime to) {
+    Instant lower = from.toInstant();
+    Instant upper = to.toInstant();
+    List<Event> result = new ArrayList<>();
+    int hi = firstStartAtOrAfter(upper.getEpochSecond(), upper.getNano());
+    for (int i = firstMaxEndAtLeast(lower.getEpochSecond()); i < hi; i++) {
+      if (hasTimes(i) && compareEnd(i, lower.getEpochSecond(), lower.getNano()) > 0) {
+        result.add(event(i));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Finds events that start at or before {@code instant} and end after it, matching
+   * {@link EventTree#activeAt}.
+   */
+  List<Event> activeAt(ZonedDateTime instant) {
+    Instant at = instant.toInstant();
+    List<Event> result = new ArrayList<>();
+    int hi = at.getNano() == 999_999_999
+        ? firstStartAtOrAfter(at.getEpochSecond() + 1, 0)
+        : firstStartAtOrAfter(at.getEpochSecond(), at.getNano() + 1);
+    for (int i = firstMaxEndAtLeast(at.getEpochSecond()); i < hi; i++) {
+      if (hasTimes(i) && compareEnd(i, at.getEpochSecond(), at.getNano()) > 0) {
+        result.add(event(i));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Decodes the event at the given position.
+   */
+  Event event(int index) {
+    ZoneId startZone = zone(intAt(startZones, index));
+    ZoneId endZone = zone(intAt(endZones, index));
+    return new Event(
+        string(intAt(subjects, index)),
+        startZone == null ? 0 : longAt(startSeconds, index),
+        intAt(startNanos, index),
+        startZone,
+        endZone == null ? 0 : longAt(endSeconds, index),
+        intAt(endNanos, index),
+        endZone,
+        seriesAt(index),
+        string(intAt(descriptions, index)),
+        string(intAt(locations, index)),
+        string(intAt(statuses, index)));
+  }
+
+  private String seriesAt(int index) {
+    int entry = intAt(series, index);
+    return entry < 0 ? null : string(intAt(seriesDictionary, entry));
+  }
+
+  private ZoneId zone(int index) {
+    if (index < 0) {
+      return null;
+    }
+    ZoneId zoneId = zones[index];
+    if (zoneId == null) {
+      zoneId = ZoneId.of(string(index));
+      zones[index] = zoneId;
+    }
+    return zoneId;
+  }
+
+  private String string(int index) {
+    if (index < 0) {
+      return null;
+    }
+    String value = strings[index];
+    if (value == null) {
+      int from = block.getInt(stringOffsets + index * Integer.BYTES);
+      int to = block.getInt(stringOffsets + (index + 1) * Integer.BYTES);
+      byte[] utf8 = new byte[to - from];
+      block.duplicate().position(stringData + from).get(utf8);
+      value = new String(utf8, StandardCharsets.UTF_8).intern();
+      strings[index] = value;
+    }
+    return value;
+  }
+
+  private boolean hasTimes(int index) {
+    return intAt(startZones, index) >= 0 && intAt(endZones, index) >= 0;
+  }
+
+  private int compareEnd(int index, long second, int nano) {
+    int cmp = Long.compare(longAt(endSeconds, index), second);
+    return cmp != 0 ? cmp : Integer.compare(intAt(endNanos, index), nano);
+  }
+
+  /**
+   * Returns the first position whose start instant is not before the given one.
+   * Start instants never decrease in {@link EventTree#ORDER}.
+   */
+  private int firstStartAtOrAfter(long second, int nano) {
+    int lo = 0;
+    int hi = count;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      long start = longAt(startSeconds, mid);
+      boolean before = start < second || start == second && intAt(startNanos, mid) < nano;
+      if (before) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  /**
+   * Returns the first position up to which some event ends at or after the given second.
+   */
+  private int firstMaxEndAtLeast(long second) {
+    int lo = 0;
+    int hi = count;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (longAt(maxEnds, mid) < second) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  private long longAt(int column, int index) {
+    return block.getLong(column + index * Long.BYTES);
+  }
+
+  private int intAt(int column, int index) {
+    return block.getInt(column + index * Integer.BYTES);
+  }
+
+  private static int intern(Map<String, Integer> index, String value) {
+    return value == null ? -1 : index.computeIfAbsent(value, v -> index.size());
+  }
+}
@@ -0,0 +1,258 @@
+package calendar.model;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable secondary indexes over the standalone events of a calendar: one ordered by
+ * subject and start, one ordered by series id and start.
+ *
+ * <p>Both are persistent AVL trees built the same way as {@link EventTree}, so a new
+ * version after adding or removing an event copies O(log N) nodes and shares the rest.
+ * Looking up a subject at a start time, a subject from a start time, or a series from a
+ * start time descends to the first match and walks only the matches, in O(log N + k).
+ * Events without a series id are left out of the series index.</p>
+ *
+ * <p>An index must receive exactly the changes made to the tree it describes; callers add
+ * an event only when the tree actually accepted it.</p>
+ */
+final class EventIndex {
+
+  private static final Comparator<String> TEXT =
+      Comparator.nullsFirst(Comparator.naturalOrder());
+
+  /**
+   * Subject first, then the tree order.
+   */
+  private static final Comparator<Event> BY_SUBJECT =
+      Comparator.comparing(Event::getSubject, TEXT).thenComparing(EventTree.ORDER);
+
+  /**
+   * Series id first, then the tree order.
+   */
+  private static final Comparator<Event> BY_SERIES =
+      Comparator.comparing(Event::getSeriesId, TEXT).thenComparing(EventTree.ORDER);
+
+  private static final EventIndex EMPTY = new EventIndex(null, null);
+
+  private final Node bySubject;
+  private final Node bySeries;
+
+  private EventIndex(Node bySubject, Node bySeries) {
+    this.bySubject = bySubject;
+    this.bySeries = bySeries;
+  }
+
+  static EventIndex empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Builds balanced indexes over distinct events in O(N log N).
+   */
+  static EventIndex of(Collection<Event> events) {
+    Event[] subjects = events.toArray(new Event[0]);
+    Arrays.sort(subjects, BY_SUBJECT);
+    Event[] series = Arrays.stream(subjects).filter(EventIndex::inSeries).toArray(Event[]::new);
+    Arrays.sort(series, BY_SERIES);
+    return new EventIndex(build(subjects, 0, subjects.length), build(series, 0, series.length));
+  }
+
+  /**
+   * Returns indexes that also contain the given event.
+   */
+  EventIndex plus(Event event) {
+    return new EventIndex(insert(bySubject, event, BY_SUBJECT),
+        inSeries(event) ? insert(bySeries, event, BY_SERIES) : bySeries);
+  }
+
+  /**
+   * Returns indexes without the given event. The series index is searched with the stored
+   * event, since an equal event may carry a different series id.
+   */
+  EventIndex minus(Event event) {
+    Event stored = find(bySubject, event);
+    if (stored == null) {
+      return this;
+    }
+    return new EventIndex(delete(bySubject, stored, BY_SUBJECT),
+        inSeries(stored) ? delete(bySeries, stored, BY_SERIES) : bySeries);
+  }
+
+  List<Event> bySubjectAndStart(String subject, ZonedDateTime start) {
+    Instant at = start.toInstant();
+    List<Event> result = new ArrayList<>();
+    collect(bySubject, e -> {
+      int cmp = TEXT.compare(e.getSubject(), subject);
+      return cmp != 0 ? cmp : compareStart(e, at);
+    }, result);
+    result.removeIf(e -> !e.getStartDateTime().equals(start));
+    return result;
+  }
+
+  List<Event> bySubjectFrom(String subject, ZonedDateTime start) {
+    Instant from = start.toInstant();
+    List<Event> result = new ArrayList<>();
+    collect(bySubject, e -> {
+      int cmp = TEXT.compare(e.getSubject(), subject);
+      return cmp != 0 ? cmp : Math.min(compareStart(e, from), 0);
+    }, result);
+    return result;
+  }
+
+  List<Event> bySeriesFrom(String seriesId, ZonedDateTime fromTime) {
+    Instant from = fromTime == null ? null : fromTime.toInstant();
+    List<Event> result = new ArrayList<>();
+    collect(bySeries, e -> {
+      int cmp = TEXT.compare(e.getSeriesId(), seriesId);
+      return cmp != 0 || from == null ? cmp : Math.min(compareStart(e, from), 0);
+    }, result);
+    return result;
+  }
+
+  private static boolean inSeries(Event event) {
+    return event.getSeriesId() != null && !event.getSeriesId().isEmpty();
+  }
+
+  private static int compareStart(Event event, Instant instant) {
+    if (event.startZone() == null) {
+      return -1;
+    }
+    long second = event.startEpochSecond();
+    return second != instant.getEpochSecond() ? Long.compare(second, instant.getEpochSecond())
+        : Integer.compare(event.startNano(), instant.getNano());
+  }
+
+  /**
+   * Collects, in order, the events for which {@code position} is 0. The position must be
+   * negative for events ordered before the wanted range and positive after it.
+   */
+  private static void collect(Node node, ToIntFunction<Event> position, List<Event> result) {
+    if (node == null) {
+      return;
+    }
+    int cmp = position.applyAsInt(node.event);
+    if (cmp >= 0) {
+      collect(node.left, position, result);
+    }
+    if (cmp == 0) {
+      result.add(node.event);
+    }
+    if (cmp <= 0) {
+      collect(node.right, position, result);
+    }
+  }
+
+  private static Event find(Node node, Event event) {
+    while (node != null) {
+      int cmp = BY_SUBJECT.compare(event, node.event);
+      if (cmp == 0) {
+        return node.event;
+      }
+      node = cmp < 0 ? node.left : node.right;
+    }
+    return null;
+  }
+
+  private static Node build(Event[] sorted, int lo, int hi) {
+    if (lo >= hi) {
+      return null;
+    }
+    int mid = (lo + hi) >>> 1;
+    return new Node(sorted[mid], build(sorted, lo, mid), build(sorted, mid + 1, hi));
+  }
+
+  private static Node insert(Node node, Event event, Comparator<Event> order) {
+    if (node == null) {
+      return new Node(event, null, null);
+    }
+    int cmp = order.compare(event, node.event);
+    if (cmp == 0) {
+      return node;
+    }
+    if (cmp < 0) {
+      Node left = insert(node.left, event, order);
+      return left == node.left ? node : balance(node.event, left, node.right);
+    }
+    Node right = insert(node.right, event, order);
+    return right == node.right ? node : balance(node.event, node.left, right);
+  }
+
+  private static Node delete(Node node, Event event, Comparator<Event> order) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = order.compare(event, node.event);
+    if (cmp < 0) {
+      Node left = delete(node.left, event, order);
+      return left == node.left ? node : balance(node.event, left, node.right);
+    }
+    if (cmp > 0) {
+      Node right = delete(node.right, event, order);
+      return right == node.right ? node : balance(node.event, node.left, right);
+    }
+    if (node.left == null) {
+      return node.right;
+    }
+    if (node.right == null) {
+      return node.left;
+    }
+    Node successor = node.right;
+    while (successor.left != null) {
+      successor = successor.left;
+    }
+    return balance(successor.event, node.left, delete(node.right, successor.event, order));
+  }
+
+  private static Node balance(Event event, Node left, Node right) {
+    int diff = height(left) - height(right);
+    if (diff > 1) {
+      if (height(left.left) < height(left.right)) {
+        left = rotateLeft(left.event, left.left, left.right);
+      }
+      return rotateRight(event, left, right);
+    }
+    if (diff < -1) {
+      if (height(right.right) < height(right.left)) {
+        right = rotateRight(right.event, right.left, right.right);
+      }
+      return rotateLeft(event, left, right);
+    }
+    return new Node(event, left, right);
+  }
+
+  private static Node rotateRight(Event event, Node left, Node right) {
+    return new Node(left.event, left.left, new Node(event, left.right, right));
+  }
+
+  private static Node rotateLeft(Event event, Node left, Node right) {
+    return new Node(right.event, new Node(event, left, right.left), right.right);
+  }
+
+  private static int height(Node node) {
+    return node == null ? 0 : node.height;
+  }
+
+  /**
+   * Immutable index node.
+   */
+  private static final class Node {
+    private final Event event;
+    private final Node left;
+    private final Node right;
+    private final int height;
+
+    private Node(Event event, Node left, Node right) {
+      this.event = event;
+      this.left = left;
+      this.right = right;
+      this.height = Math.max(height(left), height(right)) + 1;
+    }
+  }
+}
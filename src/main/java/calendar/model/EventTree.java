@@ -0,0 +1,434 @@
+package calendar.model;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, persistent set of events backing every {@link Calendar}.
+ *
+ * <p>Events are stored in an AVL tree ordered by start time, then end time, then subject.
+ * This order is consistent with {@link Event#equals(Object)}, so membership checks are
+ * O(log N). Adding or removing an event never modifies the tree; it returns a new tree
+ * that copies only the O(log N) nodes on the path to the change and shares every other
+ * node with its predecessor. Successive calendar versions therefore cost O(log N) time
+ * and memory per change instead of a full copy.</p>
+ *
+ * <p>Each node also records the latest end (in epoch seconds) found in its subtree, which
+ * turns the tree into an interval tree: {@link #overlapping} and {@link #activeAt} skip
+ * every subtree that ends before the query window and stop at the first node that starts
+ * after it, answering in O(log N + k).</p>
+ *
+ * <p>The tree is itself a read-only {@link java.util.Set}; mutators inherited from
+ * {@link AbstractSet} throw {@link UnsupportedOperationException}. Use
+ * {@link EditableEventSet} when a mutable set is needed on top of a tree.</p>
+ */
+public final class EventTree extends AbstractSet<Event> {
+
+  /**
+   * Total order on events, consistent with {@link Event#equals(Object)}.
+   */
+  static final Comparator<Event> ORDER = ((Comparator<Event>) Event::compareStart)
+      .thenComparing(Event::compareEnd)
+      .thenComparing(Event::getSubject, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+  private static final EventTree EMPTY = new EventTree(null, 0);
+
+  private final Node root;
+  private final int size;
+
+  private EventTree(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Returns the empty tree.
+   *
+   * @return a tree without events
+   */
+  public static EventTree empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Returns a tree containing the given events.
+   *
+   * <p>Trees are returned as they are and editable sets are frozen in O(1); any other
+   * collection is sorted and built into a balanced tree in O(N log N).</p>
+   *
+   * @param events the events to include
+   * @return a tree with the same events
+   */
+  public static EventTree of(Collection<Event> events) {
+    if (events instanceof EventTree) {
+      return (EventTree) events;
+    }
+    if (events instanceof EditableEventSet) {
+      return ((EditableEventSet) events).toTree();
+    }
+    if (events.isEmpty()) {
+      return EMPTY;
+    }
+    return sortInPlace(events.toArray(new Event[0]));
+  }
+
+  /**
+   * Returns a tree containing the events of the given array, which is sorted and reused to
+   * build the tree instead of being copied. The caller must not use the array afterwards.
+   *
+   * @param sorted the events to include, in any order
+   * @return a tree with the same events
+   */
+  static EventTree sortInPlace(Event[] sorted) {
+    if (sorted.length == 0) {
+      return EMPTY;
+    }
+    Arrays.sort(sorted, ORDER);
+    int distinct = 0;
+    for (Event event : sorted) {
+      if (distinct == 0 || ORDER.compare(sorted[distinct - 1], event) != 0) {
+        sorted[distinct++] = event;
+      }
+    }
+    return new EventTree(build(sorted, 0, distinct), distinct);
+  }
+
+  /**
+   * Returns a tree that also contains the given event.
+   *
+   * @param event the event to add
+   * @return a new tree sharing structure with this one, or this tree if the event is
+   *         already present
+   */
+  public EventTree plus(Event event) {
+    Node newRoot = insert(root, event);
+    return newRoot == root ? this : new EventTree(newRoot, size + 1);
+  }
+
+  /**
+   * Returns a tree that also contains all the given events.
+   *
+   * @param events the events to add
+   * @return a new tree sharing structure with this one
+   */
+  public EventTree plusAll(Collection<Event> events) {
+    EventTree result = this;
+    for (Event event : events) {
+      result = result.plus(event);
+    }
+    return result;
+  }
+
+  /**
+   * Returns a tree without the given event.
+   *
+   * @param event the event to remove
+   * @return a new tree sharing structure with this one, or this tree if the event is
+   *         not present
+   */
+  public EventTree minus(Event event) {
+    Node newRoot = delete(root, event);
+    return newRoot == root ? this : new EventTree(newRoot, size - 1);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof Event)) {
+      return false;
+    }
+    Event event = (Event) o;
+    Node node = root;
+    while (node != null) {
+      int cmp = ORDER.compare(event, node.event);
+      if (cmp == 0) {
+        return true;
+      }
+      node = cmp < 0 ? node.left : node.right;
+    }
+    return false;
+  }
+
+  /**
+   * Iterates over the events in start-time order.
+   *
+   * @return an iterator that does not support removal
+   */
+  @Override
+  public Iterator<Event> iterator() {
+    return new InOrderIterator(root);
+  }
+
+  /**
+   * Finds all events that start before {@code to} and end after {@code from}.
+   *
+   * @param from the start of the window
+   * @param to the end of the window
+   * @return the overlapping events in start order
+   */
+  List<Event> overlapping(ZonedDateTime from, ZonedDateTime to) {
+    List<Event> result = new ArrayList<>();
+    Instant lower = from.toInstant();
+    Instant upper = to.toInstant();
+    collect(root, lower.getEpochSecond(), upper.getEpochSecond(),
+        e -> compareStart(e, upper) < 0 && compareEnd(e, lower) > 0, result);
+    return result;
+  }
+
+  /**
+   * Finds all events that start at or before {@code instant} and end after it.
+   *
+   * @param instant the instant to check
+   * @return the active events in start order
+   */
+  List<Event> activeAt(ZonedDateTime instant) {
+    List<Event> result = new ArrayList<>();
+    Instant at = instant.toInstant();
+    collect(root, at.getEpochSecond(), at.getEpochSecond(),
+        e -> compareStart(e, at) <= 0 && compareEnd(e, at) > 0, result);
+    return result;
+  }
+
+  /**
+   * Reports the differences between two trees.
+   *
+   * <p>Both trees are walked in order side by side. Whenever the walks reach the very same
+   * node object, that node and its right subtree are shared by both versions and are
+   * skipped without being visited, so comparing a tree with one derived from it by k
+   * changes costs roughly O(k log N) rather than O(N).</p>
+   *
+   * @param before the older tree
+   * @param after the newer tree
+   * @param removed receives events present in {@code before} but not in {@code after}
+   * @param added receives events present in {@code after} but not in {@code before}
+   */
+  static void diff(EventTree before, EventTree after,
+                   Consumer<Event> removed, Consumer<Event> added) {
+    Deque<Node> older = new ArrayDeque<>();
+    Deque<Node> newer = new ArrayDeque<>();
+    pushLeft(older, before.root);
+    pushLeft(newer, after.root);
+    while (!older.isEmpty() && !newer.isEmpty()) {
+      Node x = older.peek();
+      Node y = newer.peek();
+      if (x == y) {
+        older.pop();
+        newer.pop();
+        continue;
+      }
+      int cmp = ORDER.compare(x.event, y.event);
+      if (cmp <= 0) {
+        advance(older);
+      }
+      if (cmp >= 0) {
+        advance(newer);
+      }
+      if (cmp < 0) {
+        removed.accept(x.event);
+      } else if (cmp > 0) {
+        added.accept(y.event);
+      }
+    }
+    while (!older.isEmpty()) {
+      removed.accept(advance(older));
+    }
+    while (!newer.isEmpty()) {
+      added.accept(advance(newer));
+    }
+  }
+
+  private static void pushLeft(Deque<Node> stack, Node node) {
+    while (node != null) {
+      stack.push(node);
+      node = node.left;
+    }
+  }
+
+  private static Event advance(Deque<Node> stack) {
+    Node node = stack.pop();
+    pushLeft(stack, node.right);
+    return node.event;
+  }
+
+  /**
+   * Collects events with start second at most {@code toSecond} and end second at least
+   * {@code fromSecond} that also satisfy the exact predicate. Epoch seconds only prune;
+   * the predicate decides.
+   */
+  private static void collect(Node node, long fromSecond, long toSecond,
+                              Predicate<Event> exact, List<Event> result) {
+    if (node == null || node.maxEnd < fromSecond) {
+      return;
+    }
+    collect(node.left, fromSecond, toSecond, exact, result);
+    if (startOf(node.event) > toSecond) {
+      return;
+    }
+    if (endOf(node.event) >= fromSecond && exact.test(node.event)) {
+      result.add(node.event);
+    }
+    collect(node.right, fromSecond, toSecond, exact, result);
+  }
+
+  private static Node build(Event[] sorted, int lo, int hi) {
+    if (lo >= hi) {
+      return null;
+    }
+    int mid = (lo + hi) >>> 1;
+    return new Node(sorted[mid], build(sorted, lo, mid), build(sorted, mid + 1, hi));
+  }
+
+  private static Node insert(Node node, Event event) {
+    if (node == null) {
+      return new Node(event, null, null);
+    }
+    int cmp = ORDER.compare(event, node.event);
+    if (cmp == 0) {
+      return node;
+    }
+    if (cmp < 0) {
+      Node left = insert(node.left, event);
+      return left == node.left ? node : balance(node.event, left, node.right);
+    }
+    Node right = insert(node.right, event);
+    return right == node.right ? node : balance(node.event, node.left, right);
+  }
+
+  private static Node delete(Node node, Event event) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = ORDER.compare(event, node.event);
+    if (cmp < 0) {
+      Node left = delete(node.left, event);
+      return left == node.left ? node : balance(node.event, left, node.right);
+    }
+    if (cmp > 0) {
+      Node right = delete(node.right, event);
+      return right == node.right ? node : balance(node.event, node.left, right);
+    }
+    if (node.left == null) {
+      return node.right;
+    }
+    if (node.right == null) {
+      return node.left;
+    }
+    Node successor = node.right;
+    while (successor.left != null) {
+      successor = successor.left;
+    }
+    return balance(successor.event, node.left, delete(node.right, successor.event));
+  }
+
+  private static Node balance(Event event, Node left, Node right) {
+    int diff = height(left) - height(right);
+    if (diff > 1) {
+      if (height(left.left) < height(left.right)) {
+        left = rotateLeft(left.event, left.left, left.right);
+      }
+      return rotateRight(event, left, right);
+    }
+    if (diff < -1) {
+      if (height(right.right) < height(right.left)) {
+        right = rotateRight(right.event, right.left, right.right);
+      }
+      return rotateLeft(event, left, right);
+    }
+    return new Node(event, left, right);
+  }
+
+  private static Node rotateRight(Event event, Node left, Node right) {
+    return new Node(left.event, left.left, new Node(event, left.right, right));
+  }
+
+  private static Node rotateLeft(Event event, Node left, Node right) {
+    return new Node(right.event, new Node(event, left, right.left), right.right);
+  }
+
+  private static int height(Node node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static long maxEnd(Node node) {
+    return node == null ? Long.MIN_VALUE : node.maxEnd;
+  }
+
+  private static long startOf(Event event) {
+    return event.startEpochSecond();
+  }
+
+  private static long endOf(Event event) {
+    return event.endEpochSecond();
+  }
+
+  private static int compareStart(Event event, Instant instant) {
+    long second = event.startEpochSecond();
+    return second != instant.getEpochSecond() ? Long.compare(second, instant.getEpochSecond())
+        : Integer.compare(event.startNano(), instant.getNano());
+  }
+
+  private static int compareEnd(Event event, Instant instant) {
+    long second = event.endEpochSecond();
+    return second != instant.getEpochSecond() ? Long.compare(second, instant.getEpochSecond())
+        : Integer.compare(event.endNano(), instant.getNano());
+  }
+
+  /**
+   * Immutable tree node. Height and subtree max end are fixed at construction.
+   */
+  private static final class Node {
+    private final Event event;
+    private final Node left;
+    private final Node right;
+    private final int height;
+    private final long maxEnd;
+
+    private Node(Event event, Node left, Node right) {
+      this.event = event;
+      this.left = left;
+      this.right = right;
+      this.height = Math.max(height(left), height(right)) + 1;
+      this.maxEnd = Math.max(endOf(event), Math.max(maxEnd(left), maxEnd(right)));
+    }
+  }
+
+  /**
+   * In-order iterator using an explicit stack of pending ancestors.
+   */
+  private static final class InOrderIterator implements Iterator<Event> {
+    private final Deque<Node> stack = new ArrayDeque<>();
+
+    private InOrderIterator(Node root) {
+      pushLeft(stack, root);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !stack.isEmpty();
+    }
+
+    @Override
+    public Event next() {
+      if (stack.isEmpty()) {
+        throw new NoSuchElementException();
+      }
+      return advance(stack);
+    }
+  }
+}
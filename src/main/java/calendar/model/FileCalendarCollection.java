@@ -0,0 +1,511 @@
+package calendar.model;
+
+import calendar.interfacetypes.Icalendarcollection;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Repository that keeps calendars in memory and makes every change durable on disk.
+ *
+ * <p>The data directory holds two files. {@code calendars.snapshot} contains every calendar
+ * as of some log sequence number, in a columnar encoding. The snapshot is memory-mapped
+ * on startup and restored calendars answer time queries from the mapped columns, so
+ * opening a large repository does not decode its events up front. {@code calendars.wal}
+ * is a write-ahead log of the changes made since then, one checksummed record per
+ * {@link #save} or {@link #deleteByName}. When a calendar is saved over an earlier version
+ * with the same timezone, only the events removed and added are logged; because calendar
+ * versions share their event trees, that difference is found without walking the
+ * unchanged events. Other saves log the whole calendar.</p>
+ *
+ * <p>On startup the snapshot is loaded and the log is replayed on top of it. A record cut
+ * short by a crash, one whose length runs past the end of the file, or one that fails its
+ * checksum, ends the replay and is discarded. A record whose write fails is cut off the
+ * log before the failure is reported, so it cannot hide the records saved after it.
+ * After {@code compactEvery} records the current state is written to a new snapshot, which
+ * atomically replaces the old one. The log is emptied only once the rename itself has been
+ * forced to disk by fsyncing the data directory.</p>
+ *
+ * <p>Each record reaches the operating system before {@code save} returns, so it survives
+ * a crash of the application. Forcing it to the storage device is grouped: the log is
+ * fsynced once every {@code syncEvery} records, so a headless script with thousands of
+ * {@code create event} commands pays for a handful of fsyncs rather than one per command.
+ * A {@code syncEvery} of 1 fsyncs every record; 0 fsyncs only on {@link #flush()} and
+ * {@link #close()}.</p>
+ *
+ * <p>All methods are synchronized; the repository may be shared between threads.</p>
+ */
+public class FileCalendarCollection implements Icalendarcollection, Closeable {
+
+  /**
+   * Default number of log records per fsync.
+   */
+  public static final int DEFAULT_SYNC_EVERY = 256;
+
+  /**
+   * Default number of log records between snapshots.
+   */
+  public static final int DEFAULT_COMPACT_EVERY = 10_000;
+
+  static final String SNAPSHOT_FILE = "calendars.snapshot";
+  static final String LOG_FILE = "calendars.wal";
+
+  private static final int SNAPSHOT_MAGIC = 0x43414c53;
+  private static final int FORMAT_VERSION = 3;
+  private static final byte PUT = 1;
+  private static final byte DELTA = 2;
+  private static final byte DELETE = 3;
+
+  private final Map<String, Calendar> calendarMap = new HashMap<>();
+  private final Path snapshotPath;
+  private final Path logPath;
+  private final int syncEvery;
+  private final int compactEvery;
+  private final FileChannel log;
+  private long lastSequence;
+  private int unsyncedRecords;
+  private int recordsSinceSnapshot;
+  private IOException writeFailure;
+
+  /**
+   * Opens the repository stored in the given directory with the default fsync and
+   * compaction intervals, creating the directory if needed.
+   *
+   * @param directory the data directory
+   * @throws IOException if the directory cannot be created or read
+   */
+  public FileCalendarCollection(Path directory) throws IOException {
+    this(directory, DEFAULT_SYNC_EVERY, DEFAULT_COMPACT_EVERY);
+  }
+
+  /**
+   * Opens the repository stored in the given directory, creating the directory if needed,
+   * and restores its calendars from the snapshot and the log.
+   *
+   * @param directory the data directory
+   * @param syncEvery number of log records per fsync; 0 to fsync only on flush and close
+   * @param compactEvery number of log records between snapshots; 0 to never compact
+   *                     automatically
+   * @throws IOException if the directory cannot be created or read
+   */
+  public FileCalendarCollection(Path directory, int syncEvery, int compactEvery)
+      throws IOException {
+    if (syncEvery < 0 || compactEvery < 0) {
+      throw new IllegalArgumentException("Sync and compaction intervals must not be negative");
+    }
+    Files.createDirectories(directory);
+    this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+    this.logPath = directory.resolve(LOG_FILE);
+    this.syncEvery = syncEvery;
+    this.compactEvery = compactEvery;
+    long snapshotSequence = readSnapshot();
+    long validLength = replayLog(snapshotSequence);
+    boolean newLog = Files.notExists(logPath);
+    this.log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    if (newLog) {
+      syncDirectory(directory);
+    }
+    if (log.size() > validLength) {
+      log.truncate(validLength);
+      log.force(false);
+    }
+    log.position(validLength);
+  }
+
+  @Override
+  public synchronized Calendar findByName(String name) {
+    return calendarMap.get(name);
+  }
+
+  @Override
+  public synchronized void save(Calendar calendar) {
+    Calendar previous = calendarMap.get(calendar.getName());
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(buffer)) {
+      out.writeLong(lastSequence + 1);
+      if (previous != null && previous.getTimezone().equals(calendar.getTimezone())) {
+        writeDelta(out, calendar.getName(), previous.getEventSet(), calendar.getEventSet());
+      } else {
+        out.writeByte(PUT);
+        EventCodec.writeCalendar(out, calendar);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (buffer.size() > Long.BYTES) {
+      append(buffer.toByteArray());
+    }
+    calendarMap.put(calendar.getName(), calendar);
+    compactIfDue();
+  }
+
+  @Override
+  public synchronized boolean compareAndSave(Calendar expected, Calendar calendar) {
+    if (calendarMap.get(calendar.getName()) != expected) {
+      return false;
+    }
+    save(calendar);
+    return true;
+  }
+
+  @Override
+  public synchronized boolean compareAndSaveAll(List<Calendar> expected,
+                                                List<Calendar> calendars) {
+    for (int i = 0; i < calendars.size(); i++) {
+      if (calendarMap.get(calendars.get(i).getName()) != expected.get(i)) {
+        return false;
+      }
+    }
+    for (Calendar calendar : calendars) {
+      save(calendar);
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized boolean existsByName(String name) {
+    return calendarMap.containsKey(name);
+  }
+
+  @Override
+  public synchronized void deleteByName(String name) {
+    if (!calendarMap.containsKey(name)) {
+      return;
+    }
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(buffer)) {
+      out.writeLong(lastSequence + 1);
+      out.writeByte(DELETE);
+      EventCodec.writeString(out, name);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    append(buffer.toByteArray());
+    calendarMap.remove(name);
+    compactIfDue();
+  }
+
+  @Override
+  public synchronized Set<String> getAllCalendarNames() {
+    return new HashSet<>(calendarMap.keySet());
+  }
+
+  /**
+   * Forces every logged change to the storage device.
+   *
+   * @throws UncheckedIOException if the log cannot be forced
+   */
+  public synchronized void flush() {
+    try {
+      log.force(false);
+      unsyncedRecords = 0;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes all calendars to a new snapshot and empties the log.
+   *
+   * @throws UncheckedIOException if the snapshot cannot be written
+   */
+  public synchronized void compact() {
+    Path temp = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+    try {
+      try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16));
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(lastSequence);
+        out.writeInt(calendarMap.size());
+        for (Calendar calendar : calendarMap.values()) {
+          EventCodec.writeString(out, calendar.getName());
+          EventCodec.writeString(out, calendar.getTimezone().getId());
+          if (calendar.getColumns() != null) {
+            calendar.getColumns().writeTo(out);
+          } else {
+            EventColumns.write(out, calendar.getEventSet().tree());
+          }
+          ByteArrayOutputStream rules = new ByteArrayOutputStream();
+          EventCodec.writeRules(new DataOutputStream(rules), calendar.getRules());
+          out.writeInt(rules.size());
+          rules.writeTo(out);
+        }
+        out.flush();
+        file.getFD().sync();
+      }
+      Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      syncDirectory(snapshotPath.getParent());
+      log.truncate(0);
+      log.position(0);
+      log.force(true);
+      unsyncedRecords = 0;
+      recordsSinceSnapshot = 0;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Forces pending changes to disk and closes the log.
+   *
+   * @throws IOException if the log cannot be forced or closed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (log.isOpen()) {
+      log.force(false);
+      log.close();
+    }
+  }
+
+  /**
+   * Forces a directory's entries to disk, so that a file created or renamed in it survives
+   * a crash of the machine. Platforms that cannot open a directory, such as Windows, make
+   * renames durable themselves; there this does nothing.
+   */
+  private static void syncDirectory(Path directory) throws IOException {
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(directory, StandardOpenOption.READ);
+    } catch (IOException e) {
+      return;
+    }
+    try {
+      channel.force(true);
+    } finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * Writes the standalone events removed and added by a same-timezone save, followed by
+   * the calendar's rules if any rule changed. Writes nothing when nothing changed.
+   */
+  private static void writeDelta(DataOutputStream out, String name, CalendarEvents before,
+                                 CalendarEvents after) throws IOException {
+    List<Event> removed = new ArrayList<>();
+    List<Event> added = new ArrayList<>();
+    EventTree.diff(before.tree(), after.tree(), removed::add, added::add);
+    boolean rulesChanged = !sameRules(before.rules(), after.rules());
+    if (removed.isEmpty() && added.isEmpty() && !rulesChanged) {
+      return;
+    }
+    out.writeByte(DELTA);
+    EventCodec.writeString(out, name);
+    EventCodec.writeEvents(out, removed);
+    EventCodec.writeEvents(out, added);
+    out.writeBoolean(rulesChanged);
+    if (rulesChanged) {
+      EventCodec.writeRules(out, after.rules());
+    }
+  }
+
+  private static boolean sameRules(List<RecurrenceRule> before, List<RecurrenceRule> after) {
+    if (before.size() != after.size()) {
+      return false;
+    }
+    for (int i = 0; i < before.size(); i++) {
+      if (before.get(i) != after.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Appends one checksummed record to the log, then fsyncs when due. A record that cannot
+   * be written or forced is cut off again, so that later records are not written after
+   * torn bytes that would end the replay. If even that fails, the log is left as it is and
+   * every further change is refused.
+   */
+  private void append(byte[] payload) {
+    if (writeFailure != null) {
+      throw new UncheckedIOException("The log could not be repaired after a failed write",
+          writeFailure);
+    }
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    ByteBuffer record = ByteBuffer.allocate(8 + payload.length);
+    record.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+    long start = -1;
+    try {
+      start = log.position();
+      while (record.hasRemaining()) {
+        log.write(record);
+      }
+      if (syncEvery > 0 && unsyncedRecords + 1 >= syncEvery) {
+        log.force(false);
+        unsyncedRecords = 0;
+      } else {
+        unsyncedRecords++;
+      }
+    } catch (IOException e) {
+      if (start >= 0) {
+        discardFrom(start, e);
+      }
+      throw new UncheckedIOException(e);
+    }
+    lastSequence++;
+    recordsSinceSnapshot++;
+  }
+
+  /**
+   * Cuts the log back to the given length after a failed append.
+   */
+  private void discardFrom(long length, IOException cause) {
+    try {
+      log.truncate(length);
+      log.position(length);
+    } catch (IOException e) {
+      cause.addSuppressed(e);
+      writeFailure = cause;
+    }
+  }
+
+  private void compactIfDue() {
+    if (compactEvery > 0 && recordsSinceSnapshot >= compactEvery) {
+      compact();
+    }
+  }
+
+  /**
+   * Maps the snapshot, if any, and returns the sequence number it was taken at.
+   * Each calendar is backed by its columns in the mapped file; no events are decoded.
+   */
+  private long readSnapshot() throws IOException {
+    if (!Files.exists(snapshotPath)) {
+      return 0;
+    }
+    MappedByteBuffer mapped;
+    try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    if (mapped.getInt() != SNAPSHOT_MAGIC || mapped.getInt() != FORMAT_VERSION) {
+      throw new IOException("Unrecognized snapshot file: " + snapshotPath);
+    }
+    long sequence = mapped.getLong();
+    int count = mapped.getInt();
+    EventCodec codec = new EventCodec();
+    for (int i = 0; i < count; i++) {
+      String name = readString(mapped);
+      ZoneId timezone = ZoneId.of(readString(mapped));
+      int length = mapped.getInt();
+      ByteBuffer block = mapped.slice();
+      block.limit(length);
+      mapped.position(mapped.position() + length);
+      byte[] rules = new byte[mapped.getInt()];
+      mapped.get(rules);
+      calendarMap.put(name, new Calendar(name, timezone, EventColumns.wrap(block),
+          codec.readRules(new DataInputStream(new ByteArrayInputStream(rules)))));
+    }
+    lastSequence = sequence;
+    return sequence;
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Applies the log records written after the snapshot and returns the length of the
+   * valid prefix of the log.
+   */
+  private long replayLog(long snapshotSequence) throws IOException {
+    if (!Files.exists(logPath)) {
+      return 0;
+    }
+    long valid = 0;
+    long size = Files.size(logPath);
+    EventCodec codec = new EventCodec();
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(logPath), 1 << 16))) {
+      while (true) {
+        byte[] payload;
+        try {
+          int length = in.readInt();
+          int checksum = in.readInt();
+          if (length < 9 || length > size - valid - 8) {
+            break;
+          }
+          payload = new byte[length];
+          in.readFully(payload);
+          CRC32 crc = new CRC32();
+          crc.update(payload);
+          if ((int) crc.getValue() != checksum) {
+            break;
+          }
+        } catch (EOFException e) {
+          break;
+        }
+        DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+        long sequence = record.readLong();
+        if (sequence > snapshotSequence) {
+          apply(record, codec);
+          lastSequence = sequence;
+          recordsSinceSnapshot++;
+        }
+        valid += 8 + payload.length;
+      }
+    }
+    return valid;
+  }
+
+  private void apply(DataInputStream record, EventCodec codec) throws IOException {
+    byte type = record.readByte();
+    if (type == PUT) {
+      Calendar calendar = codec.readCalendar(record);
+      calendarMap.put(calendar.getName(), calendar);
+    } else if (type == DELTA) {
+      String name = EventCodec.readString(record);
+      Calendar current = calendarMap.get(name);
+      if (current == null) {
+        throw new IOException("Log changes unknown calendar: " + name);
+      }
+      CalendarEvents currentEvents = current.getEventSet();
+      EventTree events = currentEvents.tree();
+      for (Event event : codec.readEvents(record)) {
+        events = events.minus(event);
+      }
+      events = events.plusAll(codec.readEvents(record));
+      List<RecurrenceRule> rules = record.readBoolean()
+          ? codec.readRules(record) : currentEvents.rules();
+      calendarMap.put(name, new CalendarModelBuilder()
+          .setName(name)
+          .setTimeZone(current.getTimezone())
+          .setEvents(new CalendarEvents(events, rules))
+          .build());
+    } else if (type == DELETE) {
+      calendarMap.remove(EventCodec.readString(record));
+    } else {
+      throw new IOException("Unknown log record type: " + type);
+    }
+  }
+}
@@ -0,0 +1,392 @@
+package calendar.model;
+
+import calendar.util.EpochDates;
+import calendar.util.ZoneOffsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A recurring series stored as a single rule rather than one {@link Event} per occurrence.
+ *
+ * <p>A rule repeats an event with a fixed local start and end time on the weekdays in its
+ * {@link Weekdays}, starting at its first date and ending either after a number of
+ * occurrences or on an until date (inclusive). Dates listed as exceptions are skipped;
+ * they still count towards the number of occurrences, so removing one occurrence never
+ * shifts the others. Occurrences are placed where
+ * {@link ZonedDateTime#of(LocalDate, LocalTime, ZoneId)} places them, the same as series
+ * created one event at a time, but through the zone's {@link ZoneOffsets} table rather
+ * than its rules.</p>
+ *
+ * <p>The rule is itself the read-only set of its occurrences. Occurrences are created only
+ * while iterating; {@link #contains(Object)} and {@link #size()} are answered arithmetically
+ * and {@link #overlapping} only visits dates inside the requested window, so a series costs
+ * O(1) memory however many occurrences it has. Iteration jumps straight from one
+ * occurrence to the next, and the last date and size are found in closed form by
+ * {@link Weekdays}. Rules are immutable; instances are built with
+ * {@link RecurrenceRuleBuilder}. Since rules are sets, prefer identity over
+ * {@link #equals(Object)} when comparing rules themselves.</p>
+ */
+public final class RecurrenceRule extends AbstractSet<Event> {
+
+  private final String subject;
+  private final String seriesId;
+  private final String description;
+  private final String location;
+  private final String status;
+  private final LocalDate firstDate;
+  private final LocalTime startTime;
+  private final LocalTime endTime;
+  private final ZoneId timezone;
+  private final Weekdays weekdays;
+  private final int count;
+  private final LocalDate untilDate;
+  private final Set<LocalDate> exceptions;
+  private final LocalDate lastDate;
+  private final long firstDay;
+  private final long lastDay;
+  private final int size;
+  private final ZoneOffsets offsets;
+
+  RecurrenceRule(String subject, String seriesId, String description, String location,
+                 String status, LocalDate firstDate, LocalTime startTime, LocalTime endTime,
+                 ZoneId timezone, int weekdayMask, int count, LocalDate untilDate,
+                 Set<LocalDate> exceptions) {
+    this.subject = subject;
+    this.seriesId = seriesId;
+    this.description = description;
+    this.location = location;
+    this.status = status;
+    this.firstDate = firstDate;
+    this.startTime = startTime;
+    this.endTime = endTime;
+    this.timezone = timezone;
+    this.offsets = timezone == null ? null : ZoneOffsets.of(timezone);
+    this.weekdays = Weekdays.ofMask(weekdayMask);
+    this.count = count;
+    this.untilDate = untilDate;
+    this.firstDay = firstDate.toEpochDay();
+    this.lastDate = computeLastDate();
+    this.lastDay = lastDate == null ? firstDay - 1 : lastDate.toEpochDay();
+    this.exceptions = onlyOccurrences(exceptions);
+    this.size = lastDate == null ? 0
+        : (int) weekdays.countBetween(firstDay, lastDay + 1) - this.exceptions.size();
+  }
+
+  /**
+   * Returns the bit used for a weekday in a weekday mask.
+   *
+   * @param day the weekday
+   * @return the mask bit, Monday being the lowest
+   */
+  public static int bitOf(DayOfWeek day) {
+    return Weekdays.bitOf(day);
+  }
+
+  public String getSubject() {
+    return subject;
+  }
+
+  public String getSeriesId() {
+    return seriesId;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public String getLocation() {
+    return location;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public LocalDate getFirstDate() {
+    return firstDate;
+  }
+
+  public LocalTime getStartTime() {
+    return startTime;
+  }
+
+  public LocalTime getEndTime() {
+    return endTime;
+  }
+
+  public ZoneId getTimezone() {
+    return timezone;
+  }
+
+  public int getWeekdayMask() {
+    return weekdays.mask();
+  }
+
+  public Weekdays getWeekdays() {
+    return weekdays;
+  }
+
+  /**
+   * Returns the number of occurrences the rule was created with.
+   *
+   * @return the occurrence count, or 0 if the rule ends on an until date
+   */
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the last date the rule may occur on.
+   *
+   * @return the until date, or null if the rule ends after a number of occurrences
+   */
+  public LocalDate getUntilDate() {
+    return untilDate;
+  }
+
+  /**
+   * Returns the dates whose occurrence has been removed from the series.
+   *
+   * @return an unmodifiable set of dates
+   */
+  public Set<LocalDate> getExceptions() {
+    return exceptions;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o instanceof Event && dateOf((Event) o) != null;
+  }
+
+  @Override
+  public Iterator<Event> iterator() {
+    return new Iterator<Event>() {
+      private long next = lastDate == null ? lastDay + 1 : nextOccurrenceDay(firstDay);
+
+      @Override
+      public boolean hasNext() {
+        return next <= lastDay;
+      }
+
+      @Override
+      public Event next() {
+        if (next > lastDay) {
+          throw new NoSuchElementException();
+        }
+        Event event = occurrenceOn(next);
+        next = nextOccurrenceDay(next + 1);
+        return event;
+      }
+    };
+  }
+
+  /**
+   * Returns the occurrences that start before {@code to} and end after {@code from},
+   * visiting only the dates inside that window.
+   *
+   * @param from the start of the window
+   * @param to the end of the window
+   * @return the overlapping occurrences in start order
+   */
+  public List<Event> overlapping(ZonedDateTime from, ZonedDateTime to) {
+    List<Event> result = new ArrayList<>();
+    if (lastDate == null || to.isBefore(from)) {
+      return result;
+    }
+    long windowStart = localDay(from.toEpochSecond()) - 1;
+    long windowEnd = Math.min(localDay(to.toEpochSecond()) + 1, lastDay);
+    for (long day = nextOccurrenceDay(Math.max(windowStart, firstDay)); day <= windowEnd;
+        day = nextOccurrenceDay(day + 1)) {
+      Event event = occurrenceOn(day);
+      if (event.getStartDateTime().isBefore(to) && event.getEndDateTime().isAfter(from)) {
+        result.add(event);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the occurrences that start at or before {@code instant} and end after it.
+   *
+   * @param instant the instant to check
+   * @return the active occurrences
+   */
+  public List<Event> activeAt(ZonedDateTime instant) {
+    return overlapping(instant, instant.plusNanos(1));
+  }
+
+  /**
+   * Returns the occurrences that start at or after {@code from}, visiting only the dates
+   * from the day before it onwards.
+   *
+   * @param from the earliest start to include, or null for every occurrence
+   * @return the occurrences in start order
+   */
+  public List<Event> occurrencesFrom(ZonedDateTime from) {
+    List<Event> result = new ArrayList<>();
+    if (lastDate == null) {
+      return result;
+    }
+    long start = from == null ? firstDay
+        : Math.max(localDay(from.toEpochSecond()) - 1, firstDay);
+    for (long day = nextOccurrenceDay(start); day <= lastDay; day = nextOccurrenceDay(day + 1)) {
+      Event event = occurrenceOn(day);
+      if (from == null || !event.getStartDateTime().isBefore(from)) {
+        result.add(event);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the occurrence whose start date-time equals {@code start}, if there is one.
+   *
+   * @param start the start date-time to look for
+   * @return the occurrence, or null
+   */
+  public Event occurrenceStartingAt(ZonedDateTime start) {
+    if (lastDate == null || !timezone.equals(start.getZone())) {
+      return null;
+    }
+    LocalDate date = start.toLocalDate();
+    if (!isOccurrence(date)) {
+      return null;
+    }
+    Event event = occurrenceOn(date);
+    return event.getStartDateTime().equals(start) ? event : null;
+  }
+
+  /**
+   * Returns the occurrence date of the given event, or null if it is not an occurrence.
+   */
+  LocalDate dateOf(Event event) {
+    if (lastDate == null || event.startZone() == null || event.endZone() == null
+        || !timezone.equals(event.startZone())
+        || !Objects.equals(subject, event.getSubject())) {
+      return null;
+    }
+    LocalDate date = LocalDate.ofEpochDay(localDay(event.startEpochSecond()));
+    for (LocalDate candidate : new LocalDate[] {date, date.minusDays(1)}) {
+      if (isOccurrence(candidate) && occurrenceOn(candidate).equals(event)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a copy of this rule that also skips the given dates.
+   */
+  RecurrenceRule withExceptions(Collection<LocalDate> dates) {
+    if (dates.isEmpty()) {
+      return this;
+    }
+    Set<LocalDate> merged = new HashSet<>(exceptions);
+    merged.addAll(dates);
+    return new RecurrenceRule(subject, seriesId, description, location, status, firstDate,
+        startTime, endTime, timezone, weekdays.mask(), count, untilDate,
+        Collections.unmodifiableSet(merged));
+  }
+
+  /**
+   * Drops exception dates the series would not occur on anyway, so they do not affect
+   * {@link #size()}.
+   */
+  private Set<LocalDate> onlyOccurrences(Set<LocalDate> dates) {
+    if (lastDate == null || dates.isEmpty()) {
+      return Collections.emptySet();
+    }
+    for (LocalDate date : dates) {
+      if (date.isBefore(firstDate) || date.isAfter(lastDate) || !matches(date)) {
+        Set<LocalDate> kept = new HashSet<>();
+        for (LocalDate candidate : dates) {
+          if (!candidate.isBefore(firstDate) && !candidate.isAfter(lastDate)
+              && matches(candidate)) {
+            kept.add(candidate);
+          }
+        }
+        return Collections.unmodifiableSet(kept);
+      }
+    }
+    return dates;
+  }
+
+  /**
+   * Creates the occurrence on a date, placing its local times through the zone's offset
+   * table; the result equals the one {@code ZonedDateTime.of} would give.
+   */
+  private Event occurrenceOn(LocalDate date) {
+    return occurrenceOn(date.toEpochDay());
+  }
+
+  private Event occurrenceOn(long epochDay) {
+    long midnight = epochDay * EpochDates.SECONDS_PER_DAY;
+    return new Event(subject,
+        offsets.toEpochSecond(midnight + startTime.toSecondOfDay()), startTime.getNano(),
+        timezone,
+        offsets.toEpochSecond(midnight + endTime.toSecondOfDay()), endTime.getNano(),
+        timezone,
+        seriesId, description, location, status);
+  }
+
+  /**
+   * Returns the local epoch day in the rule's zone at an instant.
+   */
+  private long localDay(long epochSecond) {
+    return Math.floorDiv(offsets.toLocalSecond(epochSecond), (long) EpochDates.SECONDS_PER_DAY);
+  }
+
+  private boolean isOccurrence(LocalDate date) {
+    return lastDate != null && !date.isBefore(firstDate) && !date.isAfter(lastDate)
+        && matches(date) && !exceptions.contains(date);
+  }
+
+  /**
+   * Returns the epoch day of the first occurrence on or after the given day, or a day after
+   * the last occurrence if there is none. Only exception dates are stepped over one by one.
+   */
+  private long nextOccurrenceDay(long from) {
+    long day = weekdays.nextOnOrAfter(from);
+    while (day <= lastDay && !exceptions.isEmpty()
+        && exceptions.contains(LocalDate.ofEpochDay(day))) {
+      day = weekdays.nextOnOrAfter(day + 1);
+    }
+    return day;
+  }
+
+  private boolean matches(LocalDate date) {
+    return weekdays.matches(date.toEpochDay());
+  }
+
+  /**
+   * Finds the date of the last occurrence in closed form, or null if the rule has none.
+   */
+  private LocalDate computeLastDate() {
+    if (weekdays.isEmpty()) {
+      return null;
+    }
+    if (untilDate != null) {
+      long matching = weekdays.countBetween(firstDay, untilDate.toEpochDay() + 1);
+      return matching == 0 ? null : LocalDate.ofEpochDay(weekdays.nth(firstDay, matching - 1));
+    }
+    return count <= 0 ? null : LocalDate.ofEpochDay(weekdays.nth(firstDay, count - 1));
+  }
+}
@@ -0,0 +1,219 @@
+package calendar.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Builder class for creating RecurrenceRule objects using the Builder pattern.
+ * Text fields default to empty strings, like {@link EventBuilder}; a rule needs a first
+ * date, start and end times, a timezone, weekdays, and either a count or an until date.
+ */
+public class RecurrenceRuleBuilder {
+  private String subject;
+  private String seriesId;
+  private String description;
+  private String location;
+  private String status;
+  private LocalDate firstDate;
+  private LocalTime startTime;
+  private LocalTime endTime;
+  private ZoneId timezone;
+  private int weekdayMask;
+  private int count;
+  private LocalDate untilDate;
+  private final Set<LocalDate> exceptions;
+
+  /**
+   * Constructs a new RecurrenceRuleBuilder with default values.
+   * Default values are empty strings for text fields and no weekdays.
+   */
+  public RecurrenceRuleBuilder() {
+    this.subject = "";
+    this.seriesId = "";
+    this.description = "";
+    this.location = "";
+    this.status = "";
+    this.exceptions = new HashSet<>();
+  }
+
+  /**
+   * Sets the subject shared by every occurrence.
+   *
+   * @param subject the event subject
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setSubject(String subject) {
+    this.subject = Event.intern(subject);
+    return this;
+  }
+
+  /**
+   * Sets the series identifier shared by every occurrence.
+   *
+   * @param seriesId the series identifier
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setSeriesId(String seriesId) {
+    this.seriesId = seriesId;
+    return this;
+  }
+
+  /**
+   * Sets the description shared by every occurrence.
+   *
+   * @param description the event description
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setDescription(String description) {
+    this.description = description;
+    return this;
+  }
+
+  /**
+   * Sets the location shared by every occurrence.
+   *
+   * @param location the event location
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setLocation(String location) {
+    this.location = Event.intern(location);
+    return this;
+  }
+
+  /**
+   * Sets the status shared by every occurrence.
+   *
+   * @param status the event status
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setStatus(String status) {
+    this.status = Event.intern(status);
+    return this;
+  }
+
+  /**
+   * Sets the date the series starts scanning from; it is an occurrence only if its weekday
+   * is selected.
+   *
+   * @param firstDate the first candidate date
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setFirstDate(LocalDate firstDate) {
+    this.firstDate = firstDate;
+    return this;
+  }
+
+  /**
+   * Sets the local start and end time of every occurrence.
+   *
+   * @param startTime the local start time
+   * @param endTime the local end time, on the same date
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setTimes(LocalTime startTime, LocalTime endTime) {
+    this.startTime = startTime;
+    this.endTime = endTime;
+    return this;
+  }
+
+  /**
+   * Sets the timezone the local times are interpreted in.
+   *
+   * @param timezone the timezone
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setTimeZone(ZoneId timezone) {
+    this.timezone = timezone;
+    return this;
+  }
+
+  /**
+   * Sets the weekdays the series occurs on.
+   *
+   * @param weekdays the selected weekdays
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setWeekdays(Collection<DayOfWeek> weekdays) {
+    return setWeekdays(Weekdays.of(weekdays));
+  }
+
+  /**
+   * Sets the weekdays the series occurs on.
+   *
+   * @param weekdays the selected weekdays
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setWeekdays(Weekdays weekdays) {
+    this.weekdayMask = weekdays.mask();
+    return this;
+  }
+
+  /**
+   * Sets the weekdays the series occurs on as a mask of {@link RecurrenceRule#bitOf} bits.
+   *
+   * @param weekdayMask the weekday mask
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setWeekdayMask(int weekdayMask) {
+    this.weekdayMask = weekdayMask;
+    return this;
+  }
+
+  /**
+   * Ends the series after the given number of occurrences.
+   * Note: This clears any until date set before.
+   *
+   * @param count the number of occurrences
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setCount(int count) {
+    this.count = count;
+    this.untilDate = null;
+    return this;
+  }
+
+  /**
+   * Ends the series on the given date, inclusive.
+   * Note: This clears any count set before.
+   *
+   * @param untilDate the last date the series may occur on
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder setUntilDate(LocalDate untilDate) {
+    this.untilDate = untilDate;
+    this.count = 0;
+    return this;
+  }
+
+  /**
+   * Adds dates on which the series does not occur.
+   *
+   * @param dates the dates to skip
+   * @return this builder for method chaining
+   */
+  public RecurrenceRuleBuilder addExceptions(Collection<LocalDate> dates) {
+    this.exceptions.addAll(dates);
+    return this;
+  }
+
+  /**
+   * Constructs and returns the RecurrenceRule with all configured properties.
+   *
+   * @return a new RecurrenceRule
+   * @throws IllegalStateException if the first date, times or timezone are missing
+   */
+  public RecurrenceRule build() {
+    if (firstDate == null || startTime == null || endTime == null || timezone == null) {
+      throw new IllegalStateException("A recurrence rule needs a first date, times and zone");
+    }
+    return new RecurrenceRule(subject, seriesId, description, location, status, firstDate,
+        startTime, endTime, timezone, weekdayMask, count, untilDate,
+        Collections.unmodifiableSet(new HashSet<>(exceptions)));
+  }
+}
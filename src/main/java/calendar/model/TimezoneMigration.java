@@ -0,0 +1,147 @@
+package calendar.model;
+
+import calendar.util.ZoneOffsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Moves all events of a calendar to a new timezone, keeping their instants.
+ *
+ * <p>An event's start and end are stored as epoch seconds and a zone, so converting it is
+ * a matter of replacing the zone; the checks that its dates do not split and its weekday
+ * does not shift only need the UTC offsets of the old and new zone at its start and end,
+ * looked up in their {@link ZoneOffsets} tables, from which the local epoch day follows
+ * arithmetically. No date-time objects are built.</p>
+ *
+ * <p>The events are copied once into an array, which is split into ranges converted in
+ * parallel on the common {@link ForkJoinPool}. Each task writes its converted events into
+ * its own range of a single output array, so there is nothing to merge, and collects the
+ * validation failures of its range, which are concatenated in event order. The output
+ * array becomes the new event tree; since instants are unchanged it is already almost in
+ * tree order. Calendars smaller than one chunk are converted on the calling thread.</p>
+ */
+final class TimezoneMigration {
+
+  /**
+   * Number of events each task converts.
+   */
+  static final int CHUNK_SIZE = 4096;
+
+  private static final long SECONDS_PER_DAY = 86_400;
+
+  private final Event[] source;
+  private final Event[] converted;
+  private final ZoneId newZone;
+  private final ZoneOffsets newOffsets;
+
+  private TimezoneMigration(Event[] source, ZoneId newZone) {
+    this.source = source;
+    this.converted = new Event[source.length];
+    this.newZone = newZone;
+    this.newOffsets = ZoneOffsets.of(newZone);
+  }
+
+  /**
+   * Returns the given events moved to a new timezone. Series are expanded into their
+   * occurrences, as the occurrences of a rule are placed by local time.
+   *
+   * @param events the events of the calendar
+   * @param newZone the new timezone
+   * @return the converted events
+   * @throws Exception listing every event that would change its date, one per line
+   */
+  static CalendarEvents migrate(Set<Event> events, ZoneId newZone) throws Exception {
+    TimezoneMigration migration = new TimezoneMigration(events.toArray(new Event[0]), newZone);
+    Range all = migration.new Range(0, migration.source.length);
+    List<String> failures = migration.source.length <= CHUNK_SIZE
+        ? all.compute()
+        : ForkJoinPool.commonPool().invoke(all);
+    if (!failures.isEmpty()) {
+      throw new Exception(String.join(System.lineSeparator(),
+          new LinkedHashSet<>(failures)));
+    }
+    return new CalendarEvents(EventTree.sortInPlace(migration.converted), List.of());
+  }
+
+  /**
+   * Converts one event into {@code converted[i]}, or returns why it cannot be converted.
+   */
+  private String convert(int i) {
+    Event event = source[i];
+    ZoneId oldZone = event.startZone();
+    long start = event.startEpochSecond();
+    long newStartDay = localDay(newOffsets, start);
+    if (event.endZone() != null
+        && newStartDay != localDay(newOffsets, event.endEpochSecond())) {
+      return "Error: Start Date and End Date should not differ for a recurring event.";
+    }
+    if (oldZone != null) {
+      long oldStartDay = localDay(ZoneOffsets.of(oldZone), start);
+      if (oldStartDay != newStartDay) {
+        return "Error: Timezone change would cause event '" + event.getSubject()
+            + "' to shift from " + Weekdays.dayOfWeek(oldStartDay) + " to "
+            + Weekdays.dayOfWeek(newStartDay) + ".";
+      }
+    }
+    converted[i] = new Event(event.getSubject(),
+        start, event.startNano(), oldZone == null ? null : newZone,
+        event.endEpochSecond(), event.endNano(), event.endZone() == null ? null : newZone,
+        event.getSeriesId(), event.getDescription(), event.getLocation(), event.getStatus());
+    return null;
+  }
+
+  private static long localDay(ZoneOffsets offsets, long epochSecond) {
+    return Math.floorDiv(offsets.toLocalSecond(epochSecond), SECONDS_PER_DAY);
+  }
+
+  /**
+   * Converts a range of the events, splitting it while it is larger than one chunk.
+   */
+  private final class Range extends RecursiveTask<List<String>> {
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+
+    Range(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<String> compute() {
+      if (to - from > CHUNK_SIZE) {
+        int middle = (from + to) >>> 1;
+        Range left = new Range(from, middle);
+        left.fork();
+        List<String> right = new Range(middle, to).compute();
+        List<String> failures = left.join();
+        if (right.isEmpty()) {
+          return failures;
+        }
+        if (failures.isEmpty()) {
+          return right;
+        }
+        List<String> all = new ArrayList<>(failures);
+        all.addAll(right);
+        return all;
+      }
+      List<String> failures = List.of();
+      for (int i = from; i < to; i++) {
+        String failure = convert(i);
+        if (failure != null) {
+          if (failures.isEmpty()) {
+            failures = new ArrayList<>();
+          }
+          failures.add(failure);
+        }
+      }
+      return failures;
+    }
+  }
+}
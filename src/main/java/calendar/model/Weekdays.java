@@ -0,0 +1,214 @@
+package calendar.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * An immutable set of weekdays stored as a seven-bit mask, Monday being the lowest bit.
+ *
+ * <p>Besides membership, it answers the questions a weekly series asks of its calendar in
+ * closed form, with no day-by-day walking: the first matching day on or after a date, the
+ * number of matching days in a range, and the n-th matching day from a date. Days are
+ * epoch days as in {@link LocalDate#toEpochDay()}. Within any seven consecutive days the
+ * matching ones are the mask rotated to start at the weekday of the first day, so every
+ * answer is a number of whole weeks plus a bit operation on that rotated mask.</p>
+ *
+ * <p>There are only 128 distinct values; they are created once and shared, so
+ * {@link #ofMask(int)} never allocates.</p>
+ */
+public final class Weekdays {
+
+  private static final Weekdays[] VALUES = new Weekdays[128];
+
+  static {
+    for (int mask = 0; mask < VALUES.length; mask++) {
+      VALUES[mask] = new Weekdays(mask);
+    }
+  }
+
+  /**
+   * No weekdays.
+   */
+  public static final Weekdays NONE = VALUES[0];
+
+  /**
+   * Every day of the week.
+   */
+  public static final Weekdays ALL = VALUES[0x7f];
+
+  private final int mask;
+
+  private Weekdays(int mask) {
+    this.mask = mask;
+  }
+
+  /**
+   * Returns the weekdays of a mask of {@link #bitOf} bits. Bits above the seventh are
+   * ignored.
+   *
+   * @param mask the weekday mask
+   * @return the shared instance for the mask
+   */
+  public static Weekdays ofMask(int mask) {
+    return VALUES[mask & 0x7f];
+  }
+
+  /**
+   * Returns the given weekdays.
+   *
+   * @param days the weekdays
+   * @return the shared instance holding them
+   */
+  public static Weekdays of(Collection<DayOfWeek> days) {
+    int mask = 0;
+    for (DayOfWeek day : days) {
+      mask |= bitOf(day);
+    }
+    return VALUES[mask];
+  }
+
+  /**
+   * Returns the bit used for a weekday in a weekday mask.
+   *
+   * @param day the weekday
+   * @return the mask bit, Monday being the lowest
+   */
+  public static int bitOf(DayOfWeek day) {
+    return 1 << (day.getValue() - 1);
+  }
+
+  /**
+   * Returns the weekday of an epoch day without creating a date.
+   *
+   * @param epochDay the day
+   * @return its day of the week
+   */
+  public static DayOfWeek dayOfWeek(long epochDay) {
+    return DayOfWeek.of(indexOf(epochDay) + 1);
+  }
+
+  /**
+   * Returns the weekday of an epoch day, as the index of its mask bit.
+   */
+  private static int indexOf(long epochDay) {
+    return Math.floorMod(epochDay + 3, 7);
+  }
+
+  /**
+   * Returns the mask rotated so that bit 0 stands for the weekday of the given day.
+   */
+  private int rotatedTo(long epochDay) {
+    int shift = indexOf(epochDay);
+    return ((mask >>> shift) | (mask << (7 - shift))) & 0x7f;
+  }
+
+  public int mask() {
+    return mask;
+  }
+
+  /**
+   * Returns the number of weekdays in the set.
+   *
+   * @return a count between 0 and 7
+   */
+  public int size() {
+    return Integer.bitCount(mask);
+  }
+
+  public boolean isEmpty() {
+    return mask == 0;
+  }
+
+  /**
+   * Returns whether the set holds a weekday.
+   *
+   * @param day the weekday
+   * @return true if the weekday is in the set
+   */
+  public boolean contains(DayOfWeek day) {
+    return (mask & bitOf(day)) != 0;
+  }
+
+  /**
+   * Returns whether an epoch day falls on one of the weekdays.
+   *
+   * @param epochDay the day
+   * @return true if its weekday is in the set
+   */
+  public boolean matches(long epochDay) {
+    return (mask & (1 << indexOf(epochDay))) != 0;
+  }
+
+  /**
+   * Returns the first matching day on or after a day.
+   *
+   * @param epochDay the day to start from
+   * @return the matching epoch day, at most six days later
+   * @throws IllegalStateException if the set is empty
+   */
+  public long nextOnOrAfter(long epochDay) {
+    if (mask == 0) {
+      throw new IllegalStateException("No weekdays to match");
+    }
+    return epochDay + Integer.numberOfTrailingZeros(rotatedTo(epochDay));
+  }
+
+  /**
+   * Counts the matching days in {@code [fromDay, toDay)}.
+   *
+   * @param fromDay the first day of the range
+   * @param toDay the day after the range
+   * @return the number of matching days, or 0 if the range is empty
+   */
+  public long countBetween(long fromDay, long toDay) {
+    long days = toDay - fromDay;
+    if (days <= 0) {
+      return 0;
+    }
+    long partial = rotatedTo(fromDay) & ((1 << (days % 7)) - 1);
+    return days / 7 * size() + Integer.bitCount((int) partial);
+  }
+
+  /**
+   * Returns the n-th matching day on or after a day, counting from zero.
+   *
+   * @param fromDay the day to start from
+   * @param n the number of matching days to skip
+   * @return the matching epoch day
+   * @throws IllegalStateException if the set is empty
+   */
+  public long nth(long fromDay, long n) {
+    int perWeek = size();
+    if (perWeek == 0) {
+      throw new IllegalStateException("No weekdays to match");
+    }
+    int rotated = rotatedTo(fromDay);
+    for (long skip = n % perWeek; skip > 0; skip--) {
+      rotated &= rotated - 1;
+    }
+    return fromDay + n / perWeek * 7 + Integer.numberOfTrailingZeros(rotated);
+  }
+
+  /**
+   * Returns the weekdays as an enum set.
+   *
+   * @return a new modifiable set of the weekdays
+   */
+  public Set<DayOfWeek> toSet() {
+    Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+    for (DayOfWeek day : DayOfWeek.values()) {
+      if (contains(day)) {
+        days.add(day);
+      }
+    }
+    return days;
+  }
+
+  @Override
+  public String toString() {
+    return toSet().toString();
+  }
+}
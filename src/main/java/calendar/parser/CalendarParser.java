@@ -5,10 +5,6 @@ import calendar.dto.CalendarDto;
 import calendar.interfacetypes.Icommand;
 import calendar.interfacetypes.Iparser;
 import calendar.model.CalendarModel;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Parses all "calendar-level" commands (create, edit, use, copy).
@@ -17,32 +13,6 @@ import java.util.regex.Pattern;
  */
 public class CalendarParser implements Iparser {
 
-  private final Map<CalendarDto.CalendarCommandType, Pattern> patterns;
-
-  /**
-   * Constructs a CalendarParser and initializes the command patterns.
-   * Defines regex patterns for creating, editing, and selecting calendars.
-   */
-  public CalendarParser() {
-    this.patterns = new LinkedHashMap<>();
-
-    String name = "--name (?<name>\\\"[^\"]+\\\"|\\S+)";
-    String timezone = "--timezone (?<timezone>\\S+)";
-    String property = "--property (?<property>name|timezone) (?<value>\\S+)";
-
-    patterns.put(CalendarDto.CalendarCommandType.CREATE_CALENDAR,
-            Pattern.compile(String.format("^create calendar %s %s$", name, timezone),
-                    Pattern.CASE_INSENSITIVE));
-
-    patterns.put(CalendarDto.CalendarCommandType.EDIT_CALENDAR,
-            Pattern.compile(String.format("^edit calendar %s %s$", name, property),
-                    Pattern.CASE_INSENSITIVE));
-
-    patterns.put(CalendarDto.CalendarCommandType.USE_CALENDAR,
-            Pattern.compile(String.format("^use calendar %s$", name),
-                    Pattern.CASE_INSENSITIVE));
-  }
-
   /**
    * Checks if the parser can handle the given command string.
    *
@@ -61,7 +31,7 @@ public class CalendarParser implements Iparser {
 
   /**
    * Parses the user input into a specific CalendarCommand.
-   * Matches the input against pre-defined regex patterns to extract arguments.
+   * Reads the command once, choosing the calendar command by its first keyword.
    *
    * @param userInput the full command string entered by the user
    * @param service   the calendar model service acting as the receiver
@@ -70,14 +40,33 @@ public class CalendarParser implements Iparser {
    */
   @Override
   public Icommand parse(String userInput, CalendarModel service) throws Exception {
-    String trimmed = userInput.trim();
-    for (Map.Entry<CalendarDto.CalendarCommandType, Pattern> entry : patterns.entrySet()) {
-      Matcher matcher = entry.getValue().matcher(trimmed);
-      if (matcher.matches()) {
-        CalendarDto dto = new CalendarDto(entry.getKey(), matcher);
-        return new CalendarCommand(dto, service);
-      }
+    CalendarDto dto = read(new CommandScanner(userInput.trim()));
+    if (dto == null) {
+      throw new Exception("Invalid calendar command format: " + userInput);
+    }
+    return new CalendarCommand(dto, service);
+  }
+
+  /**
+   * Reads a calendar command, or returns null if the input is not a valid one.
+   */
+  private CalendarDto read(CommandScanner in) {
+    String action = in.oneOf("create", "edit", "use");
+    String name = action != null && in.keyword("calendar") && in.keyword("--name")
+        ? in.name() : null;
+    if (name == null) {
+      return null;
+    }
+    if (action.equalsIgnoreCase("create")) {
+      String timezone = in.keyword("--timezone") ? in.word() : null;
+      return timezone != null && in.atEnd() ? CalendarDto.createCalendar(name, timezone) : null;
+    }
+    if (action.equalsIgnoreCase("edit")) {
+      String property = in.keyword("--property") ? in.oneOf("name", "timezone") : null;
+      String value = property != null ? in.word() : null;
+      return value != null && in.atEnd() ? CalendarDto.editCalendar(name, property, value)
+          : null;
     }
-    throw new Exception("Invalid calendar command format: " + userInput);
+    return in.atEnd() ? CalendarDto.useCalendar(name) : null;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,250 @@
+package calendar.parser;
+
+/**
+ * Single-pass reader over a command line, used by the parsers in place of trying one regex
+ * after another.
+ *
+ * <p>Tokens are separated by exactly one space, as in the command grammar. Every reader
+ * except the first one on a line consumes that separating space, then the token itself.
+ * A reader that does not find what it expects returns null or false and leaves the
+ * position unchanged; none of them ever backtracks over text it has accepted, so a line
+ * is scanned once from left to right. Keywords, weekday letters and the date-time
+ * separator are matched ignoring case, like the patterns they replace.</p>
+ */
+final class CommandScanner {
+
+  private final String text;
+  private int pos;
+
+  CommandScanner(String text) {
+    this.text = text;
+  }
+
+  /**
+   * Checks whether the whole line has been read.
+   */
+  boolean atEnd() {
+    return pos == text.length();
+  }
+
+  /**
+   * Reads the given keyword, which must end at a space or the end of the line.
+   */
+  boolean keyword(String word) {
+    int start = separated();
+    if (start < 0 || !text.regionMatches(true, start, word, 0, word.length())
+        || !boundaryAt(start + word.length())) {
+      return false;
+    }
+    pos = start + word.length();
+    return true;
+  }
+
+  /**
+   * Reads the first of the given keywords found here and returns it as written in the line.
+   */
+  String oneOf(String... words) {
+    int start = pos;
+    for (String word : words) {
+      if (keyword(word)) {
+        return text.substring(pos - word.length(), pos);
+      }
+    }
+    pos = start;
+    return null;
+  }
+
+  /**
+   * Reads a run of non-whitespace characters.
+   */
+  String word() {
+    int start = separated();
+    if (start < 0) {
+      return null;
+    }
+    int end = start;
+    while (end < text.length() && !isWhitespace(text.charAt(end))) {
+      end++;
+    }
+    return end == start ? null : take(start, end);
+  }
+
+  /**
+   * Reads an event subject: either text in double quotes, closed by the first quote that is
+   * followed by a space and the given keyword, or a single word. The quotes are kept; see
+   * {@link #unquote(String)}.
+   */
+  String subject(String... followers) {
+    int start = separated();
+    if (start < 0) {
+      return null;
+    }
+    if (start < text.length() && text.charAt(start) == '"') {
+      for (int close = text.indexOf('"', start + 1); close >= 0;
+           close = text.indexOf('"', close + 1)) {
+        for (String follower : followers) {
+          if (followedBy(close + 1, follower)) {
+            return take(start, close + 1);
+          }
+        }
+      }
+    }
+    return word();
+  }
+
+  /**
+   * Reads a calendar name: either non-empty text in double quotes without inner quotes, or a
+   * single word. The quotes are kept.
+   */
+  String name() {
+    int start = separated();
+    if (start < 0) {
+      return null;
+    }
+    if (start < text.length() && text.charAt(start) == '"') {
+      int close = text.indexOf('"', start + 1);
+      if (close > start + 1 && boundaryAt(close + 1)) {
+        return take(start, close + 1);
+      }
+    }
+    return word();
+  }
+
+  /**
+   * Reads a date written as yyyy-MM-dd.
+   */
+  String date() {
+    int start = separated();
+    if (start < 0 || !isDate(start)) {
+      return null;
+    }
+    return take(start, start + 10);
+  }
+
+  /**
+   * Reads a date-time written as yyyy-MM-ddTHH:mm.
+   */
+  String dateTime() {
+    int start = separated();
+    if (start < 0 || !isDate(start) || start + 16 > text.length()
+        || Character.toUpperCase(text.charAt(start + 10)) != 'T'
+        || !digits(start + 11, 2) || text.charAt(start + 13) != ':'
+        || !digits(start + 14, 2)) {
+      return null;
+    }
+    return take(start, start + 16);
+  }
+
+  /**
+   * Reads one or more weekday letters from "MTWRFSU".
+   */
+  String weekdays() {
+    int start = separated();
+    if (start < 0) {
+      return null;
+    }
+    int end = start;
+    while (end < text.length() && "MTWRFSU".indexOf(
+        Character.toUpperCase(text.charAt(end))) >= 0) {
+      end++;
+    }
+    return end == start ? null : take(start, end);
+  }
+
+  /**
+   * Reads one or more decimal digits.
+   */
+  String number() {
+    int start = separated();
+    if (start < 0) {
+      return null;
+    }
+    int end = start;
+    while (end < text.length() && isDigit(text.charAt(end))) {
+      end++;
+    }
+    return end == start ? null : take(start, end);
+  }
+
+  /**
+   * Reads everything up to the end of the line, which must not be empty.
+   */
+  String rest() {
+    int start = separated();
+    if (start < 0 || start == text.length()) {
+      return null;
+    }
+    for (int i = start; i < text.length(); i++) {
+      if (isLineTerminator(text.charAt(i))) {
+        return null;
+      }
+    }
+    return take(start, text.length());
+  }
+
+  /**
+   * Removes the double quotes around a token read by {@link #subject}, if it has them.
+   */
+  static String unquote(String token) {
+    if (token != null && token.length() >= 2 && token.startsWith("\"")
+        && token.endsWith("\"")) {
+      return token.substring(1, token.length() - 1);
+    }
+    return token;
+  }
+
+  /**
+   * Returns where the next token starts, after the separating space, or -1 if the space is
+   * missing.
+   */
+  private int separated() {
+    if (pos == 0) {
+      return 0;
+    }
+    return pos < text.length() && text.charAt(pos) == ' ' ? pos + 1 : -1;
+  }
+
+  private String take(int start, int end) {
+    pos = end;
+    return text.substring(start, end);
+  }
+
+  private boolean followedBy(int index, String word) {
+    return index < text.length() && text.charAt(index) == ' '
+        && text.regionMatches(true, index + 1, word, 0, word.length())
+        && boundaryAt(index + 1 + word.length());
+  }
+
+  private boolean boundaryAt(int index) {
+    return index == text.length() || (index < text.length() && text.charAt(index) == ' ');
+  }
+
+  private boolean isDate(int start) {
+    return start + 10 <= text.length() && digits(start, 4) && text.charAt(start + 4) == '-'
+        && digits(start + 5, 2) && text.charAt(start + 7) == '-' && digits(start + 8, 2);
+  }
+
+  private boolean digits(int start, int count) {
+    if (start + count > text.length()) {
+      return false;
+    }
+    for (int i = start; i < start + count; i++) {
+      if (!isDigit(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
@@ -5,59 +5,16 @@ import calendar.dto.CopyEventDto;
 import calendar.interfacetypes.Icommand;
 import calendar.interfacetypes.Iparser;
 import calendar.model.CalendarModel;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Parser implementation for handling event copying commands.
- * Identifies and parses commands to copy events between calendars.
+ * Identifies and parses commands to copy events between calendars. Repeating the
+ * {@code --target} option copies the same events into several calendars.
  */
 public class CopyEventParser implements Iparser {
 
-  private final Map<CopyEventDto.CopyType, Pattern> patterns;
-
-  /**
-   * Constructs a CopyEventParser and initializes the regex patterns.
-   * Defines patterns for single event copy, date-based copy, and interval-based copy.
-   */
-  public CopyEventParser() {
-    this.patterns = new LinkedHashMap<>();
-
-    String eventName = "(?<eventName>\\\"(.*?)\\\"|\\S+)";
-    String dateTime = "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}";
-    String date = "\\d{4}-\\d{2}-\\d{2}";
-    String targetCalendar = "(?<targetCalendar>\\S+)";
-
-    patterns.put(CopyEventDto.CopyType.COPY_SINGLE_EVENT,
-            Pattern.compile(
-                    String.format("^copy event %s on (?<sourceStartDateTime>%s) "
-                                    + "--target %s to (?<targetStartDateTime>%s)$",
-                            eventName, dateTime, targetCalendar, dateTime),
-                    Pattern.CASE_INSENSITIVE
-            ));
-
-    patterns.put(CopyEventDto.CopyType.COPY_EVENTS_ON_DATE,
-            Pattern.compile(
-                    String.format("^copy events on (?<sourceDate>%s) --target"
-                                    +
-                                    " %s to (?<targetDate>%s)$",
-                            date, targetCalendar, date),
-                    Pattern.CASE_INSENSITIVE
-            ));
-
-    patterns.put(CopyEventDto.CopyType.COPY_EVENTS_BETWEEN_DATES,
-            Pattern.compile(
-                    String.format("^copy events between (?<intervalStartDate>%s) and "
-                                    + "(?<intervalEndDate>%s) --target %s "
-                                    +
-                                    "to (?<targetStartDate>%s)$",
-                            date, date, targetCalendar, date),
-                    Pattern.CASE_INSENSITIVE
-            ));
-  }
-
   /**
    * Checks if the parser can handle the given command string.
    *
@@ -75,7 +32,7 @@ public class CopyEventParser implements Iparser {
 
   /**
    * Parses the user input into a CopyEventCommand.
-   * Matches the input against known copy patterns to extract arguments.
+   * Reads the command once, choosing the kind of copy by the keywords after "copy".
    *
    * @param userInput the full command string entered by the user
    * @param service   the calendar model service acting as the receiver
@@ -84,14 +41,64 @@ public class CopyEventParser implements Iparser {
    */
   @Override
   public Icommand parse(String userInput, CalendarModel service) throws Exception {
-    String trimmed = userInput.trim();
-    for (Map.Entry<CopyEventDto.CopyType, Pattern> entry : patterns.entrySet()) {
-      Matcher matcher = entry.getValue().matcher(trimmed);
-      if (matcher.matches()) {
-        CopyEventDto dto = new CopyEventDto(entry.getKey(), matcher);
-        return new CopyEventCommand(dto, service);
+    CopyEventDto dto = read(new CommandScanner(userInput.trim()));
+    if (dto == null) {
+      throw new Exception("Invalid copy command format: " + userInput);
+    }
+    return new CopyEventCommand(dto, service);
+  }
+
+  /**
+   * Reads a copy command, or returns null if the input is not a valid one.
+   */
+  private CopyEventDto read(CommandScanner in) {
+    String scope = in.keyword("copy") ? in.oneOf("events", "event") : null;
+    if (scope == null) {
+      return null;
+    }
+    if (scope.equalsIgnoreCase("event")) {
+      String eventName = CommandScanner.unquote(in.subject("on"));
+      String source = eventName != null && in.keyword("on") ? in.dateTime() : null;
+      List<String> targets = source != null ? readTargets(in) : null;
+      String targetStart = targets != null ? in.dateTime() : null;
+      return targetStart != null && in.atEnd() ? withTargets(
+          CopyEventDto.copySingleEvent(eventName, source, targets.get(0), targetStart),
+          targets) : null;
+    }
+    if (in.keyword("on")) {
+      String sourceDate = in.date();
+      List<String> targets = sourceDate != null ? readTargets(in) : null;
+      String targetDate = targets != null ? in.date() : null;
+      return targetDate != null && in.atEnd() ? withTargets(
+          CopyEventDto.copyEventsOnDate(sourceDate, targets.get(0), targetDate), targets)
+          : null;
+    }
+    String first = in.keyword("between") ? in.date() : null;
+    String last = first != null && in.keyword("and") ? in.date() : null;
+    List<String> targets = last != null ? readTargets(in) : null;
+    String targetStart = targets != null ? in.date() : null;
+    return targetStart != null && in.atEnd() ? withTargets(
+        CopyEventDto.copyEventsBetweenDates(first, last, targets.get(0), targetStart), targets)
+        : null;
+  }
+
+  /**
+   * Reads one or more "--target calendar" options followed by "to" and returns the
+   * calendars in order, or null.
+   */
+  private List<String> readTargets(CommandScanner in) {
+    List<String> targets = new ArrayList<>();
+    while (in.keyword("--target")) {
+      String target = in.word();
+      if (target == null) {
+        return null;
       }
+      targets.add(target);
     }
-    throw new Exception("Invalid copy command format: " + userInput);
+    return !targets.isEmpty() && in.keyword("to") ? targets : null;
+  }
+
+  private static CopyEventDto withTargets(CopyEventDto dto, List<String> targets) {
+    return targets.size() == 1 ? dto : dto.withTargetCalendarNames(targets);
   }
-}
\ No newline at end of file
+}
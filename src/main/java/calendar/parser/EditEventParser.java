@@ -5,61 +5,19 @@ import calendar.dto.EditEventDto;
 import calendar.interfacetypes.Icommand;
 import calendar.interfacetypes.Iparser;
 import calendar.model.CalendarModel;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Parser implementation for handling event editing commands.
- * This class uses regex patterns to parse user input for editing existing events
- * with three different scopes: editing a single event occurrence, editing the target
- * and all forward occurrences, or editing the entire event series. The parser validates
- * command syntax and extracts parameters including the property to modify, target event
- * identification, and the new value.
+ * This class scans user input for editing existing events with three different scopes:
+ * editing a single event occurrence, editing the target and all forward occurrences, or
+ * editing the entire event series. The parser validates command syntax and extracts
+ * parameters including the property to modify, target event identification, and the new
+ * value.
  */
 public class EditEventParser implements Iparser {
 
-  private final Map<EditEventDto.EditType, Pattern> patterns;
-
-
-  /**
-   * Creates an EditEventParser with the specified set of events.
-   * Initializes regex patterns for all supported edit command formats:
-   * "edit series" for editing entire series, "edit events" for editing forward occurrences,
-   * and "edit event" for editing single occurrences. The patterns are stored in a LinkedHashMap
-   * to ensure they are checked in order from most specific to least specific.
-   */
-  public EditEventParser() {
-    this.patterns = new LinkedHashMap<>();
-
-    String property = "(?<property>subject|start|end|description|location|status)";
-    String subject = "(?<subject>\\\"(.*?)\\\"|\\S+)";
-    String fromTo = "from (?<start>\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}) to "
-        +
-        "(?<end>\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2})";
-    String from = "from (?<start>\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2})";
-    String with = "with (?<newvalue>.+)";
-
-    patterns.put(EditEventDto.EditType.EDIT_SERIES,
-        Pattern.compile(
-            String.format("^edit series %s %s %s %s$", property, subject, from, with),
-            Pattern.CASE_INSENSITIVE
-        ));
-
-    patterns.put(EditEventDto.EditType.EDIT_FORWARD,
-        Pattern.compile(
-            String.format("^edit events %s %s %s %s$", property, subject, from, with),
-            Pattern.CASE_INSENSITIVE
-        ));
-
-    patterns.put(EditEventDto.EditType.EDIT_SINGLE,
-        Pattern.compile(
-            String.format("^edit event %s %s %s %s$", property, subject, fromTo, with),
-            Pattern.CASE_INSENSITIVE
-        ));
-  }
-
   @Override
   public boolean canHandle(String commandString) {
     if (commandString == null) {
@@ -73,14 +31,41 @@ public class EditEventParser implements Iparser {
 
   @Override
   public Icommand parse(String userInput, CalendarModel service) throws Exception {
-    String trimmed = userInput.trim();
-    for (Map.Entry<EditEventDto.EditType, Pattern> entry : patterns.entrySet()) {
-      Matcher matcher = entry.getValue().matcher(trimmed);
-      if (matcher.matches()) {
-        EditEventDto dto = new EditEventDto(entry.getKey(), matcher);
-        return new EditEventCommand(dto, service);
-      }
+    EditEventDto dto = read(new CommandScanner(userInput.trim()));
+    if (dto == null) {
+      throw new Exception("Invalid edit command format: " + userInput);
+    }
+    return new EditEventCommand(dto, service);
+  }
+
+  /**
+   * Reads "edit (series | events | event) property subject from start [to end] with value",
+   * where only a single event names its end, or returns null if the input does not match.
+   */
+  private EditEventDto read(CommandScanner in) {
+    String scope = in.keyword("edit") ? in.oneOf("series", "events", "event") : null;
+    String property = scope != null
+        ? in.oneOf("subject", "start", "end", "description", "location", "status") : null;
+    String subject = property != null ? CommandScanner.unquote(in.subject("from")) : null;
+    String start = subject != null && in.keyword("from") ? in.dateTime() : null;
+    if (start == null) {
+      return null;
+    }
+    boolean single = scope.equalsIgnoreCase("event");
+    String end = single && in.keyword("to") ? in.dateTime() : null;
+    if (single && end == null) {
+      return null;
+    }
+    String value = in.keyword("with") ? CommandScanner.unquote(in.rest()) : null;
+    if (value == null) {
+      return null;
+    }
+    Map<String, String> change = Collections.singletonMap(property, value);
+    if (single) {
+      return EditEventDto.editSingle(subject, start, end, change);
     }
-    throw new Exception("Invalid edit command format: " + userInput);
+    return scope.equalsIgnoreCase("series")
+        ? EditEventDto.editSeries(subject, start, change)
+        : EditEventDto.editForward(subject, start, change);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package calendar.parser;
+
+import calendar.command.ImportEventCommand;
+import calendar.dto.ImportEventDto;
+import calendar.interfacetypes.Icommand;
+import calendar.interfacetypes.Iparser;
+import calendar.model.CalendarModel;
+
+/**
+ * Parser implementation for handling event import commands.
+ * This class scans user input for importing calendar events from a CSV or iCalendar file
+ * into the active calendar, and creates an ImportEventCommand ready for execution.
+ */
+public class ImportEventParser implements Iparser {
+
+  @Override
+  public boolean canHandle(String input) {
+    return filenameOf(input) != null;
+  }
+
+  @Override
+  public Icommand parse(String command, CalendarModel service) throws Exception {
+    String filename = filenameOf(command.trim());
+    if (filename == null) {
+      throw new Exception("Error: Invalid import command.");
+    }
+    return new ImportEventCommand(new ImportEventDto(filename), service);
+  }
+
+  /**
+   * Reads "import cal filename", where the filename contains no whitespace, and returns the
+   * filename, or null if the input is not in that format.
+   */
+  private String filenameOf(String input) {
+    CommandScanner in = new CommandScanner(input);
+    String filename = in.keyword("import") && in.keyword("cal") ? in.word() : null;
+    return filename != null && in.atEnd() ? filename : null;
+  }
+}
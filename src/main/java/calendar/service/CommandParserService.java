@@ -8,37 +8,47 @@ import calendar.parser.CopyEventParser;
 import calendar.parser.CreateEventParser;
 import calendar.parser.EditEventParser;
 import calendar.parser.ExportEventParser;
+import calendar.parser.ImportEventParser;
 import calendar.parser.QueryEventParser;
-import java.util.ArrayList;
-import java.util.List;
 
 
 /**
  * Service for parsing command strings into executable command objects.
  * Maintains a collection of parser implementations and delegates parsing to the appropriate parser
  * based on the command string. Supports calendar operations, event creation, queries, edits,
- * exports, and copy operations.
+ * exports, imports, and copy operations.
+ *
+ * <p>The parser for a command is found from its leading keywords with a keyword trie, in a
+ * single pass over them, instead of asking every parser in turn.</p>
  */
 public class CommandParserService {
-  private final List<Iparser> parsers;
+  private final KeywordTrie<Iparser> parsers;
 
   /**
   * Constructs a new CommandParserService with all available parsers.
-  * Initializes parsers for calendar, create, query, edit, export, and copy commands.
+  * Initializes parsers for calendar, create, query, edit, export, import, and copy commands.
   */
   public CommandParserService() {
-    this.parsers = new ArrayList<>();
-    this.parsers.add(new CalendarParser());
-    this.parsers.add(new CreateEventParser());
-    this.parsers.add(new QueryEventParser());
-    this.parsers.add(new EditEventParser());
-    this.parsers.add(new ExportEventParser());
-    this.parsers.add(new CopyEventParser());
+    this.parsers = new KeywordTrie<>();
+    Iparser calendarParser = new CalendarParser();
+    Iparser editParser = new EditEventParser();
+    Iparser queryParser = new QueryEventParser();
+    this.parsers.put("create calendar", calendarParser);
+    this.parsers.put("edit calendar", calendarParser);
+    this.parsers.put("use calendar", calendarParser);
+    this.parsers.put("create event", new CreateEventParser());
+    this.parsers.put("print events", queryParser);
+    this.parsers.put("show status", queryParser);
+    this.parsers.put("edit event", editParser);
+    this.parsers.put("edit series", editParser);
+    this.parsers.put("export cal ", new ExportEventParser());
+    this.parsers.put("import cal ", new ImportEventParser());
+    this.parsers.put("copy event", new CopyEventParser());
   }
 
   /**
    * Parses a command string and returns the appropriate command object.
-   * Iterates through available parsers until one can handle the command.
+   * Looks up the parser registered for the longest keyword prefix of the command.
    *
    * @param command the command string to parse
    * @param service the calendar service to inject into commands
@@ -46,11 +56,10 @@ public class CommandParserService {
    * @throws Exception if the command is unknown or invalid
    */
   public Icommand parse(String command, CalendarModel service) throws Exception {
-    for (Iparser parser : parsers) {
-      if (parser.canHandle(command)) {
-        return parser.parse(command, service);
-      }
+    Iparser parser = parsers.longestPrefix(command);
+    if (parser == null) {
+      throw new Exception("Error: Unknown command.");
     }
-    throw new Exception("Error: Unknown command.");
+    return parser.parse(command, service);
   }
-}
\ No newline at end of file
+}
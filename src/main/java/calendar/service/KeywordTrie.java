@@ -0,0 +1,90 @@
+package calendar.service;
+
+/**
+ * Maps command prefixes such as "create event" to values, matching ASCII letters without
+ * regard to case.
+ *
+ * <p>{@link #longestPrefix(String)} walks the command one character at a time from its
+ * first non-blank character and returns the value of the longest registered prefix it
+ * passed, so finding the parser for a command reads only its first few words, once, and
+ * allocates nothing.</p>
+ *
+ * @param <T> the type of the values
+ */
+final class KeywordTrie<T> {
+
+  private static final int ALPHABET = 128;
+
+  private final Node<T> root = new Node<>();
+
+  /**
+   * Registers a value for a prefix, replacing any value registered for it before.
+   *
+   * @param prefix the prefix, in ASCII
+   * @param value the value
+   */
+  void put(String prefix, T value) {
+    Node<T> node = root;
+    for (int i = 0; i < prefix.length(); i++) {
+      int c = fold(prefix.charAt(i));
+      if (c < 0) {
+        throw new IllegalArgumentException("Prefix must be ASCII: " + prefix);
+      }
+      if (node.children == null) {
+        node.children = newChildren();
+      }
+      if (node.children[c] == null) {
+        node.children[c] = new Node<>();
+      }
+      node = node.children[c];
+    }
+    node.value = value;
+  }
+
+  /**
+   * Returns the value of the longest registered prefix of the command, ignoring leading
+   * blanks.
+   *
+   * @param command the command
+   * @return the value, or null if no registered prefix starts the command
+   */
+  T longestPrefix(String command) {
+    int i = 0;
+    while (i < command.length() && command.charAt(i) <= ' ') {
+      i++;
+    }
+    T found = root.value;
+    Node<T> node = root;
+    for (; i < command.length() && node.children != null; i++) {
+      int c = fold(command.charAt(i));
+      node = c < 0 ? null : node.children[c];
+      if (node == null) {
+        break;
+      }
+      if (node.value != null) {
+        found = node.value;
+      }
+    }
+    return found;
+  }
+
+  private static int fold(char c) {
+    if (c >= ALPHABET) {
+      return -1;
+    }
+    return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Node<T>[] newChildren() {
+    return (Node<T>[]) new Node<?>[ALPHABET];
+  }
+
+  /**
+   * One character of a registered prefix.
+   */
+  private static final class Node<T> {
+    private Node<T>[] children;
+    private T value;
+  }
+}
@@ -35,11 +35,10 @@ public abstract class AbstractEditSeries implements Iedit {
   @Override
   public void edit(EditEventDto dto, Set<Event> events, ZoneId timezone) throws Exception {
     ZonedDateTime targetStart = parseDateTime(dto.getTargetStartDateTime(), timezone);
-    Set<Event> originalEvents = new HashSet<>(events);
     List<Event> matchingEvents = EventFinder.findBySubjectAndStart(
         dto.getTargetSubject(),
         targetStart,
-        originalEvents
+        events
     );
     if (matchingEvents.isEmpty()) {
       throw new Exception("Event not found with subject '"
@@ -378,13 +377,10 @@ public abstract class AbstractEditSeries implements Iedit {
               + " to " + adjustedEnd.toLocalDate());
         }
         Event newEvent = new EventBuilder()
-            .setSubject(oldEvent.getSubject())
+            .setDetailsOf(oldEvent)
             .setStartDateTime(adjustedStart)
             .setEndDateTime(adjustedEnd)
             .setSeriesId(newSeriesId)
-            .setDescription(oldEvent.getDescription())
-            .setLocation(oldEvent.getLocation())
-            .setStatus(oldEvent.getStatus())
             .build();
         validateNoDuplicate(newEvent, allEvents, eventsToCommit, eventsToRemove);
         eventsToCommit.add(newEvent);
@@ -0,0 +1,212 @@
+package calendar.strategy;
+
+import static calendar.constants.ExportConstants.EXPORT_BUFFER_SIZE;
+import static calendar.constants.ExportConstants.EXPORT_CHUNK_SIZE;
+
+import calendar.interfacetypes.Iexport;
+import calendar.model.Event;
+import calendar.util.TextBuffer;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Abstract template for export strategies that write one text record per event.
+ * Records are formatted into a reusable {@link TextBuffer}, which is handed to the file
+ * channel whenever it holds {@code EXPORT_BUFFER_SIZE} characters, so the file starts
+ * filling before the last event is formatted and memory use does not grow with the size
+ * of the calendar. Subclasses only define the header, the per-event record and the footer
+ * of their format, appending fields to the buffer without intermediate strings.
+ *
+ * <p>In parallel mode, events are taken in iteration order in chunks of
+ * {@code EXPORT_CHUNK_SIZE}. A batch of chunks, two per worker of the common
+ * {@link ForkJoinPool}, is formatted concurrently into one byte buffer per chunk, and the
+ * buffers are then written in order with a single gathering write before the next batch
+ * is taken. The file is byte-identical to a serial export of the same collection, and
+ * memory stays bounded by the batch size.</p>
+ *
+ * <p>Exporters keep no state between or during exports, so one instance may serve any
+ * number of exports at the same time.</p>
+ */
+public abstract class AbstractStreamingExporter implements Iexport {
+
+  private final boolean parallel;
+
+  /**
+   * Creates an exporter that formats events on the calling thread.
+   */
+  protected AbstractStreamingExporter() {
+    this(false);
+  }
+
+  /**
+   * Creates an exporter.
+   *
+   * @param parallel whether calendars larger than one chunk are formatted in parallel
+   */
+  protected AbstractStreamingExporter(boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  /**
+   * This is the "Template Method." It opens the file and streams the events into it.
+   */
+  @Override
+  public String export(Collection<Event> events, String fileName) throws IOException {
+    Path filePath = Paths.get(fileName);
+    try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      if (parallel && events.size() > EXPORT_CHUNK_SIZE) {
+        writeParallel(events, channel);
+      } else {
+        try (Writer out = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(),
+            EXPORT_BUFFER_SIZE)) {
+          write(events, out);
+        }
+      }
+    }
+    return filePath.toAbsolutePath().toString();
+  }
+
+  /**
+   * Writes the events in this exporter's format to the given writer, without flushing or
+   * closing it.
+   *
+   * @param events the events to write
+   * @param out the writer to write to
+   * @throws IOException if the writer fails
+   */
+  public void write(Collection<Event> events, Writer out) throws IOException {
+    long exportSecond = Instant.now().getEpochSecond();
+    TextBuffer buffer = new TextBuffer(EXPORT_BUFFER_SIZE + EXPORT_BUFFER_SIZE / 4);
+    writeHeader(buffer);
+    for (Event event : events) {
+      writeEvent(event, exportSecond, buffer);
+      if (buffer.length() >= EXPORT_BUFFER_SIZE) {
+        buffer.writeTo(out);
+      }
+    }
+    writeFooter(buffer);
+    buffer.writeTo(out);
+  }
+
+  /**
+   * Appends what comes before the first event.
+   *
+   * @param out the buffer to append to
+   */
+  protected abstract void writeHeader(TextBuffer out);
+
+  /**
+   * Appends the record of a single event. In parallel mode this is called from several
+   * threads at once, each with its own buffer, so it must not change the exporter's state.
+   *
+   * @param event the event to write
+   * @param exportSecond when the export started, in epoch seconds, the same for every
+   *                     record of one export
+   * @param out the buffer to append to
+   */
+  protected abstract void writeEvent(Event event, long exportSecond, TextBuffer out);
+
+  /**
+   * Appends what comes after the last event. Nothing by default.
+   *
+   * @param out the buffer to append to
+   */
+  protected void writeFooter(TextBuffer out) {
+  }
+
+  private void writeParallel(Collection<Event> events, FileChannel channel)
+      throws IOException {
+    long exportSecond = Instant.now().getEpochSecond();
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+    int batchSize = 2 * Math.max(1, pool.getParallelism());
+    List<ByteBuffer> buffers = new ArrayList<>(batchSize + 1);
+    TextBuffer text = new TextBuffer(EXPORT_BUFFER_SIZE);
+    writeHeader(text);
+    buffers.add(text.encode());
+
+    Iterator<Event> iterator = events.iterator();
+    while (iterator.hasNext()) {
+      List<Callable<ByteBuffer>> tasks = new ArrayList<>(batchSize);
+      while (tasks.size() < batchSize && iterator.hasNext()) {
+        List<Event> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        while (chunk.size() < EXPORT_CHUNK_SIZE && iterator.hasNext()) {
+          chunk.add(iterator.next());
+        }
+        tasks.add(() -> formatChunk(chunk, exportSecond));
+      }
+      for (Future<ByteBuffer> result : pool.invokeAll(tasks)) {
+        buffers.add(join(result));
+      }
+      writeFully(channel, buffers);
+    }
+
+    writeFooter(text);
+    buffers.add(text.encode());
+    writeFully(channel, buffers);
+  }
+
+  private ByteBuffer formatChunk(List<Event> chunk, long exportSecond) {
+    TextBuffer out = new TextBuffer(chunk.size() * 128);
+    for (Event event : chunk) {
+      writeEvent(event, exportSecond, out);
+    }
+    try {
+      return out.encode();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static ByteBuffer join(Future<ByteBuffer> result) throws IOException {
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Export was interrupted.");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  /**
+   * Writes the buffers in order with gathering writes and clears the list.
+   */
+  private static void writeFully(FileChannel channel, List<ByteBuffer> buffers)
+      throws IOException {
+    ByteBuffer[] pending = buffers.toArray(new ByteBuffer[0]);
+    int first = 0;
+    while (first < pending.length) {
+      channel.write(pending, first, pending.length - first);
+      while (first < pending.length && !pending[first].hasRemaining()) {
+        first++;
+      }
+    }
+    buffers.clear();
+  }
+}
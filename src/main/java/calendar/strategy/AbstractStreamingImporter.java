@@ -0,0 +1,70 @@
+package calendar.strategy;
+
+import calendar.interfacetypes.Iimport;
+import calendar.model.CalendarModelBuilder;
+import calendar.model.Event;
+import calendar.model.RecurrenceRule;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Abstract template for import strategies. The file is read line by line through a
+ * bounded buffer, so only the events themselves are held in memory, never the file text.
+ * Subclasses parse their format and report single events and recurring series; the
+ * template then builds them into one event set in a single bulk operation, sorting the
+ * single events once instead of inserting them one at a time. Each event is kept once:
+ * occurrences of a series that an earlier series already holds become exceptions, and
+ * single events that a series already holds are dropped.
+ */
+public abstract class AbstractStreamingImporter implements Iimport {
+
+  /**
+   * Start time given to imported all-day events, matching events created as all-day.
+   */
+  protected static final LocalTime ALL_DAY_START = LocalTime.of(8, 0);
+
+  /**
+   * End time given to imported all-day events, matching events created as all-day.
+   */
+  protected static final LocalTime ALL_DAY_END = LocalTime.of(17, 0);
+
+  /**
+   * This is the "Template Method." It streams the file through the parser and bulk-builds
+   * the parsed events.
+   */
+  @Override
+  public Set<Event> importEvents(String fileName, ZoneId timezone) throws IOException {
+    List<Event> events = new ArrayList<>();
+    List<RecurrenceRule> series = new ArrayList<>();
+    try (BufferedReader in = Files.newBufferedReader(Paths.get(fileName),
+        StandardCharsets.UTF_8)) {
+      read(in, timezone, events, series);
+    }
+    CalendarModelBuilder builder = new CalendarModelBuilder().setTimeZone(timezone);
+    for (RecurrenceRule rule : series) {
+      builder.addNewEvents(rule);
+    }
+    return builder.addNewEvents(events).build().getEventsView();
+  }
+
+  /**
+   * Parses the file, adding each single event and each recurring series to the lists as
+   * soon as it has been read.
+   *
+   * @param in the reader over the file
+   * @param timezone the timezone to convert events to
+   * @param events the list to add single events to
+   * @param series the list to add recurring series to
+   * @throws IOException if the file cannot be read or is not in the expected format
+   */
+  protected abstract void read(BufferedReader in, ZoneId timezone, List<Event> events,
+                               List<RecurrenceRule> series) throws IOException;
+}
@@ -0,0 +1,124 @@
+package calendar.strategy;
+
+import static calendar.util.EditEvent.validateNoDuplicate;
+
+import calendar.model.Calendar;
+import calendar.model.EditableEventSet;
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import calendar.util.EpochDates;
+import calendar.util.ZoneOffsets;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Copies a selection of events into another calendar, shifted by a whole number of days.
+ *
+ * <p>The work is split into a part that depends only on the selection and a part that
+ * depends on the target. Creating the engine shifts every selected event in one pass over
+ * primitive arrays: each start moves by the given number of local days in the event's own
+ * zone, keeping its offset across a daylight-saving overlap as
+ * {@link java.time.ZonedDateTime#plusDays} does, and each end keeps its distance from the
+ * start. Offsets come from the zones' {@link ZoneOffsets} tables, so no date-time objects
+ * are created.</p>
+ *
+ * <p>{@link #copyInto(Calendar)} then builds the copies in the target's zone, validates
+ * them and merges them into the target's events. Duplicates are looked up in the target's
+ * own event set, which answers from its tree in O(log M) without copying it, and among the
+ * copies in a hash set; the first problem found in start order is reported, as before. The
+ * merged set is layered over the target's persistent tree and becomes the target's next
+ * version, which the caller saves once. Because the first part is kept, one selection can
+ * be copied into several targets.</p>
+ */
+public final class BulkCopyEngine {
+
+  private final Event[] events;
+  private final long[] newStarts;
+  private final long[] newEnds;
+
+  /**
+   * Shifts the selected events by a number of days.
+   *
+   * @param selected the events to copy, in the order problems should be reported
+   * @param daysBetween the number of local days to move each event by
+   */
+  public BulkCopyEngine(List<Event> selected, long daysBetween) {
+    this.events = selected.toArray(new Event[0]);
+    this.newStarts = new long[events.length];
+    this.newEnds = new long[events.length];
+    long shift = daysBetween * EpochDates.SECONDS_PER_DAY;
+    ZoneId zone = null;
+    ZoneOffsets offsets = null;
+    for (int i = 0; i < events.length; i++) {
+      Event event = events[i];
+      if (event.startZone() != zone) {
+        zone = event.startZone();
+        offsets = ZoneOffsets.of(zone);
+      }
+      long start = event.startEpochSecond();
+      int offset = offsets.offsetAt(start);
+      newStarts[i] = offsets.toEpochSecond(start + offset + shift, offset);
+      newEnds[i] = newStarts[i] + (event.endEpochSecond() - start);
+    }
+  }
+
+  /**
+   * Returns the number of events being copied.
+   *
+   * @return the size of the selection
+   */
+  public int size() {
+    return events.length;
+  }
+
+  /**
+   * Returns the target's events with the copies added. Copies take the target calendar's
+   * timezone; each copied series gets a new series id, shared by its copied events.
+   *
+   * @param targetCalendar the calendar to copy into
+   * @return the updated set of events for the target calendar
+   * @throws Exception if a copied series event would span two dates in the target
+   *         timezone, or if a copy already exists in the target or twice among the copies
+   */
+  public Set<Event> copyInto(Calendar targetCalendar) throws Exception {
+    Set<Event> targetEvents = targetCalendar.getEventsView();
+    ZoneId targetZone = targetCalendar.getTimezone();
+    ZoneOffsets targetOffsets = ZoneOffsets.of(targetZone);
+    Set<Event> newEvents = new HashSet<>(events.length * 2);
+    Set<Event> eventsToRemove = Set.of();
+    Map<String, String> seriesIdMapping = new HashMap<>();
+    for (int i = 0; i < events.length; i++) {
+      Event sourceEvent = events[i];
+      String seriesId = sourceEvent.getSeriesId();
+      String newSeriesId = null;
+      if (seriesId != null && !seriesId.isEmpty()) {
+        if (localDay(targetOffsets, newStarts[i]) != localDay(targetOffsets, newEnds[i])) {
+          throw new Exception("Error: Start Date and End Date should "
+              + "not differ for a recurring event.");
+        }
+        newSeriesId = seriesIdMapping.computeIfAbsent(seriesId,
+            id -> UUID.randomUUID().toString());
+      }
+      Event newEvent = new EventBuilder()
+          .setDetailsOf(sourceEvent)
+          .setStart(newStarts[i], sourceEvent.startNano(), targetZone)
+          .setEnd(newEnds[i], sourceEvent.endNano(), targetZone)
+          .setSeriesId(newSeriesId)
+          .build();
+      validateNoDuplicate(newEvent, targetEvents, newEvents, eventsToRemove);
+      newEvents.add(newEvent);
+    }
+    Set<Event> updatedEvents = new EditableEventSet(targetEvents);
+    updatedEvents.addAll(newEvents);
+    return updatedEvents;
+  }
+
+  private static long localDay(ZoneOffsets offsets, long epochSecond) {
+    return Math.floorDiv(offsets.toLocalSecond(epochSecond), EpochDates.SECONDS_PER_DAY);
+  }
+}
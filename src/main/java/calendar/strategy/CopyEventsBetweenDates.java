@@ -9,7 +9,6 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Strategy for copying all events within a date range.
@@ -30,10 +29,9 @@ public class CopyEventsBetweenDates extends AbstractCopyEventsByDate {
     ZonedDateTime intervalEnd = intervalEndDate.atTime(23, 59, 59)
         .atZone(sourceCalendar.getTimezone());
 
-    return sourceCalendar.getEvents().stream()
-        .filter(e -> !e.getStartDateTime().isAfter(intervalEnd)
-            && !e.getEndDateTime().isBefore(intervalStart))
-        .collect(Collectors.toList());
+    // Both bounds are inclusive, while the time index excludes events that only touch them
+    return sourceCalendar.getEventsInRange(intervalStart.minusNanos(1),
+        intervalEnd.plusNanos(1));
   }
 
   @Override
@@ -4,9 +4,10 @@ import calendar.dto.CopyEventDto;
 import calendar.model.Calendar;
 import calendar.model.Event;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Strategy for copying all events from a specific date to another date.
@@ -21,9 +22,17 @@ public class CopyEventsOnDate extends AbstractCopyEventsByDate {
       throws Exception {
     LocalDate sourceDate = LocalDate.parse(dto.getSourceDate(), FORMATTER);
 
-    return sourceCalendar.getEvents().stream()
-        .filter(e -> e.getStartDateTime().toLocalDate().equals(sourceDate))
-        .collect(Collectors.toList());
+    // An event's date is taken in its own zone, which may differ from the calendar's, so
+    // the window is widened by a day on each side and the dates are checked exactly
+    ZonedDateTime from = sourceDate.minusDays(1).atStartOfDay(sourceCalendar.getTimezone());
+    ZonedDateTime to = sourceDate.plusDays(2).atStartOfDay(sourceCalendar.getTimezone());
+    List<Event> events = new ArrayList<>();
+    for (Event event : sourceCalendar.getEventsInRange(from, to)) {
+      if (event.getStartDateTime().toLocalDate().equals(sourceDate)) {
+        events.add(event);
+      }
+    }
+    return events;
   }
 
   @Override
@@ -5,8 +5,10 @@ import static calendar.util.EditEvent.validateNoDuplicate;
 import calendar.dto.CopyEventDto;
 import calendar.interfacetypes.Icopy;
 import calendar.model.Calendar;
+import calendar.model.EditableEventSet;
 import calendar.model.Event;
 import calendar.model.EventBuilder;
+import calendar.util.EventFinder;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
@@ -44,9 +46,8 @@ public class CopySingleEvent implements Icopy {
         LocalDateTime.parse(dto.getSourceStartDateTime(), formatter);
     ZonedDateTime sourceStartDateTime =
         ZonedDateTime.of(sourceLocalDateTime, sourceCalendar.getTimezone());
-    Event sourceEvent = sourceCalendar.getEvents().stream()
-        .filter(e -> e.getSubject().equals(dto.getEventName())
-            && e.getStartDateTime().equals(sourceStartDateTime))
+    Event sourceEvent = EventFinder.findBySubjectAndStart(dto.getEventName(),
+            sourceStartDateTime, sourceCalendar.getEventsView()).stream()
         .findFirst()
         .orElseThrow(() -> new Exception("Event '" + dto.getEventName()
             + "' starting at " + dto.getSourceStartDateTime() + " not found."));
@@ -77,8 +78,8 @@ public class CopySingleEvent implements Icopy {
         .build();
     Set<Event> newEvents = new HashSet<>();
     Set<Event> eventsToRemove = new HashSet<>();
-    validateNoDuplicate(newEvent, targetCalendar.getEvents(), newEvents, eventsToRemove);
-    Set<Event> updatedEvents = new HashSet<>(targetCalendar.getEvents());
+    validateNoDuplicate(newEvent, targetCalendar.getEventsView(), newEvents, eventsToRemove);
+    Set<Event> updatedEvents = new EditableEventSet(targetCalendar.getEventsView());
     updatedEvents.add(newEvent);
     return updatedEvents;
   }
@@ -1,17 +1,16 @@
 package calendar.strategy;
 
-import static calendar.constants.CreateCalendarConstants.parseWeekdays;
+import static calendar.constants.CreateCalendarConstants.parseWeekdayMask;
 
 import calendar.dto.CreateEventDto;
 import calendar.interfacetypes.Icreate;
 import calendar.model.Event;
-import calendar.model.EventBuilder;
-import java.time.DayOfWeek;
+import calendar.model.RecurrenceRule;
+import calendar.model.RecurrenceRuleBuilder;
+import calendar.model.Weekdays;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
@@ -24,8 +23,9 @@ import java.util.UUID;
 public class CreateAllDayRecurringN implements Icreate {
   /**
    * Creates a set of recurring all-day events based on the specified parameters.
-   * Starting from the given date, iterates through subsequent days and creates events
-   * on matching weekdays until the specified number of occurrences is reached.
+   * Starting from the given date, the series occurs on matching weekdays until the
+   * specified number of occurrences is reached. It is returned as a single
+   * {@link RecurrenceRule}, whose occurrences are created only when iterated.
    * Each event is assigned the same series ID to indicate they belong to the same recurring series.
    * All-day events are created with default times of 8:00 AM to 5:00 PM in the configured timezone.
    *
@@ -38,31 +38,22 @@ public class CreateAllDayRecurringN implements Icreate {
    */
   public Set<Event> create(CreateEventDto data, Set<Event> list, ZoneId timezone) throws Exception {
     LocalDate date = LocalDate.parse(data.getOnDate());
-    LocalTime startTime = LocalTime.of(8, 0);
-    LocalTime endTime = LocalTime.of(17, 0);
-    Set<DayOfWeek> wantedDays = parseWeekdays(data.getWeekdays());
+    Weekdays wantedDays = parseWeekdayMask(data.getWeekdays());
     int n = Integer.parseInt(data.getnTimes());
-    int eventsCreated = 0;
-    Set<Event> newEvents = new HashSet<>();
-    String seriesId = UUID.randomUUID().toString();
-    while (eventsCreated < n) {
-      if (wantedDays.contains(date.getDayOfWeek())) {
-        ZonedDateTime eventStart = ZonedDateTime.of(date, startTime, timezone);
-        ZonedDateTime eventEnd = ZonedDateTime.of(date, endTime, timezone);
-        Event event = new EventBuilder()
-            .setSubject(data.getSubject())
-            .setStartDateTime(eventStart)
-            .setEndDateTime(eventEnd)
-            .setSeriesId(seriesId)
-            .build();
-        if (list.contains(event)) {
-          throw new Exception("Event already exists");
-        }
-        newEvents.add(event);
-        eventsCreated++;
+    RecurrenceRule series = new RecurrenceRuleBuilder()
+        .setSubject(data.getSubject())
+        .setSeriesId(UUID.randomUUID().toString())
+        .setFirstDate(date)
+        .setTimes(LocalTime.of(8, 0), LocalTime.of(17, 0))
+        .setTimeZone(timezone)
+        .setWeekdays(wantedDays)
+        .setCount(n)
+        .build();
+    for (Event event : series) {
+      if (list.contains(event)) {
+        throw new Exception("Event already exists");
       }
-      date = date.plusDays(1);
     }
-    return newEvents;
+    return series;
   }
 }
@@ -1,17 +1,16 @@
 package calendar.strategy;
 
-import static calendar.constants.CreateCalendarConstants.parseWeekdays;
+import static calendar.constants.CreateCalendarConstants.parseWeekdayMask;
 
 import calendar.dto.CreateEventDto;
 import calendar.interfacetypes.Icreate;
 import calendar.model.Event;
-import calendar.model.EventBuilder;
-import java.time.DayOfWeek;
+import calendar.model.RecurrenceRule;
+import calendar.model.RecurrenceRuleBuilder;
+import calendar.model.Weekdays;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
@@ -25,8 +24,9 @@ public class CreateAllDayRecurringUntil implements Icreate {
 
   /**
    * Creates a set of recurring all-day events based on the specified parameters.
-   * Starting from the given date, iterates through subsequent days and creates events
-   * on matching weekdays until the specified end date (inclusive). Each event is assigned
+   * Starting from the given date, the series occurs on matching weekdays until the
+   * specified end date (inclusive). It is returned as a single {@link RecurrenceRule},
+   * whose occurrences are created only when iterated. Each event is assigned
    * the same series ID to indicate they belong to the same recurring series.
    * All-day events are created with default times of 8:00 AM to 5:00 PM in the configured timezone.
    *
@@ -41,28 +41,21 @@ public class CreateAllDayRecurringUntil implements Icreate {
   public Set<Event> create(CreateEventDto data, Set<Event> list, ZoneId timezone) throws Exception {
     LocalDate date = LocalDate.parse(data.getOnDate());
     LocalDate untilDate = LocalDate.parse(data.getUntilDate());
-    LocalTime startTime = LocalTime.of(8, 0);
-    LocalTime endTime = LocalTime.of(17, 0);
-    Set<DayOfWeek> wantedDays = parseWeekdays(data.getWeekdays());
-    HashSet<Event> newEvents = new HashSet<>();
-    String seriesId = UUID.randomUUID().toString();
-    while (!date.isAfter(untilDate)) {
-      if (wantedDays.contains(date.getDayOfWeek())) {
-        ZonedDateTime eventStart = ZonedDateTime.of(date, startTime, timezone);
-        ZonedDateTime eventEnd = ZonedDateTime.of(date, endTime, timezone);
-        Event event = new EventBuilder()
-            .setSubject(data.getSubject())
-            .setStartDateTime(eventStart)
-            .setEndDateTime(eventEnd)
-            .setSeriesId(seriesId)
-            .build();
-        if (list.contains(event)) {
-          throw new Exception("Event already exists");
-        }
-        newEvents.add(event);
+    Weekdays wantedDays = parseWeekdayMask(data.getWeekdays());
+    RecurrenceRule series = new RecurrenceRuleBuilder()
+        .setSubject(data.getSubject())
+        .setSeriesId(UUID.randomUUID().toString())
+        .setFirstDate(date)
+        .setTimes(LocalTime.of(8, 0), LocalTime.of(17, 0))
+        .setTimeZone(timezone)
+        .setWeekdays(wantedDays)
+        .setUntilDate(untilDate)
+        .build();
+    for (Event event : series) {
+      if (list.contains(event)) {
+        throw new Exception("Event already exists");
       }
-      date = date.plusDays(1);
     }
-    return newEvents;
+    return series;
   }
 }
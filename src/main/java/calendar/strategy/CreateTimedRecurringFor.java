@@ -1,19 +1,17 @@
 package calendar.strategy;
 
 import static calendar.constants.CreateCalendarConstants.DATETIME_FORMATTER;
-import static calendar.constants.CreateCalendarConstants.parseWeekdays;
+import static calendar.constants.CreateCalendarConstants.parseWeekdayMask;
 
 import calendar.dto.CreateEventDto;
 import calendar.interfacetypes.Icreate;
 import calendar.model.Event;
-import calendar.model.EventBuilder;
-import java.time.DayOfWeek;
+import calendar.model.RecurrenceRule;
+import calendar.model.RecurrenceRuleBuilder;
+import calendar.model.Weekdays;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
@@ -27,8 +25,9 @@ public class CreateTimedRecurringFor implements Icreate {
 
   /**
    * Creates a set of recurring timed events based on the specified parameters.
-   * Starting from the given date, iterates through subsequent days and creates events
-   * on matching weekdays until the specified number of occurrences is reached.
+   * Starting from the given date, the series occurs on matching weekdays until the
+   * specified number of occurrences is reached. The series is returned as a single
+   * {@link RecurrenceRule}, whose occurrences are created only when iterated.
    * Each event occurs at the same time of day and is assigned the same series ID
    * to indicate they belong to the same recurring series. Validates that the end time
    * is after the start time and that both times occur on the same date.
@@ -53,32 +52,23 @@ public class CreateTimedRecurringFor implements Icreate {
     if (!currentDate.equals(endDate)) {
       throw new Exception("Date should be the same");
     }
-    Set<DayOfWeek> wantedDays = parseWeekdays(data.getWeekdays());
+    Weekdays wantedDays = parseWeekdayMask(data.getWeekdays());
     int n = Integer.parseInt(data.getnTimes());
-    LocalTime startTime = floatingStart.toLocalTime();
-    LocalTime endTime = floatingEnd.toLocalTime();
-    String seriesId = UUID.randomUUID().toString();
-    int eventsCreated = 0;
-    HashSet<Event> newEvents = new HashSet<>();
-    while (eventsCreated < n) {
-      if (wantedDays.contains(currentDate.getDayOfWeek())) {
-        ZonedDateTime eventStart = ZonedDateTime.of(currentDate, startTime, timezone);
-        ZonedDateTime eventEnd = ZonedDateTime.of(currentDate, endTime, timezone);
-        Event event = new EventBuilder()
-            .setSubject(data.getSubject())
-            .setStartDateTime(eventStart)
-            .setEndDateTime(eventEnd)
-            .setSeriesId(seriesId)
-            .build();
-        if (list.contains(event)) {
-          throw new Exception("Event already exists");
-        }
-        newEvents.add(event);
-        eventsCreated++;
+    RecurrenceRule series = new RecurrenceRuleBuilder()
+        .setSubject(data.getSubject())
+        .setSeriesId(UUID.randomUUID().toString())
+        .setFirstDate(currentDate)
+        .setTimes(floatingStart.toLocalTime(), floatingEnd.toLocalTime())
+        .setTimeZone(timezone)
+        .setWeekdays(wantedDays)
+        .setCount(n)
+        .build();
+    for (Event event : series) {
+      if (list.contains(event)) {
+        throw new Exception("Event already exists");
       }
-      currentDate = currentDate.plusDays(1);
     }
-    return newEvents;
+    return series;
   }
 
 }
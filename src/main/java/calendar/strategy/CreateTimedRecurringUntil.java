@@ -1,19 +1,17 @@
 package calendar.strategy;
 
 import static calendar.constants.CreateCalendarConstants.DATETIME_FORMATTER;
-import static calendar.constants.CreateCalendarConstants.parseWeekdays;
+import static calendar.constants.CreateCalendarConstants.parseWeekdayMask;
 
 import calendar.dto.CreateEventDto;
 import calendar.interfacetypes.Icreate;
 import calendar.model.Event;
-import calendar.model.EventBuilder;
-import java.time.DayOfWeek;
+import calendar.model.RecurrenceRule;
+import calendar.model.RecurrenceRuleBuilder;
+import calendar.model.Weekdays;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
@@ -27,8 +25,9 @@ public class CreateTimedRecurringUntil implements Icreate {
 
   /**
    * Creates a set of recurring timed events based on the specified parameters.
-   * Starting from the given date, iterates through subsequent days and creates events
-   * on matching weekdays until the specified end date (inclusive). Each event occurs at
+   * Starting from the given date, the series occurs on matching weekdays until the
+   * specified end date (inclusive). It is returned as a single {@link RecurrenceRule},
+   * whose occurrences are created only when iterated. Each event occurs at
    * the same time of day and is assigned the same series ID to indicate they belong to
    * the same recurring series. Validates that the end time is after the start time,
    * that both times occur on the same date, and that the until date is not before the start date.
@@ -50,35 +49,28 @@ public class CreateTimedRecurringUntil implements Icreate {
       throw new Exception("Error: Event end time cannot be before its start time.");
     }
     LocalDate date = floatingStart.toLocalDate();
-    LocalTime startTime = floatingStart.toLocalTime();
-    LocalTime endTime = floatingEnd.toLocalTime();
-    String seriesId = UUID.randomUUID().toString();
     LocalDate untillDate = LocalDate.parse(data.getUntilDate());
-    HashSet<Event> result = new HashSet<>();
     if (!floatingStart.toLocalDate().equals(floatingEnd.toLocalDate())) {
       throw new Exception("Error: Recurring events must start and end on the same day.");
     }
     if (untillDate.isBefore(date)) {
       throw new Exception("Error: 'until' date cannot be before the event's start date.");
     }
-    Set<DayOfWeek> wantedDays = parseWeekdays(data.getWeekdays());
-    while (!date.isAfter(untillDate)) {
-      if (wantedDays.contains(date.getDayOfWeek())) {
-        ZonedDateTime startDateTime = ZonedDateTime.of(date, startTime, timezone);
-        ZonedDateTime endDateTime = ZonedDateTime.of(date, endTime, timezone);
-        EventBuilder eventBuilder = new EventBuilder()
-            .setSubject(data.getSubject())
-            .setEndDateTime(endDateTime)
-            .setStartDateTime(startDateTime)
-            .setSeriesId(seriesId);
-        Event event = eventBuilder.build();
-        if (list.contains(event)) {
-          throw new Exception("Event already exists");
-        }
-        result.add(event);
+    Weekdays wantedDays = parseWeekdayMask(data.getWeekdays());
+    RecurrenceRule series = new RecurrenceRuleBuilder()
+        .setSubject(data.getSubject())
+        .setSeriesId(UUID.randomUUID().toString())
+        .setFirstDate(date)
+        .setTimes(floatingStart.toLocalTime(), floatingEnd.toLocalTime())
+        .setTimeZone(timezone)
+        .setWeekdays(wantedDays)
+        .setUntilDate(untillDate)
+        .build();
+    for (Event event : series) {
+      if (list.contains(event)) {
+        throw new Exception("Event already exists");
       }
-      date = date.plusDays(1);
     }
-    return result;
+    return series;
   }
 }
@@ -4,62 +4,91 @@ import static calendar.constants.ExportConstants.CSV_HEADER;
 import static calendar.constants.ExportConstants.GOOGLE_DATE_FORMAT;
 import static calendar.constants.ExportConstants.GOOGLE_TIME_FORMAT;
 
-import calendar.interfacetypes.Iexport;
 import calendar.model.Event;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import calendar.util.EpochDates;
+import calendar.util.TextBuffer;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.Collection;
 
 /**
  * Export strategy implementation for creating Google Calendar-compatible CSV files.
  * This class converts a collection of calendar events into a CSV format with columns
  * for subject, start date, start time, end date, end time, description, location, and status.
  * The dates and times are formatted according to Google Calendar's expected format.
+ * Rows are streamed to the file as they are formatted.
  */
-public class GoogleCsvExporter implements Iexport {
+public class GoogleCsvExporter extends AbstractStreamingExporter {
 
   /**
-   * Exports a collection of events to a CSV file in Google Calendar format.
-   * Creates a CSV file with a header row and one row per event, containing the event's
-   * subject, start/end dates and times, description, location, and status. The subject
-   * field is properly quoted if it contains commas, quotes, or newlines. All date and
-   * time values are formatted according to Google Calendar's requirements.
+   * The AM and PM markers, including the leading space, as the time format prints them.
+   */
+  private static final String AM = GOOGLE_TIME_FORMAT.format(LocalTime.of(1, 0)).substring(5);
+  private static final String PM = GOOGLE_TIME_FORMAT.format(LocalTime.of(13, 0)).substring(5);
+
+  /**
+   * Creates an exporter that formats events on the calling thread.
+   */
+  public GoogleCsvExporter() {
+    super();
+  }
+
+  /**
+   * Creates an exporter.
    *
-   * @param events the collection of events to be exported
-   * @param fileName the name of the file to create, including the .csv extension
-   * @return the absolute path of the created CSV file
-   * @throws IOException if the file cannot be created or written to
+   * @param parallel whether large calendars are formatted in parallel
    */
-  public String export(Collection<Event> events, String fileName) throws IOException {
+  public GoogleCsvExporter(boolean parallel) {
+    super(parallel);
+  }
 
-    StringBuilder csvBuilder = new StringBuilder();
-    csvBuilder.append(CSV_HEADER);
-    for (Event event : events) {
-      ZonedDateTime start = event.getStartDateTime();
-      ZonedDateTime end = event.getEndDateTime();
-      String eventLocation = event.getLocation();
-      String eventDescription = event.getDescription();
-      String status = event.getStatus();
-      String startDateStr = start.format(GOOGLE_DATE_FORMAT);
-      String startTimeStr = start.format(GOOGLE_TIME_FORMAT);
-      String endDateStr = end.format(GOOGLE_DATE_FORMAT);
-      String endTimeStr = end.format(GOOGLE_TIME_FORMAT);
-      csvBuilder.append(quoteCsvField(event.getSubject())).append(",");
-      csvBuilder.append(startDateStr).append(",");
-      csvBuilder.append(startTimeStr).append(",");
-      csvBuilder.append(endDateStr).append(",");
-      csvBuilder.append(endTimeStr).append(",");
-      csvBuilder.append(eventDescription).append(",");
-      csvBuilder.append(eventLocation).append(",");
-      csvBuilder.append(status).append("\n");
+  @Override
+  protected void writeHeader(TextBuffer out) {
+    out.append(CSV_HEADER);
+  }
+
+  /**
+   * Appends one CSV row for the event, containing its subject, start/end dates and times,
+   * description, location, and status. The subject field is properly quoted if it contains
+   * commas, quotes, or newlines. All date and time values are formatted according to
+   * Google Calendar's requirements, digit by digit from the stored epoch seconds.
+   *
+   * @param event the event to write
+   * @param exportSecond when the export started, not part of the row
+   * @param out the buffer to append the row to
+   */
+  @Override
+  protected void writeEvent(Event event, long exportSecond, TextBuffer out) {
+    out.appendCsvField(event.getSubject()).append(',');
+    appendDateAndTime(event.startEpochSecond(), event.startZone(), out);
+    appendDateAndTime(event.endEpochSecond(), event.endZone(), out);
+    out.append(event.getDescription()).append(',');
+    out.append(event.getLocation()).append(',');
+    out.append(event.getStatus()).append('\n');
+  }
 
+  /**
+   * Appends "MM/dd/yyyy,hh:mm a," for the instant in the zone. Years outside 1 to 9999
+   * are left to the formatters.
+   */
+  private void appendDateAndTime(long epochSecond, ZoneId zone, TextBuffer out) {
+    long localSecond = EpochDates.toLocalSecond(epochSecond, zone);
+    int date = EpochDates.packedDate(localSecond);
+    if (date < 0) {
+      ZonedDateTime dateTime = ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone);
+      out.append(dateTime.format(GOOGLE_DATE_FORMAT)).append(',');
+      out.append(dateTime.format(GOOGLE_TIME_FORMAT)).append(',');
+      return;
     }
-    Path filePath = Paths.get(fileName);
-    Files.writeString(filePath, csvBuilder.toString());
-    return filePath.toAbsolutePath().toString();
+    out.appendDigits(date / 100 % 100, 2).append('/')
+        .appendDigits(date % 100, 2).append('/')
+        .appendDigits(date / 10_000, 4).append(',');
+    int secondOfDay = EpochDates.secondOfDay(localSecond);
+    int hour = secondOfDay / 3600;
+    out.appendDigits(hour % 12 == 0 ? 12 : hour % 12, 2).append(':')
+        .appendDigits(secondOfDay / 60 % 60, 2)
+        .append(hour < 12 ? AM : PM).append(',');
   }
 
   /**
@@ -0,0 +1,170 @@
+package calendar.strategy;
+
+import static calendar.constants.ExportConstants.CSV_HEADER;
+import static calendar.constants.ExportConstants.GOOGLE_DATE_FORMAT;
+import static calendar.constants.ExportConstants.GOOGLE_TIME_FORMAT;
+
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import calendar.model.RecurrenceRule;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Import strategy implementation for reading Google Calendar-compatible CSV files.
+ * Columns are matched by their header names (Subject, Start Date, Start Time, End Date,
+ * End Time, All Day Event, Description, Location, Status); the three unnamed columns that
+ * follow the header written by {@link GoogleCsvExporter} are read as description, location
+ * and status. Quoted fields may contain commas, doubled quotes and newlines. Times are
+ * interpreted in the timezone of the calendar being imported into, and events without a
+ * start time become all-day events.
+ */
+public class GoogleCsvImporter extends AbstractStreamingImporter {
+
+  private static final List<String> EXPORTED_COLUMNS =
+      Arrays.asList(CSV_HEADER.trim().toLowerCase().split(","));
+
+  @Override
+  protected void read(BufferedReader in, ZoneId timezone, List<Event> events,
+                      List<RecurrenceRule> series) throws IOException {
+    String header = in.readLine();
+    if (header == null) {
+      return;
+    }
+    List<String> columns = new ArrayList<>();
+    for (String name : splitRecord(header)) {
+      columns.add(name.trim().toLowerCase());
+    }
+    if (columns.equals(EXPORTED_COLUMNS)) {
+      columns.addAll(List.of("description", "location", "status"));
+    }
+    if (!columns.contains("subject") || !columns.contains("start date")) {
+      throw new IOException("Error: CSV header must name the Subject and Start Date columns.");
+    }
+
+    int lineNumber = 1;
+    String line;
+    while ((line = in.readLine()) != null) {
+      lineNumber++;
+      int firstLine = lineNumber;
+      StringBuilder record = new StringBuilder(line);
+      while (!isComplete(record)) {
+        String next = in.readLine();
+        if (next == null) {
+          throw new IOException("Error: Unterminated quoted field on line " + firstLine + ".");
+        }
+        lineNumber++;
+        record.append('\n').append(next);
+      }
+      if (record.length() == 0) {
+        continue;
+      }
+      try {
+        events.add(toEvent(columns, splitRecord(record), timezone));
+      } catch (DateTimeParseException e) {
+        throw new IOException("Error: Invalid date or time on line " + firstLine + ".");
+      }
+    }
+  }
+
+  private Event toEvent(List<String> columns, List<String> fields, ZoneId timezone) {
+    EventBuilder builder = new EventBuilder();
+    String startDate = "";
+    String startTime = "";
+    String endDate = "";
+    String endTime = "";
+    boolean allDay = false;
+    for (int i = 0; i < fields.size() && i < columns.size(); i++) {
+      String value = fields.get(i);
+      switch (columns.get(i)) {
+        case "subject":
+          builder.setSubject(value);
+          break;
+        case "start date":
+          startDate = value.trim();
+          break;
+        case "start time":
+          startTime = value.trim();
+          break;
+        case "end date":
+          endDate = value.trim();
+          break;
+        case "end time":
+          endTime = value.trim();
+          break;
+        case "all day event":
+          allDay = value.trim().equalsIgnoreCase("true");
+          break;
+        case "description":
+          builder.setDescription(value);
+          break;
+        case "location":
+          builder.setLocation(value);
+          break;
+        case "status":
+          builder.setStatus(value);
+          break;
+        default:
+          break;
+      }
+    }
+    LocalDate start = LocalDate.parse(startDate, GOOGLE_DATE_FORMAT);
+    LocalDate end = endDate.isEmpty() ? start : LocalDate.parse(endDate, GOOGLE_DATE_FORMAT);
+    allDay = allDay || startTime.isEmpty();
+    LocalTime from = allDay ? ALL_DAY_START : LocalTime.parse(startTime, GOOGLE_TIME_FORMAT);
+    LocalTime to = allDay ? ALL_DAY_END
+        : endTime.isEmpty() ? from.plusHours(1) : LocalTime.parse(endTime, GOOGLE_TIME_FORMAT);
+    return builder
+        .setStartDateTime(ZonedDateTime.of(start, from, timezone))
+        .setEndDateTime(ZonedDateTime.of(end, to, timezone))
+        .build();
+  }
+
+  /**
+   * Returns whether the record has no open quoted field.
+   */
+  private static boolean isComplete(CharSequence record) {
+    boolean quoted = false;
+    for (int i = 0; i < record.length(); i++) {
+      if (record.charAt(i) == '"') {
+        quoted = !quoted;
+      }
+    }
+    return !quoted;
+  }
+
+  /**
+   * Splits a complete record into its fields, removing quotes and undoubling inner quotes.
+   */
+  private static List<String> splitRecord(CharSequence record) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < record.length(); i++) {
+      char c = record.charAt(i);
+      if (c == '"') {
+        if (quoted && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else {
+          quoted = !quoted;
+        }
+      } else if (c == ',' && !quoted) {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+}
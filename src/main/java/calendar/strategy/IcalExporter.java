@@ -1,86 +1,97 @@
 package calendar.strategy;
 
-import calendar.interfacetypes.Iexport;
 import calendar.model.Event;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import calendar.util.EpochDates;
+import calendar.util.TextBuffer;
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Collection;
 
 /**
  * Export strategy implementation for creating iCalendar (.ics) files.
  * This class converts a collection of calendar events into the iCalendar
- * format, conforming to the RFC 5545 specification.
+ * format, conforming to the RFC 5545 specification. The file gets the required
+ * iCalendar header and footer and one VEVENT entry per event, streamed to the
+ * file as it is formatted.
  */
-public class IcalExporter implements Iexport {
+public class IcalExporter extends AbstractStreamingExporter {
   private static final DateTimeFormatter ICAL_DATE_FORMAT =
             DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
 
   private static final String PRODID = "-//ExampleApp//MyCalendar 1.0//EN";
 
   /**
-  * Exports a collection of events to a file in iCalendar (.ics) format.
-  * Creates a file with the required iCalendar header and footer, and
-  * one VEVENT entry for each event in the collection.
-  *
-  * @param events the collection of events to be exported
-  * @param fileName the name of the file to create (e.g., "my_calendar.ical")
-  * @return the absolute path of the created iCal file
-  * @throws IOException if the file cannot be created or written to
-  */
+   * Creates an exporter that formats events on the calling thread.
+   */
+  public IcalExporter() {
+    super();
+  }
+
+  /**
+   * Creates an exporter.
+   *
+   * @param parallel whether large calendars are formatted in parallel
+   */
+  public IcalExporter(boolean parallel) {
+    super(parallel);
+  }
+
   @Override
-  public String export(Collection<Event> events, String fileName) throws IOException {
-    StringBuilder icalBuilder = new StringBuilder();
+  protected void writeHeader(TextBuffer out) {
+    out.append("BEGIN:VCALENDAR\n");
+    out.append("VERSION:2.0\n");
+    out.append("PRODID:").append(PRODID).append('\n');
+    out.append("CALSCALE:GREGORIAN\n");
+  }
 
-    icalBuilder.append("BEGIN:VCALENDAR\n");
-    icalBuilder.append("VERSION:2.0\n");
-    icalBuilder.append("PRODID:").append(PRODID).append("\n");
-    icalBuilder.append("CALSCALE:GREGORIAN\n");
+  /**
+   * Appends the VEVENT of the event. Start and end are written in UTC digit by digit
+   * from the stored epoch seconds, and text fields are escaped while they are appended:
+   * newlines become "\n", and commas, semicolons, and backslashes get a backslash. The
+   * DTSTAMP is the start of the export, so every VEVENT of an export carries the same one.
+   *
+   * @param event the event to write
+   * @param exportSecond when the export started, in epoch seconds
+   * @param out the buffer to append to
+   */
+  @Override
+  protected void writeEvent(Event event, long exportSecond, TextBuffer out) {
+    out.append("BEGIN:VEVENT\n");
+    out.append("DTSTAMP:");
+    appendUtc(exportSecond, out);
+    out.append("DTSTART:");
+    appendUtc(event.startEpochSecond(), out);
+    out.append("DTEND:");
+    appendUtc(event.endEpochSecond(), out);
+    out.append("SUMMARY:").appendIcalText(event.getSubject()).append('\n');
+    out.append("LOCATION:").appendIcalText(event.getLocation()).append('\n');
+    out.append("DESCRIPTION:").appendIcalText(event.getDescription()).append('\n');
+    out.append("STATUS:").append(mapStatus(event.getStatus())).append('\n');
+    out.append("END:VEVENT\n");
+  }
 
-    for (Event event : events) {
-      icalBuilder.append("BEGIN:VEVENT\n");
-      ZonedDateTime start = event.getStartDateTime();
-      ZonedDateTime end = event.getEndDateTime();
-      String dtStart = start.withZoneSameInstant(ZoneOffset.UTC).format(ICAL_DATE_FORMAT);
-      String dtEnd = end.withZoneSameInstant(ZoneOffset.UTC).format(ICAL_DATE_FORMAT);
-      String dtStamp = ZonedDateTime.now(ZoneOffset.UTC).format(ICAL_DATE_FORMAT);
-      icalBuilder.append("DTSTAMP:").append(dtStamp).append("\n");
-      icalBuilder.append("DTSTART:").append(dtStart).append("\n");
-      icalBuilder.append("DTEND:").append(dtEnd).append("\n");
-      icalBuilder.append("SUMMARY:").append(escapeIcalString(event.getSubject())).append("\n");
-      icalBuilder.append("LOCATION:").append(escapeIcalString(event.getLocation())).append("\n");
-      icalBuilder.append("DESCRIPTION:")
-              .append(escapeIcalString(event.getDescription()))
-              .append("\n");
-      icalBuilder.append("STATUS:").append(mapStatus(event.getStatus())).append("\n");
-      icalBuilder.append("END:VEVENT\n");
-    }
-    icalBuilder.append("END:VCALENDAR\n");
-    Path filePath = Paths.get(fileName);
-    Files.writeString(filePath, icalBuilder.toString());
-    return filePath.toAbsolutePath().toString();
+  @Override
+  protected void writeFooter(TextBuffer out) {
+    out.append("END:VCALENDAR\n");
   }
 
   /**
-  * Escapes special characters in a string for iCalendar text fields.
-  * According to iCal spec, newlines must be escaped as "\n",
-  * and commas, semicolons, and backslashes must be escaped with a backslash.
-  *
-  * @param field The string to escape.
-  * @return The escaped string, or an empty string if input is null.
- */
-  private String escapeIcalString(String field) {
-    if (field == null || field.isEmpty()) {
-      return "";
+   * Appends the instant as "yyyyMMdd'T'HHmmss'Z'" and a newline. Years outside 1 to 9999
+   * are left to the formatter.
+   */
+  private void appendUtc(long epochSecond, TextBuffer out) {
+    int date = EpochDates.packedDate(epochSecond);
+    if (date < 0) {
+      out.append(ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC)
+          .format(ICAL_DATE_FORMAT)).append('\n');
+      return;
     }
-    return field.replace("\\", "\\\\")
-                .replace(";", "\\;")
-                .replace(",", "\\,")
-                .replace("\n", "\\n");
+    int secondOfDay = EpochDates.secondOfDay(epochSecond);
+    out.appendDigits(date, 8).append('T')
+        .appendDigits(secondOfDay / 3600, 2)
+        .appendDigits(secondOfDay / 60 % 60, 2)
+        .appendDigits(secondOfDay % 60, 2).append('Z').append('\n');
   }
 
   /**
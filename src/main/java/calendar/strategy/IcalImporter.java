@@ -0,0 +1,387 @@
+package calendar.strategy;
+
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import calendar.model.RecurrenceRule;
+import calendar.model.RecurrenceRuleBuilder;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Import strategy implementation for reading iCalendar (.ics) files (RFC 5545).
+ * Folded lines are unfolded as they are read, and each VEVENT becomes an event in the
+ * calendar's timezone. Date-times may be in UTC, floating (read in the calendar's
+ * timezone) or carry a TZID; all-day (DATE) events get the application's all-day hours.
+ *
+ * <p>An RRULE becomes a single recurring series when the application can represent it:
+ * DAILY or WEEKLY with an interval of 1, optional BYDAY weekdays, and a COUNT or UNTIL.
+ * EXDATE dates are skipped by the series. As in series created by command, the first
+ * date only counts if it falls on one of the series' weekdays, and every occurrence keeps
+ * the local times of the first one in the calendar's timezone. Other rules are rejected
+ * rather than imported partially.</p>
+ *
+ * <p>A VEVENT with a RECURRENCE-ID overrides one occurrence of the recurring VEVENT with
+ * the same UID, which may come before or after it in the file. The overridden date becomes
+ * an exception of the series and the override is imported as a single event of that
+ * series. Overrides with a RANGE, overrides that recur themselves, and overrides whose UID
+ * names no recurring VEVENT are rejected.</p>
+ */
+public class IcalImporter extends AbstractStreamingImporter {
+
+  private static final DateTimeFormatter DATE_TIME =
+      DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+  private static final Map<String, DayOfWeek> DAYS = Map.of(
+      "MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY,
+      "TH", DayOfWeek.THURSDAY, "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY,
+      "SU", DayOfWeek.SUNDAY);
+
+  @Override
+  protected void read(BufferedReader in, ZoneId timezone, List<Event> events,
+                      List<RecurrenceRule> series) throws IOException {
+    Map<String, String[]> properties = null;
+    List<String[]> exdates = new ArrayList<>();
+    SeriesByUid byUid = new SeriesByUid();
+    int nested = 0;
+    int lineNumber = 0;
+    int eventLine = 0;
+    StringBuilder unfolded = null;
+    String line = in.readLine();
+    while (unfolded != null || line != null) {
+      if (line != null && !line.isEmpty()
+          && (line.charAt(0) == ' ' || line.charAt(0) == '\t') && unfolded != null) {
+        unfolded.append(line, 1, line.length());
+        lineNumber++;
+        line = in.readLine();
+        continue;
+      }
+      if (unfolded == null) {
+        unfolded = new StringBuilder(line);
+        lineNumber++;
+        line = in.readLine();
+        continue;
+      }
+
+      String[] property = splitProperty(unfolded.toString());
+      unfolded = null;
+      if (property == null) {
+        continue;
+      }
+      String name = property[0];
+      if (name.equals("BEGIN")) {
+        if (properties == null && property[2].equalsIgnoreCase("VEVENT")) {
+          properties = new HashMap<>();
+          exdates.clear();
+          eventLine = lineNumber;
+        } else if (properties != null) {
+          nested++;
+        }
+      } else if (name.equals("END") && properties != null) {
+        if (nested > 0) {
+          nested--;
+        } else {
+          try {
+            addEvent(properties, exdates, timezone, events, series, byUid);
+          } catch (DateTimeException | IllegalArgumentException e) {
+            throw new IOException("Error: Invalid VEVENT starting on line " + eventLine
+                + ": " + e.getMessage());
+          }
+          properties = null;
+        }
+      } else if (properties != null && nested == 0) {
+        if (name.equals("EXDATE")) {
+          exdates.add(property);
+        } else {
+          properties.putIfAbsent(name, property);
+        }
+      }
+    }
+    if (properties != null) {
+      throw new IOException("Error: VEVENT starting on line " + eventLine + " is not closed.");
+    }
+    byUid.buildInto(series);
+  }
+
+  private void addEvent(Map<String, String[]> properties, List<String[]> exdates,
+                        ZoneId timezone, List<Event> events, List<RecurrenceRule> series,
+                        SeriesByUid byUid) {
+    String[] dtStart = properties.get("DTSTART");
+    if (dtStart == null) {
+      throw new IllegalArgumentException("missing DTSTART");
+    }
+    boolean allDay = isDate(dtStart);
+    ZonedDateTime start;
+    ZonedDateTime end;
+    if (allDay) {
+      LocalDate first = LocalDate.parse(dtStart[2], DateTimeFormatter.BASIC_ISO_DATE);
+      LocalDate last = first;
+      String[] dtEnd = properties.get("DTEND");
+      if (dtEnd != null) {
+        last = LocalDate.parse(dtEnd[2], DateTimeFormatter.BASIC_ISO_DATE).minusDays(1);
+      }
+      start = ZonedDateTime.of(first, ALL_DAY_START, timezone);
+      end = ZonedDateTime.of(last.isBefore(first) ? first : last, ALL_DAY_END, timezone);
+    } else {
+      start = toDateTime(dtStart, timezone);
+      String[] dtEnd = properties.get("DTEND");
+      String[] duration = properties.get("DURATION");
+      end = dtEnd != null ? toDateTime(dtEnd, timezone)
+          : duration != null ? start.plus(Duration.parse(duration[2])) : start;
+    }
+    String subject = text(properties.get("SUMMARY"));
+    String description = text(properties.get("DESCRIPTION"));
+    String location = text(properties.get("LOCATION"));
+    String status = text(properties.get("STATUS"));
+    String uid = text(properties.get("UID"));
+
+    String[] rrule = properties.get("RRULE");
+    String[] recurrenceId = properties.get("RECURRENCE-ID");
+    String seriesId = null;
+    if (recurrenceId != null) {
+      if (uid.isEmpty()) {
+        throw new IllegalArgumentException("RECURRENCE-ID without UID");
+      }
+      if (rrule != null || recurrenceId[1].toUpperCase().contains("RANGE=")) {
+        throw new IllegalArgumentException("unsupported RECURRENCE-ID with a range of dates");
+      }
+      byUid.addOverride(uid, toDate(recurrenceId, timezone));
+      seriesId = byUid.seriesId(uid);
+    }
+    if (rrule == null) {
+      events.add(new EventBuilder()
+          .setSubject(subject)
+          .setStartDateTime(start)
+          .setEndDateTime(end)
+          .setDescription(description)
+          .setLocation(location)
+          .setStatus(status)
+          .setSeriesId(seriesId)
+          .build());
+      return;
+    }
+    if (!start.toLocalDate().equals(end.toLocalDate())) {
+      throw new IllegalArgumentException("recurring events must start and end on one day");
+    }
+    RecurrenceRuleBuilder rule = new RecurrenceRuleBuilder()
+        .setSubject(subject)
+        .setSeriesId(uid.isEmpty() ? UUID.randomUUID().toString() : byUid.seriesId(uid))
+        .setDescription(description)
+        .setLocation(location)
+        .setStatus(status)
+        .setFirstDate(start.toLocalDate())
+        .setTimes(start.toLocalTime(), end.toLocalTime())
+        .setTimeZone(timezone);
+    applyRule(rrule[2], start, timezone, rule);
+    List<LocalDate> excluded = new ArrayList<>();
+    for (String[] exdate : exdates) {
+      for (String value : exdate[2].split(",")) {
+        excluded.add(toDate(new String[] {exdate[0], exdate[1], value}, timezone));
+      }
+    }
+    rule.addExceptions(excluded);
+    if (uid.isEmpty()) {
+      series.add(rule.build());
+    } else {
+      byUid.addSeries(uid, rule);
+    }
+  }
+
+  /**
+   * Sets the weekdays and the end of the series from an RRULE value.
+   */
+  private void applyRule(String value, ZonedDateTime start, ZoneId timezone,
+                         RecurrenceRuleBuilder rule) {
+    Map<String, String> parts = new HashMap<>();
+    for (String part : value.split(";")) {
+      int equals = part.indexOf('=');
+      if (equals > 0) {
+        parts.put(part.substring(0, equals).toUpperCase(), part.substring(equals + 1));
+      }
+    }
+    String frequency = parts.getOrDefault("FREQ", "").toUpperCase();
+    if (!frequency.equals("DAILY") && !frequency.equals("WEEKLY")) {
+      throw new IllegalArgumentException("unsupported RRULE frequency '" + frequency + "'");
+    }
+    if (!parts.getOrDefault("INTERVAL", "1").equals("1")) {
+      throw new IllegalArgumentException("unsupported RRULE interval");
+    }
+    for (String key : parts.keySet()) {
+      if (!Set.of("FREQ", "INTERVAL", "COUNT", "UNTIL", "BYDAY", "WKST").contains(key)) {
+        throw new IllegalArgumentException("unsupported RRULE part " + key);
+      }
+    }
+    Set<DayOfWeek> weekdays = EnumSet.noneOf(DayOfWeek.class);
+    if (parts.containsKey("BYDAY")) {
+      for (String day : parts.get("BYDAY").split(",")) {
+        DayOfWeek weekday = DAYS.get(day.trim().toUpperCase());
+        if (weekday == null) {
+          throw new IllegalArgumentException("unsupported RRULE day '" + day + "'");
+        }
+        weekdays.add(weekday);
+      }
+    } else if (frequency.equals("DAILY")) {
+      weekdays.addAll(EnumSet.allOf(DayOfWeek.class));
+    } else {
+      weekdays.add(start.getDayOfWeek());
+    }
+    rule.setWeekdays(weekdays);
+
+    if (parts.containsKey("COUNT")) {
+      rule.setCount(Integer.parseInt(parts.get("COUNT")));
+    } else if (parts.containsKey("UNTIL")) {
+      String until = parts.get("UNTIL");
+      rule.setUntilDate(until.length() == 8
+          ? LocalDate.parse(until, DateTimeFormatter.BASIC_ISO_DATE)
+          : toDateTime(new String[] {"UNTIL", "", until}, timezone).toLocalDate());
+    } else {
+      throw new IllegalArgumentException("series without COUNT or UNTIL are not supported");
+    }
+  }
+
+  /**
+   * Splits an unfolded content line into name, parameters and value, or returns null for
+   * a blank line.
+   */
+  private static String[] splitProperty(String line) {
+    if (line.isBlank()) {
+      return null;
+    }
+    boolean quoted = false;
+    int nameEnd = -1;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (c == '"') {
+        quoted = !quoted;
+      } else if (!quoted && (c == ';' || c == ':') && nameEnd < 0) {
+        nameEnd = i;
+        if (c == ':') {
+          return new String[] {line.substring(0, i).toUpperCase(), "", line.substring(i + 1)};
+        }
+      } else if (!quoted && c == ':') {
+        return new String[] {line.substring(0, nameEnd).toUpperCase(),
+            line.substring(nameEnd + 1, i), line.substring(i + 1)};
+      }
+    }
+    return new String[] {line.trim().toUpperCase(), "", ""};
+  }
+
+  private static boolean isDate(String[] property) {
+    return property[1].toUpperCase().contains("VALUE=DATE") && !property[2].contains("T");
+  }
+
+  /**
+   * Reads a DATE or DATE-TIME value as a date in the calendar's timezone.
+   */
+  private static LocalDate toDate(String[] property, ZoneId timezone) {
+    String value = property[2].trim();
+    return isDate(property) || value.length() == 8
+        ? LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE)
+        : toDateTime(property, timezone).toLocalDate();
+  }
+
+  /**
+   * Reads a DATE-TIME value in UTC, in its TZID, or floating in the calendar's timezone,
+   * and converts it to the calendar's timezone. An unknown TZID is read as floating.
+   */
+  private static ZonedDateTime toDateTime(String[] property, ZoneId timezone) {
+    String value = property[2].trim();
+    if (value.endsWith("Z") || value.endsWith("z")) {
+      return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME)
+          .atZone(ZoneOffset.UTC).withZoneSameInstant(timezone);
+    }
+    ZoneId zone = timezone;
+    for (String parameter : property[1].split(";")) {
+      if (parameter.toUpperCase().startsWith("TZID=")) {
+        try {
+          zone = ZoneId.of(parameter.substring(5).replace("\"", ""));
+        } catch (DateTimeException e) {
+          zone = timezone;
+        }
+      }
+    }
+    return LocalDateTime.parse(value, DATE_TIME).atZone(zone).withZoneSameInstant(timezone);
+  }
+
+  /**
+   * Returns the unescaped text value of a property, or an empty string if it is missing.
+   */
+  private static String text(String[] property) {
+    if (property == null) {
+      return "";
+    }
+    String value = property[2];
+    if (value.indexOf('\\') < 0) {
+      return value;
+    }
+    StringBuilder text = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\' && i + 1 < value.length()) {
+        char next = value.charAt(++i);
+        text.append(next == 'n' || next == 'N' ? '\n' : next);
+      } else {
+        text.append(c);
+      }
+    }
+    return text.toString();
+  }
+
+  /**
+   * Recurring VEVENTs of one file by UID, held back until the whole file is read so that
+   * the dates their RECURRENCE-ID overrides replace become exceptions first.
+   */
+  private static final class SeriesByUid {
+    private final Map<String, String> seriesIds = new HashMap<>();
+    private final Map<String, RecurrenceRuleBuilder> series = new LinkedHashMap<>();
+    private final Map<String, List<LocalDate>> overridden = new HashMap<>();
+
+    String seriesId(String uid) {
+      return seriesIds.computeIfAbsent(uid, key -> UUID.randomUUID().toString());
+    }
+
+    void addSeries(String uid, RecurrenceRuleBuilder rule) {
+      if (series.putIfAbsent(uid, rule) != null) {
+        throw new IllegalArgumentException("more than one recurring VEVENT with UID '"
+            + uid + "'");
+      }
+    }
+
+    void addOverride(String uid, LocalDate date) {
+      overridden.computeIfAbsent(uid, key -> new ArrayList<>()).add(date);
+    }
+
+    /**
+     * Builds each held series without its overridden dates and adds it to the list.
+     */
+    void buildInto(List<RecurrenceRule> rules) throws IOException {
+      for (String uid : overridden.keySet()) {
+        if (!series.containsKey(uid)) {
+          throw new IOException("Error: RECURRENCE-ID of UID '" + uid
+              + "' has no recurring VEVENT.");
+        }
+      }
+      for (Map.Entry<String, RecurrenceRuleBuilder> entry : series.entrySet()) {
+        rules.add(entry.getValue()
+            .addExceptions(overridden.getOrDefault(entry.getKey(), List.of()))
+            .build());
+      }
+    }
+  }
+}
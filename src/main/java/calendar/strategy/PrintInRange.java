@@ -4,6 +4,7 @@ import static calendar.constants.CreateCalendarConstants.DATETIME_FORMATTER;
 
 import calendar.dto.QueryEventDto;
 import calendar.interfacetypes.Iquery;
+import calendar.model.Calendar;
 import calendar.model.Event;
 import calendar.util.EventFinder;
 import java.time.LocalDateTime;
@@ -34,6 +35,31 @@ public class PrintInRange implements Iquery {
   @Override
   public Set<Event> find(QueryEventDto dto, Set<Event> allEvents,
                          ZoneId timezone) throws Exception {
+    ZonedDateTime[] range = parseRange(dto, timezone);
+    List<Event> inRange = EventFinder.findInRange(range[0], range[1], allEvents);
+    return new HashSet<>(inRange);
+  }
+
+  /**
+   * Finds all events of the calendar that overlap the specified date-time range, using
+   * the calendar's time index.
+   *
+   * @param dto the query data transfer object containing the range start and end date-times
+   * @param calendar the calendar to search
+   * @return a set of events occurring within the specified range, or an empty set if none match
+   * @throws Exception if the query parameters are invalid
+   */
+  @Override
+  public Set<Event> find(QueryEventDto dto, Calendar calendar) throws Exception {
+    ZonedDateTime[] range = parseRange(dto, calendar.getTimezone());
+    List<Event> inRange = EventFinder.findInRange(range[0], range[1], calendar);
+    return new HashSet<>(inRange);
+  }
+
+  /**
+   * Parses and validates the range in the DTO, returning its start and end.
+   */
+  private ZonedDateTime[] parseRange(QueryEventDto dto, ZoneId timezone) throws Exception {
     String startStr = dto.getRangeStart();
     String endStr = dto.getRangeEnd();
     if (startStr == null || endStr == null) {
@@ -50,7 +76,6 @@ public class PrintInRange implements Iquery {
     if (rangeStart.isAfter(rangeEnd)) {
       throw new Exception("Error: Start time must be before end time.");
     }
-    List<Event> inRange = EventFinder.findInRange(rangeStart, rangeEnd, allEvents);
-    return new HashSet<>(inRange);
+    return new ZonedDateTime[] {rangeStart, rangeEnd};
   }
 }
@@ -2,6 +2,7 @@ package calendar.strategy;
 
 import calendar.dto.QueryEventDto;
 import calendar.interfacetypes.Iquery;
+import calendar.model.Calendar;
 import calendar.model.Event;
 import calendar.util.EventFinder;
 import java.time.LocalDate;
@@ -31,12 +32,30 @@ public class PrintOnDate implements Iquery {
   @Override
   public Set<Event> find(QueryEventDto dto, Set<Event> allEvents,
                          ZoneId timezone) throws Exception {
+    List<Event> onDateEvents = EventFinder.findOnDate(parseDate(dto), timezone, allEvents);
+    return new HashSet<>(onDateEvents);
+  }
+
+  /**
+   * Finds all events of the calendar that occur on the specified date, using the
+   * calendar's time index.
+   *
+   * @param dto the query data transfer object containing the target date
+   * @param calendar the calendar to search
+   * @return a set of events occurring on the specified date, or an empty set if none match
+   * @throws Exception if the query parameters are invalid
+   */
+  @Override
+  public Set<Event> find(QueryEventDto dto, Calendar calendar) throws Exception {
+    List<Event> onDateEvents = EventFinder.findOnDate(parseDate(dto), calendar);
+    return new HashSet<>(onDateEvents);
+  }
+
+  private LocalDate parseDate(QueryEventDto dto) throws Exception {
     String dateStr = dto.getOnDate();
     if (dateStr == null) {
       throw new Exception("Invalid query: missing date.");
     }
-    LocalDate onDate = LocalDate.parse(dateStr);
-    List<Event> onDateEvents = EventFinder.findOnDate(onDate, timezone, allEvents);
-    return new HashSet<>(onDateEvents);
+    return LocalDate.parse(dateStr);
   }
 }
@@ -4,6 +4,7 @@ import static calendar.constants.CreateCalendarConstants.DATETIME_FORMATTER;
 
 import calendar.dto.QueryEventDto;
 import calendar.interfacetypes.Iquery;
+import calendar.model.Calendar;
 import calendar.model.Event;
 import calendar.util.EventFinder;
 import java.time.LocalDateTime;
@@ -35,16 +36,34 @@ public class ShowStatusAt implements Iquery {
   @Override
   public Set<Event> find(QueryEventDto dto, Set<Event> allEvents,
                          ZoneId timezone) throws Exception {
+    List<Event> activeAt = EventFinder.findActiveAt(parseInstant(dto, timezone), allEvents);
+    return new HashSet<>(activeAt);
+  }
+
+  /**
+   * Finds all events of the calendar that are active at the specified instant, using the
+   * calendar's time index.
+   *
+   * @param dto the query data transfer object containing the instant to check
+   * @param calendar the calendar to search
+   * @return a set of events active at the specified instant, or an empty set if none are active
+   * @throws Exception if the query parameters are invalid
+   */
+  @Override
+  public Set<Event> find(QueryEventDto dto, Calendar calendar) throws Exception {
+    ZonedDateTime atInstant = parseInstant(dto, calendar.getTimezone());
+    List<Event> activeAt = EventFinder.findActiveAt(atInstant, calendar);
+    return new HashSet<>(activeAt);
+  }
+
+  private ZonedDateTime parseInstant(QueryEventDto dto, ZoneId timezone) throws Exception {
     String dtStr = dto.getAtInstant();
     if (dtStr == null) {
       throw new Exception("Invalid query: missing date-time.");
     }
-    ZonedDateTime atInstant = ZonedDateTime.of(
+    return ZonedDateTime.of(
             LocalDateTime.parse(dtStr, DATETIME_FORMATTER),
             timezone
     );
-    List<Event> activeAt = EventFinder.findActiveAt(atInstant, allEvents);
-    return new HashSet<>(activeAt);
   }
 }
-
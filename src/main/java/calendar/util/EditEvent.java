@@ -16,7 +16,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Utility methods for editing events.
@@ -240,6 +239,8 @@ public class EditEvent {
   /**
    * Validates that proposed event values don't create duplicates.
    * Checks against existing events and other events being created in the same operation.
+   * Events are equal exactly when subject, start and end are, so the check looks up an
+   * event with the proposed values instead of scanning.
    */
   private static void validateNoDuplicateProposed(String proposedSubject,
                                                   ZonedDateTime proposedStart,
@@ -247,33 +248,22 @@ public class EditEvent {
                                                   Set<Event> existingEvents,
                                                   Set<Event> eventsToRemove,
                                                   Set<Event> eventsToCommit) throws Exception {
-
-    for (Event existing : existingEvents) {
-      if (eventsToRemove.contains(existing)) {
-        continue;
-      }
-
-      if (existing.getSubject().equals(proposedSubject)
-          && existing.getStartDateTime().equals(proposedStart)
-          && existing.getEndDateTime().equals(proposedEnd)) {
-        throw new Exception("Edit operation failed: An event with subject '"
-            + proposedSubject + "' from "
-            + proposedStart + " to "
-            + proposedEnd + " already exists.");
-      }
+    Event proposed = new Event(proposedSubject, proposedStart, proposedEnd,
+        null, null, null, null);
+    if (existsAfterRemovals(proposed, existingEvents, eventsToRemove)) {
+      throw new Exception("Edit operation failed: An event with subject '"
+          + proposedSubject + "' from "
+          + proposedStart + " to "
+          + proposedEnd + " already exists.");
     }
 
-    for (Event newEvent : eventsToCommit) {
-      if (newEvent.getSubject().equals(proposedSubject)
-          && newEvent.getStartDateTime().equals(proposedStart)
-          && newEvent.getEndDateTime().equals(proposedEnd)) {
-        throw new Exception("Edit operation failed: Would create duplicate events with subject '"
-            + proposedSubject
-            + "' from "
-            + proposedStart
-            + " to "
-            + proposedEnd);
-      }
+    if (eventsToCommit.contains(proposed)) {
+      throw new Exception("Edit operation failed: Would create duplicate events with subject '"
+          + proposedSubject
+          + "' from "
+          + proposedStart
+          + " to "
+          + proposedEnd);
     }
   }
 
@@ -319,10 +309,9 @@ public class EditEvent {
     ZonedDateTime targetStart = parseDateTime(dto.getTargetStartDateTime(), timezone);
     ZonedDateTime targetEnd = parseDateTime(dto.getTargetEndDateTime(), timezone);
 
-    for (Event event : events) {
-      if (event.getSubject().equals(dto.getTargetSubject())
-              && event.getStartDateTime().equals(targetStart)
-              && event.getEndDateTime().equals(targetEnd)) {
+    for (Event event : EventFinder.findBySubjectAndStart(dto.getTargetSubject(), targetStart,
+        events)) {
+      if (event.getEndDateTime().equals(targetEnd)) {
         return event;
       }
     }
@@ -336,6 +325,8 @@ public class EditEvent {
   /**
    * Validates that a new event doesn't create duplicates.
    * Checks if an event with same subject, start, and end already exists.
+   * The existing events are seen through the pending removals without being copied,
+   * so each check costs one lookup per set.
    *
    * @param newEvent The new event to validate
    * @param existingEvents All existing events
@@ -347,11 +338,7 @@ public class EditEvent {
                                          Set<Event> newEvents,
                                          Set<Event> eventsToRemove) throws Exception {
 
-    Set<Event> remainingEvents = existingEvents.stream()
-            .filter(e -> !eventsToRemove.contains(e))
-            .collect(Collectors.toSet());
-
-    if (remainingEvents.contains(newEvent)) {
+    if (existsAfterRemovals(newEvent, existingEvents, eventsToRemove)) {
       throw new Exception("Edit operation failed: An event with subject '"
               + newEvent.getSubject() + "' from "
               + newEvent.getStartDateTime() + " to "
@@ -368,6 +355,16 @@ public class EditEvent {
     }
   }
 
+  /**
+   * Returns whether an event equal to the given one remains once the pending removals are
+   * applied. Equal events have the same key, so the removal set is asked about the event
+   * itself rather than about the existing copy.
+   */
+  private static boolean existsAfterRemovals(Event event, Set<Event> existingEvents,
+                                             Set<Event> eventsToRemove) {
+    return existingEvents.contains(event) && !eventsToRemove.contains(event);
+  }
+
   /**
    * Extracts the set of weekdays on which events in the series occur.
    */
@@ -0,0 +1,68 @@
+package calendar.util;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Arithmetic on epoch seconds for code that writes dates and times field by field, such
+ * as the exporters, without creating {@code LocalDate} or {@code ZonedDateTime} objects.
+ * Dates are packed into a single int as {@code yyyyMMdd}.
+ */
+public final class EpochDates {
+
+  /**
+   * Number of seconds in a day.
+   */
+  public static final int SECONDS_PER_DAY = 86_400;
+
+  private EpochDates() {
+  }
+
+  /**
+   * Returns the local wall-clock time in the given zone, as seconds counted from
+   * 1970-01-01T00:00 local time.
+   *
+   * @param epochSecond the instant, in seconds since the epoch
+   * @param zone the zone to convert to
+   * @return the local epoch second
+   */
+  public static long toLocalSecond(long epochSecond, ZoneId zone) {
+    if (zone instanceof ZoneOffset) {
+      return epochSecond + ((ZoneOffset) zone).getTotalSeconds();
+    }
+    return ZoneOffsets.of(zone).toLocalSecond(epochSecond);
+  }
+
+  /**
+   * Returns the date of a local epoch second packed as {@code yyyyMMdd}, using the civil
+   * calendar algorithm on days since the epoch.
+   *
+   * @param localSecond the local epoch second
+   * @return the packed date, or -1 if the year is not between 1 and 9999
+   */
+  public static int packedDate(long localSecond) {
+    long z = Math.floorDiv(localSecond, SECONDS_PER_DAY) + 719_468;
+    long era = Math.floorDiv(z, 146_097);
+    long dayOfEra = z - era * 146_097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long shiftedMonth = (5 * dayOfYear + 2) / 153;
+    long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+    long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+    long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    if (year < 1 || year > 9999) {
+      return -1;
+    }
+    return (int) (year * 10_000 + month * 100 + day);
+  }
+
+  /**
+   * Returns the second of the day of a local epoch second.
+   *
+   * @param localSecond the local epoch second
+   * @return the second of the day, from 0 to 86399
+   */
+  public static int secondOfDay(long localSecond) {
+    return (int) Math.floorMod(localSecond, (long) SECONDS_PER_DAY);
+  }
+}
@@ -1,5 +1,7 @@
 package calendar.util;
 
+import calendar.interfacetypes.IeventLookup;
+import calendar.model.Calendar;
 import calendar.model.Event;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -13,6 +15,10 @@ import java.util.stream.Collectors;
  * This class contains methods for searching events by various criteria including subject,
  * start time, series membership, date ranges, and specific time instants. All methods
  * are static and the class cannot be instantiated.
+ *
+ * <p>Subject and series lookups on a set that implements {@link IeventLookup}, such as a
+ * calendar's view or an {@link calendar.model.EditableEventSet}, are answered from its
+ * indexes in O(log N + k); other sets are scanned.</p>
  */
 public class EventFinder {
   private EventFinder() {
@@ -31,6 +37,9 @@ public class EventFinder {
    */
   public static List<Event> findBySubjectAndStart(String subject, ZonedDateTime start,
                                             Set<Event> events) {
+    if (events instanceof IeventLookup) {
+      return ((IeventLookup) events).findBySubjectAndStart(subject, start);
+    }
     return events.stream()
         .filter(e -> e.getSubject().equals(subject)
             && e.getStartDateTime().equals(start))
@@ -51,6 +60,9 @@ public class EventFinder {
     if (seriesId == null || seriesId.isEmpty()) {
       return List.of();
     }
+    if (events instanceof IeventLookup) {
+      return ((IeventLookup) events).findSeriesFrom(seriesId, null);
+    }
     return events.stream()
         .filter(e -> seriesId.equals(e.getSeriesId()))
         .collect(Collectors.toList());
@@ -72,6 +84,9 @@ public class EventFinder {
     if (seriesId == null || seriesId.isEmpty()) {
       return List.of();
     }
+    if (events instanceof IeventLookup) {
+      return ((IeventLookup) events).findSeriesFrom(seriesId, fromTime);
+    }
     return events.stream()
         .filter(e -> seriesId.equals(e.getSeriesId()))
         .filter(e -> !e.getStartDateTime().isBefore(fromTime))
@@ -131,6 +146,49 @@ public class EventFinder {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Finds all events of a calendar occurring on a specific date.
+   * Behaves like {@link #findOnDate(LocalDate, ZoneId, Set)} using the calendar's timezone,
+   * but answers from the calendar's time index instead of scanning every event.
+   *
+   * @param date the date to search for events
+   * @param calendar the calendar to search
+   * @return a list of events occurring on the specified date, or an empty list if none match
+   */
+  public static List<Event> findOnDate(LocalDate date, Calendar calendar) {
+    ZonedDateTime dayStart = date.atStartOfDay(calendar.getTimezone());
+    ZonedDateTime dayEnd = date.plusDays(1).atStartOfDay(calendar.getTimezone());
+    return calendar.getEventsInRange(dayStart, dayEnd);
+  }
+
+  /**
+   * Finds all events of a calendar occurring within a specified date-time range.
+   * Behaves like {@link #findInRange(ZonedDateTime, ZonedDateTime, Set)} but answers from
+   * the calendar's time index instead of scanning every event.
+   *
+   * @param start the start of the range (inclusive)
+   * @param end the end of the range (exclusive)
+   * @param calendar the calendar to search
+   * @return a list of events overlapping with the specified range, or an empty list if none match
+   */
+  public static List<Event> findInRange(ZonedDateTime start, ZonedDateTime end,
+                                        Calendar calendar) {
+    return calendar.getEventsInRange(start, end);
+  }
+
+  /**
+   * Finds all events of a calendar that are active at a specific instant in time.
+   * Behaves like {@link #findActiveAt(ZonedDateTime, Set)} but answers from the
+   * calendar's time index instead of scanning every event.
+   *
+   * @param instant the specific moment in time to check
+   * @param calendar the calendar to search
+   * @return a list of events active at the specified instant, or an empty list if none are active
+   */
+  public static List<Event> findActiveAt(ZonedDateTime instant, Calendar calendar) {
+    return calendar.getEventsActiveAt(instant);
+  }
+
   private static boolean eventOverlapsWithRange(Event event, ZonedDateTime rangeStart,
                                                 ZonedDateTime rangeEnd) {
     return event.getStartDateTime().isBefore(rangeEnd)
@@ -153,6 +211,9 @@ public class EventFinder {
    */
   public static List<Event> findBySubjectFromStart(String subject, ZonedDateTime start,
                                                    Set<Event> events) {
+    if (events instanceof IeventLookup) {
+      return ((IeventLookup) events).findBySubjectFromStart(subject, start);
+    }
     return events.stream()
             .filter(e -> e.getSubject().equals(subject)
                     && !e.getStartDateTime().isBefore(start))
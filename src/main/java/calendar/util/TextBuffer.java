@@ -0,0 +1,189 @@
+package calendar.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A reusable character buffer the exporters format records into. Besides plain text it
+ * appends zero-padded numbers and CSV- or iCalendar-escaped text directly into its array,
+ * so formatting a record creates no intermediate strings. Once filled, the contents are
+ * written to a {@link Writer} or encoded as UTF-8 and the buffer is cleared for reuse.
+ *
+ * <p>The buffer grows when a record does not fit, and is not thread-safe.</p>
+ */
+public final class TextBuffer {
+
+  private char[] chars;
+  private int length;
+
+  /**
+   * Creates an empty buffer.
+   *
+   * @param capacity the initial capacity in characters
+   */
+  public TextBuffer(int capacity) {
+    this.chars = new char[Math.max(16, capacity)];
+  }
+
+  /**
+   * Returns the number of characters in the buffer.
+   *
+   * @return the length
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Empties the buffer, keeping its capacity.
+   */
+  public void clear() {
+    length = 0;
+  }
+
+  /**
+   * Appends a character.
+   *
+   * @param c the character
+   * @return this buffer
+   */
+  public TextBuffer append(char c) {
+    ensure(1);
+    chars[length++] = c;
+    return this;
+  }
+
+  /**
+   * Appends a string, or "null" if it is null, as {@link StringBuilder#append(String)}.
+   *
+   * @param text the string
+   * @return this buffer
+   */
+  public TextBuffer append(String text) {
+    String value = String.valueOf(text);
+    ensure(value.length());
+    value.getChars(0, value.length(), chars, length);
+    length += value.length();
+    return this;
+  }
+
+  /**
+   * Appends a non-negative number in decimal, padded with leading zeros to the width.
+   *
+   * @param value the number
+   * @param width the minimum number of digits
+   * @return this buffer
+   */
+  public TextBuffer appendDigits(int value, int width) {
+    int digits = 1;
+    for (int rest = value / 10; rest > 0; rest /= 10) {
+      digits++;
+    }
+    int size = Math.max(width, digits);
+    ensure(size);
+    int position = length + size;
+    for (int i = 0; i < size; i++) {
+      chars[--position] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+    length += size;
+    return this;
+  }
+
+  /**
+   * Appends a CSV field. Fields containing commas, double quotes or newlines are wrapped in
+   * double quotes with inner quotes doubled; null appends nothing.
+   *
+   * @param field the field value
+   * @return this buffer
+   */
+  public TextBuffer appendCsvField(String field) {
+    if (field == null || field.isEmpty()) {
+      return this;
+    }
+    boolean quote = false;
+    for (int i = 0; i < field.length() && !quote; i++) {
+      char c = field.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n';
+    }
+    if (!quote) {
+      return append(field);
+    }
+    ensure(field.length() * 2 + 2);
+    chars[length++] = '"';
+    for (int i = 0; i < field.length(); i++) {
+      char c = field.charAt(i);
+      if (c == '"') {
+        chars[length++] = '"';
+      }
+      chars[length++] = c;
+    }
+    chars[length++] = '"';
+    return this;
+  }
+
+  /**
+   * Appends iCalendar text: backslashes, semicolons and commas are escaped with a
+   * backslash and newlines are written as "\n"; null appends nothing.
+   *
+   * @param field the text
+   * @return this buffer
+   */
+  public TextBuffer appendIcalText(String field) {
+    if (field == null) {
+      return this;
+    }
+    ensure(field.length() * 2);
+    for (int i = 0; i < field.length(); i++) {
+      char c = field.charAt(i);
+      if (c == '\\' || c == ';' || c == ',') {
+        chars[length++] = '\\';
+      } else if (c == '\n') {
+        chars[length++] = '\\';
+        c = 'n';
+      }
+      chars[length++] = c;
+    }
+    return this;
+  }
+
+  /**
+   * Writes the contents to the writer and clears the buffer.
+   *
+   * @param out the writer
+   * @throws IOException if the writer fails
+   */
+  public void writeTo(Writer out) throws IOException {
+    out.write(chars, 0, length);
+    length = 0;
+  }
+
+  /**
+   * Encodes the contents as UTF-8 and clears the buffer.
+   *
+   * @return the encoded bytes, ready to be read
+   * @throws CharacterCodingException if the contents are not valid UTF-16
+   */
+  public ByteBuffer encode() throws CharacterCodingException {
+    ByteBuffer bytes = StandardCharsets.UTF_8.newEncoder()
+        .encode(CharBuffer.wrap(chars, 0, length));
+    length = 0;
+    return bytes;
+  }
+
+  @Override
+  public String toString() {
+    return new String(chars, 0, length);
+  }
+
+  private void ensure(int extra) {
+    if (length + extra > chars.length) {
+      chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + extra));
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package calendar.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precomputed UTC offsets of one zone, for converting between instants and local
+ * wall-clock times in bulk without asking {@link ZoneRules} each time.
+ *
+ * <p>The offset transitions between {@link #SPAN_START_YEAR} and {@link #SPAN_END_YEAR},
+ * which covers any calendar in practice, are listed once per zone in sorted arrays. An
+ * instant is converted by a binary search over the transition instants and an addition;
+ * a local time by a binary search over the local times at which the transitions happen.
+ * Times outside the span fall back to the zone's rules. Tables are built on first use and
+ * shared by all threads; fixed-offset zones need no table at all.</p>
+ *
+ * <p>Local times are seconds counted from 1970-01-01T00:00 local time, as in
+ * {@link EpochDates}. Local times that fall in a gap or an overlap resolve as
+ * {@link java.time.ZonedDateTime#of(LocalDateTime, ZoneId)} resolves them: a time in a
+ * gap moves later by the length of the gap, and a time in an overlap takes the earlier
+ * offset unless another valid one is preferred.</p>
+ */
+public final class ZoneOffsets {
+
+  /**
+   * First year whose transitions are precomputed.
+   */
+  public static final int SPAN_START_YEAR = 1900;
+
+  /**
+   * Year from which the zone's rules are asked again.
+   */
+  public static final int SPAN_END_YEAR = 2200;
+
+  private static final ConcurrentMap<ZoneId, ZoneOffsets> CACHE = new ConcurrentHashMap<>();
+
+  private static final long SPAN_START = LocalDateTime.of(SPAN_START_YEAR, 1, 2, 0, 0)
+      .toEpochSecond(ZoneOffset.UTC);
+  private static final long SPAN_END = LocalDateTime.of(SPAN_END_YEAR, 1, 1, 0, 0)
+      .toEpochSecond(ZoneOffset.UTC);
+
+  private final ZoneRules rules;
+  private final int fixedOffset;
+  private final long[] transitions;
+  private final long[] localLows;
+  private final int[] offsets;
+
+  private ZoneOffsets(ZoneRules rules) {
+    this.rules = rules;
+    if (rules.isFixedOffset()) {
+      this.fixedOffset = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+      this.transitions = null;
+      this.localLows = null;
+      this.offsets = null;
+      return;
+    }
+    this.fixedOffset = 0;
+    long[] instants = new long[64];
+    int[] after = new int[65];
+    after[0] = rules.getOffset(Instant.ofEpochSecond(SPAN_START)).getTotalSeconds();
+    int count = 0;
+    ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(SPAN_START));
+    while (next != null && next.toEpochSecond() < SPAN_END) {
+      if (count == instants.length) {
+        instants = Arrays.copyOf(instants, count * 2);
+        after = Arrays.copyOf(after, count * 2 + 1);
+      }
+      instants[count] = next.toEpochSecond();
+      after[++count] = next.getOffsetAfter().getTotalSeconds();
+      next = rules.nextTransition(next.getInstant());
+    }
+    this.transitions = Arrays.copyOf(instants, count);
+    this.offsets = Arrays.copyOf(after, count + 1);
+    this.localLows = new long[count];
+    for (int i = 0; i < count; i++) {
+      localLows[i] = transitions[i] + Math.min(offsets[i], offsets[i + 1]);
+    }
+  }
+
+  /**
+   * Returns the offsets of a zone.
+   *
+   * @param zone the zone
+   * @return the shared offsets of the zone
+   */
+  public static ZoneOffsets of(ZoneId zone) {
+    ZoneOffsets cached = CACHE.get(zone);
+    return cached != null ? cached : CACHE.computeIfAbsent(zone,
+        id -> new ZoneOffsets(id.getRules()));
+  }
+
+  /**
+   * Returns the UTC offset in effect at an instant.
+   *
+   * @param epochSecond the instant, in seconds since the epoch
+   * @return the offset in seconds
+   */
+  public int offsetAt(long epochSecond) {
+    if (transitions == null) {
+      return fixedOffset;
+    }
+    if (epochSecond < SPAN_START || epochSecond >= SPAN_END) {
+      return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+    int index = Arrays.binarySearch(transitions, epochSecond);
+    return offsets[index >= 0 ? index + 1 : -index - 1];
+  }
+
+  /**
+   * Returns the local wall-clock time at an instant.
+   *
+   * @param epochSecond the instant, in seconds since the epoch
+   * @return the local epoch second
+   */
+  public long toLocalSecond(long epochSecond) {
+    return epochSecond + offsetAt(epochSecond);
+  }
+
+  /**
+   * Returns the instant of a local wall-clock time, resolving gaps and overlaps as
+   * {@link java.time.ZonedDateTime#of(LocalDateTime, ZoneId)} does.
+   *
+   * @param localSecond the local epoch second
+   * @return the instant, in seconds since the epoch
+   */
+  public long toEpochSecond(long localSecond) {
+    return toEpochSecond(localSecond, Integer.MIN_VALUE);
+  }
+
+  /**
+   * Returns the instant of a local wall-clock time, taking the preferred offset in an
+   * overlap if it is one of the two valid ones, as {@link java.time.ZonedDateTime#plusDays}
+   * and similar methods keep the offset of the date-time they start from.
+   *
+   * @param localSecond the local epoch second
+   * @param preferredOffset the offset to keep in an overlap, in seconds
+   * @return the instant, in seconds since the epoch
+   */
+  public long toEpochSecond(long localSecond, int preferredOffset) {
+    if (transitions == null) {
+      return localSecond - fixedOffset;
+    }
+    if (localSecond < SPAN_START + 2 * 86_400 || localSecond >= SPAN_END - 2 * 86_400) {
+      return viaRules(localSecond, preferredOffset);
+    }
+    int index = Arrays.binarySearch(localLows, localSecond);
+    int transition = index >= 0 ? index : -index - 2;
+    if (transition < 0) {
+      return localSecond - offsets[0];
+    }
+    int before = offsets[transition];
+    int after = offsets[transition + 1];
+    if (localSecond >= transitions[transition] + Math.max(before, after)) {
+      return localSecond - after;
+    }
+    if (after < before && preferredOffset == after) {
+      return localSecond - after;
+    }
+    return localSecond - before;
+  }
+
+  private long viaRules(long localSecond, int preferredOffset) {
+    LocalDateTime local = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+    ZoneOffsetTransition transition = rules.getTransition(local);
+    if (transition == null) {
+      return localSecond - rules.getOffset(local).getTotalSeconds();
+    }
+    int before = transition.getOffsetBefore().getTotalSeconds();
+    int after = transition.getOffsetAfter().getTotalSeconds();
+    if (transition.isOverlap() && preferredOffset == after) {
+      return localSecond - after;
+    }
+    return localSecond - before;
+  }
+}
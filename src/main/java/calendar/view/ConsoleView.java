@@ -8,16 +8,44 @@ import calendar.interfacetypes.Iview;
  * This view handles all output to the console including messages, errors, and formatted results.
  * It uses a ResultFormatter to convert result objects into displayable strings.
  * Note: This view only handles output, not input.
+ * Normal output goes through an {@link OutputSink}, which may buffer it; errors are written
+ * to standard error after flushing the sink, so the two streams stay in order. A view
+ * serving a remote session writes errors to its output sink instead.
  */
 public class ConsoleView implements Iview {
 
   private final ResultFormatter resultFormatter;
+  private final OutputSink out;
+  private final boolean errorsToOut;
 
   /**
-   * Constructs a new ConsoleView with a default ResultFormatter.
+   * Constructs a new ConsoleView with a default ResultFormatter that prints each message
+   * to standard output immediately.
    */
   public ConsoleView() {
+    this(OutputSink.console());
+  }
+
+  /**
+   * Constructs a new ConsoleView that writes its messages to the given sink.
+   *
+   * @param out the sink for messages and results
+   */
+  public ConsoleView(OutputSink out) {
+    this(out, false);
+  }
+
+  /**
+   * Constructs a new ConsoleView that writes its messages to the given sink, and its errors
+   * either to the same sink or to standard error.
+   *
+   * @param out the sink for messages and results
+   * @param errorsToOut true to write errors to the sink as well
+   */
+  public ConsoleView(OutputSink out, boolean errorsToOut) {
     this.resultFormatter = new ResultFormatter();
+    this.out = out;
+    this.errorsToOut = errorsToOut;
   }
 
   /**
@@ -29,7 +57,7 @@ public class ConsoleView implements Iview {
   @Override
   public void display(String message) {
     if (message != null && !message.isEmpty()) {
-      System.out.println(message);
+      out.println(message);
     }
   }
 
@@ -41,6 +69,11 @@ public class ConsoleView implements Iview {
    */
   @Override
   public void displayError(String errorMessage) {
+    if (errorsToOut) {
+      out.println("Error: " + errorMessage);
+      return;
+    }
+    out.flush();
     System.err.println("Error: " + errorMessage);
   }
 
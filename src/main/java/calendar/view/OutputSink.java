@@ -0,0 +1,111 @@
+package calendar.view;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * Line-oriented destination for console output and command echo.
+ *
+ * <p>The {@link #console()} sink prints every line to the current {@code System.out} as
+ * soon as it is written, which is what interactive sessions need. A {@link #buffered}
+ * sink collects lines in a large buffer and writes them out only when it fills or is
+ * flushed, so a headless script producing millions of lines does not pay for a flush per
+ * line. A {@link #disabled()} sink drops everything. Sinks are safe to share between
+ * threads.</p>
+ */
+public final class OutputSink {
+
+  /**
+   * Size in characters of the buffer used by buffered sinks.
+   */
+  public static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final OutputSink DISABLED = new OutputSink(null, false);
+
+  private final Writer writer;
+  private final boolean enabled;
+
+  private OutputSink(Writer writer, boolean enabled) {
+    this.writer = writer;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Returns a sink that prints each line to {@code System.out} immediately.
+   *
+   * @return the console sink
+   */
+  public static OutputSink console() {
+    return new OutputSink(null, true);
+  }
+
+  /**
+   * Returns a sink that buffers lines and writes them to the given stream when the buffer
+   * fills or the sink is flushed. The stream is never closed by the sink.
+   *
+   * @param out the stream to write to
+   * @return the buffered sink
+   */
+  public static OutputSink buffered(OutputStream out) {
+    return new OutputSink(new BufferedWriter(
+        new OutputStreamWriter(out, Charset.defaultCharset()), BUFFER_SIZE), true);
+  }
+
+  /**
+   * Returns a sink that discards everything written to it.
+   *
+   * @return the disabled sink
+   */
+  public static OutputSink disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Checks whether lines written to this sink are output at all.
+   *
+   * @return false for the disabled sink
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Writes a line followed by the platform line separator.
+   *
+   * @param line the line to write
+   */
+  public synchronized void println(String line) {
+    if (!enabled) {
+      return;
+    }
+    if (writer == null) {
+      System.out.println(line);
+      return;
+    }
+    try {
+      writer.write(line);
+      writer.write(System.lineSeparator());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes out any buffered lines.
+   */
+  public synchronized void flush() {
+    if (writer == null) {
+      return;
+    }
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
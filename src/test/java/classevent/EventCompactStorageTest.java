@@ -0,0 +1,104 @@
+package classevent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import org.junit.Test;
+
+/**
+ * Tests that Event hands back date-times equal to the ones it was built from, although it
+ * stores them as epoch seconds and zones.
+ */
+public class EventCompactStorageTest {
+
+  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+  private Event event(ZonedDateTime start, ZonedDateTime end) {
+    return new EventBuilder()
+        .setSubject("Meeting")
+        .setStartDateTime(start)
+        .setEndDateTime(end)
+        .build();
+  }
+
+  @Test
+  public void testDateTimesRoundTrip() {
+    ZonedDateTime start = ZonedDateTime.of(2025, 6, 1, 9, 30, 15, 123_000_000, NEW_YORK);
+    ZonedDateTime end = ZonedDateTime.of(2025, 6, 1, 10, 0, 0, 0, ZoneOffset.ofHours(2));
+    Event e = event(start, end);
+    assertEquals(start, e.getStartDateTime());
+    assertEquals(end, e.getEndDateTime());
+    assertEquals(start.toLocalDateTime(), e.getStartDateTime().toLocalDateTime());
+    assertSame(NEW_YORK, e.getStartDateTime().getZone());
+  }
+
+  @Test
+  public void testDaylightSavingOverlapKeepsOffset() {
+    LocalDateTime ambiguous = LocalDateTime.of(2025, 11, 2, 1, 30);
+    ZonedDateTime early = ZonedDateTime.of(ambiguous, NEW_YORK).withEarlierOffsetAtOverlap();
+    ZonedDateTime late = early.withLaterOffsetAtOverlap();
+    Event first = event(early, early.plusMinutes(10));
+    Event second = event(late, late.plusMinutes(10));
+
+    assertEquals(early, first.getStartDateTime());
+    assertEquals(late, second.getStartDateTime());
+    assertNotEquals(first, second);
+  }
+
+  @Test
+  public void testSameInstantInOtherZoneIsDifferentEvent() {
+    ZonedDateTime start = ZonedDateTime.of(2025, 6, 1, 9, 0, 0, 0, NEW_YORK);
+    ZonedDateTime utc = start.withZoneSameInstant(ZoneOffset.UTC);
+    assertEquals(start.equals(utc),
+        event(start, start.plusHours(1)).equals(event(utc, utc.plusHours(1))));
+  }
+
+  @Test
+  public void testNullDateTimesStayNull() {
+    Event e = new Event("Open", null, null, null, null, null, null);
+    assertNull(e.getStartDateTime());
+    assertNull(e.getEndDateTime());
+    assertEquals(e, new Event("Open", null, null, "other", null, null, null));
+  }
+
+  @Test
+  public void testRepeatedTextIsShared() {
+    ZonedDateTime start = ZonedDateTime.of(2025, 6, 1, 9, 0, 0, 0, NEW_YORK);
+    Event a = new Event(new String("Standup"), start, start.plusMinutes(15), null, "",
+        new String("Room 4"), new String("PUBLIC"));
+    Event b = new Event(new String("Standup"), start.plusDays(1), start.plusDays(1)
+        .plusMinutes(15), null, "", new String("Room 4"), new String("PUBLIC"));
+    assertSame(a.getSubject(), b.getSubject());
+    assertSame(a.getLocation(), b.getLocation());
+    assertSame(a.getStatus(), b.getStatus());
+  }
+
+  @Test
+  public void testBuiltAndCopiedEventsShareText() {
+    ZonedDateTime start = ZonedDateTime.of(2025, 6, 1, 9, 0, 0, 0, NEW_YORK);
+    Event built = new EventBuilder()
+        .setSubject(new String("Standup"))
+        .setStartDateTime(start)
+        .setEndDateTime(start.plusMinutes(15))
+        .setLocation(new String("Room 4"))
+        .build();
+    Event copied = new EventBuilder()
+        .setDetailsOf(built)
+        .setStartDateTime(start.plusDays(1))
+        .setEndDateTime(start.plusDays(1).plusMinutes(15))
+        .build();
+    assertSame("Standup", built.getSubject());
+    assertSame("Room 4", built.getLocation());
+    assertSame(built.getSubject(), copied.getSubject());
+    assertSame(built.getLocation(), copied.getLocation());
+    assertSame(built.getDescription(), copied.getDescription());
+  }
+}
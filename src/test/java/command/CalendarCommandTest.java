@@ -12,7 +12,6 @@ import calendar.interfacetypes.IresultDto;
 import calendar.model.CalendarCollection;
 import calendar.model.CalendarModel;
 import java.lang.reflect.Field;
-import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -70,15 +69,15 @@ public class CalendarCommandTest {
   @Test
   public void testExecuteThrowsExceptionWhenStrategyIsMissing() throws Exception {
     CalendarDto dto = CalendarDto.createCalendar("TestCal", "UTC");
+    Field typeField = CalendarDto.class.getDeclaredField("type");
+    typeField.setAccessible(true);
+    typeField.set(dto, null);
     CalendarCommand command = new CalendarCommand(dto, service);
-    Field mapField = CalendarCommand.class.getDeclaredField("strategyMap");
-    mapField.setAccessible(true);
-    Map<?, ?> internalMap = (Map<?, ?>) mapField.get(command);
-    internalMap.clear();
     Exception exception = assertThrows(Exception.class, () -> {
       command.execute();
     });
     assertTrue(exception.getMessage().contains("No strategy found"));
-    assertTrue(exception.getMessage().contains("CREATE_CALENDAR"));
+    assertTrue(exception.getMessage().contains("command type null"));
+    assertTrue("Nothing should be created", !repository.existsByName("TestCal"));
   }
 }
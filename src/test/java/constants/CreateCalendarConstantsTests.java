@@ -1,5 +1,6 @@
 package constants;
 
+import static calendar.constants.CreateCalendarConstants.parseWeekdayMask;
 import static calendar.constants.CreateCalendarConstants.parseWeekdays;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -18,6 +19,14 @@ import org.junit.Test;
  */
 public class CreateCalendarConstantsTests {
 
+  @Test
+  public void testParseWeekdayMaskMatchesParseWeekdays() {
+    for (String input : new String[] {"", "M", "MTWRFSU", "mtw", "MXZ", "MMTT", "mTx@w#"}) {
+      assertEquals(parseWeekdays(input), parseWeekdayMask(input).toSet());
+    }
+    assertTrue(parseWeekdayMask(null).isEmpty());
+  }
+
   @Test
   public void testParseWeekdaysEmptyString() {
     Set<DayOfWeek> days = parseWeekdays("");
@@ -0,0 +1,121 @@
+package controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import calendar.controller.CalendarServer;
+import calendar.model.CalendarCollection;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the calendar server runs concurrent sessions against shared calendars without
+ * losing updates, and that each session has its own active calendar.
+ */
+public class CalendarServerTest {
+
+  private final CalendarCollection repository = new CalendarCollection();
+  private CalendarServer server;
+  private Thread acceptor;
+
+  /**
+   * Starts a server on a free port.
+   */
+  @Before
+  public void setUp() throws Exception {
+    server = new CalendarServer(repository, 0);
+    acceptor = new Thread(server::serve);
+    acceptor.start();
+  }
+
+  /**
+   * Stops the server.
+   */
+  @After
+  public void tearDown() throws Exception {
+    server.close();
+    acceptor.join(5000);
+  }
+
+  /**
+   * Sends the commands over one connection, followed by "exit", and returns every line
+   * the server sent back.
+   */
+  private List<String> session(List<String> commands) throws Exception {
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+      PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(),
+          StandardCharsets.UTF_8));
+      for (String command : commands) {
+        out.println(command);
+      }
+      out.println("exit");
+      out.flush();
+      BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+          StandardCharsets.UTF_8));
+      List<String> lines = new ArrayList<>();
+      String line;
+      while ((line = in.readLine()) != null) {
+        lines.add(line);
+      }
+      return lines;
+    }
+  }
+
+  @Test
+  public void testConcurrentSessionsLoseNoUpdates() throws Exception {
+    session(List.of("create calendar --name team --timezone UTC"));
+    int clients = 8;
+    int perClient = 100;
+    ExecutorService pool = Executors.newFixedThreadPool(clients);
+    List<Future<List<String>>> results = new ArrayList<>();
+    for (int c = 0; c < clients; c++) {
+      List<String> commands = new ArrayList<>();
+      commands.add("use calendar --name team");
+      for (int i = 0; i < perClient; i++) {
+        commands.add("create event \"Client " + c + " event " + i + "\" from "
+            + "2025-05-01T09:00 to 2025-05-01T10:00");
+      }
+      Callable<List<String>> task = () -> session(commands);
+      results.add(pool.submit(task));
+    }
+    for (Future<List<String>> result : results) {
+      List<String> lines = result.get();
+      assertEquals("Goodbye!", lines.get(lines.size() - 1));
+      assertEquals(perClient, lines.stream().filter(l -> l.endsWith("created successfully."))
+          .count());
+    }
+    pool.shutdown();
+    assertEquals(clients * perClient, repository.findByName("team").getEventCount());
+  }
+
+  @Test
+  public void testSessionsHaveTheirOwnActiveCalendar() throws Exception {
+    session(List.of("create calendar --name a --timezone UTC",
+        "create calendar --name b --timezone UTC"));
+    List<String> first = session(List.of("use calendar --name a",
+        "create event A from 2025-05-01T09:00 to 2025-05-01T10:00"));
+    List<String> second = session(List.of(
+        "create event B from 2025-05-01T09:00 to 2025-05-01T10:00",
+        "use calendar --name b",
+        "create event B from 2025-05-01T09:00 to 2025-05-01T10:00"));
+
+    assertTrue(first.contains("Event 'A' created successfully."));
+    assertTrue(second.contains("Error: Calendar not found."));
+    assertEquals(1, repository.findByName("a").getEventCount());
+    assertEquals(1, repository.findByName("b").getEventCount());
+  }
+}
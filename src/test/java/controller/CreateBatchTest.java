@@ -0,0 +1,127 @@
+package controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import calendar.controller.EventController;
+import calendar.dto.CreateEventDto;
+import calendar.dto.SimpleMessageDto;
+import calendar.input.HeadlessInputSource;
+import calendar.interfacetypes.IresultDto;
+import calendar.interfacetypes.Iview;
+import calendar.model.Calendar;
+import calendar.model.CalendarCollection;
+import calendar.model.CalendarModel;
+import calendar.service.CommandParserService;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that consecutive create commands from a headless script are applied as one batch,
+ * and that a failing batch reports every command's result as if run one at a time.
+ */
+public class CreateBatchTest {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private final CountingCollection repository = new CountingCollection();
+  private final CalendarModel model = new CalendarModel(repository);
+  private final CapturingView view = new CapturingView();
+
+  private void run(List<String> commands) throws Exception {
+    File script = tempFolder.newFile("commands.txt");
+    List<String> lines = new ArrayList<>();
+    lines.add("create calendar --name work --timezone America/New_York");
+    lines.add("use calendar --name work");
+    lines.addAll(commands);
+    lines.add("exit");
+    Files.write(script.toPath(), lines);
+    new EventController(new HeadlessInputSource(script.getAbsolutePath()), model,
+        new CommandParserService(), view).run();
+  }
+
+  @Test
+  public void testConsecutiveCreatesAreSavedOnce() throws Exception {
+    List<String> commands = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      commands.add("create event \"Event " + i + "\" from 2025-05-01T09:00 to 2025-05-01T10:00");
+    }
+    commands.add("create event \"Standup\" from 2025-05-05T09:00 to 2025-05-05T09:15"
+        + " repeats MTWRF for 10 times");
+    run(commands);
+
+    assertEquals(1, repository.saves);
+    assertEquals(210, repository.findByName("work").getEventCount());
+    assertEquals(201, view.messages.size());
+    assertEquals("Event 'Event 0' created successfully.", view.messages.get(0));
+    assertEquals(0, view.errors.size());
+  }
+
+  @Test
+  public void testFailingBatchFallsBackToSingleCommands() throws Exception {
+    run(List.of(
+        "create event \"A\" from 2025-05-01T09:00 to 2025-05-01T10:00",
+        "create event \"B\" from 2025-05-01T09:00 to 2025-05-01T10:00",
+        "create event \"A\" from 2025-05-01T09:00 to 2025-05-01T10:00",
+        "create event \"C\" from 2025-05-01T09:00 to 2025-05-01T10:00"));
+
+    assertEquals(3, repository.findByName("work").getEventCount());
+    assertEquals(3, view.messages.size());
+    assertEquals(List.of("Event already exists"), view.errors);
+  }
+
+  @Test
+  public void testCreateEventsIsAllOrNothing() throws Exception {
+    run(List.of());
+    Calendar before = repository.findByName("work");
+    assertThrows(Exception.class, () -> model.createEvents(List.of(
+        CreateEventDto.timedSingle("A", "2025-05-01T09:00", "2025-05-01T10:00"),
+        CreateEventDto.timedSingle("A", "2025-05-01T09:00", "2025-05-01T10:00"))));
+    assertEquals(before, repository.findByName("work"));
+    assertEquals(0, before.getEventCount());
+  }
+
+  /**
+   * Repository counting the saves made after the calendar was created.
+   */
+  private static class CountingCollection extends CalendarCollection {
+    int saves = -1;
+
+    @Override
+    public void save(Calendar calendar) {
+      saves++;
+      super.save(calendar);
+    }
+  }
+
+  /**
+   * View recording the results and errors it is given.
+   */
+  private static class CapturingView implements Iview {
+    final List<String> messages = new ArrayList<>();
+    final List<String> errors = new ArrayList<>();
+
+    @Override
+    public void display(String message) {
+    }
+
+    @Override
+    public void displayError(String message) {
+      errors.add(message);
+    }
+
+    @Override
+    public void displayResult(IresultDto result) {
+      String message = ((SimpleMessageDto) result).getMessage();
+      if (message.startsWith("Event ")) {
+        messages.add(message);
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package controller;
+
+import static org.junit.Assert.assertEquals;
+
+import calendar.controller.EventController;
+import calendar.input.HeadlessInputSource;
+import calendar.interfacetypes.IresultDto;
+import calendar.interfacetypes.Iview;
+import calendar.model.CalendarCollection;
+import calendar.model.CalendarModel;
+import calendar.service.CommandParserService;
+import calendar.view.OutputSink;
+import calendar.view.ResultFormatter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that headless scripts, parsed on a separate thread ahead of execution, produce
+ * their echo, results and errors in script order.
+ */
+public class PipelinedRunTest {
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private final CalendarCollection repository = new CalendarCollection();
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+  private final OutputSink sink = OutputSink.buffered(output);
+
+  private List<String> run(OutputSink echo, String... commands) throws Exception {
+    File script = tempFolder.newFile("commands.txt");
+    Files.write(script.toPath(), Arrays.asList(commands));
+    new EventController(new HeadlessInputSource(script.getAbsolutePath(), echo),
+        new CalendarModel(repository), new CommandParserService(), new SinkView()).run();
+    sink.flush();
+    List<String> lines = new ArrayList<>(Arrays.asList(output.toString()
+        .split(System.lineSeparator())));
+    lines.removeIf(line -> line.startsWith("Welcome") || line.startsWith("Enter commands"));
+    return lines;
+  }
+
+  @Test
+  public void testOutputFollowsScriptOrder() throws Exception {
+    List<String> lines = run(sink,
+        "create calendar --name work --timezone America/New_York",
+        "use calendar --name work",
+        "create event \"A\" from 2025-05-01T09:00 to 2025-05-01T10:00",
+        "create event \"B\" from 2025-05-01T11:00 to 2025-05-01T12:00",
+        "not a command",
+        "create event \"A\" from 2025-05-01T09:00 to 2025-05-01T10:00",
+        "exit",
+        "create event \"C\" from 2025-05-01T13:00 to 2025-05-01T14:00");
+
+    assertEquals(14, lines.size());
+    assertEquals("> create event \"A\" from 2025-05-01T09:00 to 2025-05-01T10:00",
+        lines.get(4));
+    assertEquals("Event 'A' created successfully.", lines.get(5));
+    assertEquals("Event 'B' created successfully.", lines.get(7));
+    assertEquals("> not a command", lines.get(8));
+    assertEquals("ERROR Error: Unknown command.", lines.get(9));
+    assertEquals("ERROR Event already exists", lines.get(11));
+    assertEquals("> exit", lines.get(12));
+    assertEquals("Goodbye!", lines.get(13));
+    assertEquals(2, repository.findByName("work").getEventCount());
+  }
+
+  @Test
+  public void testDisabledEchoLeavesOnlyResults() throws Exception {
+    List<String> commands = new ArrayList<>();
+    commands.add("create calendar --name work --timezone America/New_York");
+    commands.add("use calendar --name work");
+    for (int i = 0; i < 5000; i++) {
+      commands.add("create event \"Event " + i + "\" from 2025-05-01T09:00"
+          + " to 2025-05-01T10:00");
+    }
+    List<String> lines = run(OutputSink.disabled(), commands.toArray(new String[0]));
+
+    assertEquals(5002, lines.size());
+    assertEquals("Event 'Event 4999' created successfully.", lines.get(5001));
+    assertEquals(5000, repository.findByName("work").getEventCount());
+  }
+
+  /**
+   * View writing results and errors to the same sink as the echo.
+   */
+  private class SinkView implements Iview {
+    private final ResultFormatter formatter = new ResultFormatter();
+
+    @Override
+    public void display(String message) {
+      sink.println(message);
+    }
+
+    @Override
+    public void displayError(String message) {
+      sink.println("ERROR " + message);
+    }
+
+    @Override
+    public void displayResult(IresultDto result) {
+      sink.println(formatter.format(result));
+    }
+  }
+}
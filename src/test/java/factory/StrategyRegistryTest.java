@@ -0,0 +1,61 @@
+package factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import calendar.dto.CopyEventDto.CopyType;
+import calendar.dto.CreateEventDto.CommandType;
+import calendar.dto.ExportEventDto;
+import calendar.dto.ImportEventDto;
+import calendar.factory.CopyStrategyFactory;
+import calendar.factory.CreateStrategyFactory;
+import calendar.factory.ExporterFactory;
+import calendar.factory.ImporterFactory;
+import calendar.factory.StrategyRegistry;
+import calendar.interfacetypes.Iexport;
+import org.junit.Test;
+
+/**
+ * Tests that the strategy factories hand out shared instances and accept registered
+ * strategies.
+ */
+public class StrategyRegistryTest {
+
+  @Test
+  public void testFactoriesReturnSharedInstances() throws Exception {
+    assertSame(CreateStrategyFactory.getStrategy(CommandType.TIMED_SINGLE),
+        CreateStrategyFactory.getStrategy(CommandType.TIMED_SINGLE));
+    assertSame(CopyStrategyFactory.getStrategy(CopyType.COPY_EVENTS_ON_DATE),
+        CopyStrategyFactory.getStrategy(CopyType.COPY_EVENTS_ON_DATE));
+    assertSame(ExporterFactory.getExporter(new ExportEventDto("a.ics")),
+        ExporterFactory.getExporter(new ExportEventDto("b.ICAL")));
+    assertSame(ImporterFactory.getImporter(new ImportEventDto("a.csv")),
+        ImporterFactory.getImporter(new ImportEventDto("b.csv")));
+  }
+
+  @Test
+  public void testRegisteredExporterIsUsedForItsExtension() throws Exception {
+    Iexport exporter = (events, fileName) -> fileName;
+    ExporterFactory.register("TXT", exporter);
+    assertSame(exporter, ExporterFactory.getExporter(new ExportEventDto("events.txt")));
+  }
+
+  @Test
+  public void testRegistryLookup() {
+    StrategyRegistry<CopyType, String> registry =
+        new StrategyRegistry<>(CopyType.class, "copy");
+    registry.register(CopyType.COPY_SINGLE_EVENT, "single");
+
+    assertEquals("single", registry.get(CopyType.COPY_SINGLE_EVENT));
+    assertNull(registry.find(CopyType.COPY_EVENTS_ON_DATE));
+    assertNull(registry.find(null));
+    try {
+      registry.get(CopyType.COPY_EVENTS_ON_DATE);
+    } catch (IllegalArgumentException e) {
+      assertEquals("Unknown copy command type: COPY_EVENTS_ON_DATE", e.getMessage());
+      return;
+    }
+    throw new AssertionError("Expected an unregistered type to be rejected");
+  }
+}
@@ -6,6 +6,8 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import calendar.input.HeadlessInputSource;
+import calendar.view.OutputSink;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import org.junit.Rule;
@@ -99,4 +101,32 @@ public class HeadlessInputSourceTest {
 
     assertFalse(source.hasMoreCommands());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testStreamsLargeFileAndEchoesToSink() throws Exception {
+    File testFile = tempFolder.newFile("large.txt");
+    try (FileWriter writer = new FileWriter(testFile)) {
+      for (int i = 0; i < 100_000; i++) {
+        writer.write(i % 10 == 0 ? "# comment\n\n" : "command" + i + "\n");
+      }
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    OutputSink echo = OutputSink.buffered(out);
+    HeadlessInputSource source = new HeadlessInputSource(testFile.getAbsolutePath(), echo);
+
+    assertTrue(source.canReadAhead());
+    int count = 0;
+    while (source.hasMoreCommands()) {
+      String command = source.getNextCommand();
+      assertFalse(command.startsWith("#"));
+      count++;
+    }
+    assertEquals(90_000, count);
+
+    source.echo("command1");
+    assertEquals(0, out.size());
+    echo.flush();
+    assertEquals("> command1" + System.lineSeparator(), out.toString());
+    source.close();
+  }
+}
@@ -0,0 +1,130 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import calendar.dto.CreateEventDto;
+import calendar.model.Calendar;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelBuilder;
+import calendar.model.ConcurrentCalendarCollection;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Tests the concurrent repository: compare-and-save, name snapshots, and updates made
+ * through models that do not share locks.
+ */
+public class ConcurrentCalendarCollectionTest {
+
+  private final ConcurrentCalendarCollection repository = new ConcurrentCalendarCollection();
+
+  private Calendar calendar(String name) {
+    return new CalendarModelBuilder()
+        .setName(name)
+        .setTimeZone(ZoneId.of("UTC"))
+        .setEvents(new HashSet<>())
+        .build();
+  }
+
+  @Test
+  public void testCompareAndSaveOnlyReplacesExpectedVersion() {
+    Calendar first = calendar("work");
+    assertTrue(repository.compareAndSave(null, first));
+    assertFalse(repository.compareAndSave(null, calendar("work")));
+
+    Calendar second = calendar("work");
+    assertTrue(repository.compareAndSave(first, second));
+    assertFalse(repository.compareAndSave(first, calendar("work")));
+    assertSame(second, repository.findByName("work"));
+
+    repository.deleteByName("work");
+    assertFalse(repository.compareAndSave(second, calendar("work")));
+    assertFalse(repository.existsByName("work"));
+  }
+
+  @Test
+  public void testCompareAndSaveAllReplacesAllOrNothing() {
+    Calendar a = calendar("a");
+    Calendar b = calendar("b");
+    repository.save(a);
+    repository.save(b);
+
+    Calendar newA = calendar("a");
+    Calendar newB = calendar("b");
+    assertFalse(repository.compareAndSaveAll(List.of(a, calendar("b")), List.of(newA, newB)));
+    assertSame(a, repository.findByName("a"));
+    assertSame(b, repository.findByName("b"));
+
+    assertTrue(repository.compareAndSaveAll(List.of(a, b), List.of(newA, newB)));
+    assertSame(newA, repository.findByName("a"));
+    assertSame(newB, repository.findByName("b"));
+  }
+
+  @Test
+  public void testCompareAndSaveAllPublishesNewNames() {
+    Calendar a = calendar("a");
+    repository.save(a);
+
+    Calendar added = calendar("b");
+    assertTrue(repository.compareAndSaveAll(Arrays.asList(a, null),
+        List.of(calendar("a"), added)));
+    assertSame(added, repository.findByName("b"));
+    assertEquals(Set.of("a", "b"), repository.getAllCalendarNames());
+  }
+
+  @Test
+  public void testNamesAreAnImmutableSnapshot() {
+    repository.save(calendar("a"));
+    Set<String> before = repository.getAllCalendarNames();
+    repository.save(calendar("b"));
+    repository.deleteByName("a");
+
+    assertEquals(Set.of("a"), before);
+    assertEquals(Set.of("b"), repository.getAllCalendarNames());
+    assertThrows(UnsupportedOperationException.class, () -> before.add("c"));
+  }
+
+  @Test
+  public void testModelsWithoutSharedLocksLoseNoUpdates() throws Exception {
+    new CalendarModel(repository).createNewCalendar("team", "UTC");
+    int threads = 8;
+    int perThread = 200;
+    List<Thread> workers = new ArrayList<>();
+    List<Throwable> failures = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int id = t;
+      workers.add(new Thread(() -> {
+        try {
+          CalendarModel model = new CalendarModel(repository);
+          model.setActiveCalendar("team");
+          for (int i = 0; i < perThread; i++) {
+            model.createEvent(CreateEventDto.timedSingle("Event " + id + "-" + i,
+                "2025-05-01T09:00", "2025-05-01T10:00"));
+          }
+        } catch (Throwable e) {
+          synchronized (failures) {
+            failures.add(e);
+          }
+        }
+      }));
+    }
+    for (Thread worker : workers) {
+      worker.start();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+
+    assertEquals(List.of(), failures);
+    assertEquals(threads * perThread, repository.findByName("team").getEventCount());
+  }
+}
@@ -0,0 +1,123 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarModelBuilder;
+import calendar.model.EditableEventSet;
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import calendar.model.RecurrenceRule;
+import calendar.model.RecurrenceRuleBuilder;
+import calendar.util.EventFinder;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Tests that subject and series lookups on indexed event sets return the same events as
+ * scanning a plain set, while the sets are being edited.
+ */
+public class EventLookupTest {
+
+  private static final ZoneId ZONE = ZoneId.of("America/New_York");
+  private static final ZonedDateTime BASE = ZonedDateTime.of(2025, 3, 1, 8, 0, 0, 0, ZONE);
+
+  private Event randomEvent(Random random) {
+    ZonedDateTime start = BASE.plusHours(random.nextInt(24 * 40));
+    int series = random.nextInt(8);
+    return new EventBuilder()
+        .setSubject("Subject " + random.nextInt(6))
+        .setStartDateTime(start)
+        .setEndDateTime(start.plusMinutes(30 + 30 * random.nextInt(3)))
+        .setSeriesId(series < 2 ? "" : "series-" + series)
+        .build();
+  }
+
+  private void assertSameLookups(Set<Event> indexed, Set<Event> plain, Random random) {
+    for (int i = 0; i < 30; i++) {
+      String subject = "Subject " + random.nextInt(7);
+      String seriesId = "series-" + random.nextInt(9);
+      ZonedDateTime start = BASE.plusHours(random.nextInt(24 * 40));
+      assertEquals(new HashSet<>(EventFinder.findBySubjectAndStart(subject, start, plain)),
+          new HashSet<>(EventFinder.findBySubjectAndStart(subject, start, indexed)));
+      assertEquals(new HashSet<>(EventFinder.findBySubjectFromStart(subject, start, plain)),
+          new HashSet<>(EventFinder.findBySubjectFromStart(subject, start, indexed)));
+      assertEquals(new HashSet<>(EventFinder.findBySeries(seriesId, plain)),
+          new HashSet<>(EventFinder.findBySeries(seriesId, indexed)));
+      assertEquals(new HashSet<>(EventFinder.findSeriesFrom(seriesId, start, plain)),
+          new HashSet<>(EventFinder.findSeriesFrom(seriesId, start, indexed)));
+    }
+  }
+
+  @Test
+  public void testLookupsFollowEdits() {
+    Random random = new Random(11);
+    Set<Event> plain = new HashSet<>();
+    for (int i = 0; i < 400; i++) {
+      plain.add(randomEvent(random));
+    }
+    Calendar calendar = new CalendarModelBuilder().setName("work").setTimeZone(ZONE)
+        .setEvents(plain).build();
+    assertSameLookups(calendar.getEventsView(), plain, random);
+
+    for (int round = 0; round < 5; round++) {
+      EditableEventSet editable = new EditableEventSet(calendar.getEventsView());
+      List<Event> current = new ArrayList<>(plain);
+      for (int i = 0; i < 40; i++) {
+        Event event = random.nextBoolean() ? randomEvent(random)
+            : current.get(random.nextInt(current.size()));
+        if (random.nextBoolean()) {
+          assertEquals(plain.add(event), editable.add(event));
+        } else {
+          assertEquals(plain.remove(event), editable.remove(event));
+        }
+        assertSameLookups(editable, plain, random);
+      }
+      calendar = new CalendarModelBuilder().setName("work").setTimeZone(ZONE)
+          .setEvents(editable).build();
+      assertSameLookups(calendar.getEventsView(), plain, random);
+    }
+  }
+
+  @Test
+  public void testLookupsIncludeSeriesOccurrencesInOrder() {
+    RecurrenceRule rule = new RecurrenceRuleBuilder()
+        .setSubject("Standup")
+        .setSeriesId("daily")
+        .setFirstDate(BASE.toLocalDate())
+        .setTimes(LocalTime.of(9, 0), LocalTime.of(9, 15))
+        .setTimeZone(ZONE)
+        .setWeekdays(Set.of(DayOfWeek.values()))
+        .setCount(20)
+        .build();
+    Event moved = new EventBuilder()
+        .setSubject("Standup")
+        .setStartDateTime(BASE.plusDays(5).withHour(10))
+        .setEndDateTime(BASE.plusDays(5).withHour(11))
+        .setSeriesId("daily")
+        .build();
+    Calendar calendar = new CalendarModelBuilder().setName("work").setTimeZone(ZONE)
+        .setEvents(rule).addEvents(Set.of(moved)).build();
+    Set<Event> plain = new HashSet<>(calendar.getEventsView());
+
+    assertSameLookups(calendar.getEventsView(), plain, new Random(3));
+    ZonedDateTime from = BASE.plusDays(3);
+    List<Event> series = EventFinder.findSeriesFrom("daily", from, calendar.getEventsView());
+    assertEquals(EventFinder.findSeriesFrom("daily", from, plain).size(), series.size());
+    for (int i = 1; i < series.size(); i++) {
+      assertTrue(series.get(i - 1).getStartDateTime()
+          .isBefore(series.get(i).getStartDateTime()));
+    }
+    assertEquals(1, EventFinder.findBySubjectAndStart("Standup",
+        BASE.plusDays(2).withHour(9), calendar.getEventsView()).size());
+  }
+}
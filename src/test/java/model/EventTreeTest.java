@@ -0,0 +1,135 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import calendar.model.EditableEventSet;
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import calendar.model.EventTree;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Tests the persistent EventTree and the EditableEventSet built on top of it.
+ */
+public class EventTreeTest {
+
+  private static final ZoneId ZONE = ZoneId.of("Europe/London");
+  private static final ZonedDateTime BASE = ZonedDateTime.of(2025, 1, 6, 9, 0, 0, 0, ZONE);
+
+  private Event event(String subject, int startMinutes, int lengthMinutes) {
+    return new EventBuilder()
+        .setSubject(subject)
+        .setStartDateTime(BASE.plusMinutes(startMinutes))
+        .setEndDateTime(BASE.plusMinutes(startMinutes + lengthMinutes))
+        .build();
+  }
+
+  @Test
+  public void testRandomOperationsMatchHashSet() {
+    Random random = new Random(3);
+    Set<Event> expected = new HashSet<>();
+    EventTree tree = EventTree.empty();
+    for (int i = 0; i < 5000; i++) {
+      Event e = event("S" + random.nextInt(5), random.nextInt(500), 30 + random.nextInt(3));
+      if (random.nextInt(3) == 0) {
+        assertEquals(expected.remove(e), tree.contains(e));
+        tree = tree.minus(e);
+      } else {
+        assertEquals(expected.add(e), !tree.contains(e));
+        tree = tree.plus(e);
+      }
+      assertEquals(expected.size(), tree.size());
+    }
+    assertEquals(expected, tree);
+    assertEquals(tree, expected);
+  }
+
+  @Test
+  public void testIterationIsOrderedByStart() {
+    List<Event> events = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      events.add(event("E" + i, (i * 37) % 200, 15));
+    }
+    EventTree tree = EventTree.of(events);
+    ZonedDateTime previous = null;
+    for (Event e : tree) {
+      if (previous != null) {
+        assertFalse(e.getStartDateTime().isBefore(previous));
+      }
+      previous = e.getStartDateTime();
+    }
+    assertEquals(200, tree.size());
+  }
+
+  @Test
+  public void testOlderVersionsAreUnchanged() {
+    Event first = event("First", 0, 60);
+    Event second = event("Second", 60, 60);
+    EventTree one = EventTree.empty().plus(first);
+    EventTree two = one.plus(second);
+    EventTree back = two.minus(first);
+
+    assertEquals(Set.of(first), one);
+    assertEquals(Set.of(first, second), two);
+    assertEquals(Set.of(second), back);
+    assertSame(two, two.plus(second));
+    assertSame(one, one.minus(second));
+  }
+
+  @Test
+  public void testTreeRejectsModification() {
+    EventTree tree = EventTree.of(List.of(event("A", 0, 10)));
+    assertThrows(UnsupportedOperationException.class, () -> tree.add(event("B", 0, 10)));
+    assertThrows(UnsupportedOperationException.class, () -> tree.clear());
+  }
+
+  @Test
+  public void testEditableSetLeavesSourceTreeIntact() {
+    Event a = event("A", 0, 10);
+    Event b = event("B", 10, 10);
+    EventTree original = EventTree.of(List.of(a, b));
+    EditableEventSet editable = new EditableEventSet(original);
+
+    assertTrue(editable.remove(a));
+    assertTrue(editable.add(event("C", 20, 10)));
+    assertFalse(editable.add(b));
+
+    assertEquals(2, original.size());
+    assertTrue(original.contains(a));
+    assertEquals(2, editable.size());
+    assertFalse(editable.contains(a));
+    assertSame(editable.toTree(), EventTree.of(editable));
+  }
+
+  @Test
+  public void testEditableSetIteratorRemove() {
+    EditableEventSet editable = new EditableEventSet(
+        List.of(event("A", 0, 10), event("B", 10, 10), event("C", 20, 10)));
+    Iterator<Event> it = editable.iterator();
+    while (it.hasNext()) {
+      if (!it.next().getSubject().equals("B")) {
+        it.remove();
+      }
+    }
+    assertEquals(1, editable.size());
+    assertEquals("B", editable.iterator().next().getSubject());
+  }
+
+  @Test
+  public void testOfDropsDuplicates() {
+    List<Event> events = List.of(event("A", 0, 10), event("A", 0, 10), event("B", 0, 10));
+    assertEquals(2, EventTree.of(events).size());
+  }
+}
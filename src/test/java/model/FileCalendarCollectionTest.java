@@ -0,0 +1,246 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import calendar.dto.CreateEventDto;
+import calendar.model.Calendar;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelBuilder;
+import calendar.model.EditableEventSet;
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import calendar.model.FileCalendarCollection;
+import calendar.util.EventFinder;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import model.util.TestDtoBuilder;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that FileCalendarCollection restores its calendars from the snapshot and log.
+ */
+public class FileCalendarCollectionTest {
+
+  private static final ZoneId ZONE = ZoneId.of("America/New_York");
+  private static final ZonedDateTime BASE = ZonedDateTime.of(2025, 5, 5, 9, 0, 0, 0, ZONE);
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private Path directory;
+
+  /**
+   * Creates an empty data directory for each test.
+   */
+  @Before
+  public void setUp() throws IOException {
+    directory = tempFolder.newFolder("data").toPath();
+  }
+
+  private Event event(String subject, int hour) {
+    return new EventBuilder()
+        .setSubject(subject)
+        .setStartDateTime(BASE.plusHours(hour))
+        .setEndDateTime(BASE.plusHours(hour + 1))
+        .setLocation(hour % 2 == 0 ? "Room 1" : null)
+        .setSeriesId("series-" + (hour % 3))
+        .build();
+  }
+
+  private Calendar calendar(String name, ZoneId zone, Set<Event> events) {
+    return new CalendarModelBuilder().setName(name).setTimeZone(zone).setEvents(events).build();
+  }
+
+  @Test
+  public void testCalendarsSurviveReopen() throws IOException {
+    Event first = event("Standup", 0);
+    Event second = event("Review", 3);
+    try (FileCalendarCollection repository = new FileCalendarCollection(directory)) {
+      repository.save(calendar("work", ZONE, Set.of(first)));
+      Calendar work = repository.findByName("work");
+      EditableEventSet events = new EditableEventSet(work.getEventsView());
+      events.add(second);
+      repository.save(calendar("work", ZONE, events));
+      repository.save(calendar("home", ZoneId.of("Asia/Kolkata"), Set.of()));
+    }
+
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      assertEquals(Set.of("work", "home"), reopened.getAllCalendarNames());
+      Calendar work = reopened.findByName("work");
+      assertEquals(Set.of(first, second), work.getEventsView());
+      assertEquals(ZONE, work.getTimezone());
+      assertEquals(ZoneId.of("Asia/Kolkata"), reopened.findByName("home").getTimezone());
+      for (Event restored : work.getEventsView()) {
+        Event original = restored.equals(first) ? first : second;
+        assertEquals(original.getSeriesId(), restored.getSeriesId());
+        assertEquals(original.getLocation(), restored.getLocation());
+        assertEquals(original.getDescription(), restored.getDescription());
+        assertEquals(original.getStartDateTime().getZone(), restored.getStartDateTime().getZone());
+      }
+      assertNull(second.getLocation());
+    }
+  }
+
+  @Test
+  public void testRemovalsRenamesAndDeletesAreReplayed() throws IOException {
+    Event keep = event("Keep", 1);
+    Event drop = event("Drop", 2);
+    try (FileCalendarCollection repository = new FileCalendarCollection(directory, 1, 0)) {
+      repository.save(calendar("old", ZONE, Set.of(keep, drop)));
+      repository.save(calendar("old", ZONE, Set.of(keep)));
+      repository.deleteByName("old");
+      repository.save(calendar("new", ZONE, Set.of(keep)));
+      repository.save(calendar("gone", ZONE, Set.of(drop)));
+      repository.deleteByName("gone");
+    }
+
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      assertEquals(Set.of("new"), reopened.getAllCalendarNames());
+      assertEquals(Set.of(keep), reopened.findByName("new").getEventsView());
+      assertFalse(reopened.existsByName("old"));
+    }
+  }
+
+  @Test
+  public void testCompactionWritesSnapshotAndEmptiesLog() throws IOException {
+    try (FileCalendarCollection repository = new FileCalendarCollection(directory, 0, 5)) {
+      Calendar work = calendar("work", ZONE, Set.of());
+      for (int i = 0; i < 12; i++) {
+        EditableEventSet events = new EditableEventSet(work.getEventsView());
+        events.add(event("Event " + i, i));
+        work = calendar("work", ZONE, events);
+        repository.save(work);
+      }
+    }
+    assertTrue(Files.exists(directory.resolve("calendars.snapshot")));
+    assertTrue(Files.size(directory.resolve("calendars.wal")) > 0);
+
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      assertEquals(12, reopened.findByName("work").getEventsView().size());
+      reopened.compact();
+    }
+    assertEquals(0, Files.size(directory.resolve("calendars.wal")));
+
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      assertEquals(12, reopened.findByName("work").getEventsView().size());
+    }
+  }
+
+  @Test
+  public void testTornLogTailIsDiscarded() throws IOException {
+    try (FileCalendarCollection repository = new FileCalendarCollection(directory)) {
+      repository.save(calendar("work", ZONE, Set.of(event("Safe", 0))));
+      repository.save(calendar("work", ZONE, Set.of(event("Safe", 0), event("Torn", 1))));
+    }
+    File log = directory.resolve("calendars.wal").toFile();
+    try (RandomAccessFile file = new RandomAccessFile(log, "rw")) {
+      file.setLength(file.length() - 3);
+    }
+
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      assertEquals(Set.of(event("Safe", 0)), reopened.findByName("work").getEventsView());
+      reopened.save(calendar("work", ZONE, Set.of(event("After", 2))));
+    }
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      assertEquals(Set.of(event("After", 2)), reopened.findByName("work").getEventsView());
+    }
+  }
+
+  @Test
+  public void testGarbageRecordLengthIsDiscarded() throws IOException {
+    try (FileCalendarCollection repository = new FileCalendarCollection(directory)) {
+      repository.save(calendar("work", ZONE, Set.of(event("Safe", 0))));
+    }
+    File log = directory.resolve("calendars.wal").toFile();
+    try (RandomAccessFile file = new RandomAccessFile(log, "rw")) {
+      file.seek(file.length());
+      file.writeInt(Integer.MAX_VALUE);
+      file.writeInt(0);
+      file.write(new byte[16]);
+    }
+
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      assertEquals(Set.of(event("Safe", 0)), reopened.findByName("work").getEventsView());
+    }
+  }
+
+  @Test
+  public void testCalendarModelChangesAreDurable() throws Exception {
+    try (FileCalendarCollection repository = new FileCalendarCollection(directory)) {
+      CalendarModel model = new CalendarModel(repository);
+      model.createNewCalendar("work", "America/New_York");
+      model.setActiveCalendar("work");
+      CreateEventDto dto = TestDtoBuilder.createTimedSingleDtoWithoutQuotes(
+          "Planning", "2025-05-05T10:00", "2025-05-05T11:00");
+      model.createEvent(dto);
+    }
+
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      Calendar work = reopened.findByName("work");
+      assertEquals(1, work.getEventsView().size());
+      assertEquals("Planning", work.getEventsView().iterator().next().getSubject());
+    }
+  }
+
+  @Test
+  public void testSnapshotCalendarsAnswerQueriesLikeTheirEvents() throws IOException {
+    Random random = new Random(5);
+    Set<Event> events = new HashSet<>();
+    for (int i = 0; i < 500; i++) {
+      ZonedDateTime start = BASE.plusMinutes(random.nextInt(60 * 24 * 30)).plusNanos(i);
+      events.add(new EventBuilder()
+          .setSubject("Event " + (i % 40))
+          .setStartDateTime(start)
+          .setEndDateTime(start.plusMinutes(1 + random.nextInt(i % 25 == 0 ? 10_000 : 120)))
+          .setSeriesId(i % 3 == 0 ? "series-" + (i % 7) : null)
+          .setStatus(i % 2 == 0 ? "PUBLIC" : null)
+          .build());
+    }
+    try (FileCalendarCollection repository = new FileCalendarCollection(directory)) {
+      repository.save(calendar("work", ZONE, events));
+      repository.save(calendar("empty", ZoneId.of("UTC"), Set.of()));
+      repository.compact();
+    }
+
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      Calendar mapped = reopened.findByName("work");
+      assertEquals(events.size(), mapped.getEventCount());
+      for (int i = 0; i < 200; i++) {
+        ZonedDateTime from = BASE.minusDays(1).plusMinutes(random.nextInt(60 * 24 * 35));
+        ZonedDateTime to = from.plusMinutes(random.nextInt(60 * 24));
+        assertEquals(new HashSet<>(EventFinder.findInRange(from, to, events)),
+            new HashSet<>(mapped.getEventsInRange(from, to)));
+        assertEquals(new HashSet<>(EventFinder.findActiveAt(from, events)),
+            new HashSet<>(mapped.getEventsActiveAt(from)));
+      }
+      assertTrue(reopened.findByName("empty").getEventsInRange(BASE, BASE.plusDays(1))
+          .isEmpty());
+      reopened.compact();
+    }
+
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      Set<Event> restored = reopened.findByName("work").getEventsView();
+      assertEquals(events, restored);
+      for (Event event : restored) {
+        Event original = events.stream().filter(event::equals).findFirst().get();
+        assertEquals(original.getSeriesId(), event.getSeriesId());
+        assertEquals(original.getStatus(), event.getStatus());
+        assertEquals(original.getStartDateTime(), event.getStartDateTime());
+      }
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarModelBuilder;
+import calendar.model.EditableEventSet;
+import calendar.model.Event;
+import calendar.model.FileCalendarCollection;
+import calendar.model.RecurrenceRule;
+import calendar.model.RecurrenceRuleBuilder;
+import calendar.util.EventFinder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that a RecurrenceRule holds the same occurrences as a series expanded one event at
+ * a time, and that calendars keep and persist rules.
+ */
+public class RecurrenceRuleTest {
+
+  private static final ZoneId ZONE = ZoneId.of("America/New_York");
+  private static final LocalDate FIRST = LocalDate.of(2025, 10, 1);
+  private static final Set<DayOfWeek> DAYS =
+      Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.SUNDAY);
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private RecurrenceRuleBuilder builder() {
+    return new RecurrenceRuleBuilder()
+        .setSubject("Standup")
+        .setSeriesId("series-1")
+        .setFirstDate(FIRST)
+        .setTimes(LocalTime.of(9, 0), LocalTime.of(10, 0))
+        .setTimeZone(ZONE)
+        .setWeekdays(DAYS);
+  }
+
+  private Set<Event> expand(int count, LocalDate until) {
+    Set<Event> events = new HashSet<>();
+    LocalDate date = FIRST;
+    while (until == null ? events.size() < count : !date.isAfter(until)) {
+      if (DAYS.contains(date.getDayOfWeek())) {
+        events.add(new Event("Standup", ZonedDateTime.of(date, LocalTime.of(9, 0), ZONE),
+            ZonedDateTime.of(date, LocalTime.of(10, 0), ZONE), "series-1", "", "", ""));
+      }
+      date = date.plusDays(1);
+    }
+    return events;
+  }
+
+  @Test
+  public void testOccurrencesMatchEagerExpansion() {
+    for (int count = 0; count < 40; count++) {
+      RecurrenceRule rule = builder().setCount(count).build();
+      Set<Event> expected = expand(count, null);
+      assertEquals(expected.size(), rule.size());
+      assertEquals(expected, new HashSet<>(rule));
+      assertEquals(expected, rule);
+    }
+    LocalDate until = FIRST.plusMonths(7);
+    RecurrenceRule rule = builder().setUntilDate(until).build();
+    assertEquals(expand(0, until), rule);
+    assertEquals(expand(0, until).size(), rule.size());
+  }
+
+  @Test
+  public void testContainsIsExact() {
+    RecurrenceRule rule = builder().setCount(10).build();
+    for (Event event : expand(10, null)) {
+      assertTrue(rule.contains(event));
+      Event moved = new Event("Standup", event.getStartDateTime().plusMinutes(1),
+          event.getEndDateTime(), "series-1", "", "", "");
+      assertFalse(rule.contains(moved));
+    }
+    assertFalse(rule.contains(expand(11, null).stream()
+        .filter(e -> !rule.contains(e)).findFirst().get()));
+  }
+
+  @Test
+  public void testWindowQueriesMatchLinearScan() {
+    RecurrenceRule rule = builder().setCount(120).build();
+    Set<Event> events = expand(120, null);
+    ZonedDateTime from = FIRST.atStartOfDay(ZONE).minusDays(2);
+    for (int i = 0; i < 400; i++) {
+      ZonedDateTime start = from.plusHours(7L * i);
+      ZonedDateTime end = start.plusHours(i % 50);
+      assertEquals(new HashSet<>(EventFinder.findInRange(start, end, events)),
+          new HashSet<>(rule.overlapping(start, end)));
+      assertEquals(new HashSet<>(EventFinder.findActiveAt(start, events)),
+          new HashSet<>(rule.activeAt(start)));
+    }
+  }
+
+  @Test
+  public void testEditingRemovesSingleOccurrence() {
+    RecurrenceRule rule = builder().setCount(30).build();
+    Calendar calendar = new CalendarModelBuilder().setName("work").setTimeZone(ZONE)
+        .setEvents(rule).build();
+    Event first = rule.iterator().next();
+
+    EditableEventSet editable = new EditableEventSet(calendar.getEventsView());
+    assertTrue(editable.remove(first));
+    Event moved = new Event("Standup", first.getStartDateTime().plusHours(1),
+        first.getEndDateTime().plusHours(1), "series-1", "", "", "");
+    assertTrue(editable.add(moved));
+    Calendar edited = new CalendarModelBuilder().setName("work").setTimeZone(ZONE)
+        .setEvents(editable).build();
+
+    Set<Event> expected = expand(30, null);
+    expected.remove(first);
+    expected.add(moved);
+    assertEquals(30, edited.getEventCount());
+    assertEquals(expected, edited.getEventsView());
+    assertFalse(edited.getEventsView().contains(first));
+    List<Event> active = edited.getEventsActiveAt(moved.getStartDateTime());
+    assertEquals(List.of(moved), active);
+    assertEquals(30, calendar.getEventCount());
+  }
+
+  @Test
+  public void testRulesSurviveLogAndSnapshot() throws IOException {
+    RecurrenceRule rule = builder().setCount(500).setLocation("Room 4")
+        .addExceptions(Set.of(FIRST.plusDays(5), FIRST.plusDays(6))).build();
+    Set<Event> expected = new HashSet<>(rule);
+    Calendar calendar = new CalendarModelBuilder().setName("work").setTimeZone(ZONE)
+        .setEvents(rule).build();
+
+    Path directory = tempFolder.newFolder("data").toPath();
+    try (FileCalendarCollection repository = new FileCalendarCollection(directory)) {
+      repository.save(calendar);
+    }
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      assertEquals(expected, reopened.findByName("work").getEventsView());
+      reopened.compact();
+    }
+    try (FileCalendarCollection reopened = new FileCalendarCollection(directory)) {
+      Calendar restored = reopened.findByName("work");
+      assertEquals(rule.size(), restored.getEventCount());
+      assertEquals(expected, restored.getEventsView());
+      ZonedDateTime start = FIRST.plusWeeks(20).atStartOfDay(ZONE);
+      assertEquals(new HashSet<>(rule.overlapping(start, start.plusDays(9))),
+          new HashSet<>(restored.getEventsInRange(start, start.plusDays(9))));
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import calendar.dto.CreateEventDto;
+import calendar.model.Calendar;
+import calendar.model.CalendarCollection;
+import calendar.model.CalendarModel;
+import calendar.model.Event;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * Tests moving calendars to a new timezone, including calendars large enough to be
+ * converted in parallel.
+ */
+public class TimezoneMigrationTest {
+
+  private final CalendarCollection repository = new CalendarCollection();
+  private final CalendarModel model = new CalendarModel(repository);
+
+  private void createLargeCalendar() throws Exception {
+    model.createNewCalendar("big", "America/New_York");
+    model.setActiveCalendar("big");
+    List<CreateEventDto> dtos = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      int day = 1 + i % 28;
+      dtos.add(CreateEventDto.timedSingle("Event " + i,
+          String.format("2025-%02d-%02dT%02d:00", 1 + i % 12, day, 8 + i % 10),
+          String.format("2025-%02d-%02dT%02d:30", 1 + i % 12, day, 8 + i % 10)));
+    }
+    dtos.add(CreateEventDto.timedRecurringFor("Standup", "2025-03-03T09:00",
+        "2025-03-03T09:15", "MTWRF", "500"));
+    model.createEvents(dtos);
+  }
+
+  @Test
+  public void testLargeCalendarKeepsEveryInstant() throws Exception {
+    createLargeCalendar();
+    Calendar before = repository.findByName("big");
+    Map<String, ZonedDateTime> expected = new HashMap<>();
+    for (Event event : before.getEventsView()) {
+      expected.put(event.getSubject() + event.getStartDateTime(),
+          event.getStartDateTime().withZoneSameInstant(ZoneId.of("America/Chicago")));
+    }
+
+    model.updateCalendarTimezone("big", "America/Chicago");
+
+    Calendar after = repository.findByName("big");
+    assertEquals(ZoneId.of("America/Chicago"), after.getTimezone());
+    assertEquals(before.getEventCount(), after.getEventCount());
+    for (Event event : after.getEventsView()) {
+      ZonedDateTime start = event.getStartDateTime();
+      ZonedDateTime original = start.withZoneSameInstant(ZoneId.of("America/New_York"));
+      assertEquals(expected.get(event.getSubject() + original), start);
+      assertEquals(ZoneId.of("America/Chicago"), event.getEndDateTime().getZone());
+    }
+  }
+
+  @Test
+  public void testEveryFailureIsReportedAndNothingIsSaved() throws Exception {
+    createLargeCalendar();
+    model.createEvent(CreateEventDto.timedSingle("Late", "2025-06-02T23:00",
+        "2025-06-02T23:30"));
+    model.createEvent(CreateEventDto.timedSingle("Later", "2025-06-03T22:30",
+        "2025-06-03T23:59"));
+    Calendar before = repository.findByName("big");
+
+    Exception ex = assertThrows(Exception.class,
+        () -> model.updateCalendarTimezone("big", "Europe/London"));
+
+    String[] lines = ex.getMessage().split(System.lineSeparator());
+    assertEquals(2, lines.length);
+    assertTrue(lines[0].contains("'Late' to shift from MONDAY to TUESDAY"));
+    assertTrue(lines[1].contains("'Later' to shift from TUESDAY to WEDNESDAY"));
+    assertEquals(before, repository.findByName("big"));
+  }
+}
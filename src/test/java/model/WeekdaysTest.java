@@ -0,0 +1,107 @@
+package model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import calendar.model.Event;
+import calendar.model.RecurrenceRule;
+import calendar.model.RecurrenceRuleBuilder;
+import calendar.model.Weekdays;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * Tests the closed-form weekday arithmetic against walking the calendar one day at a time,
+ * for every weekday mask.
+ */
+public class WeekdaysTest {
+
+  private static final long FIRST = LocalDate.of(2025, 1, 1).toEpochDay();
+
+  private static boolean walkMatches(Weekdays weekdays, long day) {
+    return weekdays.contains(LocalDate.ofEpochDay(day).getDayOfWeek());
+  }
+
+  @Test
+  public void testNextAndCountMatchWalking() {
+    for (int mask = 1; mask < 128; mask++) {
+      Weekdays weekdays = Weekdays.ofMask(mask);
+      for (long from = FIRST; from < FIRST + 7; from++) {
+        long walked = from;
+        while (!walkMatches(weekdays, walked)) {
+          walked++;
+        }
+        assertEquals(walked, weekdays.nextOnOrAfter(from));
+        long count = 0;
+        for (long to = from; to < from + 40; to++) {
+          assertEquals(count, weekdays.countBetween(from, to));
+          assertEquals(walkMatches(weekdays, to), weekdays.matches(to));
+          if (walkMatches(weekdays, to)) {
+            count++;
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testNthMatchesWalking() {
+    for (int mask = 1; mask < 128; mask++) {
+      Weekdays weekdays = Weekdays.ofMask(mask);
+      for (long from = FIRST; from < FIRST + 7; from++) {
+        long day = from - 1;
+        for (int n = 0; n < 30; n++) {
+          do {
+            day++;
+          } while (!walkMatches(weekdays, day));
+          assertEquals(day, weekdays.nth(from, n));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testSetsRoundTripThroughMask() {
+    Set<DayOfWeek> days = EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY, DayOfWeek.SUNDAY);
+    Weekdays weekdays = Weekdays.of(days);
+    assertEquals(days, weekdays.toSet());
+    assertEquals(3, weekdays.size());
+    assertSame(weekdays, Weekdays.ofMask(weekdays.mask()));
+    assertSame(Weekdays.ALL, Weekdays.of(EnumSet.allOf(DayOfWeek.class)));
+  }
+
+  @Test
+  public void testLongSeriesEndsOnClosedFormDate() {
+    Random random = new Random(3);
+    for (int i = 0; i < 200; i++) {
+      Weekdays weekdays = Weekdays.ofMask(1 + random.nextInt(127));
+      LocalDate first = LocalDate.ofEpochDay(FIRST + random.nextInt(1000));
+      int count = 1 + random.nextInt(10_000);
+      RecurrenceRule rule = new RecurrenceRuleBuilder()
+          .setFirstDate(first)
+          .setTimes(LocalTime.of(9, 0), LocalTime.of(10, 0))
+          .setTimeZone(ZoneId.of("UTC"))
+          .setWeekdays(weekdays)
+          .setCount(count)
+          .build();
+      LocalDate date = first;
+      for (int seen = 0; ; date = date.plusDays(1)) {
+        if (weekdays.contains(date.getDayOfWeek()) && ++seen == count) {
+          break;
+        }
+      }
+      assertEquals(count, rule.size());
+      LocalDate last = null;
+      for (Event event : rule) {
+        last = event.getStartDateTime().toLocalDate();
+      }
+      assertEquals(date, last);
+    }
+  }
+}
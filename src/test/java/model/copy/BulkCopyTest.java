@@ -0,0 +1,124 @@
+package model.copy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import calendar.dto.CopyEventDto;
+import calendar.dto.CreateEventDto;
+import calendar.model.Calendar;
+import calendar.model.CalendarCollection;
+import calendar.model.CalendarModel;
+import calendar.model.Event;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests copying a range of events between large calendars, against the copies the
+ * java.time classes would produce.
+ */
+public class BulkCopyTest {
+
+  private final CalendarCollection repository = new CalendarCollection();
+  private final CalendarModel model = new CalendarModel(repository);
+
+  /**
+   * Creates a source calendar with events every few hours through 2025, and a target
+   * calendar in another zone that already holds events outside the copied range.
+   */
+  @Before
+  public void setUp() throws Exception {
+    model.createNewCalendar("team", "America/New_York");
+    model.createNewCalendar("mirror", "Europe/Paris");
+    model.setActiveCalendar("mirror");
+    List<CreateEventDto> existing = new ArrayList<>();
+    for (int day = 1; day <= 28; day++) {
+      existing.add(CreateEventDto.timedSingle("Existing " + day,
+          String.format("2025-12-%02dT09:00", day), String.format("2025-12-%02dT10:00", day)));
+    }
+    model.createEvents(existing);
+    model.setActiveCalendar("team");
+    List<CreateEventDto> events = new ArrayList<>();
+    ZonedDateTime start = ZonedDateTime.of(2025, 1, 1, 1, 30, 0, 0,
+        ZoneId.of("America/New_York"));
+    for (int i = 0; i < 3_000; i++) {
+      ZonedDateTime at = start.plusHours(3L * i);
+      events.add(CreateEventDto.timedSingle("Event " + i,
+          at.toLocalDateTime().toString(), at.toLocalDateTime().plusMinutes(45).toString()));
+    }
+    events.add(CreateEventDto.timedRecurringFor("Standup", "2025-02-03T09:00",
+        "2025-02-03T09:15", "MTWRF", "40"));
+    model.createEvents(events);
+  }
+
+  @Test
+  public void testRangeCopyMatchesShiftedEvents() throws Exception {
+    Calendar source = repository.findByName("team");
+    Calendar before = repository.findByName("mirror");
+    ZoneId sourceZone = source.getTimezone();
+    ZonedDateTime from = ZonedDateTime.of(2025, 2, 1, 0, 0, 0, 0, sourceZone);
+    ZonedDateTime to = ZonedDateTime.of(2025, 4, 30, 23, 59, 59, 0, sourceZone);
+    // 40 weeks, so the target date keeps the weekday of the first copied event
+    long days = 280;
+    Set<String> expected = new HashSet<>();
+    for (Event event : source.getEventsView()) {
+      if (!event.getStartDateTime().isAfter(to) && !event.getEndDateTime().isBefore(from)) {
+        ZonedDateTime newStart = event.getStartDateTime().plusDays(days);
+        ZonedDateTime newEnd = newStart.plus(
+            Duration.between(event.getStartDateTime(), event.getEndDateTime()));
+        expected.add(event.getSubject() + " " + newStart.toInstant() + " " + newEnd.toInstant());
+      }
+    }
+
+    model.copyEvent(CopyEventDto.copyEventsBetweenDates("2025-02-01", "2025-04-30", "mirror",
+        from.toLocalDate().plusDays(days).toString()));
+
+    Calendar after = repository.findByName("mirror");
+    assertEquals(before.getEventCount() + expected.size(), after.getEventCount());
+    Set<String> copied = new HashSet<>();
+    for (Event event : after.getEventsView()) {
+      if (!before.getEventsView().contains(event)) {
+        assertEquals(ZoneId.of("Europe/Paris"), event.getStartDateTime().getZone());
+        copied.add(event.getSubject() + " " + event.getStartDateTime().toInstant() + " "
+            + event.getEndDateTime().toInstant());
+      }
+    }
+    assertEquals(expected, copied);
+  }
+
+  @Test
+  public void testCollisionWithTargetSavesNothing() throws Exception {
+    model.copyEvent(CopyEventDto.copyEventsOnDate("2025-03-10", "mirror", "2025-12-15"));
+    Calendar before = repository.findByName("mirror");
+
+    Exception ex = assertThrows(Exception.class, () -> model.copyEvent(
+        CopyEventDto.copyEventsOnDate("2025-03-10", "mirror", "2025-12-15")));
+
+    assertTrue(ex.getMessage().contains("already exists"));
+    assertSame(before, repository.findByName("mirror"));
+  }
+
+  @Test
+  public void testCopyOnDateIncludesEventsStartingThatDay() throws Exception {
+    Calendar source = repository.findByName("team");
+    int expected = 0;
+    for (Event event : source.getEventsView()) {
+      if (event.getStartDateTime().toLocalDate().toString().equals("2025-03-10")) {
+        expected++;
+      }
+    }
+    int before = repository.findByName("mirror").getEventCount();
+
+    model.copyEvent(CopyEventDto.copyEventsOnDate("2025-03-10", "mirror", "2025-11-03"));
+
+    assertEquals(before + expected, repository.findByName("mirror").getEventCount());
+  }
+}
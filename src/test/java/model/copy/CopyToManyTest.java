@@ -0,0 +1,113 @@
+package model.copy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import calendar.dto.CopyEventDto;
+import calendar.dto.CreateEventDto;
+import calendar.model.Calendar;
+import calendar.model.CalendarModel;
+import calendar.model.ConcurrentCalendarCollection;
+import calendar.model.Event;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests copying one selection of events into many target calendars at once.
+ */
+public class CopyToManyTest {
+
+  private static final int TARGETS = 24;
+
+  private final ConcurrentCalendarCollection repository = new ConcurrentCalendarCollection();
+  private final CalendarModel model = new CalendarModel(repository);
+  private final List<String> targets = new ArrayList<>();
+
+  /**
+   * Creates a team calendar with a week of events and personal calendars in several zones.
+   */
+  @Before
+  public void setUp() throws Exception {
+    String[] zones = {"UTC", "Europe/Berlin", "Asia/Tokyo", "America/Chicago"};
+    for (int i = 0; i < TARGETS; i++) {
+      targets.add("person" + i);
+      model.createNewCalendar("person" + i, zones[i % zones.length]);
+    }
+    model.createNewCalendar("team", "America/New_York");
+    model.setActiveCalendar("team");
+    List<CreateEventDto> events = new ArrayList<>();
+    for (int day = 10; day <= 14; day++) {
+      for (int hour = 9; hour < 17; hour++) {
+        events.add(CreateEventDto.timedSingle("Slot " + hour,
+            String.format("2025-03-%02dT%02d:00", day, hour),
+            String.format("2025-03-%02dT%02d:30", day, hour)));
+      }
+    }
+    model.createEvents(events);
+  }
+
+  @Test
+  public void testEveryTargetGetsTheSameCopies() throws Exception {
+    model.copyEvent(CopyEventDto.copyEventsBetweenDates("2025-03-10", "2025-03-14",
+        targets.get(0), "2025-06-02").withTargetCalendarNames(targets));
+
+    Set<String> first = null;
+    for (String target : targets) {
+      Calendar calendar = repository.findByName(target);
+      assertEquals(40, calendar.getEventCount());
+      Set<String> instants = new HashSet<>();
+      for (Event event : calendar.getEventsView()) {
+        assertEquals(calendar.getTimezone(), event.getStartDateTime().getZone());
+        instants.add(event.getSubject() + " " + event.getStartDateTime().toInstant());
+      }
+      if (first == null) {
+        first = instants;
+      }
+      assertEquals(first, instants);
+    }
+    assertTrue(first.contains("Slot 9 "
+        + ZonedDateTime.of(2025, 6, 2, 9, 0, 0, 0, ZoneId.of("America/New_York")).toInstant()));
+  }
+
+  @Test
+  public void testFailureForOneTargetSavesNoTarget() throws Exception {
+    model.copyEvent(CopyEventDto.copyEventsOnDate("2025-03-10", targets.get(5),
+        "2025-06-02"));
+    List<Calendar> before = new ArrayList<>();
+    for (String target : targets) {
+      before.add(repository.findByName(target));
+    }
+
+    Exception ex = assertThrows(Exception.class, () -> model.copyEvent(
+        CopyEventDto.copyEventsOnDate("2025-03-10", targets.get(0), "2025-06-02")
+            .withTargetCalendarNames(targets)));
+
+    Exception single = assertThrows(Exception.class, () -> model.copyEvent(
+        CopyEventDto.copyEventsOnDate("2025-03-10", targets.get(5), "2025-06-02")));
+    assertEquals("Target calendar 'person5': " + single.getMessage(), ex.getMessage());
+    for (int i = 0; i < TARGETS; i++) {
+      assertSame(before.get(i), repository.findByName(targets.get(i)));
+    }
+  }
+
+  @Test
+  public void testMissingTargetIsReportedFirst() {
+    List<String> withMissing = new ArrayList<>(targets);
+    withMissing.add("nobody");
+
+    Exception ex = assertThrows(Exception.class, () -> model.copyEvent(
+        CopyEventDto.copyEventsOnDate("2025-03-10", targets.get(0), "2025-06-02")
+            .withTargetCalendarNames(withMissing)));
+
+    assertEquals("Target calendar 'nobody' not found.", ex.getMessage());
+    assertEquals(0, repository.findByName(targets.get(0)).getEventCount());
+  }
+}
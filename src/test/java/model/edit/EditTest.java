@@ -1123,6 +1123,44 @@ public class EditTest {
     System.out.println("✓ TEST PASSED: validateNoDuplicate passes when no duplicates exist");
   }
 
+  @Test
+  public void testValidateNoDuplicateIgnoresPendingRemovals() throws Exception {
+    ZonedDateTime start = ZonedDateTime.of(2025, 12, 1, 10, 0, 0, 0, calendar.getTimezone());
+    Event existing = new EventBuilder()
+        .setSubject("Meeting")
+        .setStartDateTime(start)
+        .setEndDateTime(start.plusHours(1))
+        .setSeriesId("old-series")
+        .build();
+    Event replacement = new EventBuilder()
+        .setSubject("Meeting")
+        .setStartDateTime(start)
+        .setEndDateTime(start.plusHours(1))
+        .setSeriesId("new-series")
+        .build();
+    Set<Event> existingEvents = Set.of(existing);
+
+    Exception exception = assertThrows(Exception.class, () ->
+        EditEvent.validateNoDuplicate(replacement, existingEvents, new HashSet<>(),
+            new HashSet<>()));
+    assertTrue(exception.getMessage().contains("already exists"));
+    EditEvent.validateNoDuplicate(replacement, existingEvents, new HashSet<>(),
+        new HashSet<>(Set.of(existing)));
+  }
+
+  @Test
+  public void testShiftingSeriesOntoItselfIsNotDuplicate() throws Exception {
+    controller.processCommand("create event \"Daily\" from 2025-12-01T10:00 to "
+        + "2025-12-01T11:00 repeats MTWRFSU for 30 times");
+    controller.processCommand("edit series end \"Daily\" from 2025-12-01T10:00 with "
+        + "2025-12-01T12:00");
+    calendar = calendarModel.calendarModel("\"Test Calendar\"");
+    assertEquals(30, calendar.getEventCount());
+    for (Event e : calendar.getEventsView()) {
+      assertEquals(12, e.getEndDateTime().getHour());
+    }
+  }
+
   @Test
   public void testParseDateTimeParsesCorrectly() throws Exception {
     String dateTimeStr = "2025-12-01T10:00";
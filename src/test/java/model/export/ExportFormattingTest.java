@@ -0,0 +1,91 @@
+package model.export;
+
+import static calendar.constants.ExportConstants.CSV_HEADER;
+import static calendar.constants.ExportConstants.GOOGLE_DATE_FORMAT;
+import static calendar.constants.ExportConstants.GOOGLE_TIME_FORMAT;
+import static org.junit.Assert.assertEquals;
+
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import calendar.strategy.GoogleCsvExporter;
+import calendar.strategy.IcalExporter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests that the exporters' field-by-field date formatting writes exactly what the
+ * date-time formatters would, across zones, daylight saving changes and midnight/noon.
+ */
+public class ExportFormattingTest {
+
+  private static final DateTimeFormatter ICAL_DATE_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+  private static final List<ZoneId> ZONES = List.of(ZoneId.of("America/New_York"),
+      ZoneId.of("Europe/Paris"), ZoneId.of("Asia/Kolkata"), ZoneId.of("UTC"),
+      ZoneOffset.ofHours(-10));
+
+  private List<Event> randomEvents() {
+    Random random = new Random(17);
+    ZonedDateTime base = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    List<Event> events = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      ZoneId zone = ZONES.get(random.nextInt(ZONES.size()));
+      ZonedDateTime start = base.plusMinutes(random.nextInt(2 * 366 * 24 * 60))
+          .withZoneSameInstant(zone);
+      events.add(new EventBuilder()
+          .setSubject("Event " + i)
+          .setStartDateTime(start)
+          .setEndDateTime(start.plusMinutes(random.nextInt(24 * 60)))
+          .build());
+    }
+    return events;
+  }
+
+  @Test
+  public void testCsvDatesMatchFormatters() throws IOException {
+    List<Event> events = randomEvents();
+    StringBuilder expected = new StringBuilder(CSV_HEADER);
+    for (Event event : events) {
+      ZonedDateTime start = event.getStartDateTime();
+      ZonedDateTime end = event.getEndDateTime();
+      expected.append(event.getSubject()).append(',')
+          .append(start.format(GOOGLE_DATE_FORMAT)).append(',')
+          .append(start.format(GOOGLE_TIME_FORMAT)).append(',')
+          .append(end.format(GOOGLE_DATE_FORMAT)).append(',')
+          .append(end.format(GOOGLE_TIME_FORMAT)).append(',')
+          .append(event.getDescription()).append(',')
+          .append(event.getLocation()).append(',')
+          .append(event.getStatus()).append('\n');
+    }
+    StringWriter out = new StringWriter();
+    new GoogleCsvExporter().write(events, out);
+    assertEquals(expected.toString(), out.toString());
+  }
+
+  @Test
+  public void testIcalDatesMatchFormatter() throws IOException {
+    List<Event> events = randomEvents();
+    StringWriter out = new StringWriter();
+    new IcalExporter().write(events, out);
+    String[] lines = out.toString().split("\n");
+    int index = 0;
+    for (String line : lines) {
+      if (line.startsWith("DTSTART:")) {
+        assertEquals(events.get(index).getStartDateTime().withZoneSameInstant(ZoneOffset.UTC)
+            .format(ICAL_DATE_FORMAT), line.substring("DTSTART:".length()));
+      } else if (line.startsWith("DTEND:")) {
+        assertEquals(events.get(index++).getEndDateTime().withZoneSameInstant(ZoneOffset.UTC)
+            .format(ICAL_DATE_FORMAT), line.substring("DTEND:".length()));
+      }
+    }
+    assertEquals(events.size(), index);
+  }
+}
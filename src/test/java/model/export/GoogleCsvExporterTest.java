@@ -1,5 +1,7 @@
 package model.export;
 
+import static calendar.constants.ExportConstants.EXPORT_BUFFER_SIZE;
+import static calendar.constants.ExportConstants.EXPORT_CHUNK_SIZE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -9,13 +11,17 @@ import calendar.dto.ExportEventDto;
 import calendar.interfacetypes.Icreate;
 import calendar.interfacetypes.Iexport;
 import calendar.model.Event;
+import calendar.model.EventBuilder;
 import calendar.strategy.CreateEventSingle;
 import calendar.strategy.GoogleCsvExporter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -329,4 +335,44 @@ public class GoogleCsvExporterTest {
     System.out.println("  DTO Type: " + exportDto.getFileType());
     System.out.println("  Export Path: " + filePath);
   }
+
+  @Test
+  public void testExportStreamsLargeCalendar() throws Exception {
+    ZonedDateTime base = ZonedDateTime.of(2025, 1, 1, 9, 0, 0, 0, ZoneId.of("UTC"));
+    for (int i = 0; i < 20000; i++) {
+      testEvents.add(new EventBuilder()
+          .setSubject("Event, " + i)
+          .setStartDateTime(base.plusMinutes(i))
+          .setEndDateTime(base.plusMinutes(i + 30))
+          .build());
+    }
+    String filePath = exporter.export(testEvents, testFileName);
+
+    StringWriter expected = new StringWriter();
+    ((GoogleCsvExporter) exporter).write(testEvents, expected);
+    String content = Files.readString(Paths.get(filePath));
+    assertTrue("Export should be larger than the stream buffer",
+        content.length() > EXPORT_BUFFER_SIZE);
+    assertEquals(expected.toString(), content);
+    assertEquals("Should have header + 20000 event rows", 20001,
+        Files.readAllLines(Paths.get(filePath)).size());
+  }
+
+  @Test
+  public void testParallelExportMatchesSerialExport() throws Exception {
+    ZonedDateTime base = ZonedDateTime.of(2025, 1, 1, 9, 0, 0, 0, ZoneId.of("UTC"));
+    List<Event> sorted = new ArrayList<>();
+    for (int i = 0; i < 3 * EXPORT_CHUNK_SIZE + 17; i++) {
+      sorted.add(new EventBuilder()
+          .setSubject("Event \"" + i + "\"")
+          .setStartDateTime(base.plusMinutes(i))
+          .setEndDateTime(base.plusMinutes(i + 30))
+          .setLocation("Room " + i % 7)
+          .build());
+    }
+    String serial = Files.readString(Paths.get(exporter.export(sorted, testFileName)));
+    String parallel = Files.readString(Paths.get(
+        new GoogleCsvExporter(true).export(sorted, testFileName)));
+    assertEquals(serial, parallel);
+  }
 }
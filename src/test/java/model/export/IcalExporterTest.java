@@ -1,5 +1,7 @@
 package model.export;
 
+import static calendar.constants.ExportConstants.EXPORT_CHUNK_SIZE;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import calendar.model.Event;
@@ -11,6 +13,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Rule;
@@ -125,6 +128,33 @@ public class IcalExporterTest {
     assertTrue(content.contains("STATUS:CONFIRMED"));
   }
 
+  /**
+  * Tests parallel mode: a sorted calendar larger than one chunk is exported exactly as in
+  * serial mode, and every VEVENT carries the same DTSTAMP.
+  */
+  @Test
+  public void testParallelExportMatchesSerialExport() throws IOException {
+    ZonedDateTime base = ZonedDateTime.of(2025, 1, 1, 9, 0, 0, 0, zone);
+    List<Event> sorted = new ArrayList<>();
+    for (int i = 0; i < 2 * EXPORT_CHUNK_SIZE + 5; i++) {
+      sorted.add(new EventBuilder()
+                .setSubject("Event; " + i)
+                .setStartDateTime(base.plusMinutes(i))
+                .setEndDateTime(base.plusMinutes(i + 30))
+                .build());
+    }
+    File file = tempFolder.newFile("parallel.ics");
+    exporter.export(sorted, file.getAbsolutePath());
+    String serial = Files.readString(file.toPath());
+    new IcalExporter(true).export(sorted, file.getAbsolutePath());
+    String parallel = Files.readString(file.toPath());
+
+    String stamp = "DTSTAMP:[0-9TZ]+";
+    assertEquals(serial.replaceAll(stamp, "DTSTAMP"), parallel.replaceAll(stamp, "DTSTAMP"));
+    assertEquals(1, parallel.lines().filter(line -> line.startsWith("DTSTAMP:"))
+                .distinct().count());
+  }
+
   private String exportAndReadFile(Event event) throws IOException {
     String uniqueFileName = "test-" + java.util.UUID.randomUUID() + ".ics";
     File file = tempFolder.newFile(uniqueFileName);
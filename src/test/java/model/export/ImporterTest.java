@@ -0,0 +1,287 @@
+package model.export;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import calendar.dto.CreateEventDto;
+import calendar.dto.EditEventDto;
+import calendar.dto.ExportEventDto;
+import calendar.dto.ImportEventDto;
+import calendar.model.CalendarCollection;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelBuilder;
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import calendar.strategy.GoogleCsvExporter;
+import calendar.strategy.GoogleCsvImporter;
+import calendar.strategy.IcalExporter;
+import calendar.strategy.IcalImporter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the CSV and iCalendar importers: round trips through the exporters, line
+ * unfolding, recurring series, and importing into a calendar through the model.
+ */
+public class ImporterTest {
+
+  private static final ZoneId ZONE = ZoneId.of("America/New_York");
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private Set<Event> sampleEvents() {
+    ZonedDateTime base = ZonedDateTime.of(2025, 3, 3, 9, 0, 0, 0, ZONE);
+    Set<Event> events = new HashSet<>();
+    for (int i = 0; i < 50; i++) {
+      ZonedDateTime start = base.plusDays(i % 20).plusMinutes(15 * i);
+      events.add(new EventBuilder()
+          .setSubject(i % 5 == 0 ? "Review, \"draft\" " + i : "Event " + i)
+          .setStartDateTime(start)
+          .setEndDateTime(start.plusMinutes(45))
+          .setLocation("Room " + i % 3)
+          .build());
+    }
+    return events;
+  }
+
+  private String write(String name, String content) throws IOException {
+    File file = tempFolder.newFile(name);
+    Files.writeString(file.toPath(), content);
+    return file.getAbsolutePath();
+  }
+
+  @Test
+  public void testCsvRoundTrip() throws IOException {
+    Set<Event> events = sampleEvents();
+    String file = new GoogleCsvExporter().export(events,
+        tempFolder.getRoot().toPath().resolve("round.csv").toString());
+
+    Set<Event> imported = new GoogleCsvImporter().importEvents(file, ZONE);
+    assertEquals(events, imported);
+  }
+
+  @Test
+  public void testIcalRoundTripKeepsTextFields() throws IOException {
+    ZonedDateTime start = ZonedDateTime.of(2025, 3, 3, 9, 0, 0, 0, ZONE);
+    Set<Event> events = sampleEvents();
+    events.add(new EventBuilder()
+        .setSubject("Notes; a, b \\ c")
+        .setStartDateTime(start)
+        .setEndDateTime(start.plusHours(1))
+        .setDescription("line one\nline two")
+        .build());
+    String file = new IcalExporter().export(events,
+        tempFolder.getRoot().toPath().resolve("round.ics").toString());
+
+    Set<Event> imported = new IcalImporter().importEvents(file, ZONE);
+    assertEquals(events, imported);
+    for (Event event : imported) {
+      if (event.getSubject().startsWith("Notes")) {
+        assertEquals("line one\nline two", event.getDescription());
+      }
+    }
+  }
+
+  @Test
+  public void testIcalUnfoldsLinesAndReadsSeries() throws IOException {
+    String file = write("series.ics", "BEGIN:VCALENDAR\r\n"
+        + "VERSION:2.0\r\n"
+        + "BEGIN:VEVENT\r\n"
+        + "DTSTART;TZID=Europe/London:20250303T140000\r\n"
+        + "DTEND;TZID=Europe/London:20250303T143000\r\n"
+        + "RRULE:FREQ=WEEKLY;BYDAY=MO,WE;COUNT=6\r\n"
+        + "EXDATE;TZID=Europe/London:20250305T140000\r\n"
+        + "SUMMARY:Weekly sync with a very long title that some\r\n"
+        + "  calendar programs fold\r\n"
+        + "BEGIN:VALARM\r\n"
+        + "SUMMARY:Reminder\r\n"
+        + "END:VALARM\r\n"
+        + "END:VEVENT\r\n"
+        + "BEGIN:VEVENT\r\n"
+        + "DTSTART;VALUE=DATE:20250310\r\n"
+        + "SUMMARY:Holiday\r\n"
+        + "END:VEVENT\r\n"
+        + "END:VCALENDAR\r\n");
+
+    Set<Event> imported = new IcalImporter().importEvents(file, ZONE);
+    assertEquals(6, imported.size());
+    for (Event event : imported) {
+      if (event.getSubject().equals("Holiday")) {
+        assertEquals(ZonedDateTime.of(2025, 3, 10, 8, 0, 0, 0, ZONE), event.getStartDateTime());
+        assertEquals(ZonedDateTime.of(2025, 3, 10, 17, 0, 0, 0, ZONE), event.getEndDateTime());
+      } else {
+        assertEquals("Weekly sync with a very long title that some calendar programs fold",
+            event.getSubject());
+        assertEquals(9, event.getStartDateTime().getHour());
+        assertTrue(!event.getSeriesId().isEmpty());
+      }
+    }
+  }
+
+  @Test
+  public void testUnsupportedRuleIsRejected() throws IOException {
+    String file = write("monthly.ics", "BEGIN:VCALENDAR\n"
+        + "BEGIN:VEVENT\n"
+        + "DTSTART:20250303T140000Z\n"
+        + "DTEND:20250303T150000Z\n"
+        + "RRULE:FREQ=MONTHLY;COUNT=3\n"
+        + "SUMMARY:Monthly\n"
+        + "END:VEVENT\n"
+        + "END:VCALENDAR\n");
+    assertThrows(IOException.class, () -> new IcalImporter().importEvents(file, ZONE));
+  }
+
+  @Test
+  public void testRecurrenceIdReplacesOneOccurrence() throws IOException {
+    String override = "BEGIN:VEVENT\n"
+        + "UID:sync-1\n"
+        + "RECURRENCE-ID:20250304T140000Z\n"
+        + "DTSTART:20250304T160000Z\n"
+        + "DTEND:20250304T163000Z\n"
+        + "SUMMARY:Sync\n"
+        + "END:VEVENT\n";
+    String master = "BEGIN:VEVENT\n"
+        + "UID:sync-1\n"
+        + "DTSTART:20250303T140000Z\n"
+        + "DTEND:20250303T143000Z\n"
+        + "RRULE:FREQ=DAILY;COUNT=3\n"
+        + "SUMMARY:Sync\n"
+        + "END:VEVENT\n";
+    String after = write("override-after.ics",
+        "BEGIN:VCALENDAR\n" + master + override + "END:VCALENDAR\n");
+    String before = write("override-before.ics",
+        "BEGIN:VCALENDAR\n" + override + master + "END:VCALENDAR\n");
+
+    for (String file : new String[] {after, before}) {
+      Set<Event> imported = new IcalImporter().importEvents(file, ZONE);
+      assertEquals(3, imported.size());
+      Set<String> seriesIds = new HashSet<>();
+      Set<Integer> hours = new HashSet<>();
+      for (Event event : imported) {
+        seriesIds.add(event.getSeriesId());
+        if (event.getStartDateTime().getDayOfMonth() == 4) {
+          hours.add(event.getStartDateTime().getHour());
+        }
+      }
+      assertEquals(1, seriesIds.size());
+      assertEquals(Set.of(11), hours);
+    }
+  }
+
+  @Test
+  public void testRecurrenceIdWithoutSeriesIsRejected() throws IOException {
+    String file = write("orphan.ics", "BEGIN:VCALENDAR\n"
+        + "BEGIN:VEVENT\n"
+        + "UID:missing\n"
+        + "RECURRENCE-ID:20250304T140000Z\n"
+        + "DTSTART:20250304T160000Z\n"
+        + "DTEND:20250304T163000Z\n"
+        + "SUMMARY:Sync\n"
+        + "END:VEVENT\n"
+        + "END:VCALENDAR\n");
+    assertThrows(IOException.class, () -> new IcalImporter().importEvents(file, ZONE));
+  }
+
+  @Test
+  public void testImportIntoCalendarSkipsExistingEvents() throws Exception {
+    CalendarCollection repository = new CalendarCollection();
+    repository.save(new CalendarModelBuilder().setName("work").setTimeZone(ZONE).build());
+    CalendarModel model = new CalendarModel(repository);
+    model.setActiveCalendar("work");
+    model.createEvent(CreateEventDto.timedRecurringFor("Standup", "2025-03-03T09:00",
+        "2025-03-03T09:15", "MTWRF", "10"));
+    model.createEvent(CreateEventDto.timedSingle("Lunch", "2025-03-04T12:00",
+        "2025-03-04T13:00"));
+    String exported = model.exportEvent(new ExportEventDto(
+        tempFolder.getRoot().toPath().resolve("work.ics").toString()));
+
+    assertEquals(0, model.importEvents(new ImportEventDto(exported)));
+    assertEquals(11, repository.findByName("work").getEventCount());
+
+    String series = write("standup.ics", "BEGIN:VCALENDAR\n"
+        + "BEGIN:VEVENT\n"
+        + "DTSTART:20250303T140000Z\n"
+        + "DTEND:20250303T141500Z\n"
+        + "RRULE:FREQ=DAILY;BYDAY=MO,TU,WE,TH,FR;COUNT=15\n"
+        + "SUMMARY:Standup\n"
+        + "END:VEVENT\n"
+        + "END:VCALENDAR\n");
+    assertEquals(5, model.importEvents(new ImportEventDto(series)));
+    assertEquals(16, repository.findByName("work").getEventCount());
+  }
+
+  @Test
+  public void testSingleEventInsideSeriesIsImportedOnce() throws Exception {
+    String file = write("overlap.ics", "BEGIN:VCALENDAR\n"
+        + "BEGIN:VEVENT\n"
+        + "DTSTART:20250303T140000Z\n"
+        + "DTEND:20250303T143000Z\n"
+        + "RRULE:FREQ=DAILY;COUNT=3\n"
+        + "SUMMARY:Sync\n"
+        + "END:VEVENT\n"
+        + "BEGIN:VEVENT\n"
+        + "DTSTART:20250304T140000Z\n"
+        + "DTEND:20250304T143000Z\n"
+        + "SUMMARY:Sync\n"
+        + "END:VEVENT\n"
+        + "END:VCALENDAR\n");
+
+    Set<Event> imported = new IcalImporter().importEvents(file, ZONE);
+    assertEquals(3, imported.size());
+    assertEquals(3, new HashSet<>(imported).size());
+
+    CalendarCollection repository = new CalendarCollection();
+    repository.save(new CalendarModelBuilder().setName("work").setTimeZone(ZONE).build());
+    CalendarModel model = new CalendarModel(repository);
+    model.setActiveCalendar("work");
+    assertEquals(3, model.importEvents(new ImportEventDto(file)));
+    model.editEvent(EditEventDto.editSeries("Sync", "2025-03-03T09:00",
+        Map.of("location", "Room 1")));
+    assertEquals(3, repository.findByName("work").getEventCount());
+    for (Event event : repository.findByName("work").getEventsView()) {
+      assertEquals("Room 1", event.getLocation());
+    }
+  }
+
+  @Test
+  public void testOverlappingSeriesAreImportedOnce() throws Exception {
+    String file = write("series-overlap.ics", "BEGIN:VCALENDAR\n"
+        + "BEGIN:VEVENT\n"
+        + "DTSTART:20250303T140000Z\n"
+        + "DTEND:20250303T143000Z\n"
+        + "RRULE:FREQ=WEEKLY;BYDAY=MO,TU;COUNT=2\n"
+        + "SUMMARY:Sync\n"
+        + "END:VEVENT\n"
+        + "BEGIN:VEVENT\n"
+        + "DTSTART:20250304T140000Z\n"
+        + "DTEND:20250304T143000Z\n"
+        + "RRULE:FREQ=DAILY;COUNT=2\n"
+        + "SUMMARY:Sync\n"
+        + "END:VEVENT\n"
+        + "END:VCALENDAR\n");
+
+    Set<Event> imported = new IcalImporter().importEvents(file, ZONE);
+    assertEquals(3, imported.size());
+    assertEquals(3, new HashSet<>(imported).size());
+
+    CalendarCollection repository = new CalendarCollection();
+    repository.save(new CalendarModelBuilder().setName("work").setTimeZone(ZONE).build());
+    CalendarModel model = new CalendarModel(repository);
+    model.setActiveCalendar("work");
+    assertEquals(3, model.importEvents(new ImportEventDto(file)));
+    model.editEvent(EditEventDto.editSeries("Sync", "2025-03-05T09:00",
+        Map.of("location", "Room 2")));
+    assertEquals(3, repository.findByName("work").getEventCount());
+  }
+}
@@ -0,0 +1,127 @@
+package model.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import calendar.dto.QueryEventDto;
+import calendar.model.Calendar;
+import calendar.model.CalendarModelBuilder;
+import calendar.model.Event;
+import calendar.model.EventBuilder;
+import calendar.strategy.PrintInRange;
+import calendar.strategy.PrintOnDate;
+import calendar.strategy.ShowStatusAt;
+import calendar.util.EventFinder;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import model.util.TestQueryDtoBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the time index used by Calendar range and instant queries.
+ * Every indexed lookup is compared against the linear EventFinder scan.
+ */
+public class CalendarTimeIndexTest {
+
+  private ZoneId zoneId;
+  private Set<Event> events;
+  private Calendar calendar;
+
+  /**
+   * Builds a calendar with short events, overlapping events and a few long ones.
+   */
+  @Before
+  public void setUp() {
+    zoneId = ZoneId.of("America/New_York");
+    events = new HashSet<>();
+    Random random = new Random(42);
+    ZonedDateTime base = ZonedDateTime.of(2025, 3, 1, 0, 0, 0, 0, zoneId);
+    for (int i = 0; i < 2000; i++) {
+      ZonedDateTime start = base.plusMinutes(random.nextInt(60 * 24 * 60));
+      ZonedDateTime end = start.plusMinutes(1 + random.nextInt(i % 50 == 0 ? 60 * 24 * 10 : 180));
+      events.add(new EventBuilder()
+          .setSubject("Event " + i)
+          .setStartDateTime(start)
+          .setEndDateTime(end)
+          .build());
+    }
+    calendar = new CalendarModelBuilder()
+        .setName("Indexed")
+        .setTimeZone(zoneId)
+        .setEvents(events)
+        .build();
+  }
+
+  @Test
+  public void testRangeQueriesMatchLinearScan() {
+    Random random = new Random(7);
+    ZonedDateTime base = ZonedDateTime.of(2025, 2, 25, 0, 0, 0, 0, zoneId);
+    for (int i = 0; i < 300; i++) {
+      ZonedDateTime from = base.plusMinutes(random.nextInt(60 * 24 * 70));
+      ZonedDateTime to = from.plusMinutes(random.nextInt(60 * 24 * 3));
+      assertEquals(new HashSet<>(EventFinder.findInRange(from, to, events)),
+          new HashSet<>(EventFinder.findInRange(from, to, calendar)));
+    }
+  }
+
+  @Test
+  public void testInstantQueriesMatchLinearScan() {
+    Random random = new Random(11);
+    ZonedDateTime base = ZonedDateTime.of(2025, 2, 25, 0, 0, 0, 0, zoneId);
+    for (int i = 0; i < 300; i++) {
+      ZonedDateTime instant = base.plusMinutes(random.nextInt(60 * 24 * 70));
+      assertEquals(new HashSet<>(EventFinder.findActiveAt(instant, events)),
+          new HashSet<>(EventFinder.findActiveAt(instant, calendar)));
+    }
+  }
+
+  @Test
+  public void testBoundariesAreExclusiveAtEnd() {
+    ZonedDateTime start = ZonedDateTime.of(2030, 1, 1, 10, 0, 0, 0, zoneId);
+    Event event = new EventBuilder()
+        .setSubject("Boundary")
+        .setStartDateTime(start)
+        .setEndDateTime(start.plusHours(1))
+        .build();
+    Calendar single = new CalendarModelBuilder()
+        .setTimeZone(zoneId)
+        .setEvents(Set.of(event))
+        .build();
+
+    assertEquals(1, single.getEventsActiveAt(start).size());
+    assertTrue(single.getEventsActiveAt(start.plusHours(1)).isEmpty());
+    assertTrue(single.getEventsInRange(start.plusHours(1), start.plusHours(2)).isEmpty());
+    assertTrue(single.getEventsInRange(start.minusHours(1), start).isEmpty());
+    assertEquals(1, single.getEventsInRange(start.minusHours(1), start.plusMinutes(1)).size());
+  }
+
+  @Test
+  public void testQueryStrategiesAgreeOnCalendarAndSet() throws Exception {
+    QueryEventDto onDate = TestQueryDtoBuilder.createPrintOnDateDto("2025-03-15");
+    assertEquals(new PrintOnDate().find(onDate, events, zoneId),
+        new PrintOnDate().find(onDate, calendar));
+
+    QueryEventDto inRange = TestQueryDtoBuilder.createPrintInRangeDto(
+        "2025-03-10T09:00", "2025-03-12T17:30");
+    assertEquals(new PrintInRange().find(inRange, events, zoneId),
+        new PrintInRange().find(inRange, calendar));
+
+    QueryEventDto status = TestQueryDtoBuilder.createShowStatusAtDto("2025-04-02T13:15");
+    assertEquals(new ShowStatusAt().find(status, events, zoneId),
+        new ShowStatusAt().find(status, calendar));
+  }
+
+  @Test
+  public void testEmptyCalendarReturnsNothing() {
+    Calendar empty = new CalendarModelBuilder().setTimeZone(zoneId).build();
+    ZonedDateTime now = ZonedDateTime.of(2025, 3, 1, 0, 0, 0, 0, zoneId);
+    assertTrue(empty.getEventsInRange(now, now.plusDays(1)).isEmpty());
+    assertTrue(empty.getEventsActiveAt(now).isEmpty());
+    assertTrue(EventFinder.findOnDate(LocalDate.of(2025, 3, 1), empty).isEmpty());
+  }
+}
@@ -0,0 +1,63 @@
+package model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import calendar.util.EpochDates;
+import calendar.util.TextBuffer;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests the epoch arithmetic and the text buffer the exporters format records with,
+ * against the java.time classes and the string-based escaping they replace.
+ */
+public class EpochDatesTest {
+
+  @Test
+  public void testPackedDateMatchesLocalDate() {
+    Random random = new Random(5);
+    long first = LocalDate.of(1, 1, 1).toEpochDay();
+    long last = LocalDate.of(9999, 12, 31).toEpochDay();
+    for (int i = 0; i < 100_000; i++) {
+      long day = first + (long) (random.nextDouble() * (last - first + 1));
+      LocalDate date = LocalDate.ofEpochDay(day);
+      long second = day * EpochDates.SECONDS_PER_DAY + random.nextInt(EpochDates.SECONDS_PER_DAY);
+      assertEquals(date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth(),
+          EpochDates.packedDate(second));
+    }
+    assertEquals(-1, EpochDates.packedDate((first - 1) * EpochDates.SECONDS_PER_DAY));
+    assertEquals(-1, EpochDates.packedDate((last + 1) * EpochDates.SECONDS_PER_DAY));
+  }
+
+  @Test
+  public void testLocalSecondAcrossDaylightSavingChanges() {
+    ZoneId zone = ZoneId.of("America/New_York");
+    ZonedDateTime time = ZonedDateTime.of(2025, 3, 8, 22, 30, 0, 0, zone);
+    for (int i = 0; i < 24 * 300; i++) {
+      long local = EpochDates.toLocalSecond(time.toEpochSecond(), zone);
+      assertEquals(time.toLocalDateTime().toLocalDate().toEpochDay(),
+          Math.floorDiv(local, EpochDates.SECONDS_PER_DAY));
+      assertEquals(time.toLocalTime().toSecondOfDay(), EpochDates.secondOfDay(local));
+      time = time.plusMinutes(61);
+    }
+  }
+
+  @Test
+  public void testTextBufferAppends() {
+    TextBuffer buffer = new TextBuffer(4);
+    buffer.appendDigits(7, 2).append(':').appendDigits(123, 2).append((String) null);
+    assertEquals("07:123null", buffer.toString());
+    buffer.clear();
+
+    String text = "Hello, \"World\"; a \\ b\nc";
+    buffer.appendCsvField(text).append('|').appendCsvField("plain").append('|')
+        .appendCsvField(null).append('|').appendIcalText(text);
+    String expectedIcal = text.replace("\\", "\\\\").replace(";", "\\;")
+        .replace(",", "\\,").replace("\n", "\\n");
+    assertEquals("\"Hello, \"\"World\"\"; a \\ b\nc\"|plain||" + expectedIcal,
+        buffer.toString());
+  }
+}
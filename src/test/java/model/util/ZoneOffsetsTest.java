@@ -0,0 +1,108 @@
+package model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import calendar.util.ZoneOffsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests the precomputed zone offsets against the java.time conversions they replace,
+ * including local times in gaps and overlaps and times outside the precomputed span.
+ */
+public class ZoneOffsetsTest {
+
+  private static final List<ZoneId> ZONES = List.of(ZoneId.of("America/New_York"),
+      ZoneId.of("Europe/London"), ZoneId.of("Australia/Lord_Howe"), ZoneId.of("Asia/Kolkata"),
+      ZoneId.of("UTC"), ZoneId.of("Pacific/Apia"), ZoneId.of("America/Sao_Paulo"),
+      ZoneId.of("+05:30"));
+
+  private static final long FIRST = LocalDateTime.of(1850, 1, 1, 0, 0)
+      .toEpochSecond(ZoneOffset.UTC);
+  private static final long LAST = LocalDateTime.of(2250, 1, 1, 0, 0)
+      .toEpochSecond(ZoneOffset.UTC);
+
+  private static long randomSecond(Random random) {
+    return FIRST + (long) (random.nextDouble() * (LAST - FIRST));
+  }
+
+  @Test
+  public void testInstantToLocalMatchesZonedDateTime() {
+    Random random = new Random(11);
+    for (ZoneId zone : ZONES) {
+      ZoneOffsets offsets = ZoneOffsets.of(zone);
+      for (int i = 0; i < 20_000; i++) {
+        long second = randomSecond(random);
+        ZonedDateTime expected = Instant.ofEpochSecond(second).atZone(zone);
+        assertEquals(expected.getOffset().getTotalSeconds(), offsets.offsetAt(second));
+        assertEquals(expected.toLocalDateTime().toEpochSecond(ZoneOffset.UTC),
+            offsets.toLocalSecond(second));
+      }
+    }
+  }
+
+  @Test
+  public void testLocalToInstantMatchesZonedDateTime() {
+    Random random = new Random(13);
+    for (ZoneId zone : ZONES) {
+      ZoneOffsets offsets = ZoneOffsets.of(zone);
+      for (int i = 0; i < 20_000; i++) {
+        long local = randomSecond(random);
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC);
+        assertEquals(dateTime.toString() + " " + zone,
+            ZonedDateTime.of(dateTime, zone).toEpochSecond(), offsets.toEpochSecond(local));
+      }
+    }
+  }
+
+  @Test
+  public void testGapsAndOverlapsMatchZonedDateTime() {
+    for (ZoneId zone : ZONES) {
+      ZoneOffsets offsets = ZoneOffsets.of(zone);
+      for (int year = 1890; year <= 2210; year += 7) {
+        ZoneOffsetTransition transition = zone.getRules().nextTransition(
+            LocalDateTime.of(year, 1, 1, 0, 0).toInstant(ZoneOffset.UTC));
+        for (int n = 0; transition != null && n < 2; n++) {
+          LocalDateTime before = transition.getDateTimeBefore();
+          for (long delta = -3_600; delta <= 3_600; delta += 900) {
+            LocalDateTime dateTime = before.plusSeconds(delta);
+            long local = dateTime.toEpochSecond(ZoneOffset.UTC);
+            assertEquals(dateTime.toString() + " " + zone,
+                ZonedDateTime.of(dateTime, zone).toEpochSecond(), offsets.toEpochSecond(local));
+          }
+          transition = zone.getRules().nextTransition(transition.getInstant());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testShiftByDaysKeepsOffsetLikePlusDays() {
+    Random random = new Random(17);
+    for (ZoneId zone : ZONES) {
+      ZoneOffsets offsets = ZoneOffsets.of(zone);
+      for (int i = 0; i < 20_000; i++) {
+        long second = randomSecond(random);
+        int days = random.nextInt(800) - 400;
+        ZonedDateTime expected = Instant.ofEpochSecond(second).atZone(zone).plusDays(days);
+        int offset = offsets.offsetAt(second);
+        assertEquals(expected.toEpochSecond(),
+            offsets.toEpochSecond(second + offset + days * 86_400L, offset));
+      }
+    }
+  }
+
+  @Test
+  public void testOffsetsAreSharedPerZone() {
+    assertSame(ZoneOffsets.of(ZoneId.of("Europe/London")),
+        ZoneOffsets.of(ZoneId.of("Europe/London")));
+  }
+}
@@ -0,0 +1,191 @@
+package parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CreateEventCommand;
+import calendar.dto.CreateEventDto;
+import calendar.interfacetypes.Icommand;
+import calendar.interfacetypes.Iparser;
+import calendar.model.CalendarCollection;
+import calendar.model.CalendarModel;
+import calendar.parser.CalendarParser;
+import calendar.parser.CopyEventParser;
+import calendar.parser.CreateEventParser;
+import calendar.parser.EditEventParser;
+import calendar.parser.QueryEventParser;
+import calendar.service.CommandParserService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Test;
+
+/**
+ * Tests that the single-pass parsers accept exactly the commands the regular expressions
+ * they replace accepted, and extract the same values from them.
+ */
+public class CommandScannerTest {
+
+  private static final String SUBJECT = "(?<subject>\\\"(.*?)\\\"|\\S+)";
+  private static final String DATE_TIME = "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}";
+  private static final String DATE = "\\d{4}-\\d{2}-\\d{2}";
+
+  private static final Pattern CREATE = Pattern.compile("^create event " + SUBJECT
+      + " (?:from (?<start>" + DATE_TIME + ") to (?<end>" + DATE_TIME + ")|on (?<date>"
+      + DATE + "))(?: repeats (?<weekdays>[MTWRFSU]+) (?:for (?<n>\\d+) times|until (?<until>"
+      + DATE + ")))?$", Pattern.CASE_INSENSITIVE);
+
+  private static final Pattern QUERY = Pattern.compile("^(?:print events on " + DATE
+      + "|print events from " + DATE_TIME + " to " + DATE_TIME + "|show status on "
+      + DATE_TIME + ")$", Pattern.CASE_INSENSITIVE);
+
+  private static final Pattern CALENDAR = Pattern.compile(
+      "^(?:create calendar --name (\\\"[^\"]+\\\"|\\S+) --timezone \\S+"
+      + "|edit calendar --name (\\\"[^\"]+\\\"|\\S+) --property (name|timezone) \\S+"
+      + "|use calendar --name (\\\"[^\"]+\\\"|\\S+))$", Pattern.CASE_INSENSITIVE);
+
+  private static final Pattern EDIT = Pattern.compile("^edit (?:(?:series|events) "
+      + "(subject|start|end|description|location|status) " + SUBJECT + " from " + DATE_TIME
+      + "|event (subject|start|end|description|location|status) (\\\"(.*?)\\\"|\\S+) from "
+      + DATE_TIME + " to " + DATE_TIME + ") with .+$", Pattern.CASE_INSENSITIVE);
+
+  private static final Pattern COPY = Pattern.compile("^(?:copy event " + SUBJECT + " on "
+      + DATE_TIME + " --target \\S+ to " + DATE_TIME + "|copy events on " + DATE
+      + " --target \\S+ to " + DATE + "|copy events between " + DATE + " and " + DATE
+      + " --target \\S+ to " + DATE + ")$", Pattern.CASE_INSENSITIVE);
+
+  private static final String[] PIECES = {
+      "create", "event", "calendar", "edit", "events", "series", "use", "copy", "print",
+      "show", "status", "on", "from", "to", "repeats", "for", "times", "until", "with",
+      "between", "and", "--name", "--timezone", "--property", "--target", "name",
+      "timezone", "subject", "start", "location", "Meeting", "\"Team sync\"", "\"a\"b\"",
+      "\"", "\"\"", "MWF", "mtwrfsu", "MX", "3", "2025-05-01", "2025-05-01T09:00",
+      "2025-05-01t10:30", "2025-5-01", "2025-05-01T9:00", "work", "America/New_York",
+      "x.csv", "CREATE", "Event", "ON", "\"Meet on\"", "\"from to\"",
+  };
+
+  private final CalendarModel model = new CalendarModel(new CalendarCollection());
+
+  private boolean accepts(Iparser parser, String command) {
+    try {
+      return parser.parse(command, model) != null;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private List<String> commands(String first, String second, int count) {
+    Random random = new Random(first.hashCode() * 31L + second.hashCode());
+    List<String> commands = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      StringBuilder command = new StringBuilder(first).append(' ').append(second);
+      int words = 1 + random.nextInt(9);
+      for (int w = 0; w < words; w++) {
+        command.append(random.nextInt(40) == 0 ? "  " : " ");
+        command.append(PIECES[random.nextInt(PIECES.length)]);
+      }
+      commands.add(command.toString());
+    }
+    return commands;
+  }
+
+  private List<String> createCommands() {
+    List<String> commands = new ArrayList<>(List.of(
+        "create event Meeting from 2025-05-01T09:00 to 2025-05-01T10:00",
+        "create event \"Team sync\" from 2025-05-01T09:00 to 2025-05-01T10:00",
+        "CREATE EVENT \"Meet on\" on 2025-05-01 repeats mwf for 3 times",
+        "create event \"a\"b\" on 2025-05-01",
+        "create event \"from to\" from 2025-05-01T09:00 to 2025-05-01t10:00"
+            + " repeats MTWRFSU until 2025-06-01",
+        "create event \" on 2025-05-01",
+        "create event \"\" on 2025-05-01",
+        "create event Meeting on 2025-05-01 repeats MWF for times",
+        "create event Meeting on 2025-05-01 repeats for 3 times",
+        "create event Meeting from 2025-05-01T09:00 to 2025-05-01T10:00 ",
+        "create event Meeting  on 2025-05-01"));
+    commands.addAll(commands("create", "event", 3000));
+    return commands;
+  }
+
+  @Test
+  public void testCreateMatchesRegex() throws Exception {
+    CreateEventParser parser = new CreateEventParser();
+    int accepted = 0;
+    for (String command : createCommands()) {
+      Matcher matcher = CREATE.matcher(command.trim());
+      boolean expected = matcher.matches();
+      assertEquals(command, expected, accepts(parser, command));
+      if (!expected) {
+        continue;
+      }
+      accepted++;
+      CreateEventDto dto = ((CreateEventCommand) parser.parse(command, model)).getDto();
+      String subject = matcher.group("subject");
+      if (subject.length() >= 2 && subject.startsWith("\"") && subject.endsWith("\"")) {
+        subject = subject.substring(1, subject.length() - 1);
+      }
+      assertEquals(command, subject, dto.getSubject());
+      assertEquals(command, matcher.group("start"), dto.getStartDateTime());
+      assertEquals(command, matcher.group("end"), dto.getEndDateTime());
+      assertEquals(command, matcher.group("date"), dto.getOnDate());
+      assertEquals(command, matcher.group("n"), dto.getnTimes());
+      assertEquals(command, matcher.group("until"), dto.getUntilDate());
+    }
+    assertTrue(accepted > 5);
+  }
+
+  @Test
+  public void testOtherParsersMatchRegex() {
+    Object[][] cases = {
+        {new QueryEventParser(), QUERY, "print", "events"},
+        {new QueryEventParser(), QUERY, "show", "status"},
+        {new CalendarParser(), CALENDAR, "create", "calendar"},
+        {new CalendarParser(), CALENDAR, "edit", "calendar"},
+        {new CalendarParser(), CALENDAR, "use", "calendar"},
+        {new EditEventParser(), EDIT, "edit", "event"},
+        {new EditEventParser(), EDIT, "edit", "series"},
+        {new CopyEventParser(), COPY, "copy", "event"},
+        {new CopyEventParser(), COPY, "copy", "events"},
+    };
+    for (Object[] c : cases) {
+      List<String> commands = commands((String) c[2], (String) c[3], 3000);
+      commands.add(c[2] + " " + c[3]);
+      for (String command : commands) {
+        assertEquals(command, ((Pattern) c[1]).matcher(command.trim()).matches(),
+            accepts((Iparser) c[0], command));
+      }
+    }
+    assertTrue(accepts(new EditEventParser(), "edit series location \"Team sync\" from "
+        + "2025-05-01T09:00 with \"Room 4\""));
+    assertTrue(accepts(new CopyEventParser(), "copy events between 2025-05-01 and "
+        + "2025-05-03 --target work to 2025-06-01"));
+    assertTrue(accepts(new CalendarParser(), "edit calendar --name \"My cal\" "
+        + "--property timezone Europe/Paris"));
+  }
+
+  @Test
+  public void testDispatchUsesLeadingKeywords() throws Exception {
+    CommandParserService service = new CommandParserService();
+    Icommand command = service.parse(
+        "Create Event Meeting from 2025-05-01T09:00 to 2025-05-01T10:00", model);
+    assertNotNull(command);
+    assertTrue(command instanceof CreateEventCommand);
+
+    Exception unknown = assertThrows(Exception.class, () -> service.parse("delete event x",
+        model));
+    assertEquals("Error: Unknown command.", unknown.getMessage());
+    Exception invalid = assertThrows(Exception.class, () -> service.parse("create eventful",
+        model));
+    assertEquals("Invalid create command format.", invalid.getMessage());
+    Exception edit = assertThrows(Exception.class, () -> service.parse("edit events x",
+        model));
+    assertEquals("Invalid edit command format: edit events x", edit.getMessage());
+    Exception export = assertThrows(Exception.class, () -> service.parse("export cal",
+        model));
+    assertEquals("Error: Unknown command.", export.getMessage());
+  }
+}
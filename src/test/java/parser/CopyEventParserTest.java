@@ -1,5 +1,6 @@
 package parser;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
@@ -89,6 +90,27 @@ public class CopyEventParserTest {
     assertFalse(parser.canHandle("   "));
   }
 
+  /**
+   * Tests that repeating the target option copies into every named calendar, and that a
+   * target option without a calendar is rejected.
+   *
+   * @throws Exception if parsing fails
+   */
+  @Test
+  public void testParseCopyToSeveralTargets() throws Exception {
+    eventController.processCommand("create calendar --name Shared --timezone UTC");
+    eventController.processCommand("create event Review from 2024-09-09T10:00 "
+        + "to 2024-09-09T11:00");
+
+    parser.parse("copy events on 2024-09-09 --target Personal --target Shared "
+        + "to 2025-01-13", calendarModel).execute();
+
+    assertEquals(1, repository.findByName("Personal").getEventCount());
+    assertEquals(1, repository.findByName("Shared").getEventCount());
+    assertThrows(Exception.class, () -> parser.parse("copy events on 2024-09-09 "
+        + "--target Personal --target to 2025-01-13", calendarModel));
+  }
+
   /**
    * Tests the parsing of a valid command to copy a single event with quoted name.
    *
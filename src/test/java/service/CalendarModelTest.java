@@ -2,13 +2,16 @@ package service;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import calendar.dto.CreateEventDto;
 import calendar.dto.QueryEventDto;
+import calendar.model.Calendar;
 import calendar.model.CalendarCollection;
 import calendar.model.CalendarModel;
+import calendar.model.Event;
 import calendar.service.GuiDtoBuilderService;
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -150,4 +153,25 @@ public class CalendarModelTest {
     });
     assertEquals("Calendar not found.", exception.getMessage());
   }
-}
\ No newline at end of file
+
+  /**
+   * Verifies that the read-only events view reflects the calendar's events without
+   * copying them and rejects modification.
+   *
+   * @throws Exception if calendar or event creation fails
+   */
+  @Test
+  public void testEventsViewIsSharedAndReadOnly() throws Exception {
+    service.createNewCalendar("Viewed", "UTC");
+    service.setActiveCalendar("Viewed");
+    LocalDateTime start = LocalDateTime.of(2025, 5, 1, 9, 0);
+    service.createEvent(guiBuilder.buildTimedSingleEventDto("Standup", start,
+        start.plusMinutes(15)));
+    Calendar calendar = repository.findByName("Viewed");
+    Set<Event> view = calendar.getEventsView();
+    assertSame(view, calendar.getEventsView());
+    assertEquals(calendar.getEvents(), view);
+    Event first = view.iterator().next();
+    assertThrows(UnsupportedOperationException.class, () -> view.remove(first));
+  }
+}
@@ -1,9 +1,12 @@
 package view;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import calendar.dto.SimpleMessageDto;
 import calendar.view.ConsoleView;
+import calendar.view.OutputSink;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import org.junit.After;
@@ -107,4 +110,25 @@ public class ConsoleViewTest {
     String output = outputStream.toString();
     assertTrue(output.contains("Command successful"));
   }
-}
\ No newline at end of file
+
+  /**
+   * Verifies that a buffered view writes its output when flushed, before any error, and
+   * that a disabled sink writes nothing.
+   */
+  @Test
+  public void testBufferedOutputIsFlushedBeforeErrors() {
+    ByteArrayOutputStream buffered = new ByteArrayOutputStream();
+    OutputSink sink = OutputSink.buffered(buffered);
+    ConsoleView view = new ConsoleView(sink);
+    view.display("First");
+    assertEquals(0, buffered.size());
+
+    view.displayError("Broken");
+    assertEquals("First" + System.lineSeparator(), buffered.toString());
+    assertTrue(errorStream.toString().contains("Error: Broken"));
+
+    new ConsoleView(OutputSink.disabled()).display("Hidden");
+    assertFalse(OutputSink.disabled().isEnabled());
+    assertEquals("", outputStream.toString());
+  }
+}